@@ -1,7 +1,9 @@
 package com.codeus.winter.annotation;
 
 import com.codeus.winter.config.BeanFactory;
+import com.codeus.winter.config.BeanFactoryAware;
 import com.codeus.winter.config.BeanPostProcessor;
+import com.codeus.winter.config.LazyResolutionProxy;
 import com.codeus.winter.exception.BeanNotFoundException;
 import jakarta.annotation.Nullable;
 import java.lang.reflect.Field;
@@ -12,10 +14,11 @@ import java.lang.reflect.Parameter;
 
 /**
  * BeanPostProcessor implementation that autowires annotated fields, setter methods, and constructor.
+ * Interface-typed injection points annotated with {@link Lazy} receive a lazy-resolution proxy.
  *
  */
 @SuppressWarnings("java:S3011")
-public class AutowiredAnnotationBeanPostProcessor implements BeanPostProcessor {
+public class AutowiredAnnotationBeanPostProcessor implements BeanPostProcessor, BeanFactoryAware {
 
     private BeanFactory beanFactory;
 
@@ -24,6 +27,7 @@ public class AutowiredAnnotationBeanPostProcessor implements BeanPostProcessor {
      *
      * @param beanFactory bean factory
      */
+    @Override
     public void setBeanFactory(BeanFactory beanFactory) {
         this.beanFactory = beanFactory;
     }
@@ -42,6 +46,8 @@ public class AutowiredAnnotationBeanPostProcessor implements BeanPostProcessor {
         try {
             injectMethod(bean);
             injectField(bean);
+        } catch (BeanNotFoundException e) {
+            throw new BeanNotFoundException("Bean post processing failed: " + beanName, e, false);
         } catch (Exception e) {
             throw new BeanNotFoundException("Bean post processing failed: " + beanName, e);
         }
@@ -53,7 +59,9 @@ public class AutowiredAnnotationBeanPostProcessor implements BeanPostProcessor {
         for (Method method : beanType.getDeclaredMethods()) {
             if (method.isAnnotationPresent(Autowired.class)) {
                 for (Parameter parameter : method.getParameters()) {
-                    Object dependency = beanFactory.getBean(parameter.getType());
+                    Object dependency = isLazy(method, parameter)
+                        ? createLazyDependency(parameter.getType())
+                        : getDependency(parameter.getType());
                     method.setAccessible(true);
                     method.invoke(bean, dependency);
                 }
@@ -65,10 +73,38 @@ public class AutowiredAnnotationBeanPostProcessor implements BeanPostProcessor {
         Class<?> beanType = bean.getClass();
         for (Field field : beanType.getDeclaredFields()) {
             if (field.isAnnotationPresent(Autowired.class)) {
-                Object dependency = beanFactory.getBean(field.getType());
+                Object dependency = isLazy(field)
+                    ? createLazyDependency(field.getType())
+                    : getDependency(field.getType());
                 field.setAccessible(true);
                 field.set(bean, dependency);
             }
         }
     }
+
+    /**
+     * Resolve a dependency without the exception of {@link BeanFactory#getBean(Class)}: a missing
+     * dependency is reported with a stackless exception, wrapped by {@link #postProcessBeforeInitialization}
+     * in another stackless exception.
+     */
+    private Object getDependency(Class<?> dependencyType) {
+        Object dependency = beanFactory.getBeanIfAvailable(dependencyType);
+        if (dependency == null) {
+            throw new BeanNotFoundException("Bean not found for type: " + dependencyType.getName(), null, false);
+        }
+        return dependency;
+    }
+
+    private boolean isLazy(Field field) {
+        return LazyResolutionProxy.isLazyInjectionPoint(field, field.getType());
+    }
+
+    private boolean isLazy(Method method, Parameter parameter) {
+        return LazyResolutionProxy.isLazyInjectionPoint(method, parameter.getType())
+            || LazyResolutionProxy.isLazyInjectionPoint(parameter, parameter.getType());
+    }
+
+    private <T> T createLazyDependency(Class<T> dependencyType) {
+        return LazyResolutionProxy.create(dependencyType, () -> beanFactory.getBean(dependencyType));
+    }
 }
@@ -0,0 +1,18 @@
+package com.codeus.winter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a component whose initialization callbacks (such as {@code @PostConstruct} methods)
+ * should run in the background on the container's bootstrap executor instead of blocking startup.
+ * The bean instance is constructed during startup as usual; lookups of the bean wait until
+ * its initialization has finished, and {@code @Lazy} interface injection points defer that wait
+ * until the first method call.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface BackgroundInit {
+}
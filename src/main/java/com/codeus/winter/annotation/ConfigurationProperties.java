@@ -0,0 +1,23 @@
+package com.codeus.winter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to bind the properties below a prefix to a component class. A record receives the
+ * properties through its canonical constructor, a POJO through its setters after construction;
+ * see {@link ConfigurationPropertiesBindingPostProcessor} and {@link com.codeus.winter.util.PropertyBinder}.
+ * The class still has to be a component to be created by the context.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ConfigurationProperties {
+    /**
+     * The prefix of the bound properties.
+     *
+     * @return prefix such as {@code app.datasource}; empty for top-level properties.
+     */
+    String prefix() default "";
+}
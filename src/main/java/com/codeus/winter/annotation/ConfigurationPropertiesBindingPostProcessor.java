@@ -0,0 +1,148 @@
+package com.codeus.winter.annotation;
+
+import com.codeus.winter.config.BeanPostProcessor;
+import com.codeus.winter.config.ConstructorArgumentResolver;
+import com.codeus.winter.exception.BeanFactoryException;
+import com.codeus.winter.exception.PropertySourceException;
+import com.codeus.winter.util.PropertyBinder;
+import com.codeus.winter.util.PropertyChangeEvent;
+import com.codeus.winter.util.PropertyChangeListener;
+import com.codeus.winter.util.PropertySource;
+import jakarta.annotation.Nullable;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BeanPostProcessor implementation that binds properties to {@link ConfigurationProperties} beans.
+ * POJO beans are bound after construction; the canonical constructor arguments of record beans are
+ * supplied to the bean factory as a {@link ConstructorArgumentResolver}. The binder of each type is
+ * built once by the {@link PropertyBinder}.
+ * <p>
+ * As a {@link PropertyChangeListener}, the processor rebinds live POJO beans whose prefix is affected
+ * by changed keys, in place; properties that were removed keep their values. Record beans are
+ * immutable and keep the values they were created with.
+ */
+public class ConfigurationPropertiesBindingPostProcessor implements BeanPostProcessor, ConstructorArgumentResolver,
+        PropertyChangeListener {
+    private final PropertyBinder propertyBinder;
+    private final Set<BoundBean> boundBeans = ConcurrentHashMap.newKeySet();
+    private final ReferenceQueue<Object> collectedBeans = new ReferenceQueue<>();
+
+    /**
+     * Create a post-processor binding the given properties with the built-in converters.
+     *
+     * @param propertySource source of the property values.
+     */
+    public ConfigurationPropertiesBindingPostProcessor(PropertySource<?> propertySource) {
+        this(new PropertyBinder(propertySource));
+    }
+
+    /**
+     * Create a post-processor with the given binder.
+     *
+     * @param propertyBinder binder of the properties.
+     */
+    public ConfigurationPropertiesBindingPostProcessor(PropertyBinder propertyBinder) {
+        this.propertyBinder = propertyBinder;
+    }
+
+    /**
+     * Bind the properties of a {@link ConfigurationProperties} POJO.
+     *
+     * @param bean     bean object
+     * @param beanName bean name
+     * @return bean object
+     */
+    @Nullable
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        ConfigurationProperties configurationProperties = bean.getClass().getAnnotation(ConfigurationProperties.class);
+        if (configurationProperties != null && !bean.getClass().isRecord()) {
+            try {
+                propertyBinder.bindInto(configurationProperties.prefix(), bean);
+            } catch (PropertySourceException e) {
+                throw new BeanFactoryException("Configuration properties binding failed: " + beanName, e);
+            }
+            expungeCollectedBeans();
+            boundBeans.add(new BoundBean(bean, beanName, configurationProperties.prefix(), collectedBeans));
+        }
+        return bean;
+    }
+
+    /**
+     * Rebind the live POJO beans whose prefix is affected by the changed keys.
+     *
+     * @param event changed keys.
+     * @throws BeanFactoryException if a bean cannot be rebound; other beans are still rebound.
+     */
+    @Override
+    public void propertiesChanged(PropertyChangeEvent event) {
+        expungeCollectedBeans();
+        BeanFactoryException failure = null;
+        for (BoundBean boundBean : boundBeans) {
+            Object bean = boundBean.get();
+            if (bean != null && event.affects(boundBean.prefix)) {
+                try {
+                    synchronized (boundBean) {
+                        propertyBinder.bindInto(boundBean.prefix, bean);
+                    }
+                } catch (PropertySourceException e) {
+                    if (failure == null) {
+                        failure = new BeanFactoryException("Configuration properties rebinding failed: "
+                                + boundBean.beanName, e);
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(Constructor<?> constructor, int parameterIndex) {
+        Class<?> beanClass = constructor.getDeclaringClass();
+        return beanClass.isRecord() && beanClass.isAnnotationPresent(ConfigurationProperties.class)
+                && Arrays.equals(constructor.getParameterTypes(), Arrays.stream(beanClass.getRecordComponents())
+                        .map(RecordComponent::getType)
+                        .toArray(Class<?>[]::new));
+    }
+
+    @Override
+    public Object resolveArgument(Constructor<?> constructor, int parameterIndex, String beanName) {
+        Class<?> recordType = constructor.getDeclaringClass();
+        try {
+            return propertyBinder.bindComponent(recordType.getAnnotation(ConfigurationProperties.class).prefix(),
+                    recordType, parameterIndex);
+        } catch (PropertySourceException e) {
+            throw new BeanFactoryException("Configuration properties binding failed: " + beanName, e);
+        }
+    }
+
+    private void expungeCollectedBeans() {
+        for (Object collected = collectedBeans.poll(); collected != null; collected = collectedBeans.poll()) {
+            boundBeans.remove(collected);
+        }
+    }
+
+    /**
+     * Bound POJO bean with its prefix; identity-based, so it can be removed once the bean has been collected.
+     */
+    private static final class BoundBean extends WeakReference<Object> {
+        private final String beanName;
+        private final String prefix;
+
+        private BoundBean(Object bean, String beanName, String prefix, ReferenceQueue<Object> queue) {
+            super(bean, queue);
+            this.beanName = beanName;
+            this.prefix = prefix;
+        }
+    }
+}
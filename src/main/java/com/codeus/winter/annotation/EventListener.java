@@ -0,0 +1,21 @@
+package com.codeus.winter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a bean method as a listener of application events. The method takes the event as its
+ * only parameter and receives every published event that is an instance of the parameter type.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface EventListener {
+    /**
+     * Whether the method is invoked on a virtual thread instead of the publishing thread.
+     *
+     * @return {@code true} for asynchronous dispatch.
+     */
+    boolean async() default false;
+}
@@ -0,0 +1,97 @@
+package com.codeus.winter.annotation;
+
+import com.codeus.winter.config.BeanPostProcessor;
+import com.codeus.winter.event.ApplicationEventBus;
+import com.codeus.winter.event.ApplicationEventPublisherAware;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * BeanPostProcessor implementation that registers the {@link EventListener} methods of initialized
+ * beans with an {@link ApplicationEventBus}, and supplies the bus to
+ * {@link ApplicationEventPublisherAware} beans before their initialization callbacks.
+ * <p>
+ * The listener methods of a class, including inherited ones, are collected once and cached per class.
+ * Since a registered listener keeps its bean reachable, only beans accepted by the bean filter are
+ * registered, typically the singletons.
+ */
+@SuppressWarnings("java:S3011")
+public class EventListenerAnnotationBeanPostProcessor implements BeanPostProcessor {
+    private static final Method[] NO_METHODS = new Method[0];
+
+    private final ApplicationEventBus eventBus;
+    private final Predicate<String> listenerBeanFilter;
+    private final ClassValue<Method[]> listenerMethods = new ClassValue<>() {
+        @Override
+        protected Method[] computeValue(Class<?> type) {
+            return findListenerMethods(type);
+        }
+    };
+
+    /**
+     * Create a post-processor registering the listener methods of every bean.
+     *
+     * @param eventBus bus receiving the listeners.
+     */
+    public EventListenerAnnotationBeanPostProcessor(ApplicationEventBus eventBus) {
+        this(eventBus, beanName -> true);
+    }
+
+    /**
+     * Create a post-processor registering the listener methods of the accepted beans.
+     *
+     * @param eventBus           bus receiving the listeners.
+     * @param listenerBeanFilter filter of the bean names whose listener methods are registered.
+     */
+    public EventListenerAnnotationBeanPostProcessor(ApplicationEventBus eventBus,
+                                                    Predicate<String> listenerBeanFilter) {
+        this.eventBus = eventBus;
+        this.listenerBeanFilter = listenerBeanFilter;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof ApplicationEventPublisherAware publisherAware) {
+            publisherAware.setApplicationEventPublisher(eventBus);
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Method[] methods = listenerMethods.get(bean.getClass());
+        if (methods.length > 0 && listenerBeanFilter.test(beanName)) {
+            for (Method method : methods) {
+                eventBus.addListener(bean, method, method.getAnnotation(EventListener.class).async());
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * Collect the listener methods of the class and its superclasses; a method overridden in a
+     * subclass is taken from the subclass only.
+     */
+    private static Method[] findListenerMethods(Class<?> type) {
+        List<Method> methods = new ArrayList<>();
+        Set<String> signatures = new HashSet<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                if (method.isBridge() || method.isSynthetic()
+                        || !signatures.add(method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                    continue;
+                }
+                if (method.isAnnotationPresent(EventListener.class)) {
+                    method.setAccessible(true);
+                    methods.add(method);
+                }
+            }
+        }
+        return methods.isEmpty() ? NO_METHODS : methods.toArray(NO_METHODS);
+    }
+}
@@ -0,0 +1,24 @@
+package com.codeus.winter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates whether a bean is to be lazily initialized.
+ * On a component class, the bean is not created during container startup but on the first lookup.
+ * On an injection point (field, setter method, constructor or constructor parameter) of an interface type,
+ * a lightweight proxy is injected instead of the target bean; the target is resolved and created
+ * on the first method call, after which the proxy delegates to it directly.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.CONSTRUCTOR, ElementType.PARAMETER, ElementType.FIELD})
+public @interface Lazy {
+    /**
+     * Whether lazy initialization should occur.
+     *
+     * @return {@code true} if the bean or injection point should be resolved lazily.
+     */
+    boolean value() default true;
+}
@@ -0,0 +1,114 @@
+package com.codeus.winter.annotation;
+
+import jakarta.annotation.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolution of annotations that are present directly or as meta-annotations, such as
+ * {@link Component} on the {@link com.codeus.winter.stereotype.Service} stereotype.
+ * <p>
+ * The meta-annotation closure of every annotation type is computed once, on first use, and cached
+ * per type, so later checks never walk annotation hierarchies again. Annotations of the
+ * {@code java.lang.annotation} package are not followed.
+ */
+public final class MetaAnnotations {
+    private static final ClassValue<Map<Class<? extends Annotation>, Annotation>> CLOSURES = new ClassValue<>() {
+        @Override
+        protected Map<Class<? extends Annotation>, Annotation> computeValue(Class<?> type) {
+            return computeClosure(type);
+        }
+    };
+
+    private MetaAnnotations() {
+    }
+
+    /**
+     * Return the types of all meta-annotations of the given annotation type, including the type itself.
+     *
+     * @param annotationType annotation type.
+     * @return unmodifiable set of annotation types.
+     */
+    public static Set<Class<? extends Annotation>> getMetaAnnotationTypes(Class<? extends Annotation> annotationType) {
+        return CLOSURES.get(annotationType).keySet();
+    }
+
+    /**
+     * Check whether the given annotation type is, or is meta-annotated with, the other one.
+     *
+     * @param annotationType     annotation type to check.
+     * @param metaAnnotationType annotation type to look for.
+     * @return true if {@code metaAnnotationType} is in the closure of {@code annotationType}.
+     */
+    public static boolean isMetaAnnotated(Class<? extends Annotation> annotationType,
+                                          Class<? extends Annotation> metaAnnotationType) {
+        return CLOSURES.get(annotationType).containsKey(metaAnnotationType);
+    }
+
+    /**
+     * Check whether the given element is annotated with the annotation type, directly or through
+     * a meta-annotation.
+     *
+     * @param element        annotated element (class, method, field, constructor or parameter).
+     * @param annotationType annotation type to look for.
+     * @return true if the annotation is present.
+     */
+    public static boolean isAnnotated(AnnotatedElement element, Class<? extends Annotation> annotationType) {
+        return findAnnotation(element, annotationType) != null;
+    }
+
+    /**
+     * Find the annotation of the given type on the element: the directly present one, or else the
+     * first meta-annotation of that type found on the element's annotations.
+     *
+     * @param element        annotated element (class, method, field, constructor or parameter).
+     * @param annotationType annotation type to look for.
+     * @param <A>            annotation type.
+     * @return the annotation, or null if it is not present.
+     */
+    @Nullable
+    public static <A extends Annotation> A findAnnotation(AnnotatedElement element, Class<A> annotationType) {
+        A annotation = element.getAnnotation(annotationType);
+        if (annotation != null) {
+            return annotation;
+        }
+        for (Annotation candidate : element.getAnnotations()) {
+            Annotation metaAnnotation = CLOSURES.get(candidate.annotationType()).get(annotationType);
+            if (metaAnnotation != null) {
+                return annotationType.cast(metaAnnotation);
+            }
+        }
+        return null;
+    }
+
+    private static Map<Class<? extends Annotation>, Annotation> computeClosure(Class<?> type) {
+        if (!type.isAnnotation()) {
+            throw new IllegalArgumentException("Not an annotation type: " + type.getName());
+        }
+        Map<Class<? extends Annotation>, Annotation> closure = new LinkedHashMap<>();
+        closure.put(type.asSubclass(Annotation.class), null);
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.add(type);
+        while (!pending.isEmpty()) {
+            for (Annotation metaAnnotation : pending.poll().getDeclaredAnnotations()) {
+                Class<? extends Annotation> metaType = metaAnnotation.annotationType();
+                if (!isJavaLangAnnotation(metaType) && !closure.containsKey(metaType)) {
+                    closure.put(metaType, metaAnnotation);
+                    pending.add(metaType);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(closure);
+    }
+
+    private static boolean isJavaLangAnnotation(Class<? extends Annotation> annotationType) {
+        return annotationType.getPackageName().equals("java.lang.annotation");
+    }
+}
@@ -0,0 +1,24 @@
+package com.codeus.winter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the scope of a component, by the name of the scope: {@code "PROTOTYPE"} for a new instance
+ * on every lookup, {@code "REQUEST"}, {@code "THREAD"} or {@code "POOLED"} for the default request,
+ * thread and pooled scopes, or the name a custom {@link com.codeus.winter.config.BeanScope} is
+ * registered with.
+ * Components without this annotation are singletons.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Scoped {
+    /**
+     * Name of the scope.
+     *
+     * @return scope name, see {@link com.codeus.winter.config.Scope}.
+     */
+    String value();
+}
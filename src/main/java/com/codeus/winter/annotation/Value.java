@@ -0,0 +1,23 @@
+package com.codeus.winter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to inject a configuration value into a field, a setter method or a constructor parameter.
+ * The value is an expression such as {@code ${server.port}} or {@code ${server.timeout:30s}} whose
+ * placeholders are resolved against the property source of the context; the resolved text is then
+ * converted to the type of the injection point, see {@link ValueAnnotationBeanPostProcessor}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+public @interface Value {
+    /**
+     * The value expression.
+     *
+     * @return text with {@code ${key}} or {@code ${key:default}} placeholders.
+     */
+    String value();
+}
@@ -0,0 +1,435 @@
+package com.codeus.winter.annotation;
+
+import com.codeus.winter.config.BeanPostProcessor;
+import com.codeus.winter.config.ConstructorArgumentResolver;
+import com.codeus.winter.exception.BeanFactoryException;
+import com.codeus.winter.util.Converter;
+import com.codeus.winter.util.ConverterRegistry;
+import com.codeus.winter.util.PlaceholderExpression;
+import com.codeus.winter.util.PropertyChangeEvent;
+import com.codeus.winter.util.PropertyChangeListener;
+import com.codeus.winter.util.PropertyPlaceholderResolver;
+import com.codeus.winter.util.PropertySource;
+import jakarta.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * BeanPostProcessor implementation that injects {@link Value} expressions into annotated fields
+ * and setter methods, and supplies annotated constructor parameters to the bean factory as a
+ * {@link ConstructorArgumentResolver}.
+ * <p>
+ * The injection points of a class are collected once, together with the compiled placeholder
+ * expression and the converter of each point, and cached per class; creating another instance,
+ * for example of a prototype bean, only resolves the expressions, which are themselves cached
+ * until the property source changes, and converts a value only if its text has changed.
+ * <p>
+ * As a {@link PropertyChangeListener}, for example of a {@link com.codeus.winter.util.PropertySourceWatcher},
+ * the processor re-injects the fields and setters of live beans whose resolved texts changed; only
+ * expressions that read one of the changed keys are resolved again, each once per change, and beans are
+ * tracked through weak references. Only beans accepted by the bean filter are tracked, typically the
+ * singletons, so that prototypes and other scoped instances cost nothing extra and borrowed pooled
+ * instances are not modified under their borrower. Fields updated in place should be volatile, and
+ * constructor parameters keep the values the bean was created with.
+ * <p>
+ * Member handles are adapted once to {@code (Object, Object[])void} and invoked exactly.
+ */
+@SuppressWarnings("java:S3011")
+public class ValueAnnotationBeanPostProcessor implements BeanPostProcessor, ConstructorArgumentResolver,
+        PropertyChangeListener {
+    private static final MethodType MEMBER_TYPE = MethodType.methodType(void.class, Object.class, Object[].class);
+
+    private final PropertyPlaceholderResolver placeholderResolver;
+    private final ConverterRegistry converterRegistry;
+    private final Predicate<String> reloadableBeanFilter;
+    private final ClassValue<InjectionMetadata> injectionMetadata = new ClassValue<>() {
+        @Override
+        protected InjectionMetadata computeValue(Class<?> type) {
+            return buildMetadata(type);
+        }
+    };
+    private final Set<InjectedBean> injectedBeans = ConcurrentHashMap.newKeySet();
+    private final ReferenceQueue<Object> collectedBeans = new ReferenceQueue<>();
+
+    /**
+     * Create a post-processor resolving values against the given properties with the built-in converters.
+     *
+     * @param propertySource source of the property values.
+     */
+    public ValueAnnotationBeanPostProcessor(PropertySource<?> propertySource) {
+        this(propertySource, beanName -> true);
+    }
+
+    /**
+     * Create a post-processor with the built-in converters re-injecting only the accepted beans on changes.
+     *
+     * @param propertySource       source of the property values.
+     * @param reloadableBeanFilter filter of the bean names whose values are re-injected on changes.
+     */
+    public ValueAnnotationBeanPostProcessor(PropertySource<?> propertySource, Predicate<String> reloadableBeanFilter) {
+        this(new PropertyPlaceholderResolver(propertySource), new ConverterRegistry(), reloadableBeanFilter);
+    }
+
+    /**
+     * Create a post-processor with the given resolver and converters.
+     *
+     * @param placeholderResolver resolver of the value expressions.
+     * @param converterRegistry   converters of the resolved texts.
+     */
+    public ValueAnnotationBeanPostProcessor(PropertyPlaceholderResolver placeholderResolver,
+                                            ConverterRegistry converterRegistry) {
+        this(placeholderResolver, converterRegistry, beanName -> true);
+    }
+
+    /**
+     * Create a post-processor with the given resolver and converters re-injecting only the accepted
+     * beans on changes.
+     *
+     * @param placeholderResolver  resolver of the value expressions.
+     * @param converterRegistry    converters of the resolved texts.
+     * @param reloadableBeanFilter filter of the bean names whose values are re-injected on changes.
+     */
+    public ValueAnnotationBeanPostProcessor(PropertyPlaceholderResolver placeholderResolver,
+                                            ConverterRegistry converterRegistry,
+                                            Predicate<String> reloadableBeanFilter) {
+        this.placeholderResolver = placeholderResolver;
+        this.converterRegistry = converterRegistry;
+        this.reloadableBeanFilter = reloadableBeanFilter;
+    }
+
+    /**
+     * Inject values into the fields and setter methods annotated with @Value.
+     *
+     * @param bean     bean object
+     * @param beanName bean name
+     * @return bean object
+     */
+    @Nullable
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        ValueMember[] members = injectionMetadata.get(bean.getClass()).members();
+        if (members.length == 0) {
+            return bean;
+        }
+        boolean reloadable = reloadableBeanFilter.test(beanName);
+        String[][] texts = reloadable ? new String[members.length][] : null;
+        try {
+            for (int i = 0; i < members.length; i++) {
+                String[] memberTexts = members[i].resolveTexts();
+                members[i].inject(bean, memberTexts);
+                if (reloadable) {
+                    texts[i] = memberTexts;
+                }
+            }
+        } catch (Exception e) {
+            throw new BeanFactoryException("Value injection failed: " + beanName, e);
+        }
+        if (reloadable) {
+            expungeCollectedBeans();
+            injectedBeans.add(new InjectedBean(bean, beanName, members, texts, collectedBeans));
+        }
+        return bean;
+    }
+
+    /**
+     * Re-inject the fields and setters of live beans whose expressions read one of the changed keys
+     * and whose resolved values have changed.
+     *
+     * @param event changed keys.
+     * @throws BeanFactoryException if a changed value cannot be resolved or converted; other beans are
+     *                              still updated.
+     */
+    @Override
+    public void propertiesChanged(PropertyChangeEvent event) {
+        expungeCollectedBeans();
+        Map<ValueExpression, Boolean> affectedValues = new IdentityHashMap<>();
+        Predicate<ValueMember> affected = member -> member.readsAnyOf(event.changedKeys(), affectedValues);
+        BeanFactoryException failure = null;
+        for (InjectedBean injectedBean : injectedBeans) {
+            try {
+                injectedBean.reinject(affected);
+            } catch (Exception e) {
+                if (failure == null) {
+                    failure = new BeanFactoryException("Value re-injection failed: " + injectedBean.beanName, e);
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void expungeCollectedBeans() {
+        for (Object collected = collectedBeans.poll(); collected != null; collected = collectedBeans.poll()) {
+            injectedBeans.remove(collected);
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(Constructor<?> constructor, int parameterIndex) {
+        ValueExpression[] values = injectionMetadata.get(constructor.getDeclaringClass())
+                .constructorValues().get(constructor);
+        return values != null && values[parameterIndex] != null;
+    }
+
+    @Override
+    public Object resolveArgument(Constructor<?> constructor, int parameterIndex, String beanName) {
+        try {
+            return injectionMetadata.get(constructor.getDeclaringClass())
+                    .constructorValues().get(constructor)[parameterIndex].resolve();
+        } catch (RuntimeException e) {
+            throw new BeanFactoryException("Value injection failed: " + beanName, e);
+        }
+    }
+
+    /**
+     * Collect the injection points of a class; the components of a record are only set through its
+     * constructor, although @Value on a component is also present on its field and accessor.
+     */
+    private InjectionMetadata buildMetadata(Class<?> type) {
+        List<ValueMember> members = new ArrayList<>();
+        Map<Constructor<?>, ValueExpression[]> constructorValues = new HashMap<>();
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            ValueExpression[] values = parameterValues(constructor.getParameters(), false);
+            if (values != null) {
+                constructorValues.put(constructor, values);
+            }
+        }
+        Class<?> memberType = type.isRecord() ? null : type;
+        for (Class<?> current = memberType; current != null && current != Object.class;
+             current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                Value value = field.getAnnotation(Value.class);
+                if (value != null && !Modifier.isStatic(field.getModifiers())) {
+                    field.setAccessible(true);
+                    members.add(new ValueMember(adapt(unreflect(field), 1), new ValueExpression[] {
+                        createValue(value, field.getGenericType(), "field " + field)}));
+                }
+            }
+            for (Method method : current.getDeclaredMethods()) {
+                ValueExpression[] values = methodValues(method);
+                if (values != null) {
+                    method.setAccessible(true);
+                    members.add(new ValueMember(adapt(unreflect(method), values.length), values));
+                }
+            }
+        }
+        return new InjectionMetadata(members.toArray(new ValueMember[0]), Map.copyOf(constructorValues));
+    }
+
+    @Nullable
+    private ValueExpression[] methodValues(Method method) {
+        Value value = method.getAnnotation(Value.class);
+        if (value == null) {
+            return parameterValues(method.getParameters(), true);
+        }
+        if (method.getParameterCount() != 1) {
+            throw new BeanFactoryException("@Value method must have exactly one parameter: " + method);
+        }
+        return new ValueExpression[] {createValue(value, method.getGenericParameterTypes()[0], "method " + method)};
+    }
+
+    /**
+     * Collect the @Value parameters of an executable; for methods every parameter must be annotated.
+     */
+    @Nullable
+    private ValueExpression[] parameterValues(Parameter[] parameters, boolean requireAll) {
+        ValueExpression[] values = new ValueExpression[parameters.length];
+        boolean found = false;
+        for (int i = 0; i < parameters.length; i++) {
+            Value value = parameters[i].getAnnotation(Value.class);
+            if (value != null) {
+                values[i] = createValue(value, parameters[i].getParameterizedType(),
+                        "parameter " + parameters[i] + " of " + parameters[i].getDeclaringExecutable());
+                found = true;
+            } else if (requireAll && found) {
+                throw new BeanFactoryException("All parameters of a @Value method must be annotated with @Value: "
+                        + parameters[i].getDeclaringExecutable());
+            }
+        }
+        if (requireAll && found && values[0] == null) {
+            throw new BeanFactoryException("All parameters of a @Value method must be annotated with @Value: "
+                    + parameters[0].getDeclaringExecutable());
+        }
+        return found ? values : null;
+    }
+
+    private ValueExpression createValue(Value value, Type type, String injectionPoint) {
+        try {
+            return new ValueExpression(placeholderResolver.compile(value.value()), converterRegistry.getConverter(type),
+                    type instanceof Class<?> valueClass && valueClass.isArray(), injectionPoint);
+        } catch (IllegalArgumentException e) {
+            throw new BeanFactoryException("Unsupported @Value type of " + injectionPoint, e);
+        }
+    }
+
+    private static MethodHandle unreflect(Field field) {
+        try {
+            return MethodHandles.lookup().unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            throw new BeanFactoryException("Cannot inject @Value into field " + field, e);
+        }
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new BeanFactoryException("Cannot invoke @Value method " + method, e);
+        }
+    }
+
+    /**
+     * Adapt the handle of a member to {@code (Object, Object[])void}, the bean followed by its values.
+     */
+    private static MethodHandle adapt(MethodHandle handle, int valueCount) {
+        return handle.asType(handle.type().generic().changeReturnType(void.class))
+                .asSpreader(Object[].class, valueCount)
+                .asType(MEMBER_TYPE);
+    }
+
+    /**
+     * Cached @Value injection points of a class.
+     */
+    private record InjectionMetadata(ValueMember[] members, Map<Constructor<?>, ValueExpression[]> constructorValues) {
+    }
+
+    /**
+     * Field or method receiving values; the handle takes the bean and the array of the values.
+     */
+    private record ValueMember(MethodHandle handle, ValueExpression[] values) {
+
+        String[] resolveTexts() {
+            String[] texts = new String[values.length];
+            for (int i = 0; i < values.length; i++) {
+                texts[i] = values[i].expression.resolve();
+            }
+            return texts;
+        }
+
+        boolean readsAnyOf(Set<String> keys, Map<ValueExpression, Boolean> affectedValues) {
+            for (ValueExpression value : values) {
+                if (affectedValues.computeIfAbsent(value, v -> v.expression.readsAnyOf(keys))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void inject(Object bean, String[] texts) throws Exception {
+            Object[] arguments = new Object[values.length];
+            for (int i = 0; i < values.length; i++) {
+                arguments[i] = values[i].convert(texts[i]);
+            }
+            try {
+                handle.invokeExact(bean, arguments);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        }
+    }
+
+    /**
+     * Bean with @Value members and the texts last injected into each member; identity-based, so it
+     * can be removed from the tracked set once the bean has been collected.
+     */
+    private static final class InjectedBean extends WeakReference<Object> {
+        private final String beanName;
+        private final ValueMember[] members;
+        private final String[][] texts;
+
+        private InjectedBean(Object bean, String beanName, ValueMember[] members, String[][] texts,
+                             ReferenceQueue<Object> queue) {
+            super(bean, queue);
+            this.beanName = beanName;
+            this.members = members;
+            this.texts = texts;
+        }
+
+        private synchronized void reinject(Predicate<ValueMember> affected) throws Exception {
+            Object bean = get();
+            if (bean == null) {
+                return;
+            }
+            for (int i = 0; i < members.length; i++) {
+                if (!affected.test(members[i])) {
+                    continue;
+                }
+                String[] newTexts = members[i].resolveTexts();
+                if (!Arrays.equals(texts[i], newTexts)) {
+                    members[i].inject(bean, newTexts);
+                    texts[i] = newTexts;
+                }
+            }
+        }
+    }
+
+    /**
+     * Compiled expression and converter of one injection point, with the last conversion. Resolved
+     * texts are cached by the placeholder resolver, so an unchanged text is the same instance.
+     */
+    private static final class ValueExpression {
+        private final PlaceholderExpression expression;
+        private final Converter<?> converter;
+        private final boolean mutableResult;
+        private final String injectionPoint;
+        private volatile Conversion lastConversion;
+
+        private ValueExpression(PlaceholderExpression expression, Converter<?> converter, boolean mutableResult,
+                                String injectionPoint) {
+            this.expression = expression;
+            this.converter = converter;
+            this.mutableResult = mutableResult;
+            this.injectionPoint = injectionPoint;
+        }
+
+        private Object resolve() {
+            return convert(expression.resolve());
+        }
+
+        private Object convert(String text) {
+            Conversion conversion = lastConversion;
+            if (conversion != null && conversion.text() == text) {
+                return conversion.value();
+            }
+            Object value;
+            try {
+                value = converter.convert(text);
+            } catch (IllegalArgumentException | ArithmeticException | DateTimeException e) {
+                throw new BeanFactoryException(String.format("Cannot convert value '%s' of @Value(\"%s\") for %s",
+                        text, expression.getText(), injectionPoint), e);
+            }
+            if (!mutableResult) {
+                lastConversion = new Conversion(text, value);
+            }
+            return value;
+        }
+    }
+
+    private record Conversion(String text, Object value) {
+    }
+}
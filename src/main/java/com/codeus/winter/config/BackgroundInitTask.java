@@ -0,0 +1,92 @@
+package com.codeus.winter.config;
+
+import com.codeus.winter.exception.BeanFactoryException;
+import jakarta.annotation.Nullable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Initialization of a single bean marked for background initialization.
+ * <p>
+ * The task is submitted to a bootstrap thread as soon as the bean is constructed and is run by
+ * exactly one thread; callers that need the bean wait for it, even if the task has not been started yet.
+ * Until it completes, the task occupies the singleton slot of its bean.
+ */
+final class BackgroundInitTask {
+    private final String beanName;
+    private final Object beanInstance;
+    private final Supplier<Object> initializer;
+    private final CompletableFuture<Object> future = new CompletableFuture<>();
+    private final AtomicReference<Thread> owner = new AtomicReference<>();
+
+    BackgroundInitTask(String beanName, Object beanInstance, Supplier<Object> initializer) {
+        this.beanName = beanName;
+        this.beanInstance = beanInstance;
+        this.initializer = initializer;
+    }
+
+    /**
+     * Run the initialization unless another thread has already claimed it. Any failure, including an
+     * {@link Error}, completes the task exceptionally; errors are rethrown afterwards.
+     */
+    void run() {
+        if (!owner.compareAndSet(null, Thread.currentThread())) {
+            return;
+        }
+        try {
+            future.complete(initializer.get());
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            if (e instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    /**
+     * Wait for the initialization to finish.
+     *
+     * @return initialized bean instance.
+     * @throws BeanFactoryException if the initialization failed or the current thread runs it.
+     */
+    Object await() {
+        if (!future.isDone() && owner.get() == Thread.currentThread()) {
+            throw new BeanFactoryException("Circular reference during background initialization of bean: "
+                    + beanName);
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw new BeanFactoryException("Background initialization failed for bean: " + beanName, e.getCause());
+        }
+    }
+
+    /**
+     * Return the constructed bean instance, before post-processing; used for type matching.
+     *
+     * @return raw bean instance.
+     */
+    Object getBeanInstance() {
+        return beanInstance;
+    }
+
+    boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * Return the thread that claimed the task.
+     *
+     * @return owner thread, or null if the task has not been started.
+     */
+    @Nullable
+    Thread getOwner() {
+        return owner.get();
+    }
+
+    CompletableFuture<Object> getFuture() {
+        return future;
+    }
+}
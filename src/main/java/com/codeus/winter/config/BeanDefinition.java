@@ -11,6 +11,9 @@ public interface BeanDefinition {
 
     String SCOPE_SINGLETON = Scope.SINGLETON.toString();
     String SCOPE_PROTOTYPE = Scope.PROTOTYPE.toString();
+    String SCOPE_REQUEST = Scope.REQUEST.toString();
+    String SCOPE_THREAD = Scope.THREAD.toString();
+    String SCOPE_POOLED = Scope.POOLED.toString();
 
     /**
      * @param beanClassName Specify the bean class name of this bean definition.
@@ -27,6 +30,9 @@ public interface BeanDefinition {
      * Override the target scope of this bean, specifying a new scope name.
      * @see #SCOPE_SINGLETON
      * @see #SCOPE_PROTOTYPE
+     * @see #SCOPE_REQUEST
+     * @see #SCOPE_THREAD
+     * @see #SCOPE_POOLED
      * @param scope bean's scope.
      */
     void setScope(@Nullable String scope);
@@ -62,6 +68,33 @@ public interface BeanDefinition {
     @Nullable
     String[] getDependsOn();
 
+    /**
+     * Set whether this bean should be lazily initialized.
+     * <p>A lazy bean is not instantiated during container startup, but on the first
+     * lookup or non-lazy injection that requires it.
+     * @param lazyInit true if the bean should be lazily initialized.
+     */
+    void setLazyInit(boolean lazyInit);
+
+    /**
+     * Return whether this bean should be lazily initialized.
+     * @return true if the bean is lazily initialized.
+     */
+    boolean isLazyInit();
+
+    /**
+     * Set whether the initialization callbacks of this bean should run in the background
+     * on the container's bootstrap executor instead of blocking startup.
+     * @param backgroundInit true if the bean is initialized in the background.
+     */
+    void setBackgroundInit(boolean backgroundInit);
+
+    /**
+     * Return whether the initialization callbacks of this bean run in the background.
+     * @return true if the bean is initialized in the background.
+     */
+    boolean isBackgroundInit();
+
     /**
      * Set whether this bean is a candidate for getting autowired into some other bean.
      * <p>Note that this flag is designed to only affect type-based autowiring.
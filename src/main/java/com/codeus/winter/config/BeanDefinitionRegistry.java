@@ -1,5 +1,6 @@
 package com.codeus.winter.config;
 
+import java.util.Map;
 
 /**
  * Interface for registries that hold bean definitions, for example RootBeanDefinition
@@ -16,6 +17,18 @@ public interface BeanDefinitionRegistry {
      */
     void registerBeanDefinition(String beanName, BeanDefinition beanDefinition);
 
+    /**
+     * Register all given bean definitions with this registry, in the iteration order of the map.
+     * <p>
+     * The default implementation registers them one by one; implementations may register
+     * them atomically and more efficiently.
+     *
+     * @param beanDefinitions bean definitions keyed by bean name
+     */
+    default void registerBeanDefinitions(Map<String, ? extends BeanDefinition> beanDefinitions) {
+        beanDefinitions.forEach(this::registerBeanDefinition);
+    }
+
     /**
      * Remove the BeanDefinition for the given name.
      *
@@ -53,4 +66,17 @@ public interface BeanDefinitionRegistry {
      * @return the number of beans defined in the registry
      */
     int getBeanDefinitionCount();
+
+    /**
+     * Freeze all registered bean definitions: replace them with compact, immutable copies that
+     * read without allocating. Definitions registered afterwards are frozen on registration.
+     */
+    void freezeConfiguration();
+
+    /**
+     * Check whether the bean definitions of this registry are frozen.
+     *
+     * @return {@code true} if {@link #freezeConfiguration()} has been called
+     */
+    boolean isConfigurationFrozen();
 }
@@ -4,6 +4,9 @@ import com.codeus.winter.exception.BeanNotFoundException;
 import jakarta.annotation.Nullable;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface BeanFactory {
 
@@ -38,6 +41,63 @@ public interface BeanFactory {
     @Nullable
     <T> T getBean(Class<T> requiredType) throws BeanNotFoundException;
 
+    /**
+     * Return the bean object for specified name if there is one, without throwing when there is none.
+     *
+     * @param name bean's name.
+     * @return the bean object, or null if none.
+     */
+    @Nullable
+    Object getBeanIfAvailable(String name);
+
+    /**
+     * Return the bean object for the specified class type if there is one, without throwing when there is none.
+     *
+     * @param requiredType required class type
+     * @param <T>          the type of the bean
+     * @return the bean object, or null if none
+     */
+    @Nullable
+    <T> T getBeanIfAvailable(Class<T> requiredType);
+
+    /**
+     * Find the bean object for specified name.
+     *
+     * @param name bean's name.
+     * @return the bean object, or an empty optional if none.
+     */
+    default Optional<Object> findBean(String name) {
+        return Optional.ofNullable(getBeanIfAvailable(name));
+    }
+
+    /**
+     * Find the bean object for the specified class type.
+     *
+     * @param requiredType required class type
+     * @param <T>          the type of the bean
+     * @return the bean object, or an empty optional if none
+     */
+    default <T> Optional<T> findBean(Class<T> requiredType) {
+        return Optional.ofNullable(getBeanIfAvailable(requiredType));
+    }
+
+    /**
+     * Return all bean objects of the specified class type, including subclasses and implementations.
+     *
+     * @param type required class type
+     * @param <T>  the type of the beans
+     * @return immutable map of bean objects by bean name, in registration order
+     */
+    <T> Map<String, T> getBeansOfType(Class<T> type);
+
+    /**
+     * Return the names of all beans of the specified class type, including subclasses and implementations.
+     *
+     * @param type required class type
+     * @return immutable list of bean names, in registration order
+     */
+    List<String> getBeanNamesForType(Class<?> type);
+
     /**
      * Create a bean for the specified bean class.
      *
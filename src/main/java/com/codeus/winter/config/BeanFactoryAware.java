@@ -0,0 +1,16 @@
+package com.codeus.winter.config;
+
+/**
+ * Interface to be implemented by {@link BeanPostProcessor}s that need a reference to the
+ * {@link BeanFactory} they are registered with.
+ */
+public interface BeanFactoryAware {
+
+    /**
+     * Callback that supplies the owning factory to a post-processor.
+     * Invoked when the post-processor is added to the factory.
+     *
+     * @param beanFactory owning bean factory.
+     */
+    void setBeanFactory(BeanFactory beanFactory);
+}
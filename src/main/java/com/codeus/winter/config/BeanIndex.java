@@ -0,0 +1,257 @@
+package com.codeus.winter.config;
+
+import jakarta.annotation.Nullable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dense integer index of the beans of a {@link DefaultBeanFactory}.
+ * <p>
+ * Every bean name gets an id in registration order. Definitions, singleton slots and the resolved
+ * bean classes are stored in arrays indexed by id, and the {@link BeanDefinition#getDependsOn()} edges
+ * in compressed sparse row form, see {@link DependencyRows}. Names are only translated to ids at the API boundary.
+ * <p>
+ * Reads are lock-free; writes are serialized and published with release semantics,
+ * so a reader that sees a slot also sees the fully constructed bean. The dependency rows are built
+ * once for the initial definitions; a later registration only discards them, and they are rebuilt
+ * on the next read, so registering many beans one by one does not rebuild them every time.
+ */
+final class BeanIndex {
+    /**
+     * Id of a name that is not registered.
+     */
+    static final int NO_ID = -1;
+
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final VarHandle DEFINITION = MethodHandles.arrayElementVarHandle(BeanDefinition[].class);
+    private static final VarHandle BEAN_CLASS = MethodHandles.arrayElementVarHandle(ResolvedBeanClass[].class);
+    private static final int MIN_CAPACITY = 16;
+
+    private final Map<String, Integer> ids;
+    private volatile String[] names;
+    private volatile BeanDefinition[] definitions;
+    private volatile Object[] slots;
+    private volatile ResolvedBeanClass[] beanClasses;
+    private volatile int size;
+    @Nullable
+    private volatile DependencyRows dependencyRows;
+
+    BeanIndex(Map<String, BeanDefinition> beanDefinitions) {
+        int capacity = Math.max(MIN_CAPACITY, beanDefinitions.size());
+        this.ids = new ConcurrentHashMap<>(capacity);
+        this.names = new String[capacity];
+        this.definitions = new BeanDefinition[capacity];
+        this.slots = new Object[capacity];
+        this.beanClasses = new ResolvedBeanClass[capacity];
+        beanDefinitions.forEach(this::add);
+        this.dependencyRows = buildDependencyRows();
+    }
+
+    /**
+     * Return the id of the given bean name.
+     *
+     * @param beanName bean name.
+     * @return id, or {@link #NO_ID} if the name is not registered.
+     */
+    int idOf(String beanName) {
+        Integer id = ids.get(beanName);
+        return id == null ? NO_ID : id;
+    }
+
+    /**
+     * Return the number of registered beans; ids are {@code 0 .. size() - 1}.
+     *
+     * @return bean count.
+     */
+    int size() {
+        return size;
+    }
+
+    String nameOf(int id) {
+        return names[id];
+    }
+
+    /**
+     * Return the definition of the bean, null for singletons registered without one.
+     *
+     * @param id bean id.
+     * @return bean definition or null.
+     */
+    @Nullable
+    BeanDefinition definitionOf(int id) {
+        return (BeanDefinition) DEFINITION.getAcquire(definitions, id);
+    }
+
+    /**
+     * Return the content of the singleton slot of the bean: the singleton, a pending
+     * {@link BackgroundInitTask}, or null if the bean has not been created.
+     *
+     * @param id bean id.
+     * @return slot content or null.
+     */
+    @Nullable
+    Object slotOf(int id) {
+        return SLOT.getAcquire(slots, id);
+    }
+
+    synchronized void setSlot(int id, Object value) {
+        SLOT.setRelease(slots, id, value);
+    }
+
+    /**
+     * Return the bean class resolved for the current definition of the bean.
+     *
+     * @param id             bean id.
+     * @param beanDefinition current definition of the bean.
+     * @return resolved bean class, or null if it was not resolved for this definition yet.
+     */
+    @Nullable
+    ResolvedBeanClass beanClassOf(int id, BeanDefinition beanDefinition) {
+        ResolvedBeanClass beanClass = (ResolvedBeanClass) BEAN_CLASS.getAcquire(beanClasses, id);
+        return beanClass != null && beanClass.definition() == beanDefinition ? beanClass : null;
+    }
+
+    /**
+     * Remember the bean class resolved for a definition of the bean. Racing lookups resolve the
+     * same class, so the last one wins; an entry for a replaced definition is never returned.
+     *
+     * @param id        bean id.
+     * @param beanClass resolved bean class.
+     */
+    void cacheBeanClass(int id, ResolvedBeanClass beanClass) {
+        BEAN_CLASS.setRelease(beanClasses, id, beanClass);
+    }
+
+    /**
+     * Register a bean name, or replace the definition of an existing one.
+     *
+     * @param beanName       bean name.
+     * @param beanDefinition bean definition, may be null.
+     * @return id of the bean.
+     */
+    synchronized int register(String beanName, @Nullable BeanDefinition beanDefinition) {
+        int id = add(beanName, beanDefinition);
+        dependencyRows = null;
+        return id;
+    }
+
+    private int add(String beanName, @Nullable BeanDefinition beanDefinition) {
+        int id = idOf(beanName);
+        if (id != NO_ID) {
+            DEFINITION.setRelease(definitions, id, beanDefinition);
+            BEAN_CLASS.setRelease(beanClasses, id, null);
+            return id;
+        }
+        id = size;
+        if (id == names.length) {
+            int capacity = names.length * 2;
+            names = Arrays.copyOf(names, capacity);
+            definitions = Arrays.copyOf(definitions, capacity);
+            slots = Arrays.copyOf(slots, capacity);
+            beanClasses = Arrays.copyOf(beanClasses, capacity);
+        }
+        names[id] = beanName;
+        DEFINITION.setRelease(definitions, id, beanDefinition);
+        size = id + 1;
+        ids.put(beanName, id);
+        return id;
+    }
+
+    /**
+     * Return the current dependency rows, building them if a registration has discarded them; a
+     * snapshot is never modified.
+     *
+     * @return dependency rows of the registered beans.
+     */
+    DependencyRows dependencyRows() {
+        DependencyRows rows = dependencyRows;
+        return rows != null ? rows : rebuildDependencyRows();
+    }
+
+    private synchronized DependencyRows rebuildDependencyRows() {
+        DependencyRows rows = dependencyRows;
+        if (rows == null) {
+            rows = buildDependencyRows();
+            dependencyRows = rows;
+        }
+        return rows;
+    }
+
+    private DependencyRows buildDependencyRows() {
+        int beanCount = size;
+        int[] offsets = new int[beanCount + 1];
+        int edgeCount = 0;
+        for (int id = 0; id < beanCount; id++) {
+            String[] dependsOn = dependsOn(id);
+            edgeCount += dependsOn == null ? 0 : dependsOn.length;
+            offsets[id + 1] = edgeCount;
+        }
+        int[] ids = new int[edgeCount];
+        for (int id = 0; id < beanCount; id++) {
+            String[] dependsOn = dependsOn(id);
+            for (int i = 0; dependsOn != null && i < dependsOn.length; i++) {
+                ids[offsets[id] + i] = idOf(dependsOn[i]);
+            }
+        }
+        return new DependencyRows(offsets, ids);
+    }
+
+    @Nullable
+    private String[] dependsOn(int id) {
+        BeanDefinition beanDefinition = definitions[id];
+        return beanDefinition == null ? null : beanDefinition.getDependsOn();
+    }
+
+    /**
+     * Bean class resolved from the class name of a definition, with its {@code @Lazy} annotation.
+     *
+     * @param definition definition the class was resolved from.
+     * @param beanClass  bean class.
+     * @param lazy       whether the class is annotated with {@code @Lazy(true)}.
+     */
+    record ResolvedBeanClass(BeanDefinition definition, Class<?> beanClass, boolean lazy) {
+    }
+
+    /**
+     * {@link BeanDefinition#getDependsOn()} edges in compressed sparse row form: the dependencies of
+     * bean {@code id} are {@code ids[offsets[id] .. offsets[id + 1])}, in the order of the definition.
+     *
+     * @param offsets row offsets, one more than the number of beans.
+     * @param ids     dependency ids, {@link #NO_ID} for names that were not registered.
+     */
+    record DependencyRows(int[] offsets, int[] ids) {
+
+        /**
+         * Return the start of the row of the bean.
+         *
+         * @param id bean id.
+         * @return inclusive start position.
+         */
+        int start(int id) {
+            return id < offsets.length - 1 ? offsets[id] : 0;
+        }
+
+        /**
+         * Return the end of the row of the bean.
+         *
+         * @param id bean id.
+         * @return exclusive end position.
+         */
+        int end(int id) {
+            return id < offsets.length - 1 ? offsets[id + 1] : 0;
+        }
+
+        /**
+         * Return a dependency id.
+         *
+         * @param position position between {@link #start(int)} and {@link #end(int)}.
+         * @return dependency id, or {@link #NO_ID} if the dependency is not registered.
+         */
+        int at(int position) {
+            return ids[position];
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.codeus.winter.config;
+
+import jakarta.annotation.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * Strategy storing the instances of beans whose {@link BeanDefinition#getScope() scope} is neither
+ * singleton nor prototype. Implementations are registered with
+ * {@link DefaultBeanFactory#registerScope(String, BeanScope)} under the scope name they serve.
+ */
+public interface BeanScope {
+
+    /**
+     * Return the instance of the bean in the current scope, creating it with the given factory
+     * if the scope does not hold one yet.
+     *
+     * @param name          bean name.
+     * @param objectFactory creator of a fully initialized instance of the bean.
+     * @return bean instance.
+     */
+    Object get(String name, Supplier<?> objectFactory);
+
+    /**
+     * Remove the instance of the bean from the current scope without running its destruction callback.
+     *
+     * @param name bean name.
+     * @return the removed instance, or null if the scope held none.
+     */
+    @Nullable
+    Object remove(String name);
+
+    /**
+     * Register a callback run when the current scope ends, such as the {@code @PreDestroy} methods
+     * of the bean. Called by the factory while the instance is created.
+     *
+     * @param name     bean name.
+     * @param callback destruction callback.
+     */
+    void registerDestructionCallback(String name, Runnable callback);
+
+    /**
+     * Take back an instance the caller is done with. Scopes that lend instances, such as
+     * {@link PooledScope}, make it available to other lookups; the default does nothing.
+     *
+     * @param name     bean name.
+     * @param instance instance obtained from {@link #get}.
+     */
+    default void release(String name, Object instance) {
+    }
+}
@@ -1,5 +1,7 @@
 package com.codeus.winter.config;
 
+import com.codeus.winter.config.impl.PackageScannerImpl;
+
 /**
  * A bean definition scanner that detects bean candidates on the classpath,
  * registering corresponding bean definitions with a given registry ({@code BeanFactory}
@@ -7,6 +9,7 @@ package com.codeus.winter.config;
  **/
 public class ClassPathBeanDefinitionScanner {
     private final BeanDefinitionRegistry registry;
+    private final PackageBeanRegistration packageBeanRegistration;
 
     /**
      * Create a new {@code ClassPathBeanDefinitionScanner} for the given bean factory.
@@ -15,16 +18,52 @@ public class ClassPathBeanDefinitionScanner {
      *                 of a {@code BeanDefinitionRegistry}
      */
     public ClassPathBeanDefinitionScanner(BeanDefinitionRegistry registry) {
+        this(registry, new PackageScannerImpl());
+    }
+
+    /**
+     * Create a new {@code ClassPathBeanDefinitionScanner} for the given bean factory
+     * that finds candidate classes with the given package scanner.
+     *
+     * @param registry       the {@code BeanFactory} to load bean definitions into, in the form
+     *                       of a {@code BeanDefinitionRegistry}
+     * @param packageScanner the scanner used to find annotated classes
+     */
+    public ClassPathBeanDefinitionScanner(BeanDefinitionRegistry registry, PackageScanner packageScanner) {
         this.registry = registry;
+        this.packageBeanRegistration = new PackageBeanRegistration(packageScanner, registry);
+    }
+
+    /**
+     * Add a filter of which a candidate class must match at least one to be registered. Class name
+     * filters are checked against class-file paths, so classes they reject are never read.
+     *
+     * @param includeFilter the include filter
+     */
+    public void addIncludeFilter(ScanFilter includeFilter) {
+        packageBeanRegistration.addIncludeFilter(includeFilter);
+    }
+
+    /**
+     * Add a filter excluding the candidate classes it matches. Class name filters are checked
+     * against class-file paths, so excluded packages cost almost nothing to skip.
+     *
+     * @param excludeFilter the exclude filter
+     */
+    public void addExcludeFilter(ScanFilter excludeFilter) {
+        packageBeanRegistration.addExcludeFilter(excludeFilter);
     }
 
     /**
-     * Perform a scan within the specified base packages.
+     * Perform a scan within the specified base packages. The packages are scanned in parallel
+     * and their bean definitions registered in one step.
      *
      * @param basePackages the packages to check for annotated classes
      * @return number of beans registered
      */
     public int scanPackages(String... basePackages) {
-        return registry.getBeanDefinitionCount();
+        int beanCountBefore = registry.getBeanDefinitionCount();
+        packageBeanRegistration.registerBeans(basePackages);
+        return registry.getBeanDefinitionCount() - beanCountBefore;
     }
 }
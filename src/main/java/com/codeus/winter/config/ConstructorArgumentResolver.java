@@ -0,0 +1,30 @@
+package com.codeus.winter.config;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Interface to be implemented by {@link BeanPostProcessor}s that supply constructor arguments
+ * which are not beans, such as configuration values. The {@link DefaultBeanFactory} consults its
+ * post-processors for every constructor parameter before looking up a bean dependency.
+ */
+public interface ConstructorArgumentResolver {
+
+    /**
+     * Check whether this resolver supplies the given constructor parameter.
+     *
+     * @param constructor    constructor of the bean class.
+     * @param parameterIndex index of the parameter.
+     * @return true if {@link #resolveArgument} supplies the parameter.
+     */
+    boolean supportsParameter(Constructor<?> constructor, int parameterIndex);
+
+    /**
+     * Resolve the value of a supported constructor parameter.
+     *
+     * @param constructor    constructor of the bean class.
+     * @param parameterIndex index of the parameter.
+     * @param beanName       name of the bean being created.
+     * @return argument value.
+     */
+    Object resolveArgument(Constructor<?> constructor, int parameterIndex, String beanName);
+}
@@ -1,36 +1,128 @@
 package com.codeus.winter.config;
 
+import com.codeus.winter.annotation.BackgroundInit;
+import com.codeus.winter.annotation.Lazy;
+import com.codeus.winter.annotation.MetaAnnotations;
 import com.codeus.winter.exception.BeanFactoryException;
 import com.codeus.winter.exception.BeanNotFoundException;
 import com.codeus.winter.exception.NotUniqueBeanDefinitionException;
+import com.codeus.winter.jfr.BeanInstantiationEvent;
+import com.codeus.winter.jfr.BeanLookupEvent;
+import com.codeus.winter.jfr.DependencyResolutionEvent;
+import com.codeus.winter.jfr.PostProcessorInvocationEvent;
+import com.codeus.winter.metrics.BeanLookupMetrics;
+import com.codeus.winter.metrics.SlowLookupPath;
+import com.codeus.winter.startup.StartupPhase;
+import com.codeus.winter.startup.StartupStep;
+import com.codeus.winter.startup.StartupStepRecorder;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
  * Default implementation of the {@link BeanFactory} interface.
+ * <p>
+ * Singletons are created eagerly at construction time, except for lazy beans (see {@link Lazy}),
+ * which are created on the first lookup or non-lazy injection that requires them.
+ * Beans of other scopes (see {@link BeanDefinition#getScope()}) are created on every lookup for prototypes,
+ * or once per scope instance by the {@link BeanScope} registered for the scope name; {@link RequestScope},
+ * {@link ThreadScope} and {@link PooledScope} are registered by default. They are never created at startup,
+ * and instances lent by a scope such as pooled beans are handed back with {@link #releaseBean(String, Object)}.
+ * Beans marked with {@link BackgroundInit} are constructed during startup, but their post-processing
+ * and init callbacks run on virtual threads of a bootstrap executor, concurrently with the rest of the
+ * startup; see {@link #getBackgroundInitialization()}. Their dependents only wait when they use them:
+ * interface-typed collection elements receive a {@link LazyResolutionProxy} until the bean is ready.
+ * A bootstrap thread looking up an eager singleton that the startup has not reached yet creates it
+ * on demand. The bootstrap executor is shut down by {@link #close()}.
+ * Constructor parameters that a post-processor implementing {@link ConstructorArgumentResolver} supports,
+ * such as {@code @Value} parameters, are resolved by that post-processor instead of with a bean.
+ * Bean creation can be timed per phase with a {@link StartupStepRecorder}; instantiation, dependency
+ * resolution, post-processor invocations and slow lookup paths are also emitted as JFR events
+ * (see the {@code com.codeus.winter.jfr} package).
+ * <p>
+ * Internally every bean is identified by a dense int id (see {@link BeanIndex}); names are only
+ * translated at the API boundary.
  */
-public class DefaultBeanFactory implements BeanFactory {
+public class DefaultBeanFactory implements BeanFactory, AutoCloseable {
+    private static final int MAX_NEGATIVE_LOOKUPS = 1024;
 
-    private final Map<String, Object> singletonBeans = new HashMap<>();
     private final Map<String, BeanDefinition> beanDefinitions;
-    private final List<BeanPostProcessor> postProcessors = new ArrayList<>();
+    private final BeanIndex beanIndex;
+    private final StartupStepRecorder startupStepRecorder;
+    private final List<BeanPostProcessor> postProcessors = new CopyOnWriteArrayList<>();
+    private final Map<Integer, Thread> singletonsInCreation = new HashMap<>();
+    private final Map<Thread, Object> blockedThreads = new HashMap<>();
+    private final List<BackgroundInitTask> backgroundInits = new CopyOnWriteArrayList<>();
+    private final ExecutorService bootstrapExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("winter-bootstrap-", 0).factory());
+    private final Thread startupThread = Thread.currentThread();
+    private volatile boolean startupCompleted;
+    private final Map<String, Long> missingNames = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Long> missingTypes = new ConcurrentHashMap<>();
+    private final AtomicLong registryVersion = new AtomicLong();
+    private final Map<Class<?>, CachedTypeLookup<List<String>>> beanNamesByType = new ConcurrentHashMap<>();
+    private final Map<Class<?>, CachedTypeLookup<Map<String, Object>>> beansByType = new ConcurrentHashMap<>();
+    private volatile BeanLookupMetrics beanLookupMetrics = BeanLookupMetrics.DISABLED;
+    private final Map<String, BeanScope> scopes = new ConcurrentHashMap<>(Map.of(
+            BeanDefinition.SCOPE_REQUEST, new RequestScope(), BeanDefinition.SCOPE_THREAD, new ThreadScope(),
+            BeanDefinition.SCOPE_POOLED, new PooledScope()));
+    private final Map<String, Supplier<Object>> scopedBeanFactories = new ConcurrentHashMap<>();
 
     public DefaultBeanFactory(Map<String, BeanDefinition> beanDefinitions) {
+        this(beanDefinitions, List.of());
+    }
+
+    /**
+     * Create a factory whose beans are post-processed by the given processors during startup.
+     *
+     * @param beanDefinitions bean definitions by bean name.
+     * @param postProcessors  post-processors applied to every created bean, in order.
+     */
+    public DefaultBeanFactory(Map<String, BeanDefinition> beanDefinitions, List<BeanPostProcessor> postProcessors) {
+        this(beanDefinitions, postProcessors, StartupStepRecorder.DISABLED);
+    }
+
+    /**
+     * Create a factory that records the creation of every bean with the given recorder.
+     *
+     * @param beanDefinitions     bean definitions by bean name.
+     * @param postProcessors      post-processors applied to every created bean, in order.
+     * @param startupStepRecorder recorder of per-bean startup steps.
+     */
+    public DefaultBeanFactory(Map<String, BeanDefinition> beanDefinitions, List<BeanPostProcessor> postProcessors,
+                              StartupStepRecorder startupStepRecorder) {
         this.beanDefinitions = beanDefinitions;
+        this.beanIndex = new BeanIndex(beanDefinitions);
+        this.startupStepRecorder = startupStepRecorder;
+        postProcessors.forEach(this::addBeanPostProcessor);
         initializeBeans();
+        startupCompleted = true;
     }
 
     /**
@@ -42,7 +134,7 @@ public class DefaultBeanFactory implements BeanFactory {
     @Nullable
     @Override
     public final Object getBean(@Nonnull final String name) throws BeanNotFoundException {
-        return Optional.ofNullable(singletonBeans.get(name))
+        return Optional.ofNullable(getBeanIfAvailable(name))
                 .orElseThrow(() -> new BeanNotFoundException(String.format("Bean: %s not found", name)));
     }
 
@@ -57,7 +149,7 @@ public class DefaultBeanFactory implements BeanFactory {
     @Override
     public final <T> T getBean(@Nonnull final String name,
                                @Nonnull final Class<T> requiredType) throws BeanNotFoundException {
-        Object bean = singletonBeans.get(name);
+        Object bean = getBeanIfAvailable(name);
 
         if (bean == null) {
             throw new BeanNotFoundException(String.format("Bean with a name %s not found", name));
@@ -80,14 +172,141 @@ public class DefaultBeanFactory implements BeanFactory {
     @Nullable
     @Override
     public final <T> T getBean(@Nonnull final Class<T> requiredType) throws BeanNotFoundException {
-        return singletonBeans.values().stream()
-                .filter(requiredType::isInstance)
-                .findAny()
-                .map(requiredType::cast)
+        return Optional.ofNullable(getBeanIfAvailable(requiredType))
                 .orElseThrow(() -> new BeanNotFoundException(
                         String.format("Bean not found for type: %s", requiredType.getName())));
     }
 
+    /**
+     * Return the names of all beans of the given type, in registration order. Lazy beans are
+     * matched by their class without being created. The result is computed once per type and
+     * cached until the registry changes.
+     *
+     * @param type required class type.
+     * @return immutable list of bean names.
+     */
+    @Override
+    public final List<String> getBeanNamesForType(@Nonnull final Class<?> type) {
+        long version = registryVersion.get();
+        CachedTypeLookup<List<String>> cached = beanNamesByType.get(type);
+        if (cached != null && cached.version() == version) {
+            return cached.value();
+        }
+        List<String> beanNames = computeBeanNamesForType(type);
+        beanNamesByType.put(type, new CachedTypeLookup<>(version, beanNames));
+        return beanNames;
+    }
+
+    /**
+     * Return all beans of the given type keyed by bean name, in registration order. Lazy beans
+     * of the type are created; beans of other scopes than singleton are left out, since the result
+     * is computed once per type and cached until the registry changes.
+     *
+     * @param type required class type.
+     * @return immutable map of beans by bean name.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public final <T> Map<String, T> getBeansOfType(@Nonnull final Class<T> type) {
+        long version = registryVersion.get();
+        CachedTypeLookup<Map<String, Object>> cached = beansByType.get(type);
+        if (cached != null && cached.version() == version) {
+            return (Map<String, T>) cached.value();
+        }
+        Map<String, Object> beans = computeBeansOfType(type);
+        beansByType.put(type, new CachedTypeLookup<>(version, beans));
+        return (Map<String, T>) beans;
+    }
+
+    /**
+     * Return the bean with the given name, or null if there is none. Misses are cached
+     * until the next registration, so probing for optional beans never creates an exception.
+     *
+     * @param name bean name.
+     * @return bean object, or null if none.
+     */
+    @Nullable
+    @Override
+    public final Object getBeanIfAvailable(@Nonnull final String name) {
+        long version = registryVersion.get();
+        int id = isKnownMissing(missingNames, name, version) ? BeanIndex.NO_ID : beanIndex.idOf(name);
+        Object bean = id == BeanIndex.NO_ID ? null : resolveBean(id);
+        if (bean == null) {
+            rememberMissing(missingNames, name, version);
+        }
+        beanLookupMetrics.recordNameLookup(name, bean != null);
+        return bean;
+    }
+
+    /**
+     * Return the bean of the given type, or null if there is none. Misses are cached
+     * until the next registration, so probing for optional beans never creates an exception.
+     *
+     * @param requiredType required class type.
+     * @return bean object, or null if none.
+     */
+    @Nullable
+    @Override
+    public final <T> T getBeanIfAvailable(@Nonnull final Class<T> requiredType) {
+        long version = registryVersion.get();
+        if (isKnownMissing(missingTypes, requiredType, version)) {
+            beanLookupMetrics.recordTypeLookup(requiredType, false);
+            return null;
+        }
+        BeanLookupEvent lookupEvent = new BeanLookupEvent();
+        lookupEvent.begin();
+        long slowPathStart = startSlowPath();
+        int id = findSingletonId(requiredType::isInstance);
+        if (id == BeanIndex.NO_ID) {
+            id = findOnDemandBeanId(requiredType::isAssignableFrom);
+        }
+        endSlowPath(SlowLookupPath.TYPE_SCAN, slowPathStart);
+        lookupEvent.commit(id == BeanIndex.NO_ID ? null : beanIndex.nameOf(id), requiredType,
+                BeanLookupEvent.TYPE_SCAN);
+        beanLookupMetrics.recordTypeLookup(requiredType, id != BeanIndex.NO_ID);
+
+        if (id == BeanIndex.NO_ID) {
+            rememberMissing(missingTypes, requiredType, version);
+            return null;
+        }
+        return requiredType.cast(resolveBean(id));
+    }
+
+    /**
+     * Return the bean with the given id: the singleton, created if it is lazy and awaited if it is
+     * initialized in the background, or the instance of its scope.
+     */
+    @Nullable
+    private Object resolveBean(int id) {
+        Object slot = beanIndex.slotOf(id);
+        if (slot != null) {
+            return awaitBackgroundInit(id, slot);
+        }
+        BeanDefinition beanDefinition = beanIndex.definitionOf(id);
+        return beanDefinition != null && isScoped(beanDefinition)
+                ? getScopedBean(id, beanDefinition)
+                : getOnDemandBean(id);
+    }
+
+    /**
+     * Return the singleton slot value or, for a bean still initializing in the background,
+     * its constructed instance.
+     */
+    @Nullable
+    private static Object rawInstance(@Nullable Object slot) {
+        return slot instanceof BackgroundInitTask task ? task.getBeanInstance() : slot;
+    }
+
+    private int findSingletonId(Predicate<Object> beanMatcher) {
+        for (int id = 0, size = beanIndex.size(); id < size; id++) {
+            Object bean = rawInstance(beanIndex.slotOf(id));
+            if (bean != null && beanMatcher.test(bean)) {
+                return id;
+            }
+        }
+        return BeanIndex.NO_ID;
+    }
+
     /**
      * Creating bean object with class type.
      *
@@ -101,7 +320,7 @@ public class DefaultBeanFactory implements BeanFactory {
         checkBeanClassUniqueness(beanClass);
 
         Object newBean = beanClass.getDeclaredConstructor().newInstance();
-        singletonBeans.put(newBean.getClass().getName(), newBean);
+        addSingleton(beanIndex.register(newBean.getClass().getName(), null), newBean);
         return beanClass.cast(newBean);
     }
 
@@ -116,10 +335,14 @@ public class DefaultBeanFactory implements BeanFactory {
     public final void registerBean(@Nonnull final String name,
                                    @Nonnull final BeanDefinition beanDefinition,
                                    @Nonnull final Object beanInstance) {
+        beanDefinitions.put(name, beanDefinition);
+        int id = beanIndex.register(name, beanDefinition);
+        scopedBeanFactories.remove(name);
         if (beanDefinition.isSingleton()) {
-            singletonBeans.put(name, beanInstance);
+            addSingleton(id, beanInstance);
+        } else {
+            onRegistryChange();
         }
-        beanDefinitions.put(name, beanDefinition);
     }
 
     /**
@@ -129,107 +352,666 @@ public class DefaultBeanFactory implements BeanFactory {
      */
     @Override
     public final void addBeanPostProcessor(@Nonnull final BeanPostProcessor postProcessor) {
+        if (postProcessor instanceof BeanFactoryAware beanFactoryAware) {
+            beanFactoryAware.setBeanFactory(this);
+        }
         postProcessors.add(postProcessor);
     }
 
+    /**
+     * Return the recorder of per-bean startup steps of this factory.
+     *
+     * @return startup step recorder, {@link StartupStepRecorder#DISABLED} if none was given.
+     */
+    public final StartupStepRecorder getStartupStepRecorder() {
+        return startupStepRecorder;
+    }
+
+    /**
+     * Return a future that completes when the initialization of all beans marked with
+     * {@link BackgroundInit} has finished. It completes exceptionally if any of them failed.
+     *
+     * @return future of the background initialization.
+     */
+    public final CompletableFuture<Void> getBackgroundInitialization() {
+        return CompletableFuture.allOf(backgroundInits.stream()
+                .map(BackgroundInitTask::getFuture)
+                .toArray(CompletableFuture<?>[]::new));
+    }
+
+    /**
+     * Shut down the bootstrap executor, waiting for the background initializations that are still running.
+     * Singletons are not destroyed.
+     */
+    @Override
+    public void close() {
+        bootstrapExecutor.close();
+    }
+
+    /**
+     * Set the metrics that record the lookups of this factory.
+     *
+     * @param beanLookupMetrics lookup metrics, {@link BeanLookupMetrics#DISABLED} to stop recording.
+     */
+    public final void setBeanLookupMetrics(@Nonnull final BeanLookupMetrics beanLookupMetrics) {
+        this.beanLookupMetrics = beanLookupMetrics;
+    }
+
+    /**
+     * Return the metrics that record the lookups of this factory.
+     *
+     * @return lookup metrics, {@link BeanLookupMetrics#DISABLED} by default.
+     */
+    public final BeanLookupMetrics getBeanLookupMetrics() {
+        return beanLookupMetrics;
+    }
+
+    /**
+     * Register the scope serving beans whose definitions have the given scope name, replacing the
+     * scope registered for it before. Instances held by a replaced scope are not destroyed.
+     *
+     * @param scopeName scope name, such as {@link BeanDefinition#SCOPE_REQUEST}.
+     * @param scope     scope.
+     * @throws BeanFactoryException if the name is the singleton or prototype scope.
+     */
+    public final void registerScope(@Nonnull final String scopeName, @Nonnull final BeanScope scope) {
+        if (BeanDefinition.SCOPE_SINGLETON.equals(scopeName) || BeanDefinition.SCOPE_PROTOTYPE.equals(scopeName)) {
+            throw new BeanFactoryException("Cannot replace built-in scope: " + scopeName);
+        }
+        scopes.put(scopeName, scope);
+        scopedBeanFactories.clear();
+    }
+
+    /**
+     * Hand back an instance of a scoped bean the caller is done with, such as a bean borrowed from
+     * the {@link PooledScope}, see {@link BeanScope#release(String, Object)}. Does nothing for
+     * singletons and prototypes.
+     *
+     * @param name bean name.
+     * @param bean instance obtained from a lookup of the bean.
+     */
+    public final void releaseBean(@Nonnull final String name, @Nonnull final Object bean) {
+        int id = beanIndex.idOf(name);
+        BeanDefinition beanDefinition = id == BeanIndex.NO_ID ? null : beanIndex.definitionOf(id);
+        if (beanDefinition == null || !isScoped(beanDefinition)) {
+            return;
+        }
+        BeanScope scope = scopes.get(beanDefinition.getScope());
+        if (scope != null) {
+            scope.release(name, bean);
+        }
+    }
+
+    /**
+     * Return the scope registered for the given scope name.
+     *
+     * @param scopeName scope name.
+     * @return scope, or null if none is registered.
+     */
+    @Nullable
+    public final BeanScope getRegisteredScope(@Nonnull final String scopeName) {
+        return scopes.get(scopeName);
+    }
+
+    /**
+     * Return the dependency graph of the registered beans: for each bean, the beans listed in
+     * {@link BeanDefinition#getDependsOn()} followed by the beans its constructor is resolved with.
+     * {@link Lazy @Lazy} constructor parameters are not dependencies,
+     * since they are only resolved on first use.
+     *
+     * @return bean names of the dependencies, keyed by bean name in registration order.
+     */
+    public final Map<String, Set<String>> getDependencyGraph() {
+        Map<String, Class<?>> beanClasses = new LinkedHashMap<>();
+        for (int id = 0, size = beanIndex.size(); id < size; id++) {
+            BeanDefinition beanDefinition = beanIndex.definitionOf(id);
+            if (beanDefinition == null) {
+                continue;
+            }
+            Object bean = rawInstance(beanIndex.slotOf(id));
+            Class<?> beanClass = bean != null ? bean.getClass() : findBeanClass(id, beanDefinition);
+            if (beanClass != null) {
+                beanClasses.put(beanIndex.nameOf(id), beanClass);
+            }
+        }
+
+        Map<String, Set<String>> dependencyGraph = new LinkedHashMap<>();
+        for (int id = 0, size = beanIndex.size(); id < size; id++) {
+            BeanDefinition beanDefinition = beanIndex.definitionOf(id);
+            if (beanDefinition == null) {
+                continue;
+            }
+            String beanName = beanIndex.nameOf(id);
+            Set<String> dependencies = new LinkedHashSet<>();
+            String[] dependsOn = beanDefinition.getDependsOn();
+            if (dependsOn != null) {
+                dependencies.addAll(Arrays.asList(dependsOn));
+            }
+            Class<?> beanClass = beanClasses.get(beanName);
+            if (beanClass != null) {
+                dependencies.addAll(getConstructorDependencies(beanClass, beanClasses));
+            }
+            dependencies.remove(beanName);
+            dependencyGraph.put(beanName, Collections.unmodifiableSet(dependencies));
+        }
+        return Collections.unmodifiableMap(dependencyGraph);
+    }
+
+    private void addSingleton(int id, Object beanInstance) {
+        beanIndex.setSlot(id, beanInstance);
+        onRegistryChange();
+    }
+
+    /**
+     * Forget all cached misses and type lookups. Entries are tagged with the registry version they
+     * were computed in, so a result computed concurrently with a registration is never served afterwards.
+     */
+    private void onRegistryChange() {
+        registryVersion.incrementAndGet();
+        missingNames.clear();
+        missingTypes.clear();
+        beanNamesByType.clear();
+        beansByType.clear();
+    }
+
+    private List<String> computeBeanNamesForType(Class<?> type) {
+        List<String> beanNames = new ArrayList<>();
+        for (int id = 0, size = beanIndex.size(); id < size; id++) {
+            Object bean = rawInstance(beanIndex.slotOf(id));
+            BeanDefinition beanDefinition = beanIndex.definitionOf(id);
+            if (bean != null ? type.isInstance(bean) : beanDefinition != null
+                    && isCreatedOnDemand(id, beanDefinition)
+                    && type.isAssignableFrom(resolveBeanClass(id, beanDefinition))) {
+                beanNames.add(beanIndex.nameOf(id));
+            }
+        }
+        return List.copyOf(beanNames);
+    }
+
+    private Map<String, Object> computeBeansOfType(Class<?> type) {
+        Map<String, Object> beans = new LinkedHashMap<>();
+        for (String beanName : getBeanNamesForType(type)) {
+            int id = beanIndex.idOf(beanName);
+            BeanDefinition beanDefinition = beanIndex.definitionOf(id);
+            if (beanDefinition != null && isScoped(beanDefinition)) {
+                continue;
+            }
+            Object bean = resolveBean(id);
+            if (bean != null) {
+                beans.put(beanName, bean);
+            }
+        }
+        return Collections.unmodifiableMap(beans);
+    }
+
+    /**
+     * Result of a lookup by type, valid as long as the registry version has not changed.
+     */
+    private record CachedTypeLookup<V>(long version, V value) {
+    }
+
+    private static <K> boolean isKnownMissing(Map<K, Long> missing, K key, long version) {
+        Long missingVersion = missing.get(key);
+        return missingVersion != null && missingVersion == version;
+    }
+
+    private static <K> void rememberMissing(Map<K, Long> missing, K key, long version) {
+        if (missing.size() < MAX_NEGATIVE_LOOKUPS) {
+            missing.put(key, version);
+        }
+    }
+
+    private long startSlowPath() {
+        return beanLookupMetrics.isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    private void endSlowPath(SlowLookupPath path, long slowPathStart) {
+        if (slowPathStart != 0L) {
+            beanLookupMetrics.recordSlowPath(path, System.nanoTime() - slowPathStart);
+        }
+    }
+
     private <T> void checkBeanClassUniqueness(@Nonnull final Class<T> beanClass) {
-        if (singletonBeans.values().stream().anyMatch(beanClass::isInstance)) {
+        if (findSingletonId(beanClass::isInstance) != BeanIndex.NO_ID) {
             throw new NotUniqueBeanDefinitionException(
                     String.format("Bean with type '%s' already exists", beanClass.getName()));
         }
     }
 
     private void initializeBeans() {
-        Map<String, Boolean> initializationStatuses = new HashMap<>();
-        List<String> pendingBeans = new ArrayList<>();
+        int beanCount = beanIndex.size();
+        BitSet pendingBeans = new BitSet(beanCount);
 
-        for (Map.Entry<String, BeanDefinition> entry : beanDefinitions.entrySet()) {
-            String beanName = entry.getKey();
-            BeanDefinition beanDefinition = entry.getValue();
-
-            boolean isInitialized = tryInitializeBean(beanName, beanDefinition, initializationStatuses);
-
-            if (!isInitialized) {
-                pendingBeans.add(beanName);
+        for (int id = 0; id < beanCount; id++) {
+            BeanDefinition beanDefinition = beanIndex.definitionOf(id);
+            if (beanDefinition == null || isScoped(beanDefinition) || isLazyInit(id, beanDefinition)) {
+                continue;
+            }
+            if (!tryInitializeBean(id, beanDefinition)) {
+                pendingBeans.set(id);
             }
         }
 
-        boolean isAnyBeanResolved;
         while (!pendingBeans.isEmpty()) {
-            isAnyBeanResolved = false;
-            List<String> stillPendingBeans = new ArrayList<>();
-
-            for (String beanName : pendingBeans) {
-                BeanDefinition beanDefinition = beanDefinitions.get(beanName);
-                boolean isInitialized = tryInitializeBean(beanName, beanDefinition, initializationStatuses);
-                if (isInitialized) {
+            boolean isAnyBeanResolved = false;
+            for (int id = pendingBeans.nextSetBit(0); id >= 0; id = pendingBeans.nextSetBit(id + 1)) {
+                if (tryInitializeBean(id, beanIndex.definitionOf(id))) {
+                    pendingBeans.clear(id);
                     isAnyBeanResolved = true;
-                } else {
-                    stillPendingBeans.add(beanName);
                 }
             }
 
             if (!isAnyBeanResolved) {
-                throw new BeanFactoryException("Unresolved dependencies for beans: " + stillPendingBeans);
+                throw new BeanFactoryException("Unresolved dependencies for beans: " + pendingBeans.stream()
+                        .mapToObj(beanIndex::nameOf)
+                        .toList());
+            }
+        }
+    }
+
+    private boolean tryInitializeBean(int id, BeanDefinition beanDefinition) {
+        if (beanIndex.slotOf(id) != null || claimSingletonCreation(id) != null) {
+            return true;
+        }
+        try {
+            if (!ensureDependenciesCreated(id, beanDefinition)) {
+                return false;
+            }
+            createSingleton(id, beanDefinition);
+            return true;
+        } finally {
+            releaseSingletonCreation(id);
+        }
+    }
+
+    /**
+     * Check that all beans listed in {@link BeanDefinition#getDependsOn()} exist, creating the ones
+     * that can be created on demand on the way. Scoped beans only need to be defined.
+     *
+     * @return false if an eager dependency has not been created yet.
+     */
+    private boolean ensureDependenciesCreated(int id, BeanDefinition beanDefinition) {
+        BeanIndex.DependencyRows dependencyRows = beanIndex.dependencyRows();
+        int start = dependencyRows.start(id);
+        for (int position = start, end = dependencyRows.end(id); position < end; position++) {
+            int dependencyId = dependencyRows.at(position);
+            if (dependencyId == BeanIndex.NO_ID) {
+                String dependency = beanDefinition.getDependsOn()[position - start];
+                dependencyId = beanIndex.idOf(dependency);
+                if (dependencyId == BeanIndex.NO_ID || beanIndex.definitionOf(dependencyId) == null) {
+                    throw new BeanFactoryException("Dependency not found for bean: " + dependency);
+                }
+            }
+
+            BeanDefinition dependencyBeanDefinition = beanIndex.definitionOf(dependencyId);
+            if (dependencyBeanDefinition != null && isScoped(dependencyBeanDefinition)) {
+                continue;
+            }
+            if (beanIndex.slotOf(dependencyId) == null
+                    && !(dependencyBeanDefinition != null && canCreateOnDemand(dependencyId, dependencyBeanDefinition)
+                    && createOnDemandSingleton(dependencyId) != null)) {
+                return false;
             }
-            pendingBeans = stillPendingBeans;
         }
+        return true;
+    }
+
+    private boolean isLazyInit(int id, BeanDefinition beanDefinition) {
+        return beanDefinition.isLazyInit() || resolveBeanClassOnce(id, beanDefinition).lazy();
+    }
+
+    /**
+     * Check whether the bean is not a singleton. A definition without scope name is a singleton.
+     */
+    private static boolean isScoped(BeanDefinition beanDefinition) {
+        return !beanDefinition.isSingleton() && beanDefinition.getScope() != null;
     }
 
-    private boolean tryInitializeBean(
-            String beanName,
-            BeanDefinition beanDefinition,
-            Map<String, Boolean> initializationStatuses) {
+    private boolean isCreatedOnDemand(int id, BeanDefinition beanDefinition) {
+        return isScoped(beanDefinition) || canCreateOnDemand(id, beanDefinition);
+    }
+
+    /**
+     * Check whether a singleton that does not exist yet is created by the lookups that need it: lazy
+     * singletons always, eager ones only on bootstrap threads while the startup has not reached them.
+     */
+    private boolean canCreateOnDemand(int id, BeanDefinition beanDefinition) {
+        return isLazyInit(id, beanDefinition) || !startupCompleted && Thread.currentThread() != startupThread
+                && !isScoped(beanDefinition);
+    }
 
-        if (Boolean.TRUE.equals(initializationStatuses.get(beanName))) {
-            return false;
+    /**
+     * Return a new prototype instance, or the instance of the bean in the current instance of its scope.
+     */
+    private Object getScopedBean(int id, BeanDefinition beanDefinition) {
+        String scopeName = beanDefinition.getScope();
+        if (BeanDefinition.SCOPE_PROTOTYPE.equals(scopeName)) {
+            return createScopedBean(id, beanDefinition, null);
+        }
+        String beanName = beanIndex.nameOf(id);
+        BeanScope scope = scopes.get(scopeName);
+        if (scope == null) {
+            throw new BeanFactoryException(String.format("No scope registered for scope name '%s' of bean: %s",
+                    scopeName, beanName));
         }
+        Supplier<Object> beanFactory = scopedBeanFactories.get(beanName);
+        if (beanFactory == null) {
+            beanFactory = scopedBeanFactories.computeIfAbsent(beanName,
+                    name -> () -> createScopedBean(id, beanDefinition, scope));
+        }
+        return scope.get(beanName, beanFactory);
+    }
 
-        initializationStatuses.put(beanName, false);
+    /**
+     * Create and post-process a bean outside the singleton slots. If the scope is given, the
+     * destruction callbacks of the bean are registered with it.
+     */
+    private Object createScopedBean(int id, BeanDefinition beanDefinition, @Nullable BeanScope scope) {
+        String beanName = beanIndex.nameOf(id);
+        BeanInstantiationEvent instantiationEvent = new BeanInstantiationEvent();
+        instantiationEvent.begin();
+        StartupStep step = StartupStepRecorder.DISABLED.beanStep(beanName, beanDefinition.getBeanClassName());
+        Class<?> beanClass = resolveBeanClass(id, beanDefinition);
+        Object bean = applyBeanPostProcessors(resolveConstructor(beanName, beanClass, step), beanName, step);
+        if (scope != null && requiresDestruction(bean)) {
+            scope.registerDestructionCallback(beanName, () -> destroyBean(bean, beanName));
+        }
+        instantiationEvent.commit(beanName, beanClass);
+        return bean;
+    }
 
-        String[] dependsOn = beanDefinition.getDependsOn();
-        if (dependsOn != null) {
-            for (String dependency : dependsOn) {
-                BeanDefinition dependencyBeanDefinition = Optional.ofNullable(beanDefinitions.get(dependency))
-                        .orElseThrow(() -> new BeanFactoryException("Dependency not found for bean: " + dependency));
+    private boolean requiresDestruction(Object bean) {
+        for (BeanPostProcessor postProcessor : postProcessors) {
+            if (postProcessor instanceof DestructionBeanPostProcessor destructionPostProcessor
+                    && destructionPostProcessor.requiresDestruction(bean)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-                if (!singletonBeans.containsKey(dependency)) {
-                    return false;
+    private void destroyBean(Object bean, String beanName) {
+        for (BeanPostProcessor postProcessor : postProcessors) {
+            if (postProcessor instanceof DestructionBeanPostProcessor destructionPostProcessor
+                    && destructionPostProcessor.requiresDestruction(bean)) {
+                destructionPostProcessor.postProcessBeforeDestruction(bean, beanName);
+            }
+        }
+    }
+
+    @Nullable
+    private Object getOnDemandBean(int id) {
+        BeanDefinition beanDefinition = beanIndex.definitionOf(id);
+        if (beanDefinition == null || !canCreateOnDemand(id, beanDefinition)) {
+            return null;
+        }
+        BeanLookupEvent lookupEvent = new BeanLookupEvent();
+        lookupEvent.begin();
+        long slowPathStart = startSlowPath();
+        Object slot = createOnDemandSingleton(id);
+        endSlowPath(SlowLookupPath.LAZY_CREATION, slowPathStart);
+        lookupEvent.commit(beanIndex.nameOf(id), slot == null ? null : rawInstance(slot).getClass(),
+                BeanLookupEvent.LAZY_CREATION);
+        return slot == null ? null : awaitBackgroundInit(id, slot);
+    }
+
+    private int findOnDemandBeanId(Predicate<Class<?>> typeMatcher) {
+        for (int id = 0, size = beanIndex.size(); id < size; id++) {
+            BeanDefinition beanDefinition = beanIndex.definitionOf(id);
+            if (beanDefinition != null && beanIndex.slotOf(id) == null && isCreatedOnDemand(id, beanDefinition)
+                    && typeMatcher.test(resolveBeanClass(id, beanDefinition))) {
+                return id;
+            }
+        }
+        return BeanIndex.NO_ID;
+    }
+
+    /**
+     * Create a singleton on demand. A bean requested concurrently from several threads,
+     * or by a lookup while the startup creates it, is instantiated only once.
+     *
+     * @return the singleton slot value, or null if one of its eager dependencies does not exist yet.
+     */
+    @Nullable
+    private Object createOnDemandSingleton(int id) {
+        Object existing = claimSingletonCreation(id);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            BeanDefinition beanDefinition = beanIndex.definitionOf(id);
+            if (!ensureDependenciesCreated(id, beanDefinition)) {
+                return null;
+            }
+            return createSingleton(id, beanDefinition);
+        } finally {
+            releaseSingletonCreation(id);
+        }
+    }
+
+    /**
+     * Claim the creation of a singleton for the current thread, waiting while another thread creates it.
+     *
+     * @return the slot value if the bean exists, or null once the current thread owns its creation.
+     */
+    @Nullable
+    private Object claimSingletonCreation(int id) {
+        Thread currentThread = Thread.currentThread();
+        synchronized (singletonsInCreation) {
+            while (true) {
+                Object slot = beanIndex.slotOf(id);
+                if (slot != null) {
+                    return slot;
+                }
+                Thread creator = singletonsInCreation.putIfAbsent(id, currentThread);
+                if (creator == null) {
+                    return null;
+                }
+                markBlocked(currentThread, creator, id);
+                try {
+                    singletonsInCreation.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new BeanFactoryException("Interrupted while waiting for bean: " + beanIndex.nameOf(id), e);
+                } finally {
+                    blockedThreads.remove(currentThread);
                 }
             }
         }
+    }
 
-        Object beanInstance = createBeanInstance(beanName, beanDefinition);
-        singletonBeans.put(beanName, beanInstance);
+    private void releaseSingletonCreation(int id) {
+        synchronized (singletonsInCreation) {
+            singletonsInCreation.remove(id);
+            singletonsInCreation.notifyAll();
+        }
+    }
 
-        initializationStatuses.put(beanName, true);
-        return true;
+    /**
+     * Record that a thread waits for the creation of a bean by another thread, or for a background
+     * initialization, failing instead if the wait would close a cycle of waiting threads. A wait for a
+     * background initialization leads to the thread running it, once one has claimed the task.
+     * The caller holds the lock of {@code singletonsInCreation}.
+     *
+     * @param blocker the creating thread or the awaited {@link BackgroundInitTask}.
+     */
+    private void markBlocked(Thread waiter, Object blocker, int id) {
+        for (Thread thread = ownerOf(blocker); thread != null; thread = ownerOf(blockedThreads.get(thread))) {
+            if (thread == waiter) {
+                throw new BeanFactoryException("Circular reference while creating bean: " + beanIndex.nameOf(id));
+            }
+        }
+        blockedThreads.put(waiter, blocker);
+    }
+
+    @Nullable
+    private static Thread ownerOf(@Nullable Object blocker) {
+        return blocker instanceof BackgroundInitTask task ? task.getOwner() : (Thread) blocker;
+    }
+
+    private Class<?> resolveBeanClass(int id, BeanDefinition beanDefinition) {
+        return resolveBeanClassOnce(id, beanDefinition).beanClass();
+    }
+
+    /**
+     * Return the bean class of the definition, loading it and reading its {@code @Lazy} annotation
+     * only on the first call for the definition.
+     */
+    private BeanIndex.ResolvedBeanClass resolveBeanClassOnce(int id, BeanDefinition beanDefinition) {
+        BeanIndex.ResolvedBeanClass resolved = beanIndex.beanClassOf(id, beanDefinition);
+        if (resolved == null) {
+            Class<?> beanClass = loadBeanClass(id, beanDefinition);
+            Lazy lazy = MetaAnnotations.findAnnotation(beanClass, Lazy.class);
+            resolved = new BeanIndex.ResolvedBeanClass(beanDefinition, beanClass, lazy != null && lazy.value());
+            beanIndex.cacheBeanClass(id, resolved);
+        }
+        return resolved;
     }
 
-    private Object createBeanInstance(String beanName, BeanDefinition beanDefinition) {
+    private Class<?> loadBeanClass(int id, BeanDefinition beanDefinition) {
         String className = Optional.ofNullable(beanDefinition.getBeanClassName())
-                .orElseThrow(() -> new BeanFactoryException("Bean class name is not set for bean: " + beanName));
+                .orElseThrow(() -> new BeanFactoryException(
+                        "Bean class name is not set for bean: " + beanIndex.nameOf(id)));
 
         try {
-            Class<?> beanClass = Class.forName(className);
-
-            return resolveConstructor(beanClass);
+            return Class.forName(className);
         } catch (ClassNotFoundException e) {
             throw new BeanFactoryException("Class with name not found: " + className, e);
         }
     }
 
-    private Object resolveConstructor(Class<?> beanClass) {
+    /**
+     * Create the bean and store it in its singleton slot.
+     *
+     * @return the slot value: the bean, or its {@link BackgroundInitTask} if it is initialized in the background.
+     */
+    private Object createSingleton(int id, BeanDefinition beanDefinition) {
+        String beanName = beanIndex.nameOf(id);
+        BeanInstantiationEvent instantiationEvent = new BeanInstantiationEvent();
+        instantiationEvent.begin();
+        StartupStep step = startupStepRecorder.beanStep(beanName, beanDefinition.getBeanClassName());
+        Class<?> beanClass = resolveBeanClass(id, beanDefinition);
+        Object beanInstance = resolveConstructor(beanName, beanClass, step);
+        if (beanDefinition.isBackgroundInit() || MetaAnnotations.isAnnotated(beanClass, BackgroundInit.class)) {
+            BackgroundInitTask task = scheduleBackgroundInit(id, beanInstance, step);
+            instantiationEvent.commit(beanName, beanClass);
+            return task;
+        }
+        Object initializedBean = applyBeanPostProcessors(beanInstance, beanName, step);
+        step.end();
+        addSingleton(id, initializedBean);
+        instantiationEvent.commit(beanName, beanClass);
+        return initializedBean;
+    }
+
+    /**
+     * Hand post-processing of the bean to the bootstrap executor right away. The task occupies the
+     * singleton slot until it completes; eager singletons its injections need before the startup has
+     * created them are created on demand.
+     */
+    private BackgroundInitTask scheduleBackgroundInit(int id, Object beanInstance, StartupStep step) {
+        String beanName = beanIndex.nameOf(id);
+        BackgroundInitTask task = new BackgroundInitTask(beanName, beanInstance, () -> {
+            step.resume();
+            Object initializedBean = applyBeanPostProcessors(beanInstance, beanName, step);
+            beanIndex.setSlot(id, initializedBean);
+            step.end();
+            return initializedBean;
+        });
+        backgroundInits.add(task);
+        addSingleton(id, task);
+        bootstrapExecutor.execute(task::run);
+        return task;
+    }
+
+    private Object awaitBackgroundInit(int id, Object slot) {
+        if (!(slot instanceof BackgroundInitTask task)) {
+            return slot;
+        }
+        BeanLookupEvent lookupEvent = new BeanLookupEvent();
+        lookupEvent.begin();
+        long slowPathStart = startSlowPath();
+        Object initializedBean = awaitTask(id, task);
+        endSlowPath(SlowLookupPath.BACKGROUND_INIT_WAIT, slowPathStart);
+        lookupEvent.commit(beanIndex.nameOf(id), initializedBean.getClass(), BeanLookupEvent.BACKGROUND_INIT_WAIT);
+        return initializedBean;
+    }
+
+    /**
+     * Wait for a background initialization on the bootstrap thread running it.
+     */
+    private Object awaitTask(int id, BackgroundInitTask task) {
+        Thread currentThread = Thread.currentThread();
+        if (task.isDone() || task.getOwner() == currentThread) {
+            return task.await();
+        }
+        synchronized (singletonsInCreation) {
+            markBlocked(currentThread, task, id);
+        }
+        try {
+            return task.await();
+        } finally {
+            synchronized (singletonsInCreation) {
+                blockedThreads.remove(currentThread);
+            }
+        }
+    }
+
+    /**
+     * Apply the post-processors to a new bean. For timing, before-initialization callbacks of
+     * lifecycle processors (see {@link DestructionBeanPostProcessor}) and all after-initialization
+     * callbacks count as {@link StartupPhase#INIT}, other before-initialization callbacks as injection.
+     */
+    private Object applyBeanPostProcessors(Object beanInstance, String beanName, StartupStep step) {
+        Object current = beanInstance;
+        for (BeanPostProcessor postProcessor : postProcessors) {
+            PostProcessorInvocationEvent invocationEvent = new PostProcessorInvocationEvent();
+            invocationEvent.begin();
+            Object processed = postProcessor.postProcessBeforeInitialization(current, beanName);
+            invocationEvent.commit(beanName, current.getClass(), postProcessor.getClass(), "before");
+            step.mark(postProcessor instanceof DestructionBeanPostProcessor ? StartupPhase.INIT : StartupPhase.INJECT);
+            if (processed == null) {
+                return current;
+            }
+            current = processed;
+        }
+        for (BeanPostProcessor postProcessor : postProcessors) {
+            PostProcessorInvocationEvent invocationEvent = new PostProcessorInvocationEvent();
+            invocationEvent.begin();
+            Object processed = postProcessor.postProcessAfterInitialization(current, beanName);
+            invocationEvent.commit(beanName, current.getClass(), postProcessor.getClass(), "after");
+            step.mark(StartupPhase.INIT);
+            if (processed == null) {
+                return current;
+            }
+            current = processed;
+        }
+        return current;
+    }
+
+    private Object resolveConstructor(String beanName, Class<?> beanClass, StartupStep step) {
         Constructor<?>[] constructors = beanClass.getConstructors();
 
         for (Constructor<?> constructor : constructors) {
             Type[] parameterTypes = constructor.getGenericParameterTypes();
+            Parameter[] parameters = constructor.getParameters();
             Object[] resolvedDependencies = new Object[parameterTypes.length];
             boolean canResolve = true;
 
             for (int i = 0; i < parameterTypes.length; i++) {
                 Type dependencyType = parameterTypes[i];
-                Object dependency = getBeanDependency(dependencyType);
+                DependencyResolutionEvent resolutionEvent = new DependencyResolutionEvent();
+                resolutionEvent.begin();
+                ConstructorArgumentResolver argumentResolver = findArgumentResolver(constructor, i);
+                Object dependency;
+                if (argumentResolver != null) {
+                    dependency = argumentResolver.resolveArgument(constructor, i, beanName);
+                } else if (isLazyInjectionPoint(constructor, parameters[i], dependencyType)) {
+                    dependency = createLazyDependency((Class<?>) dependencyType);
+                } else {
+                    dependency = getBeanDependency(dependencyType);
+                }
+                resolutionEvent.commit(beanName, beanClass, dependencyType.getTypeName(), dependency != null);
                 if (dependency == null) {
                     canResolve = false;
                     break;
@@ -237,9 +1019,12 @@ public class DefaultBeanFactory implements BeanFactory {
                 resolvedDependencies[i] = dependency;
             }
 
+            step.mark(StartupPhase.RESOLVE);
             if (canResolve) {
                 try {
-                    return constructor.newInstance(resolvedDependencies);
+                    Object beanInstance = constructor.newInstance(resolvedDependencies);
+                    step.mark(StartupPhase.CONSTRUCT);
+                    return beanInstance;
                 } catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
                     throw new BeanFactoryException("Unable to create bean instance due to: " + e.getMessage(), e);
                 }
@@ -248,21 +1033,105 @@ public class DefaultBeanFactory implements BeanFactory {
         throw new BeanFactoryException("Unable to resolve dependencies for class: " + beanClass.getName());
     }
 
+    /**
+     * Return the bean class of the definition like {@link #resolveBeanClass}, or null if the definition
+     * has no class name or its class cannot be loaded.
+     */
+    @Nullable
+    private Class<?> findBeanClass(int id, BeanDefinition beanDefinition) {
+        if (beanDefinition.getBeanClassName() == null) {
+            return null;
+        }
+        try {
+            return resolveBeanClass(id, beanDefinition);
+        } catch (BeanFactoryException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Mirror {@link #resolveConstructor} on bean classes instead of instances: return the beans
+     * the first constructor whose parameters can all be matched would be called with.
+     */
+    private List<String> getConstructorDependencies(Class<?> beanClass, Map<String, Class<?>> beanClasses) {
+        for (Constructor<?> constructor : beanClass.getConstructors()) {
+            Type[] parameterTypes = constructor.getGenericParameterTypes();
+            Parameter[] parameters = constructor.getParameters();
+            List<String> dependencies = new ArrayList<>();
+            boolean canResolve = true;
+
+            for (int i = 0; i < parameterTypes.length && canResolve; i++) {
+                Type dependencyType = parameterTypes[i];
+                if (isLazyInjectionPoint(constructor, parameters[i], dependencyType)
+                        || findArgumentResolver(constructor, i) != null) {
+                    continue;
+                }
+                Type rawType = getRawType(dependencyType);
+                if (rawType.equals(List.class) || rawType.equals(Set.class) || rawType.equals(Map.class)) {
+                    Type valueType = ((ParameterizedType) dependencyType)
+                            .getActualTypeArguments()[rawType.equals(Map.class) ? 1 : 0];
+                    beanClasses.forEach((name, candidate) -> {
+                        if (valueType instanceof Class<?> valueClass && Arrays.stream(candidate.getInterfaces())
+                                .anyMatch(interfaceClass -> interfaceClass.isAssignableFrom(valueClass))) {
+                            dependencies.add(name);
+                        }
+                    });
+                } else {
+                    Optional<String> dependency = beanClasses.entrySet().stream()
+                            .filter(candidate -> candidate.getValue().equals(rawType))
+                            .map(Map.Entry::getKey)
+                            .findFirst();
+                    dependency.ifPresent(dependencies::add);
+                    canResolve = dependency.isPresent();
+                }
+            }
+            if (canResolve) {
+                return dependencies;
+            }
+        }
+        return List.of();
+    }
+
+    @Nullable
+    private ConstructorArgumentResolver findArgumentResolver(Constructor<?> constructor, int parameterIndex) {
+        for (BeanPostProcessor postProcessor : postProcessors) {
+            if (postProcessor instanceof ConstructorArgumentResolver argumentResolver
+                    && argumentResolver.supportsParameter(constructor, parameterIndex)) {
+                return argumentResolver;
+            }
+        }
+        return null;
+    }
+
+    private boolean isLazyInjectionPoint(Constructor<?> constructor, Parameter parameter, Type dependencyType) {
+        return dependencyType instanceof Class<?> dependencyClass
+                && (LazyResolutionProxy.isLazyInjectionPoint(parameter, dependencyClass)
+                || LazyResolutionProxy.isLazyInjectionPoint(constructor, dependencyClass));
+    }
+
+    private <T> T createLazyDependency(Class<T> dependencyType) {
+        return LazyResolutionProxy.create(dependencyType, () -> getBean(dependencyType));
+    }
+
     private Object getBeanDependency(Type dependencyType) {
         Object dependency;
         Type rawType = getRawType(dependencyType);
         if (rawType.equals(List.class)) {
-            dependency = getCollectionDependency(dependencyType, 0).toList();
+            dependency = getCollectionDependency(dependencyType, 0).map(Map.Entry::getValue).toList();
         } else if (rawType.equals(Set.class)) {
-            dependency = getCollectionDependency(dependencyType, 0).collect(Collectors.toSet());
+            dependency = getCollectionDependency(dependencyType, 0).map(Map.Entry::getValue)
+                .collect(Collectors.toSet());
         } else if (rawType.equals(Map.class)) {
             dependency = getCollectionDependency(dependencyType, 1)
-                .collect(Collectors.toMap(bean -> bean.getClass().getName(), bean -> bean));
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
         } else {
-            dependency = singletonBeans.values().stream()
-                .filter(bean -> bean.getClass().equals(rawType))
-                .findFirst()
-                .orElse(null);
+            int id = findSingletonId(bean -> bean.getClass().equals(rawType));
+            if (id != BeanIndex.NO_ID) {
+                dependency = awaitBackgroundInit(id, beanIndex.slotOf(id));
+            } else {
+                id = findOnDemandBeanId(rawType::equals);
+                dependency = id == BeanIndex.NO_ID ? null : resolveBean(id);
+            }
         }
         return dependency;
     }
@@ -273,11 +1142,33 @@ public class DefaultBeanFactory implements BeanFactory {
             : dependencyType;
     }
 
-    private Stream<Object> getCollectionDependency(Type parameterType, int valueTypeIndex) {
+    /**
+     * Return the beans of a collection injection point keyed by their class name.
+     */
+    private Stream<Map.Entry<String, Object>> getCollectionDependency(Type parameterType, int valueTypeIndex) {
         Class<?> dependencyClass =
             (Class<?>) ((ParameterizedType) parameterType).getActualTypeArguments()[valueTypeIndex];
-        return singletonBeans.values().stream()
-            .filter(bean -> Arrays.stream(bean.getClass().getInterfaces())
-                .anyMatch(interfaceClass -> interfaceClass.isAssignableFrom(dependencyClass)));
+        return IntStream.range(0, beanIndex.size())
+            .filter(id -> {
+                Object bean = rawInstance(beanIndex.slotOf(id));
+                return bean != null && Arrays.stream(bean.getClass().getInterfaces())
+                    .anyMatch(interfaceClass -> interfaceClass.isAssignableFrom(dependencyClass));
+            })
+            .mapToObj(id -> Map.entry(rawInstance(beanIndex.slotOf(id)).getClass().getName(),
+                getCollectionElement(id, dependencyClass)));
+    }
+
+    /**
+     * Return a bean of a collection injection point. A bean still initializing in the background is
+     * injected as a lazy-resolution proxy of the interface element type, so the dependent only
+     * waits for it on the first call.
+     */
+    private <T> Object getCollectionElement(int id, Class<T> elementType) {
+        Object slot = beanIndex.slotOf(id);
+        if (slot instanceof BackgroundInitTask task && !task.isDone() && elementType.isInterface()
+                && elementType.isInstance(task.getBeanInstance())) {
+            return LazyResolutionProxy.create(elementType, () -> elementType.cast(awaitBackgroundInit(id, slot)));
+        }
+        return awaitBackgroundInit(id, slot);
     }
 }
@@ -0,0 +1,65 @@
+package com.codeus.winter.config;
+
+import jakarta.annotation.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Base class of scopes that keep the instances of every scope instance in a compact
+ * {@link ScopedInstances} array instead of a map per scope instance. Bean names are translated
+ * once into dense indexes shared by all scope instances, so a lookup is a map read of the
+ * name followed by an array access.
+ */
+abstract class IndexedBeanScope implements BeanScope {
+    private final Map<String, Integer> indexes = new ConcurrentHashMap<>();
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    @Override
+    public final Object get(String name, Supplier<?> objectFactory) {
+        ScopedInstances instances = currentInstances(name);
+        int index = indexOf(name);
+        Object instance = instances.get(index);
+        if (instance == null) {
+            instance = objectFactory.get();
+            instances.put(index, instance);
+        }
+        return instance;
+    }
+
+    @Nullable
+    @Override
+    public final Object remove(String name) {
+        ScopedInstances instances = currentInstancesIfAvailable();
+        return instances == null ? null : instances.remove(indexOf(name));
+    }
+
+    @Override
+    public final void registerDestructionCallback(String name, Runnable callback) {
+        currentInstances(name).registerDestructionCallback(indexOf(name), callback);
+    }
+
+    /**
+     * Return the instances of the scope instance active in the current thread.
+     *
+     * @param name name of the bean requiring the scope, for error messages.
+     * @return current instances.
+     * @throws com.codeus.winter.exception.BeanFactoryException if no scope instance is active.
+     */
+    abstract ScopedInstances currentInstances(String name);
+
+    /**
+     * Return the instances of the scope instance active in the current thread, if any.
+     *
+     * @return current instances, or null if no scope instance is active.
+     */
+    @Nullable
+    abstract ScopedInstances currentInstancesIfAvailable();
+
+    private int indexOf(String name) {
+        Integer index = indexes.get(name);
+        return index != null ? index : indexes.computeIfAbsent(name, key -> nextIndex.getAndIncrement());
+    }
+}
@@ -0,0 +1,216 @@
+package com.codeus.winter.config;
+
+import jakarta.annotation.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded lock-free pool of the instances of one bean, used by {@link PooledScope}.
+ * <p>
+ * Every pooled instance lives in one of a fixed number of slots, whose state is changed with
+ * compare-and-set only: an idle instance is borrowed by moving its slot from idle to borrowed and
+ * released by moving it back, so neither allocates. Threads start scanning the slots at a stripe
+ * derived from their id, which spreads concurrent borrowers over the slots. When every slot is
+ * taken, an extra instance is created and handed out; on release it takes a slot freed in the
+ * meantime or is destroyed.
+ */
+final class InstancePool {
+    private static final int EMPTY = 0;
+    private static final int RESERVED = 1;
+    private static final int IDLE = 2;
+    private static final int BORROWED = 3;
+    private static final long STRIPE_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    private static final int STRIPE_SHIFT = 32;
+    private static final Runnable NO_CALLBACK = () -> {
+    };
+
+    private final int capacity;
+    private final AtomicIntegerArray states;
+    private final Object[] instances;
+    private final Runnable[] destructionCallbacks;
+    private final long[] idleSince;
+    private final Map<Instance, Runnable> overflowInstances = new ConcurrentHashMap<>();
+    private final Map<Thread, Runnable> pendingCallbacks = new ConcurrentHashMap<>();
+    @Nullable
+    private final Predicate<Object> validator;
+    private final long maxIdleNanos;
+    private final AtomicLong nextEviction = new AtomicLong(System.nanoTime());
+
+    InstancePool(int capacity, long maxIdleNanos, @Nullable Predicate<Object> validator) {
+        this.capacity = capacity;
+        this.states = new AtomicIntegerArray(capacity);
+        this.instances = new Object[capacity];
+        this.destructionCallbacks = new Runnable[capacity];
+        this.idleSince = new long[capacity];
+        this.maxIdleNanos = maxIdleNanos;
+        this.validator = validator;
+    }
+
+    /**
+     * Borrow a valid idle instance, or create one with the given factory if there is none.
+     */
+    Object borrow(Supplier<?> objectFactory) {
+        int start = stripe();
+        for (int i = 0; i < capacity; i++) {
+            int slot = (start + i) % capacity;
+            if (states.get(slot) == IDLE && states.compareAndSet(slot, IDLE, BORROWED)) {
+                Object instance = instances[slot];
+                if (validator == null || validator.test(instance)) {
+                    return instance;
+                }
+                destroy(slot);
+            }
+        }
+        for (int i = 0; i < capacity; i++) {
+            int slot = (start + i) % capacity;
+            if (states.get(slot) == EMPTY && states.compareAndSet(slot, EMPTY, RESERVED)) {
+                try {
+                    Object instance = objectFactory.get();
+                    instances[slot] = instance;
+                    destructionCallbacks[slot] = takeDestructionCallback();
+                    states.set(slot, BORROWED);
+                    return instance;
+                } catch (RuntimeException | Error e) {
+                    pendingCallbacks.remove(Thread.currentThread());
+                    states.set(slot, EMPTY);
+                    throw e;
+                }
+            }
+        }
+        Object instance;
+        try {
+            instance = objectFactory.get();
+        } catch (RuntimeException | Error e) {
+            pendingCallbacks.remove(Thread.currentThread());
+            throw e;
+        }
+        overflowInstances.put(new Instance(instance), takeDestructionCallback());
+        return instance;
+    }
+
+    /**
+     * Return a borrowed instance to the pool. Instances not borrowed from it are ignored.
+     */
+    void release(Object instance) {
+        int start = stripe();
+        for (int i = 0; i < capacity; i++) {
+            int slot = (start + i) % capacity;
+            if (states.get(slot) == BORROWED && instances[slot] == instance) {
+                idleSince[slot] = System.nanoTime();
+                states.set(slot, IDLE);
+                evictIdleIfDue();
+                return;
+            }
+        }
+        Runnable destructionCallback = overflowInstances.remove(new Instance(instance));
+        if (destructionCallback != null && !adopt(instance, destructionCallback)) {
+            destructionCallback.run();
+        }
+    }
+
+    /**
+     * Associate a destruction callback with the instance being created by the current thread. The
+     * callback is dropped if the creation fails.
+     */
+    void registerDestructionCallback(Runnable callback) {
+        pendingCallbacks.put(Thread.currentThread(), callback);
+    }
+
+    /**
+     * Destroy the idle instances that have not been borrowed for longer than the maximum idle time.
+     */
+    void evictIdle() {
+        if (maxIdleNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (int slot = 0; slot < capacity; slot++) {
+            if (states.get(slot) == IDLE && now - idleSince[slot] > maxIdleNanos
+                    && states.compareAndSet(slot, IDLE, RESERVED)) {
+                destroy(slot);
+            }
+        }
+    }
+
+    int getIdleCount() {
+        return count(IDLE);
+    }
+
+    int getBorrowedCount() {
+        return count(BORROWED) + overflowInstances.size();
+    }
+
+    private void evictIdleIfDue() {
+        long now = System.nanoTime();
+        long next = nextEviction.get();
+        if (maxIdleNanos > 0 && now - next >= 0 && nextEviction.compareAndSet(next, now + maxIdleNanos / 2)) {
+            evictIdle();
+        }
+    }
+
+    /**
+     * Take an empty slot for a released extra instance.
+     */
+    private boolean adopt(Object instance, Runnable destructionCallback) {
+        for (int slot = 0; slot < capacity; slot++) {
+            if (states.get(slot) == EMPTY && states.compareAndSet(slot, EMPTY, RESERVED)) {
+                instances[slot] = instance;
+                destructionCallbacks[slot] = destructionCallback;
+                idleSince[slot] = System.nanoTime();
+                states.set(slot, IDLE);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Empty a slot owned by the current thread and run the destruction callback of its instance.
+     */
+    private void destroy(int slot) {
+        Runnable destructionCallback = destructionCallbacks[slot];
+        instances[slot] = null;
+        destructionCallbacks[slot] = null;
+        states.set(slot, EMPTY);
+        destructionCallback.run();
+    }
+
+    private Runnable takeDestructionCallback() {
+        Runnable callback = pendingCallbacks.remove(Thread.currentThread());
+        return callback != null ? callback : NO_CALLBACK;
+    }
+
+    private int count(int state) {
+        int count = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            if (states.get(slot) == state) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int stripe() {
+        return (int) (((Thread.currentThread().threadId() * STRIPE_MULTIPLIER) >>> STRIPE_SHIFT) % capacity);
+    }
+
+    /**
+     * Identity key of an extra instance, which may override {@code equals}.
+     */
+    private record Instance(Object instance) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Instance other && other.instance == instance;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(instance);
+        }
+    }
+}
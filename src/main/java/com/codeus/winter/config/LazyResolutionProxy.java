@@ -0,0 +1,110 @@
+package com.codeus.winter.config;
+
+import com.codeus.winter.annotation.Lazy;
+import com.codeus.winter.annotation.MetaAnnotations;
+import com.codeus.winter.exception.BeanFactoryException;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+
+/**
+ * Factory for lazy-resolution proxies injected into {@link Lazy}-annotated injection points.
+ * <p>
+ * The proxy implements the interface of the injection point. The target bean is resolved through
+ * the given supplier on the first method call and cached, so subsequent calls delegate directly.
+ * {@code equals}, {@code hashCode} and {@code toString} are answered by the proxy itself
+ * and never trigger target resolution.
+ */
+public final class LazyResolutionProxy {
+
+    private LazyResolutionProxy() {
+    }
+
+    /**
+     * Check whether the given injection point should receive a lazy-resolution proxy.
+     *
+     * @param element        annotated injection point (field, method, constructor or parameter).
+     * @param dependencyType declared type of the dependency.
+     * @return true if the element is annotated with {@code @Lazy} and the type is an interface.
+     */
+    public static boolean isLazyInjectionPoint(AnnotatedElement element, Class<?> dependencyType) {
+        Lazy lazy = MetaAnnotations.findAnnotation(element, Lazy.class);
+        return lazy != null && lazy.value() && dependencyType.isInterface();
+    }
+
+    /**
+     * Create a proxy for the given interface that resolves its target on first use.
+     *
+     * @param type           interface type implemented by the proxy.
+     * @param targetSupplier supplier of the target bean, invoked at most once.
+     * @param <T>            the type of the dependency
+     * @return lazy-resolution proxy.
+     */
+    public static <T> T create(Class<T> type, Supplier<? extends T> targetSupplier) {
+        if (!type.isInterface()) {
+            throw new BeanFactoryException("Lazy resolution proxy requires an interface type: " + type.getName());
+        }
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(), new Class<?>[]{type}, new LazyInvocationHandler(type, targetSupplier)));
+    }
+
+    /**
+     * Check whether the given object is a lazy-resolution proxy.
+     *
+     * @param candidate object to check.
+     * @return true if the object was created by {@link #create(Class, Supplier)}.
+     */
+    public static boolean isLazyProxy(Object candidate) {
+        return candidate != null && Proxy.isProxyClass(candidate.getClass())
+                && Proxy.getInvocationHandler(candidate) instanceof LazyInvocationHandler;
+    }
+
+    private static final class LazyInvocationHandler implements InvocationHandler {
+        private final Class<?> type;
+        private final Supplier<?> targetSupplier;
+        private volatile Object target;
+
+        private LazyInvocationHandler(Class<?> type, Supplier<?> targetSupplier) {
+            this.type = type;
+            this.targetSupplier = targetSupplier;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "Lazy resolution proxy for " + type.getName();
+                    default -> method.invoke(getTarget(), args);
+                };
+            }
+            try {
+                return method.invoke(getTarget(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private Object getTarget() {
+            Object resolved = target;
+            if (resolved == null) {
+                synchronized (this) {
+                    resolved = target;
+                    if (resolved == null) {
+                        resolved = targetSupplier.get();
+                        if (resolved == null) {
+                            throw new BeanFactoryException("Lazy dependency resolved to null for type: "
+                                    + type.getName());
+                        }
+                        target = resolved;
+                    }
+                }
+            }
+            return resolved;
+        }
+    }
+}
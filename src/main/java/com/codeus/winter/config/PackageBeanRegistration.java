@@ -1,11 +1,24 @@
 package com.codeus.winter.config;
 
+import com.codeus.winter.annotation.BackgroundInit;
 import com.codeus.winter.annotation.Component;
 import com.codeus.winter.annotation.Bean;
+import com.codeus.winter.annotation.Lazy;
+import com.codeus.winter.annotation.MetaAnnotations;
+import com.codeus.winter.annotation.Scoped;
 import com.codeus.winter.config.impl.BeanDefinitionImpl;
 import com.codeus.winter.exception.NotUniqueBeanDefinitionException;
 
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Responsible for scanning a package for classes annotated with {@link Component} or {@link Bean},
@@ -15,6 +28,8 @@ public class PackageBeanRegistration {
 
     private final PackageScanner packageScanner;
     private final BeanDefinitionRegistry registry;
+    private final List<ScanFilter> includeFilters = new CopyOnWriteArrayList<>();
+    private final List<ScanFilter> excludeFilters = new CopyOnWriteArrayList<>();
 
     /**
      * Constructor to initialize the package scanner and the registry.
@@ -27,6 +42,24 @@ public class PackageBeanRegistration {
         this.registry = registry;
     }
 
+    /**
+     * Adds a filter of which a scanned class must match at least one to be registered.
+     *
+     * @param includeFilter the include filter
+     */
+    public void addIncludeFilter(ScanFilter includeFilter) {
+        includeFilters.add(includeFilter);
+    }
+
+    /**
+     * Adds a filter excluding the scanned classes it matches from registration.
+     *
+     * @param excludeFilter the exclude filter
+     */
+    public void addExcludeFilter(ScanFilter excludeFilter) {
+        excludeFilters.add(excludeFilter);
+    }
+
     /**
      * Scans the specified package for classes annotated with {@link Component} or {@link Bean}
      * and registers their {@link BeanDefinition}s in the registry.
@@ -34,28 +67,112 @@ public class PackageBeanRegistration {
      * @param packageName the package to scan for annotated classes
      */
     public void registerBeans(String packageName) {
-        Set<Class<?>> componentClasses = packageScanner.findClassesWithAnnotations(
-                packageName, Set.of(Component.class, Bean.class)
-        );
+        Set<Class<?>> componentClasses = findComponentClasses(packageName);
 
         for (Class<?> clazz : componentClasses) {
             String beanName = getBeanName(clazz);
-
-            BeanDefinitionImpl beanDefinition = new BeanDefinitionImpl();
-            beanDefinition.setBeanClassName(clazz.getName());
-            beanDefinition.setScope(BeanDefinition.SCOPE_SINGLETON);
-            beanDefinition.setInjectCandidate(true);
+            BeanDefinitionImpl beanDefinition = createBeanDefinition(clazz);
 
             if (!registry.containsBeanDefinition(beanName)) {
                 registry.registerBeanDefinition(beanName, beanDefinition);
             } else {
-                throw new NotUniqueBeanDefinitionException(
-                        String.format("A bean with the name '%s' is already defined in the registry.", beanName)
-                );
+                throw alreadyDefined(beanName);
             }
         }
     }
 
+    /**
+     * Scans the specified packages for classes annotated with {@link Component} or {@link Bean}
+     * and registers their {@link BeanDefinition}s in the registry.
+     * <p>
+     * The packages are scanned and the definitions built in parallel. The results are merged in class
+     * name order, so bean naming does not depend on thread scheduling, and registered with a single
+     * {@link BeanDefinitionRegistry#registerBeanDefinitions(Map)} call. A class found in several
+     * (nested) packages is registered once; two classes with the same bean name, or a bean name that
+     * is already registered, fail the whole registration before anything is registered.
+     *
+     * @param packageNames the packages to scan for annotated classes
+     */
+    public void registerBeans(String... packageNames) {
+        List<Class<?>> componentClasses = Arrays.stream(packageNames)
+                .parallel()
+                .distinct()
+                .flatMap(packageName -> findComponentClasses(packageName).stream())
+                .collect(Collectors.toMap(Class::getName, Function.identity(), (first, second) -> first,
+                        TreeMap::new))
+                .values()
+                .stream()
+                .toList();
+        List<BeanDefinitionImpl> definitions = componentClasses.parallelStream()
+                .map(this::createBeanDefinition)
+                .toList();
+
+        Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+        for (int i = 0; i < componentClasses.size(); i++) {
+            String beanName = getBeanName(componentClasses.get(i));
+            BeanDefinition previous = beanDefinitions.putIfAbsent(beanName, definitions.get(i));
+            if (previous != null) {
+                throw new NotUniqueBeanDefinitionException(String.format(
+                        "A bean with the name '%s' is defined by both '%s' and '%s'.",
+                        beanName, previous.getBeanClassName(), componentClasses.get(i).getName()));
+            }
+            if (registry.containsBeanDefinition(beanName)) {
+                throw alreadyDefined(beanName);
+            }
+        }
+        if (!beanDefinitions.isEmpty()) {
+            registry.registerBeanDefinitions(beanDefinitions);
+        }
+    }
+
+    /**
+     * Finds the component classes of a package that pass the include and exclude filters.
+     *
+     * @param packageName the package to scan
+     * @return the component classes
+     */
+    private Set<Class<?>> findComponentClasses(String packageName) {
+        Set<Class<? extends Annotation>> annotations = Set.of(Component.class, Bean.class);
+        if (includeFilters.isEmpty() && excludeFilters.isEmpty()) {
+            return packageScanner.findClassesWithAnnotations(packageName, annotations);
+        }
+        return packageScanner.findClassesWithAnnotations(packageName, annotations, includeFilters, excludeFilters);
+    }
+
+    /**
+     * Builds the {@link BeanDefinition} of a component class, a singleton unless it is annotated with {@link Scoped}.
+     *
+     * @param clazz the component class
+     * @return the bean definition
+     */
+    private BeanDefinitionImpl createBeanDefinition(Class<?> clazz) {
+        BeanDefinitionImpl beanDefinition = new BeanDefinitionImpl();
+        beanDefinition.setBeanClassName(clazz.getName());
+        Scoped scoped = MetaAnnotations.findAnnotation(clazz, Scoped.class);
+        beanDefinition.setScope(scoped != null ? scoped.value() : BeanDefinition.SCOPE_SINGLETON);
+        beanDefinition.setInjectCandidate(true);
+        beanDefinition.setLazyInit(isLazy(clazz));
+        beanDefinition.setBackgroundInit(MetaAnnotations.isAnnotated(clazz, BackgroundInit.class));
+        return beanDefinition;
+    }
+
+    private NotUniqueBeanDefinitionException alreadyDefined(String beanName) {
+        return new NotUniqueBeanDefinitionException(
+                String.format("A bean with the name '%s' is already defined in the registry.", beanName)
+        );
+    }
+
+    /**
+     * Determines whether the class is marked for lazy initialization with {@link Lazy}.
+     *
+     * @param clazz the component class
+     * @return true if the bean should be created on first use
+     */
+    private boolean isLazy(Class<?> clazz) {
+        Lazy lazy = MetaAnnotations.findAnnotation(clazz, Lazy.class);
+        return lazy != null && lazy.value();
+    }
+
     /**
      * Generates a bean name based on the class name.
      * <p>
@@ -1,6 +1,8 @@
 package com.codeus.winter.config;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Set;
 
 public interface PackageScanner {
@@ -12,4 +14,25 @@ public interface PackageScanner {
      * @return a set of classes annotated with any of the specified annotations
      */
     Set<Class<?>> findClassesWithAnnotations(String packageName, Set<Class<? extends Annotation>> annotations);
+
+    /**
+     * Scan the specified package and find all classes annotated with the given annotations
+     * that pass the given include and exclude filters.
+     * <p>
+     * The default implementation filters the result of {@link #findClassesWithAnnotations(String, Set)};
+     * implementations should skip class files rejected by class name filters without reading them.
+     *
+     * @param packageName    the package to scan
+     * @param annotations    the annotations to look for
+     * @param includeFilters filters of which a class must match at least one, if not empty
+     * @param excludeFilters filters of which a class must match none
+     * @return a set of the accepted classes annotated with any of the specified annotations
+     */
+    default Set<Class<?>> findClassesWithAnnotations(String packageName, Set<Class<? extends Annotation>> annotations,
+                                                     Collection<ScanFilter> includeFilters,
+                                                     Collection<ScanFilter> excludeFilters) {
+        Set<Class<?>> classes = new HashSet<>(findClassesWithAnnotations(packageName, annotations));
+        classes.removeIf(type -> !ScanFilter.isAccepted(type, includeFilters, excludeFilters));
+        return classes;
+    }
 }
@@ -0,0 +1,129 @@
+package com.codeus.winter.config;
+
+import jakarta.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Scope lending the instances of expensive, briefly used beans, such as parsers or codecs, from a
+ * bounded pool per bean. A lookup borrows an idle instance or creates one; the caller hands it back
+ * with {@link DefaultBeanFactory#releaseBean(String, Object)} once done, after which another lookup
+ * may receive it. Instances must therefore not keep state between uses.
+ * <p>
+ * The pools are lock-free, and borrowing and releasing an idle instance do not allocate. Idle
+ * instances may be checked with a validator before they are lent, and instances idle for longer
+ * than the maximum idle time are destroyed, running their destruction callbacks; the check runs
+ * at most twice per maximum idle time, on release, or on {@link #evictIdle()}. Lookups beyond the
+ * size of a pool get extra instances, pooled on release if a slot is free and destroyed otherwise.
+ */
+public class PooledScope implements BeanScope {
+    private static final Duration DEFAULT_MAX_IDLE = Duration.ofMinutes(1);
+
+    private final int maxSize;
+    private final long maxIdleNanos;
+    @Nullable
+    private final Predicate<Object> validator;
+    private final Map<String, InstancePool> pools = new ConcurrentHashMap<>();
+
+    /**
+     * Create a scope with pools of twice the number of processors, a maximum idle time of one
+     * minute and no validation.
+     */
+    public PooledScope() {
+        this(Runtime.getRuntime().availableProcessors() * 2, DEFAULT_MAX_IDLE, null);
+    }
+
+    /**
+     * Create a scope.
+     *
+     * @param maxSize   maximum number of pooled instances per bean.
+     * @param maxIdle   time after which an idle instance is destroyed, zero to keep idle instances.
+     * @param validator check of an idle instance before it is lent, invalid instances are destroyed;
+     *                  null to lend idle instances unchecked.
+     */
+    public PooledScope(int maxSize, Duration maxIdle, @Nullable Predicate<Object> validator) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.maxIdleNanos = maxIdle.toNanos();
+        this.validator = validator;
+    }
+
+    @Override
+    public Object get(String name, Supplier<?> objectFactory) {
+        return pool(name).borrow(objectFactory);
+    }
+
+    /**
+     * Return a borrowed instance to the pool of the bean.
+     *
+     * @param name     bean name.
+     * @param instance instance obtained from {@link #get}; other instances are ignored.
+     */
+    @Override
+    public void release(String name, Object instance) {
+        InstancePool pool = pools.get(name);
+        if (pool != null) {
+            pool.release(instance);
+        }
+    }
+
+    /**
+     * Drop the pool of the bean. Its idle instances are discarded without destruction callbacks and
+     * its borrowed instances are ignored on release.
+     *
+     * @param name bean name.
+     * @return null, a pool does not hold a single instance of the bean.
+     */
+    @Nullable
+    @Override
+    public Object remove(String name) {
+        pools.remove(name);
+        return null;
+    }
+
+    @Override
+    public void registerDestructionCallback(String name, Runnable callback) {
+        pool(name).registerDestructionCallback(callback);
+    }
+
+    /**
+     * Destroy the instances of all pools that have been idle for longer than the maximum idle time.
+     */
+    public void evictIdle() {
+        pools.values().forEach(InstancePool::evictIdle);
+    }
+
+    /**
+     * Return the number of idle instances in the pool of the bean.
+     *
+     * @param name bean name.
+     * @return number of idle instances.
+     */
+    public int getIdleCount(String name) {
+        InstancePool pool = pools.get(name);
+        return pool == null ? 0 : pool.getIdleCount();
+    }
+
+    /**
+     * Return the number of instances of the bean currently lent, including extra instances.
+     *
+     * @param name bean name.
+     * @return number of borrowed instances.
+     */
+    public int getBorrowedCount(String name) {
+        InstancePool pool = pools.get(name);
+        return pool == null ? 0 : pool.getBorrowedCount();
+    }
+
+    private InstancePool pool(String name) {
+        InstancePool pool = pools.get(name);
+        return pool != null ? pool : pools.computeIfAbsent(name,
+                key -> new InstancePool(maxSize, Math.max(maxIdleNanos, 0), validator));
+    }
+}
@@ -0,0 +1,105 @@
+package com.codeus.winter.config;
+
+import com.codeus.winter.exception.BeanFactoryException;
+import jakarta.annotation.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scope holding one instance of a bean per request. A request is the execution of
+ * {@link #run(Runnable)} or {@link #call(Callable)}: beans looked up within it are created on
+ * first use, shared by all lookups of the same thread in the request, and destroyed when it
+ * returns. Requests can be nested; the inner request has its own instances.
+ * <p>
+ * The binding works like a {@code ScopedValue}, which is not a final API in Java 21: the instances
+ * of a request are only registered for the current thread while the request runs, in a map of the
+ * active requests. Threads that are not running a request, such as idle virtual threads, hold no
+ * scope state at all, unlike with a {@link ThreadLocal}. Threads started by a request do not
+ * inherit it.
+ */
+public class RequestScope extends IndexedBeanScope {
+    private final Map<Thread, ScopedInstances> activeRequests = new ConcurrentHashMap<>();
+
+    /**
+     * Run a request in the current thread.
+     *
+     * @param request request body.
+     */
+    public void run(Runnable request) {
+        Thread thread = Thread.currentThread();
+        ScopedInstances instances = new ScopedInstances();
+        ScopedInstances outer = activeRequests.put(thread, instances);
+        try {
+            request.run();
+        } finally {
+            end(thread, instances, outer);
+        }
+    }
+
+    /**
+     * Run a request returning a result in the current thread.
+     *
+     * @param request request body.
+     * @param <T>     type of the result.
+     * @return result of the request.
+     * @throws Exception if the request fails.
+     */
+    public <T> T call(Callable<T> request) throws Exception {
+        Thread thread = Thread.currentThread();
+        ScopedInstances instances = new ScopedInstances();
+        ScopedInstances outer = activeRequests.put(thread, instances);
+        try {
+            return request.call();
+        } finally {
+            end(thread, instances, outer);
+        }
+    }
+
+    /**
+     * Check whether the current thread is running a request.
+     *
+     * @return true inside {@link #run(Runnable)} or {@link #call(Callable)}.
+     */
+    public boolean isActive() {
+        return activeRequests.containsKey(Thread.currentThread());
+    }
+
+    /**
+     * Return the number of threads currently running a request.
+     *
+     * @return number of active requests, nested requests not counted.
+     */
+    public int getActiveRequestCount() {
+        return activeRequests.size();
+    }
+
+    @Override
+    final ScopedInstances currentInstances(String name) {
+        ScopedInstances instances = activeRequests.get(Thread.currentThread());
+        if (instances == null) {
+            throw new BeanFactoryException(String.format("No request is active in thread '%s' for request-scoped "
+                    + "bean: %s", Thread.currentThread().getName(), name));
+        }
+        return instances;
+    }
+
+    @Nullable
+    @Override
+    final ScopedInstances currentInstancesIfAvailable() {
+        return activeRequests.get(Thread.currentThread());
+    }
+
+    private void end(Thread thread, ScopedInstances instances, @Nullable ScopedInstances outer) {
+        try {
+            instances.destroy();
+        } finally {
+            if (outer == null) {
+                activeRequests.remove(thread);
+            } else {
+                activeRequests.put(thread, outer);
+            }
+        }
+    }
+}
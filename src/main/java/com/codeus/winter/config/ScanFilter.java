@@ -0,0 +1,153 @@
+package com.codeus.winter.config;
+
+import com.codeus.winter.annotation.MetaAnnotations;
+import jakarta.annotation.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.regex.Pattern;
+
+/**
+ * Include or exclude filter of classpath scanning, matching either the fully qualified class name
+ * (by regular expression or glob) or an annotation present on the class, directly or as a meta-annotation.
+ * <p>
+ * Class name filters are evaluated against class-file paths before the class files are read,
+ * so classes they reject are never parsed or loaded. Annotation filters are evaluated on the
+ * candidate classes found by the scan.
+ */
+public final class ScanFilter {
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    @Nullable
+    private final Pattern classNamePattern;
+    @Nullable
+    private final Class<? extends Annotation> annotationType;
+
+    private ScanFilter(@Nullable Pattern classNamePattern, @Nullable Class<? extends Annotation> annotationType) {
+        this.classNamePattern = classNamePattern;
+        this.annotationType = annotationType;
+    }
+
+    /**
+     * Create a filter matching fully qualified class names against a regular expression.
+     *
+     * @param regex regular expression the whole class name must match.
+     * @return class name filter.
+     */
+    public static ScanFilter regex(String regex) {
+        return new ScanFilter(Pattern.compile(regex), null);
+    }
+
+    /**
+     * Create a filter matching fully qualified class names against a glob: {@code *} matches any
+     * characters within one package segment, {@code **} any characters across segments and
+     * {@code ?} a single character other than a dot.
+     *
+     * @param glob glob the whole class name must match, for example {@code com.example.**.dto.*}.
+     * @return class name filter.
+     */
+    public static ScanFilter glob(String glob) {
+        StringBuilder regex = new StringBuilder(glob.length() * 2);
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '*' && i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+                regex.append(".*");
+                i++;
+            } else if (c == '*') {
+                regex.append("[^.]*");
+            } else if (c == '?') {
+                regex.append("[^.]");
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return new ScanFilter(Pattern.compile(regex.toString()), null);
+    }
+
+    /**
+     * Create a filter matching classes annotated with the given annotation, directly or through a stereotype.
+     *
+     * @param annotationType annotation type.
+     * @return annotation filter.
+     */
+    public static ScanFilter annotation(Class<? extends Annotation> annotationType) {
+        return new ScanFilter(null, annotationType);
+    }
+
+    /**
+     * Check whether this filter matches on the class name only.
+     *
+     * @return true for regex and glob filters.
+     */
+    public boolean isClassNameFilter() {
+        return classNamePattern != null;
+    }
+
+    /**
+     * Check whether the given class name matches this filter; annotation filters never match a name.
+     *
+     * @param className fully qualified class name.
+     * @return true if this is a class name filter matching the name.
+     */
+    public boolean matchesClassName(String className) {
+        return classNamePattern != null && classNamePattern.matcher(className).matches();
+    }
+
+    /**
+     * Check whether the given class matches this filter.
+     *
+     * @param type class to check.
+     * @return true if the class name or annotation matches.
+     */
+    public boolean matches(Class<?> type) {
+        return annotationType != null
+                ? MetaAnnotations.isAnnotated(type, annotationType)
+                : matchesClassName(type.getName());
+    }
+
+    /**
+     * Check whether a class passes the given filters: it must match one of the include filters,
+     * if there are any, and none of the exclude filters.
+     *
+     * @param type           candidate class.
+     * @param includeFilters include filters, may be empty.
+     * @param excludeFilters exclude filters, may be empty.
+     * @return true if the class is accepted.
+     */
+    public static boolean isAccepted(Class<?> type, Collection<ScanFilter> includeFilters,
+                                     Collection<ScanFilter> excludeFilters) {
+        return (includeFilters.isEmpty() || includeFilters.stream().anyMatch(filter -> filter.matches(type)))
+                && excludeFilters.stream().noneMatch(filter -> filter.matches(type));
+    }
+
+    /**
+     * Check whether a class file may pass the given filters, judging by its path alone: it is rejected
+     * only if a class name exclude filter matches, or if all include filters are class name filters
+     * and none of them matches. Paths of other resources are always accepted.
+     *
+     * @param resourcePath   class-file path relative to the classpath root, for example {@code com/example/Foo.class}.
+     * @param includeFilters include filters, may be empty.
+     * @param excludeFilters exclude filters, may be empty.
+     * @return false if the class file can be skipped.
+     */
+    public static boolean isCandidatePath(String resourcePath, Collection<ScanFilter> includeFilters,
+                                          Collection<ScanFilter> excludeFilters) {
+        if (!resourcePath.endsWith(CLASS_FILE_SUFFIX)) {
+            return true;
+        }
+        String className = resourcePath.substring(0, resourcePath.length() - CLASS_FILE_SUFFIX.length())
+                .replace('/', '.');
+        if (excludeFilters.stream().anyMatch(filter -> filter.matchesClassName(className))) {
+            return false;
+        }
+        return includeFilters.isEmpty() || includeFilters.stream()
+                .anyMatch(filter -> !filter.isClassNameFilter() || filter.matchesClassName(className));
+    }
+
+    @Override
+    public String toString() {
+        return classNamePattern != null
+                ? "ScanFilter[className=" + classNamePattern.pattern() + "]"
+                : "ScanFilter[annotation=" + annotationType.getName() + "]";
+    }
+}
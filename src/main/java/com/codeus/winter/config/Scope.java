@@ -5,7 +5,9 @@ package com.codeus.winter.config;
  */
 public enum Scope {
     /**
-     * Values for bean's scope.
+     * Values for bean's scope. {@code REQUEST}, {@code THREAD} and {@code POOLED} are served by the
+     * {@link RequestScope}, {@link ThreadScope} and {@link PooledScope} registered in every
+     * {@link DefaultBeanFactory}.
      */
-    SINGLETON, PROTOTYPE
+    SINGLETON, PROTOTYPE, REQUEST, THREAD, POOLED
 }
@@ -0,0 +1,82 @@
+package com.codeus.winter.config;
+
+import jakarta.annotation.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Bean instances and destruction callbacks of one scope instance, such as a request, stored in
+ * arrays indexed by the dense per-scope index of the bean name (see {@link IndexedBeanScope}).
+ * Accessed by the owning thread only.
+ */
+final class ScopedInstances {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private Object[] instances = new Object[INITIAL_CAPACITY];
+    private Runnable[] destructionCallbacks;
+
+    @Nullable
+    Object get(int index) {
+        return index < instances.length ? instances[index] : null;
+    }
+
+    void put(int index, Object instance) {
+        if (index >= instances.length) {
+            instances = Arrays.copyOf(instances, Math.max(index + 1, instances.length * 2));
+        }
+        instances[index] = instance;
+    }
+
+    @Nullable
+    Object remove(int index) {
+        Object instance = get(index);
+        if (instance != null) {
+            instances[index] = null;
+            if (destructionCallbacks != null && index < destructionCallbacks.length) {
+                destructionCallbacks[index] = null;
+            }
+        }
+        return instance;
+    }
+
+    void registerDestructionCallback(int index, Runnable callback) {
+        if (destructionCallbacks == null) {
+            destructionCallbacks = new Runnable[Math.max(index + 1, INITIAL_CAPACITY)];
+        } else if (index >= destructionCallbacks.length) {
+            destructionCallbacks = Arrays.copyOf(destructionCallbacks,
+                    Math.max(index + 1, destructionCallbacks.length * 2));
+        }
+        destructionCallbacks[index] = callback;
+    }
+
+    /**
+     * Run all destruction callbacks, in reverse order of the bean indexes, and forget the instances.
+     * Every callback runs even if an earlier one fails; the first failure is rethrown afterwards.
+     */
+    void destroy() {
+        Runnable[] callbacks = destructionCallbacks;
+        instances = new Object[0];
+        destructionCallbacks = null;
+        if (callbacks == null) {
+            return;
+        }
+        RuntimeException failure = null;
+        for (int i = callbacks.length - 1; i >= 0; i--) {
+            if (callbacks[i] == null) {
+                continue;
+            }
+            try {
+                callbacks[i].run();
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.codeus.winter.config;
+
+import jakarta.annotation.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scope holding one instance of a bean per thread. Each thread that looks up a thread-scoped
+ * bean gets a single compact {@link ScopedInstances} array; its destruction callbacks only run
+ * when the thread calls {@link #destroyCurrentThreadBeans()}.
+ * <p>
+ * Like {@link RequestScope}, the instances are kept in a map of the threads using the scope rather
+ * than in a {@link ThreadLocal}, so the many virtual threads that never look up a thread-scoped
+ * bean carry no scope state. The entries of terminated threads are dropped, without running their
+ * destruction callbacks, whenever the map has doubled in size since the last sweep.
+ */
+public class ThreadScope extends IndexedBeanScope {
+    private static final int MIN_SWEEP_THRESHOLD = 64;
+
+    private final Map<Thread, ScopedInstances> threadInstances = new ConcurrentHashMap<>();
+    private final AtomicInteger sweepThreshold = new AtomicInteger(MIN_SWEEP_THRESHOLD);
+
+    /**
+     * Destroy the beans of the current thread, running their destruction callbacks. The next
+     * lookup in this thread creates new instances.
+     */
+    public void destroyCurrentThreadBeans() {
+        ScopedInstances instances = threadInstances.remove(Thread.currentThread());
+        if (instances != null) {
+            instances.destroy();
+        }
+    }
+
+    /**
+     * Return the number of threads holding instances of this scope, including terminated threads
+     * not swept yet.
+     *
+     * @return number of threads with thread-scoped instances.
+     */
+    public int getThreadCount() {
+        return threadInstances.size();
+    }
+
+    @Override
+    final ScopedInstances currentInstances(String name) {
+        Thread thread = Thread.currentThread();
+        ScopedInstances instances = threadInstances.get(thread);
+        if (instances == null) {
+            instances = new ScopedInstances();
+            threadInstances.put(thread, instances);
+            sweepTerminatedThreads();
+        }
+        return instances;
+    }
+
+    @Nullable
+    @Override
+    final ScopedInstances currentInstancesIfAvailable() {
+        return threadInstances.get(Thread.currentThread());
+    }
+
+    private void sweepTerminatedThreads() {
+        int threshold = sweepThreshold.get();
+        if (threadInstances.size() < threshold || !sweepThreshold.compareAndSet(threshold, Integer.MAX_VALUE)) {
+            return;
+        }
+        threadInstances.keySet().removeIf(thread -> !thread.isAlive());
+        sweepThreshold.set(Math.max(MIN_SWEEP_THRESHOLD, threadInstances.size() * 2));
+    }
+}
@@ -22,6 +22,8 @@ public class BeanDefinitionImpl implements BeanDefinition {
 
     private boolean injectCandidate = true;
     private boolean primary = false;
+    private boolean lazyInit = false;
+    private boolean backgroundInit = false;
     private String factoryBeanName;
     private String factoryMethodName;
     private String initMethodName;
@@ -97,6 +99,42 @@ public class BeanDefinitionImpl implements BeanDefinition {
     public String[] getDependsOn() {
         return dependsOn.toArray(new String[0]);
     }
+    /**
+     * Specify whether this bean should be created on first use instead of at container startup.
+     *
+     * @param lazyInit {@code true} if the bean is lazily initialized; {@code false} otherwise.
+     */
+    @Override
+    public void setLazyInit(boolean lazyInit) {
+        this.lazyInit = lazyInit;
+    }
+    /**
+     * Check whether this bean is lazily initialized.
+     *
+     * @return {@code true} if the bean is created on first use; {@code false} otherwise.
+     */
+    @Override
+    public boolean isLazyInit() {
+        return this.lazyInit;
+    }
+    /**
+     * Specify whether the initialization callbacks of this bean run on the bootstrap executor.
+     *
+     * @param backgroundInit {@code true} if the bean is initialized in the background; {@code false} otherwise.
+     */
+    @Override
+    public void setBackgroundInit(boolean backgroundInit) {
+        this.backgroundInit = backgroundInit;
+    }
+    /**
+     * Check whether the initialization callbacks of this bean run on the bootstrap executor.
+     *
+     * @return {@code true} if the bean is initialized in the background; {@code false} otherwise.
+     */
+    @Override
+    public boolean isBackgroundInit() {
+        return this.backgroundInit;
+    }
     /**
      * Specify whether this bean can be autowired into other beans.
      *
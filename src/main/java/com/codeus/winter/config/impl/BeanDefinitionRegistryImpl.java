@@ -9,6 +9,7 @@ import java.util.Map;
 
 public class BeanDefinitionRegistryImpl implements BeanDefinitionRegistry {
     private final Map<String, BeanDefinition> beanDefinitionMap = new HashMap<>();
+    private boolean configurationFrozen;
 
     @Override
     public final void registerBeanDefinition(String beanName, BeanDefinition beanDefinition) {
@@ -16,7 +17,7 @@ public class BeanDefinitionRegistryImpl implements BeanDefinitionRegistry {
             throw new BeanDefinitionStoreException(String.format("Cannot register bean definition with name '%s' " +
                  "another bean with the same name already exists and overriding is not allowed.", beanName));
         }
-        beanDefinitionMap.put(beanName, beanDefinition);
+        beanDefinitionMap.put(beanName, configurationFrozen ? FrozenBeanDefinition.of(beanDefinition) : beanDefinition);
     }
 
     @Override
@@ -47,4 +48,15 @@ public class BeanDefinitionRegistryImpl implements BeanDefinitionRegistry {
         return beanDefinitionMap.size();
     }
 
+    @Override
+    public final void freezeConfiguration() {
+        beanDefinitionMap.replaceAll((beanName, beanDefinition) -> FrozenBeanDefinition.of(beanDefinition));
+        configurationFrozen = true;
+    }
+
+    @Override
+    public final boolean isConfigurationFrozen() {
+        return configurationFrozen;
+    }
+
 }
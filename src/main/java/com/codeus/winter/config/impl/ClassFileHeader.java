@@ -0,0 +1,179 @@
+package com.codeus.winter.config.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Name, kind and class-level annotations of a class file, read without loading the class.
+ * <p>
+ * Only the constant pool offsets, the class name and the descriptors of the runtime-visible
+ * class annotations are decoded; fields, methods and all other attributes are skipped.
+ *
+ * @param className       fully qualified binary class name, for example {@code com.example.Foo$Bar}.
+ * @param annotation      whether the class file declares an annotation type.
+ * @param annotationTypes fully qualified names of the runtime-visible class annotations.
+ */
+record ClassFileHeader(String className, boolean annotation, List<String> annotationTypes) {
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int ACC_ANNOTATION = 0x2000;
+    private static final int UNSIGNED_BYTE = 0xFF;
+    private static final int UNSIGNED_SHORT = 0xFFFF;
+    private static final int MEMBER_HEADER_SIZE = 6;
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+    private static final int METHOD_HANDLE_SIZE = 3;
+    private static final int WIDE_CONSTANT_SIZE = 8;
+
+    /**
+     * Parse the header of a class file.
+     *
+     * @param classFile class-file bytes, read from position zero; the position is not changed.
+     * @return the parsed header.
+     * @throws IllegalArgumentException if the bytes are not a valid class file.
+     */
+    static ClassFileHeader parse(ByteBuffer classFile) {
+        try {
+            return new Parser(classFile.duplicate().position(0)).parse();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid class file", e);
+        }
+    }
+
+    private static final class Parser {
+        private final ByteBuffer buffer;
+        private int[] constantOffsets;
+
+        private Parser(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private ClassFileHeader parse() {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Bad magic number");
+            }
+            buffer.position(buffer.position() + Integer.BYTES);
+            readConstantPool();
+            int accessFlags = unsignedShort();
+            int thisClass = unsignedShort();
+            String className = utf8(unsignedShort(constantOffsets[thisClass])).replace('/', '.');
+            skip(Short.BYTES);
+            skip(Short.BYTES * unsignedShort());
+            skipMembers();
+            skipMembers();
+            List<String> annotationTypes = new ArrayList<>();
+            for (int attributes = unsignedShort(); attributes > 0; attributes--) {
+                String attributeName = utf8(unsignedShort());
+                int length = buffer.getInt();
+                int end = buffer.position() + length;
+                if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+                    for (int annotations = unsignedShort(); annotations > 0; annotations--) {
+                        annotationTypes.add(typeName(utf8(unsignedShort())));
+                        skipElementValuePairs();
+                    }
+                }
+                buffer.position(end);
+            }
+            return new ClassFileHeader(className, (accessFlags & ACC_ANNOTATION) != 0, List.copyOf(annotationTypes));
+        }
+
+        private void readConstantPool() {
+            int count = unsignedShort();
+            constantOffsets = new int[count];
+            for (int index = 1; index < count; index++) {
+                int tag = buffer.get() & UNSIGNED_BYTE;
+                constantOffsets[index] = buffer.position();
+                switch (tag) {
+                    case CONSTANT_UTF8 -> skip(unsignedShort());
+                    case CONSTANT_CLASS, CONSTANT_STRING, CONSTANT_METHOD_TYPE, CONSTANT_MODULE, CONSTANT_PACKAGE ->
+                            skip(Short.BYTES);
+                    case CONSTANT_METHOD_HANDLE -> skip(METHOD_HANDLE_SIZE);
+                    case CONSTANT_INTEGER, CONSTANT_FLOAT, CONSTANT_FIELDREF, CONSTANT_METHODREF,
+                         CONSTANT_INTERFACE_METHODREF, CONSTANT_NAME_AND_TYPE, CONSTANT_DYNAMIC,
+                         CONSTANT_INVOKE_DYNAMIC -> skip(Integer.BYTES);
+                    case CONSTANT_LONG, CONSTANT_DOUBLE -> {
+                        skip(WIDE_CONSTANT_SIZE);
+                        index++;
+                    }
+                    default -> throw new IllegalArgumentException("Unknown constant pool tag " + tag);
+                }
+            }
+        }
+
+        private void skipMembers() {
+            for (int members = unsignedShort(); members > 0; members--) {
+                skip(MEMBER_HEADER_SIZE);
+                for (int attributes = unsignedShort(); attributes > 0; attributes--) {
+                    skip(Short.BYTES);
+                    skip(buffer.getInt());
+                }
+            }
+        }
+
+        private void skipElementValuePairs() {
+            for (int pairs = unsignedShort(); pairs > 0; pairs--) {
+                skip(Short.BYTES);
+                skipElementValue();
+            }
+        }
+
+        private void skipElementValue() {
+            char tag = (char) buffer.get();
+            switch (tag) {
+                case 'e' -> skip(Short.BYTES * 2);
+                case '@' -> {
+                    skip(Short.BYTES);
+                    skipElementValuePairs();
+                }
+                case '[' -> {
+                    for (int values = unsignedShort(); values > 0; values--) {
+                        skipElementValue();
+                    }
+                }
+                default -> skip(Short.BYTES);
+            }
+        }
+
+        private String utf8(int index) {
+            int offset = constantOffsets[index];
+            int length = unsignedShort(offset);
+            byte[] bytes = new byte[length];
+            buffer.get(offset + Short.BYTES, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private static String typeName(String descriptor) {
+            return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+        }
+
+        private int unsignedShort() {
+            return buffer.getShort() & UNSIGNED_SHORT;
+        }
+
+        private int unsignedShort(int offset) {
+            return buffer.getShort(offset) & UNSIGNED_SHORT;
+        }
+
+        private void skip(int bytes) {
+            buffer.position(buffer.position() + bytes);
+        }
+    }
+}
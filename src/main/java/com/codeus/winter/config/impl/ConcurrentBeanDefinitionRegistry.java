@@ -0,0 +1,135 @@
+package com.codeus.winter.config.impl;
+
+import com.codeus.winter.config.BeanDefinition;
+import com.codeus.winter.config.BeanDefinitionRegistry;
+import com.codeus.winter.exception.BeanDefinitionStoreException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe {@link BeanDefinitionRegistry} that accepts registrations from parallel scanners.
+ * <p>
+ * Duplicate names are detected with an atomic {@code putIfAbsent}. {@link #registerBeanDefinitions(Map)}
+ * is all-or-nothing for conflicts, but not atomic for readers: the definitions of a batch become
+ * visible one by one, and are removed again if a later name of the batch is already taken.
+ * The array returned by {@link #getBeanDefinitionNames()} lists the names in registration order; it is
+ * cached and only rebuilt after the registry has changed, and callers must not modify it.
+ * <p>
+ * {@link #freezeConfiguration()} is expected to be called once registration has completed.
+ */
+public class ConcurrentBeanDefinitionRegistry implements BeanDefinitionRegistry {
+    private final Map<String, BeanDefinition> beanDefinitionMap = new ConcurrentHashMap<>();
+    private final List<String> registrationOrder = new ArrayList<>();
+    private final AtomicLong modificationCount = new AtomicLong();
+    private volatile BeanDefinitionNames beanDefinitionNames = new BeanDefinitionNames(0, new String[0]);
+    private volatile boolean configurationFrozen;
+
+    @Override
+    public final void registerBeanDefinition(String beanName, BeanDefinition beanDefinition) {
+        if (beanDefinitionMap.putIfAbsent(beanName, prepare(beanDefinition)) != null) {
+            throw duplicate(beanName);
+        }
+        synchronized (registrationOrder) {
+            registrationOrder.add(beanName);
+        }
+        modificationCount.incrementAndGet();
+    }
+
+    /**
+     * Register the definitions one by one with {@code putIfAbsent}. If a name is already taken, the
+     * definitions registered by this call are removed and the call fails; concurrent readers may have
+     * seen them in the meantime, but {@link #getBeanDefinitionNames()} only lists completed batches.
+     *
+     * @param beanDefinitions bean definitions keyed by bean name
+     * @throws BeanDefinitionStoreException if one of the names is already registered
+     */
+    @Override
+    public final void registerBeanDefinitions(Map<String, ? extends BeanDefinition> beanDefinitions) {
+        List<String> registered = new ArrayList<>(beanDefinitions.size());
+        try {
+            for (Map.Entry<String, ? extends BeanDefinition> entry : beanDefinitions.entrySet()) {
+                if (beanDefinitionMap.putIfAbsent(entry.getKey(), prepare(entry.getValue())) != null) {
+                    registered.forEach(beanDefinitionMap::remove);
+                    throw duplicate(entry.getKey());
+                }
+                registered.add(entry.getKey());
+            }
+            synchronized (registrationOrder) {
+                registrationOrder.addAll(registered);
+            }
+        } finally {
+            if (!registered.isEmpty()) {
+                modificationCount.incrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public final void removeBeanDefinition(String beanName) {
+        if (beanDefinitionMap.remove(beanName) == null) {
+            throw new BeanDefinitionStoreException(String.format("No bean definition found for name '%s'", beanName));
+        }
+        synchronized (registrationOrder) {
+            registrationOrder.remove(beanName);
+        }
+        modificationCount.incrementAndGet();
+    }
+
+    @Override
+    public final BeanDefinition getBeanDefinition(String beanName) {
+        return beanDefinitionMap.get(beanName);
+    }
+
+    @Override
+    public final boolean containsBeanDefinition(String beanName) {
+        return beanDefinitionMap.containsKey(beanName);
+    }
+
+    @Override
+    public final String[] getBeanDefinitionNames() {
+        BeanDefinitionNames names = beanDefinitionNames;
+        long version = modificationCount.get();
+        if (names.version() != version) {
+            synchronized (registrationOrder) {
+                names = new BeanDefinitionNames(version, registrationOrder.toArray(new String[0]));
+            }
+            beanDefinitionNames = names;
+        }
+        return names.names();
+    }
+
+    @Override
+    public final int getBeanDefinitionCount() {
+        return beanDefinitionMap.size();
+    }
+
+    @Override
+    public final void freezeConfiguration() {
+        configurationFrozen = true;
+        beanDefinitionMap.replaceAll((beanName, beanDefinition) -> FrozenBeanDefinition.of(beanDefinition));
+    }
+
+    @Override
+    public final boolean isConfigurationFrozen() {
+        return configurationFrozen;
+    }
+
+    private BeanDefinition prepare(BeanDefinition beanDefinition) {
+        return configurationFrozen ? FrozenBeanDefinition.of(beanDefinition) : beanDefinition;
+    }
+
+    private static BeanDefinitionStoreException duplicate(String beanName) {
+        return new BeanDefinitionStoreException(String.format("Cannot register bean definition with name '%s' "
+                + "another bean with the same name already exists and overriding is not allowed.", beanName));
+    }
+
+    /**
+     * Snapshot of the bean names, valid while the modification count equals its version.
+     */
+    private record BeanDefinitionNames(long version, String[] names) {
+    }
+}
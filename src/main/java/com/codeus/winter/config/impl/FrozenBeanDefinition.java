@@ -0,0 +1,214 @@
+package com.codeus.winter.config.impl;
+
+import com.codeus.winter.config.BeanDefinition;
+import com.codeus.winter.config.Scope;
+import com.codeus.winter.exception.BeanDefinitionStoreException;
+import jakarta.annotation.Nullable;
+
+/**
+ * Compact, immutable {@link BeanDefinition} produced by a registry once its configuration is frozen.
+ * <p>
+ * The scope is stored as the ordinal of {@link Scope} (a scope name outside the enum is kept as is),
+ * the boolean flags are packed into a single field, class names are interned and {@code dependsOn}
+ * is a shared array. No getter allocates; in particular {@link #getDependsOn()} returns the shared
+ * array, which callers must not modify. All setters throw {@link BeanDefinitionStoreException}.
+ */
+public final class FrozenBeanDefinition implements BeanDefinition {
+    private static final Scope[] SCOPES = Scope.values();
+    private static final byte CUSTOM_SCOPE = -1;
+    private static final String[] NO_DEPENDENCIES = new String[0];
+    private static final int INJECT_CANDIDATE = 1;
+    private static final int PRIMARY = 1 << 1;
+    private static final int LAZY_INIT = 1 << 2;
+    private static final int BACKGROUND_INIT = 1 << 3;
+
+    private final String beanClassName;
+    private final byte scope;
+    private final String customScope;
+    private final int flags;
+    private final String[] dependsOn;
+    private final String factoryBeanName;
+    private final String factoryMethodName;
+    private final String initMethodName;
+    private final String destroyMethodName;
+
+    private FrozenBeanDefinition(BeanDefinition source) {
+        this.beanClassName = intern(source.getBeanClassName());
+        Scope knownScope = toScope(source.getScope());
+        this.scope = knownScope == null ? CUSTOM_SCOPE : (byte) knownScope.ordinal();
+        this.customScope = knownScope == null ? source.getScope() : null;
+        this.flags = (source.isInjectCandidate() ? INJECT_CANDIDATE : 0)
+                | (source.isPrimary() ? PRIMARY : 0)
+                | (source.isLazyInit() ? LAZY_INIT : 0)
+                | (source.isBackgroundInit() ? BACKGROUND_INIT : 0);
+        String[] sourceDependsOn = source.getDependsOn();
+        this.dependsOn = sourceDependsOn == null || sourceDependsOn.length == 0
+                ? NO_DEPENDENCIES
+                : internAll(sourceDependsOn);
+        this.factoryBeanName = source.getFactoryBeanName();
+        this.factoryMethodName = source.getFactoryMethodName();
+        this.initMethodName = source.getInitMethodName();
+        this.destroyMethodName = source.getDestroyMethodName();
+    }
+
+    /**
+     * Return a frozen copy of the given definition, or the definition itself if it is already frozen.
+     *
+     * @param beanDefinition definition to freeze.
+     * @return frozen definition.
+     */
+    public static FrozenBeanDefinition of(BeanDefinition beanDefinition) {
+        return beanDefinition instanceof FrozenBeanDefinition frozen
+                ? frozen
+                : new FrozenBeanDefinition(beanDefinition);
+    }
+
+    @Override
+    public void setBeanClassName(@Nullable String beanClassName) {
+        throw frozen();
+    }
+
+    @Nullable
+    @Override
+    public String getBeanClassName() {
+        return beanClassName;
+    }
+
+    @Override
+    public void setScope(@Nullable String scope) {
+        throw frozen();
+    }
+
+    @Nullable
+    @Override
+    public String getScope() {
+        return scope == CUSTOM_SCOPE ? customScope : SCOPES[scope].toString();
+    }
+
+    @Override
+    public boolean isSingleton() {
+        return scope == Scope.SINGLETON.ordinal();
+    }
+
+    @Override
+    public void setDependsOn(@Nullable String... dependsOn) {
+        throw frozen();
+    }
+
+    @Override
+    public String[] getDependsOn() {
+        return dependsOn;
+    }
+
+    @Override
+    public void setLazyInit(boolean lazyInit) {
+        throw frozen();
+    }
+
+    @Override
+    public boolean isLazyInit() {
+        return (flags & LAZY_INIT) != 0;
+    }
+
+    @Override
+    public void setBackgroundInit(boolean backgroundInit) {
+        throw frozen();
+    }
+
+    @Override
+    public boolean isBackgroundInit() {
+        return (flags & BACKGROUND_INIT) != 0;
+    }
+
+    @Override
+    public void setInjectCandidate(boolean injectCandidate) {
+        throw frozen();
+    }
+
+    @Override
+    public boolean isInjectCandidate() {
+        return (flags & INJECT_CANDIDATE) != 0;
+    }
+
+    @Override
+    public void setPrimary(boolean primary) {
+        throw frozen();
+    }
+
+    @Override
+    public boolean isPrimary() {
+        return (flags & PRIMARY) != 0;
+    }
+
+    @Override
+    public void setFactoryBeanName(@Nullable String factoryBeanName) {
+        throw frozen();
+    }
+
+    @Nullable
+    @Override
+    public String getFactoryBeanName() {
+        return factoryBeanName;
+    }
+
+    @Override
+    public void setFactoryMethodName(@Nullable String factoryMethodName) {
+        throw frozen();
+    }
+
+    @Nullable
+    @Override
+    public String getFactoryMethodName() {
+        return factoryMethodName;
+    }
+
+    @Override
+    public void setInitMethodName(@Nullable String initMethodName) {
+        throw frozen();
+    }
+
+    @Nullable
+    @Override
+    public String getInitMethodName() {
+        return initMethodName;
+    }
+
+    @Override
+    public void setDestroyMethodName(@Nullable String destroyMethodName) {
+        throw frozen();
+    }
+
+    @Nullable
+    @Override
+    public String getDestroyMethodName() {
+        return destroyMethodName;
+    }
+
+    @Nullable
+    private static Scope toScope(@Nullable String scope) {
+        for (Scope candidate : SCOPES) {
+            if (candidate.toString().equals(scope == null ? SCOPE_SINGLETON : scope)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static String intern(@Nullable String value) {
+        return value == null ? null : value.intern();
+    }
+
+    private static String[] internAll(String[] values) {
+        String[] interned = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            interned[i] = intern(values[i]);
+        }
+        return interned;
+    }
+
+    private BeanDefinitionStoreException frozen() {
+        return new BeanDefinitionStoreException(
+                String.format("Bean definition of class '%s' is frozen and cannot be modified", beanClassName));
+    }
+}
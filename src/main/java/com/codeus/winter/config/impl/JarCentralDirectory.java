@@ -0,0 +1,261 @@
+package com.codeus.winter.config.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Read-only view of a jar file mapped into memory with {@link FileChannel#map}.
+ * <p>
+ * Entries are selected by comparing their names with a package prefix directly in the mapped
+ * central directory, so only matching entries are decoded. Stored class files are returned as
+ * slices of the mapping without copying; deflated ones are inflated from the mapping into a
+ * buffer that is reused for the next entry. ZIP64 archives are supported, archives larger than
+ * 2 GB are not. Instances are not thread-safe.
+ */
+final class JarCentralDirectory {
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int END_SIZE = 22;
+    private static final int END_MAX_COMMENT = 0xFFFF;
+    private static final int END_ENTRY_COUNT = 10;
+    private static final int END_DIRECTORY_SIZE = 12;
+    private static final int END_DIRECTORY_OFFSET = 16;
+
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int ZIP64_LOCATOR_END_OFFSET = 8;
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_END_ENTRY_COUNT = 32;
+    private static final int ZIP64_END_DIRECTORY_SIZE = 40;
+    private static final int ZIP64_END_DIRECTORY_OFFSET = 48;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+    private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+
+    private static final int ENTRY_SIGNATURE = 0x02014b50;
+    private static final int ENTRY_HEADER_SIZE = 46;
+    private static final int ENTRY_METHOD = 10;
+    private static final int ENTRY_COMPRESSED_SIZE = 20;
+    private static final int ENTRY_UNCOMPRESSED_SIZE = 24;
+    private static final int ENTRY_NAME_LENGTH = 28;
+    private static final int ENTRY_EXTRA_LENGTH = 30;
+    private static final int ENTRY_COMMENT_LENGTH = 32;
+    private static final int ENTRY_LOCAL_HEADER_OFFSET = 42;
+
+    private static final int LOCAL_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int LOCAL_NAME_LENGTH = 26;
+    private static final int LOCAL_EXTRA_LENGTH = 28;
+
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+    private static final int UNSIGNED_SHORT = 0xFFFF;
+    private static final int LONG_BYTES = 8;
+
+    private static final byte[] CLASS_SUFFIX = ".class".getBytes(StandardCharsets.US_ASCII);
+
+    private final Path jarFile;
+    private final ByteBuffer mapping;
+    private final ByteBuffer directory;
+    private final long entryCount;
+    private final Inflater inflater = new Inflater(true);
+    private byte[] inflated = new byte[0];
+
+    private JarCentralDirectory(Path jarFile, ByteBuffer mapping) throws IOException {
+        this.jarFile = jarFile;
+        this.mapping = mapping.order(ByteOrder.LITTLE_ENDIAN);
+        int end = findEndOfDirectory();
+        long directoryOffset = Integer.toUnsignedLong(mapping.getInt(end + END_DIRECTORY_OFFSET));
+        long directorySize = Integer.toUnsignedLong(mapping.getInt(end + END_DIRECTORY_SIZE));
+        long count = mapping.getShort(end + END_ENTRY_COUNT) & UNSIGNED_SHORT;
+        if (directoryOffset == ZIP64_MAGIC || directorySize == ZIP64_MAGIC || count == ZIP64_MAGIC_COUNT) {
+            int zip64End = findZip64EndOfDirectory(end);
+            directoryOffset = mapping.getLong(zip64End + ZIP64_END_DIRECTORY_OFFSET);
+            directorySize = mapping.getLong(zip64End + ZIP64_END_DIRECTORY_SIZE);
+            count = mapping.getLong(zip64End + ZIP64_END_ENTRY_COUNT);
+        }
+        if (directoryOffset + directorySize > mapping.limit()) {
+            throw new IOException("Invalid central directory in " + jarFile);
+        }
+        this.directory = mapping.slice((int) directoryOffset, (int) directorySize).order(ByteOrder.LITTLE_ENDIAN);
+        this.entryCount = count;
+    }
+
+    /**
+     * Map the given jar file into memory.
+     *
+     * @param jarFile path of the jar file.
+     * @return central directory of the jar.
+     * @throws IOException if the file cannot be mapped or is not a valid zip archive.
+     */
+    static JarCentralDirectory map(Path jarFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(jarFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Jar file larger than 2 GB cannot be mapped: " + jarFile);
+            }
+            return new JarCentralDirectory(jarFile, channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    /**
+     * Find the class-file entries whose names start with the given prefix.
+     *
+     * @param prefix entry name prefix, for example {@code com/example/}.
+     * @return matching entries in central directory order.
+     * @throws IOException if the central directory is corrupt.
+     */
+    List<Entry> findClassEntries(String prefix) throws IOException {
+        byte[] prefixBytes = prefix.getBytes(StandardCharsets.UTF_8);
+        List<Entry> entries = new ArrayList<>();
+        int position = 0;
+        for (long i = 0; i < entryCount && position + ENTRY_HEADER_SIZE <= directory.limit(); i++) {
+            if (directory.getInt(position) != ENTRY_SIGNATURE) {
+                throw new IOException("Invalid central directory entry in " + jarFile);
+            }
+            int nameLength = directory.getShort(position + ENTRY_NAME_LENGTH) & UNSIGNED_SHORT;
+            int extraLength = directory.getShort(position + ENTRY_EXTRA_LENGTH) & UNSIGNED_SHORT;
+            int commentLength = directory.getShort(position + ENTRY_COMMENT_LENGTH) & UNSIGNED_SHORT;
+            int name = position + ENTRY_HEADER_SIZE;
+            if (regionEquals(name, nameLength, 0, prefixBytes)
+                    && regionEquals(name, nameLength, nameLength - CLASS_SUFFIX.length, CLASS_SUFFIX)) {
+                entries.add(readEntry(position, name, nameLength, extraLength));
+            }
+            position = name + nameLength + extraLength + commentLength;
+        }
+        return entries;
+    }
+
+    /**
+     * Return the content of a class-file entry. The buffer is a slice of the mapping for stored
+     * entries and is only valid until the next call for deflated ones.
+     *
+     * @param entry entry found by {@link #findClassEntries(String)}.
+     * @return class-file bytes, positioned at zero.
+     * @throws IOException if the entry cannot be read.
+     */
+    ByteBuffer read(Entry entry) throws IOException {
+        int local = (int) entry.localHeaderOffset();
+        if (mapping.getInt(local) != LOCAL_SIGNATURE) {
+            throw new IOException("Invalid local header of " + entry.name() + " in " + jarFile);
+        }
+        int data = local + LOCAL_HEADER_SIZE
+                + (mapping.getShort(local + LOCAL_NAME_LENGTH) & UNSIGNED_SHORT)
+                + (mapping.getShort(local + LOCAL_EXTRA_LENGTH) & UNSIGNED_SHORT);
+        ByteBuffer compressed = mapping.slice(data, (int) entry.compressedSize());
+        if (entry.method() == METHOD_STORED) {
+            return compressed;
+        }
+        if (entry.method() != METHOD_DEFLATED) {
+            throw new IOException("Unsupported compression method of " + entry.name() + " in " + jarFile);
+        }
+        int size = (int) entry.uncompressedSize();
+        if (inflated.length < size) {
+            inflated = new byte[Math.max(size, inflated.length * 2)];
+        }
+        inflater.reset();
+        inflater.setInput(compressed);
+        try {
+            int length = 0;
+            while (length < size && !inflater.finished()) {
+                int read = inflater.inflate(inflated, length, size - length);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += read;
+            }
+            return ByteBuffer.wrap(inflated, 0, length).slice();
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt entry " + entry.name() + " in " + jarFile, e);
+        }
+    }
+
+    private Entry readEntry(int position, int name, int nameLength, int extraLength) {
+        long compressedSize = Integer.toUnsignedLong(directory.getInt(position + ENTRY_COMPRESSED_SIZE));
+        long uncompressedSize = Integer.toUnsignedLong(directory.getInt(position + ENTRY_UNCOMPRESSED_SIZE));
+        long localHeaderOffset = Integer.toUnsignedLong(directory.getInt(position + ENTRY_LOCAL_HEADER_OFFSET));
+        if (compressedSize == ZIP64_MAGIC || uncompressedSize == ZIP64_MAGIC || localHeaderOffset == ZIP64_MAGIC) {
+            int extra = name + nameLength;
+            int extraEnd = extra + extraLength;
+            while (extra + Integer.BYTES <= extraEnd) {
+                int id = directory.getShort(extra) & UNSIGNED_SHORT;
+                int size = directory.getShort(extra + Short.BYTES) & UNSIGNED_SHORT;
+                int field = extra + Integer.BYTES;
+                if (id == ZIP64_EXTRA_ID) {
+                    if (uncompressedSize == ZIP64_MAGIC) {
+                        uncompressedSize = directory.getLong(field);
+                        field += LONG_BYTES;
+                    }
+                    if (compressedSize == ZIP64_MAGIC) {
+                        compressedSize = directory.getLong(field);
+                        field += LONG_BYTES;
+                    }
+                    if (localHeaderOffset == ZIP64_MAGIC) {
+                        localHeaderOffset = directory.getLong(field);
+                    }
+                    break;
+                }
+                extra = field + size;
+            }
+        }
+        byte[] nameBytes = new byte[nameLength];
+        directory.get(name, nameBytes);
+        return new Entry(new String(nameBytes, StandardCharsets.UTF_8),
+                directory.getShort(position + ENTRY_METHOD) & UNSIGNED_SHORT,
+                compressedSize, uncompressedSize, localHeaderOffset);
+    }
+
+    private boolean regionEquals(int name, int nameLength, int offset, byte[] expected) {
+        if (offset < 0 || offset + expected.length > nameLength) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (directory.get(name + offset + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int findEndOfDirectory() throws IOException {
+        int lowest = Math.max(0, mapping.limit() - END_SIZE - END_MAX_COMMENT);
+        for (int position = mapping.limit() - END_SIZE; position >= lowest; position--) {
+            if (mapping.getInt(position) == END_SIGNATURE) {
+                return position;
+            }
+        }
+        throw new IOException("End of central directory not found in " + jarFile);
+    }
+
+    private int findZip64EndOfDirectory(int end) throws IOException {
+        int locator = end - ZIP64_LOCATOR_SIZE;
+        if (locator < 0 || mapping.getInt(locator) != ZIP64_LOCATOR_SIGNATURE) {
+            throw new IOException("ZIP64 end of central directory locator not found in " + jarFile);
+        }
+        long zip64End = mapping.getLong(locator + ZIP64_LOCATOR_END_OFFSET);
+        if (zip64End < 0 || zip64End > end || mapping.getInt((int) zip64End) != ZIP64_END_SIGNATURE) {
+            throw new IOException("Invalid ZIP64 end of central directory in " + jarFile);
+        }
+        return (int) zip64End;
+    }
+
+    /**
+     * Central directory entry of a class file.
+     *
+     * @param name              entry name, for example {@code com/example/Foo.class}.
+     * @param method            compression method.
+     * @param compressedSize    size of the entry data.
+     * @param uncompressedSize  size of the class file.
+     * @param localHeaderOffset offset of the local file header.
+     */
+    record Entry(String name, int method, long compressedSize, long uncompressedSize, long localHeaderOffset) {
+    }
+}
@@ -0,0 +1,197 @@
+package com.codeus.winter.config.impl;
+
+import com.codeus.winter.annotation.MetaAnnotations;
+import com.codeus.winter.config.PackageScanner;
+import com.codeus.winter.config.ScanFilter;
+import com.codeus.winter.exception.BeanDefinitionStoreException;
+import com.codeus.winter.jfr.ClasspathScanEvent;
+import jakarta.annotation.Nullable;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link PackageScanner} that reads class files itself instead of going through Reflections.
+ * <p>
+ * Jar files on the classpath are memory-mapped: entries are selected by package prefix directly in
+ * the mapped central directory, and only the headers of the candidate class files are parsed,
+ * from the mapping for stored entries. Class name filters are applied before an entry is read,
+ * and a class is loaded only if one of its class-level annotations is, or is meta-annotated with,
+ * one of the requested annotations. Directories on the classpath are read file by file.
+ * <p>
+ * Unlike {@link PackageScannerImpl}, subclasses of annotated classes are not reported unless they
+ * are annotated themselves. Packages found in other kinds of classpath locations, such as nested
+ * jars or jars larger than 2 GB, are delegated to a {@link PackageScannerImpl}.
+ */
+public class MappedJarPackageScanner implements PackageScanner {
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    @Nullable
+    private final ClassLoader classLoader;
+    private final PackageScanner fallbackScanner;
+
+    /**
+     * Create a scanner for the context class loader of the scanning thread.
+     */
+    public MappedJarPackageScanner() {
+        this(null);
+    }
+
+    /**
+     * Create a scanner for the given class loader.
+     *
+     * @param classLoader class loader whose classpath is scanned and which loads the found classes,
+     *                    or null for the context class loader of the scanning thread.
+     */
+    public MappedJarPackageScanner(@Nullable ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        this.fallbackScanner = new PackageScannerImpl();
+    }
+
+    @Override
+    public final Set<Class<?>> findClassesWithAnnotations(String packageName,
+                                                          Set<Class<? extends Annotation>> annotations) {
+        return findClassesWithAnnotations(packageName, annotations, List.of(), List.of());
+    }
+
+    @Override
+    public final Set<Class<?>> findClassesWithAnnotations(String packageName,
+                                                          Set<Class<? extends Annotation>> annotations,
+                                                          Collection<ScanFilter> includeFilters,
+                                                          Collection<ScanFilter> excludeFilters) {
+        ClasspathScanEvent scanEvent = new ClasspathScanEvent();
+        scanEvent.begin();
+        ClassLoader loader = classLoader != null ? classLoader : Thread.currentThread().getContextClassLoader();
+        String packagePath = packageName.replace('.', '/');
+        Set<ClassFileHeader> headers = new HashSet<>();
+        try {
+            Enumeration<URL> roots = loader.getResources(packagePath);
+            while (roots.hasMoreElements()) {
+                URL root = roots.nextElement();
+                Path jarFile = "jar".equals(root.getProtocol()) ? jarFileOf(root) : null;
+                if (jarFile != null && Files.size(jarFile) <= Integer.MAX_VALUE) {
+                    headers.addAll(readJar(jarFile, packagePath + "/", includeFilters, excludeFilters));
+                } else if ("file".equals(root.getProtocol())) {
+                    headers.addAll(readDirectory(Path.of(root.toURI()), packageName, includeFilters, excludeFilters));
+                } else {
+                    return fallbackScanner.findClassesWithAnnotations(
+                            packageName, annotations, includeFilters, excludeFilters);
+                }
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new BeanDefinitionStoreException("Failed to scan package " + packageName, e);
+        }
+
+        Set<Class<?>> annotatedClasses = new HashSet<>();
+        Map<String, Boolean> matchingAnnotations = new HashMap<>();
+        for (ClassFileHeader header : headers) {
+            if (!header.annotation() && header.annotationTypes().stream().anyMatch(annotationType ->
+                    matchingAnnotations.computeIfAbsent(annotationType,
+                            name -> isMatchingAnnotation(name, annotations, loader)))) {
+                Class<?> type = loadClass(header.className(), loader);
+                if (type != null && ScanFilter.isAccepted(type, includeFilters, excludeFilters)) {
+                    annotatedClasses.add(type);
+                }
+            }
+        }
+
+        if (scanEvent.shouldCommit()) {
+            scanEvent.commit(packageName, annotations.stream()
+                    .map(Class::getSimpleName)
+                    .collect(Collectors.joining(",")), annotatedClasses.size());
+        }
+        return annotatedClasses;
+    }
+
+    /**
+     * Read the headers of the class files of a jar whose entry names start with the given prefix
+     * and which pass the class name filters.
+     *
+     * @param jarFile        jar file.
+     * @param prefix         entry name prefix, for example {@code com/example/}.
+     * @param includeFilters include filters.
+     * @param excludeFilters exclude filters.
+     * @return class-file headers.
+     * @throws IOException if the jar cannot be read.
+     */
+    List<ClassFileHeader> readJar(Path jarFile, String prefix, Collection<ScanFilter> includeFilters,
+                                  Collection<ScanFilter> excludeFilters) throws IOException {
+        JarCentralDirectory directory = JarCentralDirectory.map(jarFile);
+        return directory.findClassEntries(prefix).stream()
+                .filter(entry -> ScanFilter.isCandidatePath(entry.name(), includeFilters, excludeFilters))
+                .map(entry -> parse(jarFile, entry.name(), () -> directory.read(entry)))
+                .toList();
+    }
+
+    private List<ClassFileHeader> readDirectory(Path directory, String packageName,
+                                                Collection<ScanFilter> includeFilters,
+                                                Collection<ScanFilter> excludeFilters) throws IOException {
+        Path root = directory;
+        for (int i = packageName.isEmpty() ? 0 : packageName.split("\\.").length; i > 0; i--) {
+            root = root.getParent();
+        }
+        Path classpathRoot = root;
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files
+                    .filter(file -> file.toString().endsWith(CLASS_FILE_SUFFIX))
+                    .filter(file -> ScanFilter.isCandidatePath(
+                            classpathRoot.relativize(file).toString().replace('\\', '/'),
+                            includeFilters, excludeFilters))
+                    .map(file -> parse(directory, file.toString(), () -> ByteBuffer.wrap(Files.readAllBytes(file))))
+                    .toList();
+        }
+    }
+
+    private static ClassFileHeader parse(Path location, String name, ClassFileSource source) {
+        try {
+            return ClassFileHeader.parse(source.read());
+        } catch (IOException | IllegalArgumentException e) {
+            throw new BeanDefinitionStoreException("Failed to read class file " + name + " in " + location, e);
+        }
+    }
+
+    @Nullable
+    private static Path jarFileOf(URL root) throws IOException, URISyntaxException {
+        URL jarFileUrl = ((JarURLConnection) root.openConnection()).getJarFileURL();
+        return "file".equals(jarFileUrl.getProtocol()) ? Path.of(jarFileUrl.toURI()) : null;
+    }
+
+    private static boolean isMatchingAnnotation(String annotationName, Set<Class<? extends Annotation>> annotations,
+                                                ClassLoader loader) {
+        Class<?> type = loadClass(annotationName, loader);
+        if (type == null || !type.isAnnotation()) {
+            return false;
+        }
+        Class<? extends Annotation> annotationType = type.asSubclass(Annotation.class);
+        return annotations.stream().anyMatch(annotation -> MetaAnnotations.isMetaAnnotated(annotationType, annotation));
+    }
+
+    @Nullable
+    private static Class<?> loadClass(String className, ClassLoader loader) {
+        try {
+            return Class.forName(className, false, loader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ClassFileSource {
+        ByteBuffer read() throws IOException;
+    }
+}
@@ -1,33 +1,98 @@
 package com.codeus.winter.config.impl;
 
+import com.codeus.winter.annotation.MetaAnnotations;
 import com.codeus.winter.config.PackageScanner;
+import com.codeus.winter.config.ScanFilter;
+import com.codeus.winter.jfr.ClasspathScanEvent;
+import jakarta.annotation.Nullable;
 import org.reflections.Reflections;
 import org.reflections.scanners.Scanners;
 import org.reflections.util.ConfigurationBuilder;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class PackageScannerImpl implements PackageScanner {
 
     @Override
     public final Set<Class<?>> findClassesWithAnnotations(String packageName,
                                                           Set<Class<? extends Annotation>> annotations) {
+        return findClassesWithAnnotations(packageName, annotations, List.of(), List.of());
+    }
+
+    @Override
+    public final Set<Class<?>> findClassesWithAnnotations(String packageName,
+                                                          Set<Class<? extends Annotation>> annotations,
+                                                          Collection<ScanFilter> includeFilters,
+                                                          Collection<ScanFilter> excludeFilters) {
+        ClasspathScanEvent scanEvent = new ClasspathScanEvent();
+        scanEvent.begin();
         Set<Class<?>> annotatedClasses = new HashSet<>();
 
-        Reflections reflections = new Reflections(
-                new ConfigurationBuilder()
-                        .forPackage(packageName)
-                        .addScanners(Scanners.TypesAnnotated)
-                        .addScanners(Scanners.SubTypes)
-        );
+        ConfigurationBuilder configuration = new ConfigurationBuilder()
+                .forPackage(packageName)
+                .addScanners(Scanners.TypesAnnotated)
+                .addScanners(Scanners.SubTypes);
+        if (!includeFilters.isEmpty() || !excludeFilters.isEmpty()) {
+            configuration.filterInputsBy(
+                    resourcePath -> ScanFilter.isCandidatePath(resourcePath, includeFilters, excludeFilters));
+        }
+        Reflections reflections = new Reflections(configuration);
 
         for (Class<? extends Annotation> annotation : annotations) {
             annotatedClasses.addAll(reflections.getTypesAnnotatedWith(annotation));
         }
+        for (Class<? extends Annotation> stereotype : findStereotypes(reflections, annotations)) {
+            annotatedClasses.addAll(reflections.getTypesAnnotatedWith(stereotype));
+        }
+        annotatedClasses.removeIf(type -> type.isAnnotation()
+                || !ScanFilter.isAccepted(type, includeFilters, excludeFilters));
 
+        if (scanEvent.shouldCommit()) {
+            scanEvent.commit(packageName, annotations.stream()
+                    .map(Class::getSimpleName)
+                    .collect(Collectors.joining(",")), annotatedClasses.size());
+        }
         return annotatedClasses;
     }
 
+    /**
+     * Find the annotation types present on scanned classes that are meta-annotated with one of the
+     * given annotations, such as {@link com.codeus.winter.stereotype.Service} for {@code Component}.
+     */
+    private Set<Class<? extends Annotation>> findStereotypes(Reflections reflections,
+                                                           Set<Class<? extends Annotation>> annotations) {
+        Set<Class<? extends Annotation>> stereotypes = new HashSet<>();
+        if (annotations.isEmpty()) {
+            return stereotypes;
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Map<String, Set<String>> typesAnnotated = reflections.getStore()
+                .getOrDefault(Scanners.TypesAnnotated.index(), Map.of());
+        for (String annotationName : typesAnnotated.keySet()) {
+            Class<? extends Annotation> annotationType = loadAnnotationType(annotationName, classLoader);
+            if (annotationType != null && !annotations.contains(annotationType)
+                    && annotations.stream().anyMatch(
+                            annotation -> MetaAnnotations.isMetaAnnotated(annotationType, annotation))) {
+                stereotypes.add(annotationType);
+            }
+        }
+        return stereotypes;
+    }
+
+    @Nullable
+    private static Class<? extends Annotation> loadAnnotationType(String className, ClassLoader classLoader) {
+        try {
+            Class<?> type = Class.forName(className, false, classLoader);
+            return type.isAnnotation() ? type.asSubclass(Annotation.class) : null;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
 }
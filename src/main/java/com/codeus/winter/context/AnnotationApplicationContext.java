@@ -1,17 +1,40 @@
 package com.codeus.winter.context;
 
+import com.codeus.winter.annotation.AutowiredAnnotationBeanPostProcessor;
+import com.codeus.winter.annotation.ConfigurationPropertiesBindingPostProcessor;
+import com.codeus.winter.annotation.EventListenerAnnotationBeanPostProcessor;
+import com.codeus.winter.annotation.InitDestroyAnnotationBeanPostProcessor;
+import com.codeus.winter.annotation.ValueAnnotationBeanPostProcessor;
 import com.codeus.winter.config.BeanDefinition;
 import com.codeus.winter.config.BeanDefinitionRegistry;
 import com.codeus.winter.config.BeanFactory;
 import com.codeus.winter.config.BeanPostProcessor;
+import com.codeus.winter.config.BeanScope;
 import com.codeus.winter.config.ClassPathBeanDefinitionScanner;
 import com.codeus.winter.config.DefaultBeanFactory;
-import com.codeus.winter.config.impl.BeanDefinitionRegistryImpl;
+import com.codeus.winter.config.RequestScope;
+import com.codeus.winter.config.impl.ConcurrentBeanDefinitionRegistry;
+import com.codeus.winter.event.ApplicationEventBus;
+import com.codeus.winter.exception.ApplicationContextException;
 import com.codeus.winter.exception.BeanNotFoundException;
+import com.codeus.winter.metrics.BeanLookupMetrics;
+import com.codeus.winter.startup.StartupCriticalPathReport;
+import com.codeus.winter.startup.StartupStepRecorder;
+import com.codeus.winter.util.CompositePropertySource;
+import com.codeus.winter.util.MapPropertySource;
+import com.codeus.winter.util.PropertySource;
+import com.codeus.winter.util.PropertySourceWatcher;
 import jakarta.annotation.Nullable;
 import org.apache.commons.lang3.ObjectUtils;
 
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Standalone application context, accepting component classes as input.
@@ -20,6 +43,9 @@ import java.lang.reflect.InvocationTargetException;
  * and JSR-330 compliant classes using jakarta.inject annotations.
  * Allows registering classes one by one using {@code register(Class...)}
  * as well as classpath scanning using {@code scan(String...)}.
+ * {@code @Value} expressions and {@code @ConfigurationProperties} beans are resolved against the
+ * property source of the context, by default system properties followed by environment variables.
+ * {@code @EventListener} methods of singletons receive the events published with {@link #publishEvent}.
  */
 public class AnnotationApplicationContext implements ApplicationContext, BeanFactory {
     private final String id = ObjectUtils.identityToString(this);
@@ -27,6 +53,10 @@ public class AnnotationApplicationContext implements ApplicationContext, BeanFac
     private final ClassPathBeanDefinitionScanner scanner;
     private final DefaultBeanFactory beanFactory;
     private final BeanDefinitionRegistry beanDefinitionRegistry;
+    private final PropertySource<?> propertySource;
+    private final ValueAnnotationBeanPostProcessor valuePostProcessor;
+    private final ConfigurationPropertiesBindingPostProcessor configurationPropertiesPostProcessor;
+    private final ApplicationEventBus eventBus = new ApplicationEventBus();
 
     /**
      * Constructs a new {@code AnnotationApplicationContext} for the specified base packages.
@@ -34,10 +64,104 @@ public class AnnotationApplicationContext implements ApplicationContext, BeanFac
      * @param basePackages the base packages to scan for component classes
      */
     public AnnotationApplicationContext(String... basePackages) {
-        this.beanDefinitionRegistry = new BeanDefinitionRegistryImpl();
+        this(StartupStepRecorder.DISABLED, basePackages);
+    }
+
+    /**
+     * Constructs a new {@code AnnotationApplicationContext} for the specified base packages
+     * that records the creation of every bean with the given recorder.
+     *
+     * @param startupStepRecorder recorder of per-bean startup steps
+     * @param basePackages        the base packages to scan for component classes
+     */
+    public AnnotationApplicationContext(StartupStepRecorder startupStepRecorder, String... basePackages) {
+        this(createSystemPropertySource(), startupStepRecorder, basePackages);
+    }
+
+    /**
+     * Constructs a new {@code AnnotationApplicationContext} for the specified base packages
+     * whose {@code @Value} expressions are resolved against the given properties.
+     *
+     * @param propertySource      properties of the context
+     * @param startupStepRecorder recorder of per-bean startup steps
+     * @param basePackages        the base packages to scan for component classes
+     */
+    public AnnotationApplicationContext(PropertySource<?> propertySource, StartupStepRecorder startupStepRecorder,
+                                        String... basePackages) {
+        this.propertySource = propertySource;
+        this.valuePostProcessor = new ValueAnnotationBeanPostProcessor(propertySource, this::isSingletonBean);
+        this.configurationPropertiesPostProcessor = new ConfigurationPropertiesBindingPostProcessor(propertySource);
+        this.beanDefinitionRegistry = new ConcurrentBeanDefinitionRegistry();
         this.scanner = new ClassPathBeanDefinitionScanner(beanDefinitionRegistry);
         scanner.scanPackages(basePackages);
-        this.beanFactory = new DefaultBeanFactory(null);
+        beanDefinitionRegistry.freezeConfiguration();
+        this.beanFactory = new DefaultBeanFactory(getBeanDefinitions(), List.of(
+                new AutowiredAnnotationBeanPostProcessor(),
+                valuePostProcessor,
+                configurationPropertiesPostProcessor,
+                new InitDestroyAnnotationBeanPostProcessor(),
+                new EventListenerAnnotationBeanPostProcessor(eventBus, this::isSingletonBean)), startupStepRecorder);
+    }
+
+    private static PropertySource<?> createSystemPropertySource() {
+        Map<String, Object> systemProperties = new HashMap<>();
+        System.getProperties().forEach((key, value) -> systemProperties.put(String.valueOf(key), value));
+        CompositePropertySource propertySource = new CompositePropertySource("environment");
+        propertySource.addLast(new MapPropertySource("systemProperties", systemProperties));
+        propertySource.addLast(new MapPropertySource("systemEnvironment", new HashMap<>(System.getenv())));
+        return propertySource;
+    }
+
+    private boolean isSingletonBean(String beanName) {
+        return beanDefinitionRegistry.containsBeanDefinition(beanName)
+                && beanDefinitionRegistry.getBeanDefinition(beanName).isSingleton();
+    }
+
+    private Map<String, BeanDefinition> getBeanDefinitions() {
+        Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+        for (String beanName : beanDefinitionRegistry.getBeanDefinitionNames()) {
+            beanDefinitions.put(beanName, beanDefinitionRegistry.getBeanDefinition(beanName));
+        }
+        return beanDefinitions;
+    }
+
+    /**
+     * Return the properties that {@code @Value} expressions of this context are resolved against.
+     *
+     * @return property source of the context
+     */
+    public PropertySource<?> getPropertySource() {
+        return propertySource;
+    }
+
+    /**
+     * Add the given properties files to the property source of the context with the lowest
+     * precedence and reload them when they change. Beans are updated in place: {@code @Value}
+     * fields and setters whose values changed are re-injected, and {@code @ConfigurationProperties}
+     * POJOs affected by the changed keys are rebound.
+     *
+     * @param debounce delay between the last change event of a file and its reload
+     * @param files    properties files
+     * @return the watcher of the files, to be closed when reloading should stop
+     * @throws ApplicationContextException if the property source of the context is not composite
+     */
+    public PropertySourceWatcher watchPropertyFiles(Duration debounce, Path... files) {
+        if (!(propertySource instanceof CompositePropertySource compositePropertySource)) {
+            throw new ApplicationContextException("Property files can only be watched for a composite "
+                    + "property source, not " + propertySource.getClass().getName());
+        }
+        PropertySourceWatcher watcher = new PropertySourceWatcher(compositePropertySource, debounce);
+        watcher.addListener(valuePostProcessor);
+        watcher.addListener(configurationPropertiesPostProcessor);
+        try {
+            for (Path file : files) {
+                watcher.watch(file);
+            }
+        } catch (RuntimeException e) {
+            watcher.close();
+            throw e;
+        }
+        return watcher;
     }
 
     @Override
@@ -71,16 +195,106 @@ public class AnnotationApplicationContext implements ApplicationContext, BeanFac
         return 0;
     }
 
+    @Override
+    public final CompletableFuture<Void> getReadinessFuture() {
+        return beanFactory.getBackgroundInitialization();
+    }
+
+    @Override
+    public final StartupStepRecorder getStartupStepRecorder() {
+        return beanFactory.getStartupStepRecorder();
+    }
+
+    /**
+     * Set the metrics that record the bean lookups of this context, e.g. a
+     * {@link com.codeus.winter.metrics.DefaultBeanLookupMetrics} registered as an MBean.
+     *
+     * @param beanLookupMetrics lookup metrics, {@link BeanLookupMetrics#DISABLED} to stop recording
+     */
+    public void setBeanLookupMetrics(BeanLookupMetrics beanLookupMetrics) {
+        beanFactory.setBeanLookupMetrics(beanLookupMetrics);
+    }
+
+    /**
+     * Return the metrics that record the bean lookups of this context.
+     *
+     * @return lookup metrics, {@link BeanLookupMetrics#DISABLED} by default
+     */
+    public BeanLookupMetrics getBeanLookupMetrics() {
+        return beanFactory.getBeanLookupMetrics();
+    }
+
+    /**
+     * Register the scope serving beans with the given scope name, see {@link DefaultBeanFactory#registerScope}.
+     *
+     * @param scopeName scope name
+     * @param scope     scope
+     */
+    public void registerScope(String scopeName, BeanScope scope) {
+        beanFactory.registerScope(scopeName, scope);
+    }
+
+    /**
+     * Return the event bus of this context, for example to add listeners programmatically.
+     *
+     * @return event bus
+     */
+    public ApplicationEventBus getApplicationEventBus() {
+        return eventBus;
+    }
+
+    @Override
+    public final void publishEvent(Object event) {
+        eventBus.publishEvent(event);
+    }
+
+    /**
+     * Hand back an instance of a scoped bean the caller is done with, see {@link DefaultBeanFactory#releaseBean}.
+     *
+     * @param name bean name
+     * @param bean instance obtained from a lookup of the bean
+     */
+    public void releaseBean(String name, Object bean) {
+        beanFactory.releaseBean(name, bean);
+    }
+
+    /**
+     * Return the scope registered for the given scope name, such as the {@link RequestScope} of
+     * {@link BeanDefinition#SCOPE_REQUEST} that runs requests.
+     *
+     * @param scopeName scope name
+     * @return scope, or null if none is registered
+     */
+    @Nullable
+    public BeanScope getRegisteredScope(String scopeName) {
+        return beanFactory.getRegisteredScope(scopeName);
+    }
+
+    @Override
+    public void close() {
+        try {
+            beanFactory.close();
+        } finally {
+            eventBus.close();
+        }
+    }
+
+    @Override
+    public final StartupCriticalPathReport getStartupReport() {
+        return StartupCriticalPathReport.analyze(beanFactory.getDependencyGraph(),
+                beanFactory.getStartupStepRecorder().getSteps());
+    }
+
     @Nullable
     @Override
     public final Object getBean(String name) throws BeanNotFoundException {
-        return null;
+        return beanFactory.getBean(name);
     }
 
     @Nullable
     @Override
     public final <T> T getBean(String name, Class<T> requiredType) throws BeanNotFoundException {
-        return null;
+        return beanFactory.getBean(name, requiredType);
     }
 
     @Nullable
@@ -89,6 +303,28 @@ public class AnnotationApplicationContext implements ApplicationContext, BeanFac
         return beanFactory.getBean(requiredType);
     }
 
+    @Nullable
+    @Override
+    public final Object getBeanIfAvailable(String name) {
+        return beanFactory.getBeanIfAvailable(name);
+    }
+
+    @Nullable
+    @Override
+    public final <T> T getBeanIfAvailable(Class<T> requiredType) {
+        return beanFactory.getBeanIfAvailable(requiredType);
+    }
+
+    @Override
+    public final <T> Map<String, T> getBeansOfType(Class<T> type) {
+        return beanFactory.getBeansOfType(type);
+    }
+
+    @Override
+    public final List<String> getBeanNamesForType(Class<?> type) {
+        return beanFactory.getBeanNamesForType(type);
+    }
+
     @Override
     public final <T> T createBean(Class<T> beanClass)
             throws BeanNotFoundException, NoSuchMethodException, InvocationTargetException,
@@ -1,8 +1,13 @@
 package com.codeus.winter.context;
 
+import com.codeus.winter.event.ApplicationEventPublisher;
+import com.codeus.winter.startup.StartupCriticalPathReport;
+import com.codeus.winter.startup.StartupStepRecorder;
 import jakarta.annotation.Nullable;
 
-public interface ApplicationContext {
+import java.util.concurrent.CompletableFuture;
+
+public interface ApplicationContext extends ApplicationEventPublisher, AutoCloseable {
 
     /**
      * Return the unique id of this application context.
@@ -32,4 +37,38 @@ public interface ApplicationContext {
      * @return the timestamp (ms) when this context was first loaded
      */
     long getStartupDate();
+
+    /**
+     * Return a future that completes when all beans marked for background initialization
+     * have finished their initialization callbacks. The context can serve requests
+     * before that; lookups of a bean that is still initializing wait for it.
+     *
+     * @return the readiness future of this context
+     */
+    CompletableFuture<Void> getReadinessFuture();
+
+    /**
+     * Return the recorder holding the per-bean startup steps of this context,
+     * exportable with {@link StartupStepRecorder#toJson()}.
+     *
+     * @return the startup step recorder, {@link StartupStepRecorder#DISABLED} if startup is not recorded
+     */
+    StartupStepRecorder getStartupStepRecorder();
+
+    /**
+     * Return the critical-path analysis of the startup of this context, combining the bean
+     * dependency graph with the steps of {@link #getStartupStepRecorder()}.
+     * Without a recording startup step recorder all beans are reported as free.
+     *
+     * @return the startup critical-path report
+     */
+    StartupCriticalPathReport getStartupReport();
+
+    /**
+     * Close this context, releasing the threads it owns. Background initializations still
+     * running are awaited, then the events queued for asynchronous listeners are dispatched;
+     * beans are not destroyed.
+     */
+    @Override
+    void close();
 }
@@ -0,0 +1,214 @@
+package com.codeus.winter.event;
+
+import com.codeus.winter.exception.ApplicationEventException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Event bus dispatching published events to listener methods and consumers by event type.
+ * <p>
+ * A listener receives the events that are instances of its event type, so a listener of a
+ * supertype or interface also receives events of its subtypes. For every concrete event class,
+ * the matching listeners are computed once into immutable arrays, in registration order, and
+ * cached until another listener is added; listeners are invoked through {@link MethodHandle}s
+ * adapted to {@code (Object)void}. Publishing to synchronous listeners thus takes a map read and
+ * one exact handle invocation per listener, without locking or allocation; an exception of a
+ * synchronous listener propagates to the publisher and skips the remaining listeners.
+ * <p>
+ * Asynchronous listeners are invoked on virtual threads. Events for them are queued, and a single
+ * virtual thread started when the queue becomes non-empty dispatches all events queued until it
+ * is empty again, so a burst of events is handled as one batch, in publication order. Failures of
+ * asynchronous listeners are logged. Once the bus is closed, events for asynchronous listeners are
+ * dispatched in the publishing thread, so none is dropped.
+ */
+public class ApplicationEventBus implements ApplicationEventPublisher, AutoCloseable {
+    private static final System.Logger LOGGER = System.getLogger(ApplicationEventBus.class.getName());
+    private static final MethodType LISTENER_TYPE = MethodType.methodType(void.class, Object.class);
+    private static final MethodHandle CONSUMER_ACCEPT;
+    private static final ListenerMethod[] NO_LISTENERS = new ListenerMethod[0];
+
+    static {
+        try {
+            CONSUMER_ACCEPT = MethodHandles.publicLookup().findVirtual(Consumer.class, "accept", LISTENER_TYPE);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final ExecutorService asyncExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("winter-event-", 0).factory());
+    private final Queue<PendingEvent> pendingEvents = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+    private volatile ListenerMethod[] listeners = NO_LISTENERS;
+    private volatile Map<Class<?>, Dispatch> dispatchByEventClass = new ConcurrentHashMap<>();
+
+    /**
+     * Add a listener method of a bean. The method takes the event as its only parameter;
+     * its return value is ignored.
+     *
+     * @param bean   instance the method is invoked on.
+     * @param method listener method.
+     * @param async  whether the method is invoked on a virtual thread instead of the publishing thread.
+     * @throws ApplicationEventException if the method does not have exactly one parameter or is not accessible.
+     */
+    public void addListener(Object bean, Method method, boolean async) {
+        if (method.getParameterCount() != 1) {
+            throw new ApplicationEventException("Event listener method must have exactly one parameter: " + method);
+        }
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflect(method).bindTo(bean).asType(LISTENER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new ApplicationEventException("Event listener method is not accessible: " + method, e);
+        }
+        register(new ListenerMethod(method.getParameterTypes()[0], handle, async,
+                method.getDeclaringClass().getName() + "." + method.getName()));
+    }
+
+    /**
+     * Add a listener of the events of the given type and its subtypes.
+     *
+     * @param eventType type of the events.
+     * @param listener  listener.
+     * @param async     whether the listener is invoked on a virtual thread instead of the publishing thread.
+     * @param <E>       type of the events.
+     */
+    public <E> void addListener(Class<E> eventType, Consumer<? super E> listener, boolean async) {
+        register(new ListenerMethod(eventType, CONSUMER_ACCEPT.bindTo(listener), async, listener.toString()));
+    }
+
+    /**
+     * Return the number of registered listeners.
+     *
+     * @return listener count.
+     */
+    public int getListenerCount() {
+        return listeners.length;
+    }
+
+    /**
+     * Dispatch the event to the synchronous listeners of its type in the calling thread, and queue
+     * it for the asynchronous ones.
+     *
+     * @param event event of any type.
+     * @throws ApplicationEventException if a synchronous listener throws a checked exception.
+     */
+    @Override
+    public void publishEvent(Object event) {
+        Class<?> eventClass = event.getClass();
+        Dispatch dispatch = dispatchByEventClass.get(eventClass);
+        if (dispatch == null) {
+            dispatch = computeDispatch(eventClass);
+        }
+        ListenerMethod[] syncListeners = dispatch.syncListeners();
+        for (int i = 0; i < syncListeners.length; i++) {
+            invoke(syncListeners[i], event);
+        }
+        if (dispatch.asyncListeners().length > 0) {
+            pendingEvents.add(new PendingEvent(event, dispatch.asyncListeners()));
+            if (dispatching.compareAndSet(false, true)) {
+                startDispatching();
+            }
+        }
+    }
+
+    /**
+     * Stop dispatching on virtual threads, waiting for the events already queued to be dispatched.
+     * Events queued while the executor shuts down are dispatched in the calling thread.
+     */
+    @Override
+    public void close() {
+        asyncExecutor.close();
+        if (!pendingEvents.isEmpty() && dispatching.compareAndSet(false, true)) {
+            dispatchPendingEvents();
+        }
+    }
+
+    private synchronized void register(ListenerMethod listener) {
+        ListenerMethod[] updated = Arrays.copyOf(listeners, listeners.length + 1);
+        updated[listeners.length] = listener;
+        listeners = updated;
+        dispatchByEventClass = new ConcurrentHashMap<>();
+    }
+
+    private Dispatch computeDispatch(Class<?> eventClass) {
+        Map<Class<?>, Dispatch> cache = dispatchByEventClass;
+        List<ListenerMethod> syncListeners = new ArrayList<>();
+        List<ListenerMethod> asyncListeners = new ArrayList<>();
+        for (ListenerMethod listener : listeners) {
+            if (listener.eventType().isAssignableFrom(eventClass)) {
+                (listener.async() ? asyncListeners : syncListeners).add(listener);
+            }
+        }
+        Dispatch dispatch = new Dispatch(syncListeners.toArray(NO_LISTENERS), asyncListeners.toArray(NO_LISTENERS));
+        cache.put(eventClass, dispatch);
+        return dispatch;
+    }
+
+    private static void invoke(ListenerMethod listener, Object event) {
+        try {
+            listener.handle().invokeExact(event);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ApplicationEventException(String.format("Event listener %s failed for event of type %s",
+                    listener.description(), event.getClass().getName()), e);
+        }
+    }
+
+    private void startDispatching() {
+        try {
+            asyncExecutor.execute(this::dispatchPendingEvents);
+        } catch (RejectedExecutionException e) {
+            dispatchPendingEvents();
+        }
+    }
+
+    /**
+     * Dispatch queued events until the queue is empty. If events are queued after the queue was
+     * found empty but before the dispatching flag is cleared, dispatching continues with them.
+     */
+    private void dispatchPendingEvents() {
+        do {
+            for (PendingEvent pendingEvent = pendingEvents.poll(); pendingEvent != null;
+                 pendingEvent = pendingEvents.poll()) {
+                for (ListenerMethod listener : pendingEvent.listeners()) {
+                    try {
+                        invoke(listener, pendingEvent.event());
+                    } catch (RuntimeException | Error e) {
+                        LOGGER.log(System.Logger.Level.WARNING, "Asynchronous event listener "
+                                + listener.description() + " failed", e);
+                    }
+                }
+            }
+            dispatching.set(false);
+        } while (!pendingEvents.isEmpty() && dispatching.compareAndSet(false, true));
+    }
+
+    /**
+     * Listeners of one event class, split by dispatch mode.
+     */
+    private record Dispatch(ListenerMethod[] syncListeners, ListenerMethod[] asyncListeners) {
+    }
+
+    /**
+     * Event queued for its asynchronous listeners.
+     */
+    private record PendingEvent(Object event, ListenerMethod[] listeners) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.codeus.winter.event;
+
+/**
+ * Interface that encapsulates event publication functionality.
+ */
+public interface ApplicationEventPublisher {
+
+    /**
+     * Notify all listeners registered for the type of the event or one of its supertypes.
+     * Synchronous listeners run in the calling thread before this method returns.
+     *
+     * @param event event of any type.
+     */
+    void publishEvent(Object event);
+}
@@ -0,0 +1,16 @@
+package com.codeus.winter.event;
+
+/**
+ * Interface to be implemented by beans that publish events. The publisher is supplied by the
+ * {@link com.codeus.winter.annotation.EventListenerAnnotationBeanPostProcessor} before the
+ * initialization callbacks of the bean.
+ */
+public interface ApplicationEventPublisherAware {
+
+    /**
+     * Callback that supplies the event publisher of the context to a bean.
+     *
+     * @param applicationEventPublisher event publisher.
+     */
+    void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher);
+}
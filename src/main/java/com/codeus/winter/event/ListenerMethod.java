@@ -0,0 +1,10 @@
+package com.codeus.winter.event;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Registered listener: the event type it accepts and a handle of type {@code (Object)void}
+ * bound to the listener instance.
+ */
+record ListenerMethod(Class<?> eventType, MethodHandle handle, boolean async, String description) {
+}
@@ -0,0 +1,11 @@
+package com.codeus.winter.exception;
+
+public class ApplicationEventException extends RuntimeException {
+    public ApplicationEventException(String message) {
+        super(message);
+    }
+
+    public ApplicationEventException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
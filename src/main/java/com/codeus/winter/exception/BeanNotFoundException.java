@@ -21,4 +21,17 @@ public class BeanNotFoundException extends RuntimeException {
     public BeanNotFoundException(@Nullable final String message, @Nullable final Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Constructor for exceptions raised on internal resolution paths. Such exceptions are wrapped or
+     * translated by the caller, so their stack trace can be skipped to avoid the cost of capturing it.
+     *
+     * @param message            message.
+     * @param cause              cause.
+     * @param writableStackTrace whether the stack trace should be captured.
+     */
+    public BeanNotFoundException(@Nullable final String message, @Nullable final Throwable cause,
+                                 final boolean writableStackTrace) {
+        super(message, cause, false, writableStackTrace);
+    }
 }
@@ -9,4 +9,14 @@ public class PropertySourceException extends RuntimeException {
     public PropertySourceException(final String message) {
         super(message);
     }
+
+    /**
+     * Constructor with message and cause.
+     *
+     * @param message text message.
+     * @param cause   cause.
+     */
+    public PropertySourceException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
 }
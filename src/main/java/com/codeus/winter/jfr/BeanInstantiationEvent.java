@@ -0,0 +1,39 @@
+package com.codeus.winter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Creation of a bean by the bean factory, from constructor resolution to the end of
+ * synchronous post-processing.
+ */
+@Name("com.codeus.winter.BeanInstantiation")
+@Label("Bean Instantiation")
+@Category({"Winter", "Container"})
+@Description("Creation of a bean, from constructor resolution to the end of synchronous post-processing")
+@StackTrace(false)
+public final class BeanInstantiationEvent extends Event {
+    @Label("Bean Name")
+    private String beanName;
+
+    @Label("Bean Class")
+    private Class<?> beanClass;
+
+    /**
+     * End the event and commit it if it is enabled and passes the threshold.
+     *
+     * @param name  bean name.
+     * @param clazz bean class.
+     */
+    public void commit(String name, Class<?> clazz) {
+        if (shouldCommit()) {
+            this.beanName = name;
+            this.beanClass = clazz;
+            commit();
+        }
+    }
+}
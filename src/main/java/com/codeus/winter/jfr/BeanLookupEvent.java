@@ -0,0 +1,57 @@
+package com.codeus.winter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Bean lookup that took a slow path: a scan by type, creation of a lazy bean,
+ * or a wait for a background initialization.
+ */
+@Name("com.codeus.winter.BeanLookup")
+@Label("Bean Lookup (Slow Path)")
+@Category({"Winter", "Container"})
+@Description("Bean lookup by type, or lookup that created a lazy bean or waited for a background initialization")
+@StackTrace(false)
+public final class BeanLookupEvent extends Event {
+    /**
+     * Lookup by type, which scans all singletons.
+     */
+    public static final String TYPE_SCAN = "type-scan";
+    /**
+     * Lookup that created a lazy bean.
+     */
+    public static final String LAZY_CREATION = "lazy-creation";
+    /**
+     * Lookup that waited for a background initialization.
+     */
+    public static final String BACKGROUND_INIT_WAIT = "background-init-wait";
+
+    @Label("Bean Name")
+    private String beanName;
+
+    @Label("Bean Class")
+    private Class<?> beanClass;
+
+    @Label("Lookup Path")
+    private String path;
+
+    /**
+     * End the event and commit it if it is enabled and passes the threshold.
+     *
+     * @param name       resolved bean name, or null if the bean was not found.
+     * @param clazz      requested or resolved bean class.
+     * @param lookupPath slow path that was taken.
+     */
+    public void commit(String name, Class<?> clazz, String lookupPath) {
+        if (shouldCommit()) {
+            this.beanName = name;
+            this.beanClass = clazz;
+            this.path = lookupPath;
+            commit();
+        }
+    }
+}
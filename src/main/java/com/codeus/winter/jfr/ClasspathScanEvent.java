@@ -0,0 +1,43 @@
+package com.codeus.winter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Scan of a package for annotated component classes.
+ */
+@Name("com.codeus.winter.ClasspathScan")
+@Label("Classpath Scan")
+@Category({"Winter", "Scanning"})
+@Description("Scan of a package for annotated component classes")
+@StackTrace(false)
+public final class ClasspathScanEvent extends Event {
+    @Label("Package")
+    private String packageName;
+
+    @Label("Annotations")
+    private String annotations;
+
+    @Label("Classes Found")
+    private int classCount;
+
+    /**
+     * End the event and commit it if it is enabled and passes the threshold.
+     *
+     * @param scannedPackage    scanned package.
+     * @param annotationNames   names of the annotations looked for.
+     * @param foundClasses      number of classes found.
+     */
+    public void commit(String scannedPackage, String annotationNames, int foundClasses) {
+        if (shouldCommit()) {
+            this.packageName = scannedPackage;
+            this.annotations = annotationNames;
+            this.classCount = foundClasses;
+            commit();
+        }
+    }
+}
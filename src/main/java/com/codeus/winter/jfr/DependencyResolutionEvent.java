@@ -0,0 +1,48 @@
+package com.codeus.winter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Resolution of a single constructor dependency of a bean.
+ */
+@Name("com.codeus.winter.DependencyResolution")
+@Label("Dependency Resolution")
+@Category({"Winter", "Container"})
+@Description("Resolution of a constructor dependency of a bean")
+@StackTrace(false)
+public final class DependencyResolutionEvent extends Event {
+    @Label("Bean Name")
+    private String beanName;
+
+    @Label("Bean Class")
+    private Class<?> beanClass;
+
+    @Label("Dependency Type")
+    private String dependencyType;
+
+    @Label("Resolved")
+    private boolean resolved;
+
+    /**
+     * End the event and commit it if it is enabled and passes the threshold.
+     *
+     * @param name       name of the bean whose dependency is resolved.
+     * @param clazz      class of the bean whose dependency is resolved.
+     * @param dependency declared type of the dependency.
+     * @param success    whether a dependency was found.
+     */
+    public void commit(String name, Class<?> clazz, String dependency, boolean success) {
+        if (shouldCommit()) {
+            this.beanName = name;
+            this.beanClass = clazz;
+            this.dependencyType = dependency;
+            this.resolved = success;
+            commit();
+        }
+    }
+}
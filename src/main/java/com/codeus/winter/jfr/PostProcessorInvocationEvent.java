@@ -0,0 +1,48 @@
+package com.codeus.winter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Invocation of a single bean post-processor callback.
+ */
+@Name("com.codeus.winter.PostProcessorInvocation")
+@Label("Post-Processor Invocation")
+@Category({"Winter", "Container"})
+@Description("Invocation of a before- or after-initialization callback of a bean post-processor")
+@StackTrace(false)
+public final class PostProcessorInvocationEvent extends Event {
+    @Label("Bean Name")
+    private String beanName;
+
+    @Label("Bean Class")
+    private Class<?> beanClass;
+
+    @Label("Post-Processor")
+    private Class<?> postProcessor;
+
+    @Label("Callback")
+    private String callback;
+
+    /**
+     * End the event and commit it if it is enabled and passes the threshold.
+     *
+     * @param name      bean name.
+     * @param clazz     bean class.
+     * @param processor post-processor class.
+     * @param phase     {@code before} or {@code after} initialization.
+     */
+    public void commit(String name, Class<?> clazz, Class<?> processor, String phase) {
+        if (shouldCommit()) {
+            this.beanName = name;
+            this.beanClass = clazz;
+            this.postProcessor = processor;
+            this.callback = phase;
+            commit();
+        }
+    }
+}
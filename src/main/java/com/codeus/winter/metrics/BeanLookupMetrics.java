@@ -0,0 +1,71 @@
+package com.codeus.winter.metrics;
+
+import java.util.Map;
+
+/**
+ * Runtime metrics of bean lookups: hit and miss counts per bean name and per requested type,
+ * and latency histograms of the {@link SlowLookupPath slow lookup paths}.
+ * <p>
+ * Recording is called on every lookup, so implementations must not contend on the read path.
+ * {@link #DISABLED} records nothing.
+ */
+public interface BeanLookupMetrics {
+
+    /**
+     * Metrics that record nothing.
+     */
+    BeanLookupMetrics DISABLED = new DisabledBeanLookupMetrics();
+
+    /**
+     * Return whether this instance records anything; callers skip timing slow paths if not.
+     *
+     * @return true if lookups are recorded.
+     */
+    boolean isEnabled();
+
+    /**
+     * Record a lookup by bean name.
+     *
+     * @param beanName requested bean name.
+     * @param hit      whether a bean was found.
+     */
+    void recordNameLookup(String beanName, boolean hit);
+
+    /**
+     * Record a lookup by type.
+     *
+     * @param requiredType requested type.
+     * @param hit          whether a bean was found.
+     */
+    void recordTypeLookup(Class<?> requiredType, boolean hit);
+
+    /**
+     * Record the latency of a slow lookup path.
+     *
+     * @param path  slow path that was taken.
+     * @param nanos duration in nanoseconds.
+     */
+    void recordSlowPath(SlowLookupPath path, long nanos);
+
+    /**
+     * Return the counters of lookups by bean name.
+     *
+     * @return counters keyed by bean name.
+     */
+    Map<String, LookupCounter> getNameCounters();
+
+    /**
+     * Return the counters of lookups by type.
+     *
+     * @return counters keyed by type name.
+     */
+    Map<String, LookupCounter> getTypeCounters();
+
+    /**
+     * Return the latency histogram of a slow lookup path.
+     *
+     * @param path slow lookup path.
+     * @return latency histogram.
+     */
+    LatencyHistogram getLatency(SlowLookupPath path);
+}
@@ -0,0 +1,72 @@
+package com.codeus.winter.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link BeanLookupMetrics}.
+ */
+public interface BeanLookupMetricsMXBean {
+
+    /**
+     * Return the number of lookups that found a bean, by name and by type.
+     *
+     * @return total hit count.
+     */
+    long getTotalHits();
+
+    /**
+     * Return the number of lookups that found no bean, by name and by type.
+     *
+     * @return total miss count.
+     */
+    long getTotalMisses();
+
+    /**
+     * Return the hit count per requested bean name.
+     *
+     * @return hit counts keyed by bean name.
+     */
+    Map<String, Long> getHitsByName();
+
+    /**
+     * Return the miss count per requested bean name.
+     *
+     * @return miss counts keyed by bean name.
+     */
+    Map<String, Long> getMissesByName();
+
+    /**
+     * Return the hit count per requested type.
+     *
+     * @return hit counts keyed by type name.
+     */
+    Map<String, Long> getHitsByType();
+
+    /**
+     * Return the miss count per requested type.
+     *
+     * @return miss counts keyed by type name.
+     */
+    Map<String, Long> getMissesByType();
+
+    /**
+     * Return the number of lookups per slow path.
+     *
+     * @return counts keyed by slow path name.
+     */
+    Map<String, Long> getSlowPathCounts();
+
+    /**
+     * Return an upper bound of the 99th percentile latency per slow path.
+     *
+     * @return latencies in nanoseconds keyed by slow path name.
+     */
+    Map<String, Long> getSlowPathP99Nanos();
+
+    /**
+     * Return the maximum latency per slow path.
+     *
+     * @return latencies in nanoseconds keyed by slow path name.
+     */
+    Map<String, Long> getSlowPathMaxNanos();
+}
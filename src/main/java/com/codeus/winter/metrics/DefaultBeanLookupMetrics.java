@@ -0,0 +1,194 @@
+package com.codeus.winter.metrics;
+
+import com.codeus.winter.exception.BeanFactoryException;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * {@link BeanLookupMetrics} backed by {@link java.util.concurrent.atomic.LongAdder} counters.
+ * <p>
+ * A lookup of an already seen name or type is a lock-free map read and a striped counter increment.
+ * At most {@link #MAX_TRACKED_KEYS} distinct names and types are tracked each; lookups beyond that,
+ * e.g. misses of generated names, are counted under {@link #OTHER_KEY}.
+ * <p>
+ * The metrics can be published as an MXBean with {@link #registerMBean(String)}.
+ */
+public final class DefaultBeanLookupMetrics implements BeanLookupMetrics, BeanLookupMetricsMXBean {
+    /**
+     * Maximum number of distinct bean names, and of distinct types, with their own counter.
+     */
+    public static final int MAX_TRACKED_KEYS = 1024;
+    /**
+     * Key of the counter shared by lookups beyond {@link #MAX_TRACKED_KEYS}.
+     */
+    public static final String OTHER_KEY = "<other>";
+    private static final double P99 = 99;
+
+    private final ConcurrentHashMap<String, LookupCounter> nameCounters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LookupCounter> typeCounters = new ConcurrentHashMap<>();
+    private final Map<SlowLookupPath, LatencyHistogram> latencies = new EnumMap<>(SlowLookupPath.class);
+
+    public DefaultBeanLookupMetrics() {
+        for (SlowLookupPath path : SlowLookupPath.values()) {
+            latencies.put(path, new LatencyHistogram());
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void recordNameLookup(String beanName, boolean hit) {
+        counterFor(nameCounters, beanName).record(hit);
+    }
+
+    @Override
+    public void recordTypeLookup(Class<?> requiredType, boolean hit) {
+        counterFor(typeCounters, requiredType.getName()).record(hit);
+    }
+
+    @Override
+    public void recordSlowPath(SlowLookupPath path, long nanos) {
+        latencies.get(path).record(nanos);
+    }
+
+    @Override
+    public Map<String, LookupCounter> getNameCounters() {
+        return Collections.unmodifiableMap(nameCounters);
+    }
+
+    @Override
+    public Map<String, LookupCounter> getTypeCounters() {
+        return Collections.unmodifiableMap(typeCounters);
+    }
+
+    @Override
+    public LatencyHistogram getLatency(SlowLookupPath path) {
+        return latencies.get(path);
+    }
+
+    @Override
+    public long getTotalHits() {
+        return sum(nameCounters, LookupCounter::getHits) + sum(typeCounters, LookupCounter::getHits);
+    }
+
+    @Override
+    public long getTotalMisses() {
+        return sum(nameCounters, LookupCounter::getMisses) + sum(typeCounters, LookupCounter::getMisses);
+    }
+
+    @Override
+    public Map<String, Long> getHitsByName() {
+        return snapshot(nameCounters, LookupCounter::getHits);
+    }
+
+    @Override
+    public Map<String, Long> getMissesByName() {
+        return snapshot(nameCounters, LookupCounter::getMisses);
+    }
+
+    @Override
+    public Map<String, Long> getHitsByType() {
+        return snapshot(typeCounters, LookupCounter::getHits);
+    }
+
+    @Override
+    public Map<String, Long> getMissesByType() {
+        return snapshot(typeCounters, LookupCounter::getMisses);
+    }
+
+    @Override
+    public Map<String, Long> getSlowPathCounts() {
+        return snapshotLatencies(LatencyHistogram::getCount);
+    }
+
+    @Override
+    public Map<String, Long> getSlowPathP99Nanos() {
+        return snapshotLatencies(histogram -> histogram.getPercentileNanos(P99));
+    }
+
+    @Override
+    public Map<String, Long> getSlowPathMaxNanos() {
+        return snapshotLatencies(LatencyHistogram::getMaxNanos);
+    }
+
+    /**
+     * Register these metrics with the platform MBean server.
+     *
+     * @param contextName name of the application context, used as the {@code context} key of the object name.
+     * @return object name the MBean was registered under.
+     */
+    public ObjectName registerMBean(String contextName) {
+        try {
+            ObjectName objectName = getObjectName(contextName);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new BeanFactoryException("Unable to register bean lookup metrics MBean: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Unregister the MBean registered by {@link #registerMBean(String)}; does nothing if none is registered.
+     *
+     * @param contextName name of the application context the MBean was registered for.
+     */
+    public void unregisterMBean(String contextName) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = getObjectName(contextName);
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            throw new BeanFactoryException("Unable to unregister bean lookup metrics MBean: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Return the object name of the MBean of the given context.
+     *
+     * @param contextName name of the application context.
+     * @return object name in the {@code com.codeus.winter} domain.
+     * @throws JMException if the name is malformed.
+     */
+    public static ObjectName getObjectName(String contextName) throws JMException {
+        return new ObjectName("com.codeus.winter:type=BeanLookupMetrics,context=" + ObjectName.quote(contextName));
+    }
+
+    private static LookupCounter counterFor(ConcurrentHashMap<String, LookupCounter> counters, String key) {
+        LookupCounter counter = counters.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        String trackedKey = counters.size() < MAX_TRACKED_KEYS ? key : OTHER_KEY;
+        return counters.computeIfAbsent(trackedKey, k -> new LookupCounter());
+    }
+
+    private static long sum(Map<String, LookupCounter> counters, ToLongFunction<LookupCounter> value) {
+        return counters.values().stream().mapToLong(value).sum();
+    }
+
+    private static Map<String, Long> snapshot(Map<String, LookupCounter> counters,
+                                              ToLongFunction<LookupCounter> value) {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counters.forEach((key, counter) -> snapshot.put(key, value.applyAsLong(counter)));
+        return snapshot;
+    }
+
+    private Map<String, Long> snapshotLatencies(ToLongFunction<LatencyHistogram> value) {
+        Map<String, Long> snapshot = new TreeMap<>();
+        latencies.forEach((path, histogram) -> snapshot.put(path.name(), value.applyAsLong(histogram)));
+        return snapshot;
+    }
+}
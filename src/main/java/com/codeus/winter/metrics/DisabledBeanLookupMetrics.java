@@ -0,0 +1,42 @@
+package com.codeus.winter.metrics;
+
+import java.util.Map;
+
+/**
+ * {@link BeanLookupMetrics} that records nothing.
+ */
+final class DisabledBeanLookupMetrics implements BeanLookupMetrics {
+    private static final LatencyHistogram EMPTY_HISTOGRAM = new LatencyHistogram();
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void recordNameLookup(String beanName, boolean hit) {
+    }
+
+    @Override
+    public void recordTypeLookup(Class<?> requiredType, boolean hit) {
+    }
+
+    @Override
+    public void recordSlowPath(SlowLookupPath path, long nanos) {
+    }
+
+    @Override
+    public Map<String, LookupCounter> getNameCounters() {
+        return Map.of();
+    }
+
+    @Override
+    public Map<String, LookupCounter> getTypeCounters() {
+        return Map.of();
+    }
+
+    @Override
+    public LatencyHistogram getLatency(SlowLookupPath path) {
+        return EMPTY_HISTOGRAM;
+    }
+}
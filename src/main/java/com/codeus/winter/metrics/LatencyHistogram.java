@@ -0,0 +1,82 @@
+package com.codeus.winter.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with power-of-two nanosecond buckets.
+ * <p>
+ * Bucket {@code i} counts durations in {@code [2^(i-1), 2^i)} nanoseconds, bucket 0 counts zero durations.
+ * Percentiles are reported as the upper bound of the bucket they fall in, so they are accurate to a factor of two.
+ */
+public final class LatencyHistogram {
+    private static final int BUCKETS = Long.SIZE;
+    private static final double MAX_PERCENTILE = 100;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(long nanos) {
+        long duration = Math.max(0, nanos);
+        buckets[Long.SIZE - Long.numberOfLeadingZeros(duration)].increment();
+        count.increment();
+        totalNanos.add(duration);
+        maxNanos.accumulate(duration);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Return the count of every bucket; index {@code i} holds durations below {@code 2^i} nanoseconds.
+     *
+     * @return bucket counts.
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Return an upper bound of the given percentile of the recorded durations.
+     *
+     * @param percentile percentile between 0 and 100.
+     * @return duration in nanoseconds, 0 if nothing was recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        long[] counts = getBucketCounts();
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        long rank = (long) Math.ceil(total * Math.min(Math.max(percentile, 0), MAX_PERCENTILE) / MAX_PERCENTILE);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank && counts[i] > 0) {
+                return Math.min(i == 0 ? 0 : (1L << i) - 1, getMaxNanos());
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,38 @@
+package com.codeus.winter.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit and miss counts of the lookups of one bean name or type.
+ * Backed by striped {@link LongAdder}s, so concurrent lookups do not contend on a shared counter.
+ */
+public final class LookupCounter {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    void record(boolean hit) {
+        if (hit) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+    }
+
+    /**
+     * Return the number of lookups that found a bean.
+     *
+     * @return hit count.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Return the number of lookups that found no bean.
+     *
+     * @return miss count.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+}
@@ -0,0 +1,19 @@
+package com.codeus.winter.metrics;
+
+/**
+ * Bean lookup path that does more than a map read; its latency is recorded in a {@link LatencyHistogram}.
+ */
+public enum SlowLookupPath {
+    /**
+     * Lookup by type, which scans all singletons.
+     */
+    TYPE_SCAN,
+    /**
+     * Lookup that created a lazy bean.
+     */
+    LAZY_CREATION,
+    /**
+     * Lookup that waited for a background initialization.
+     */
+    BACKGROUND_INIT_WAIT
+}
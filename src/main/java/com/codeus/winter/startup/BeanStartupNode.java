@@ -0,0 +1,103 @@
+package com.codeus.winter.startup;
+
+import java.util.List;
+
+/**
+ * Bean in a {@link StartupCriticalPathReport}: its own creation time, its position in the
+ * dependency schedule and how much it could be delayed without delaying startup.
+ * Times are in nanoseconds.
+ */
+public final class BeanStartupNode {
+    private final String beanName;
+    private final List<String> dependencies;
+    private final long selfNanos;
+    private final long initNanos;
+    private long earliestFinishNanos;
+    private long latestFinishNanos;
+    private boolean critical;
+    private StartupRecommendation recommendation = StartupRecommendation.NONE;
+
+    BeanStartupNode(String beanName, List<String> dependencies, long selfNanos, long initNanos) {
+        this.beanName = beanName;
+        this.dependencies = List.copyOf(dependencies);
+        this.selfNanos = selfNanos;
+        this.initNanos = initNanos;
+    }
+
+    public String getBeanName() {
+        return beanName;
+    }
+
+    /**
+     * Return the beans this bean needs before it can be created.
+     *
+     * @return names of the dependencies.
+     */
+    public List<String> getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Return the time spent creating this bean, excluding dependencies created while resolving it.
+     *
+     * @return duration in nanoseconds.
+     */
+    public long getSelfNanos() {
+        return selfNanos;
+    }
+
+    /**
+     * Return the time spent in init callbacks and post-processors.
+     *
+     * @return duration in nanoseconds.
+     */
+    public long getInitNanos() {
+        return initNanos;
+    }
+
+    /**
+     * Return the earliest time this bean can start, once all its dependencies are created.
+     *
+     * @return time in nanoseconds from the start of the container.
+     */
+    public long getEarliestStartNanos() {
+        return earliestFinishNanos - selfNanos;
+    }
+
+    public long getEarliestFinishNanos() {
+        return earliestFinishNanos;
+    }
+
+    /**
+     * Return how long the creation of this bean could be delayed without delaying startup.
+     *
+     * @return slack in nanoseconds, zero for beans on the critical path.
+     */
+    public long getSlackNanos() {
+        return latestFinishNanos - earliestFinishNanos;
+    }
+
+    public boolean isCritical() {
+        return critical;
+    }
+
+    public StartupRecommendation getRecommendation() {
+        return recommendation;
+    }
+
+    void setEarliestFinishNanos(long earliestFinishNanos) {
+        this.earliestFinishNanos = earliestFinishNanos;
+    }
+
+    void setLatestFinishNanos(long latestFinishNanos) {
+        this.latestFinishNanos = latestFinishNanos;
+    }
+
+    void setCritical(boolean critical) {
+        this.critical = critical;
+    }
+
+    void setRecommendation(StartupRecommendation recommendation) {
+        this.recommendation = recommendation;
+    }
+}
@@ -0,0 +1,132 @@
+package com.codeus.winter.startup;
+
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Recorded creation of a single bean: time per {@link StartupPhase} and the threads it ran on.
+ * Times are in nanoseconds; start and end are relative to the creation of the recorder.
+ */
+public final class BeanStartupStep implements StartupStep {
+    private static final int JSON_CAPACITY = 256;
+
+    private final String beanName;
+    private final String beanClassName;
+    private final String threadName;
+    private final long startNanos;
+    private final long[] phaseNanos = new long[StartupPhase.values().length];
+    private final LongSupplier clock;
+    private final Consumer<BeanStartupStep> onEnd;
+    private volatile String initThreadName;
+    private volatile long endNanos = -1;
+    private long lastMark;
+
+    BeanStartupStep(String beanName, String beanClassName, LongSupplier clock, Consumer<BeanStartupStep> onEnd) {
+        this.beanName = beanName;
+        this.beanClassName = beanClassName;
+        this.clock = clock;
+        this.onEnd = onEnd;
+        this.threadName = Thread.currentThread().getName();
+        this.initThreadName = threadName;
+        this.startNanos = clock.getAsLong();
+        this.lastMark = startNanos;
+    }
+
+    @Override
+    public synchronized void mark(StartupPhase phase) {
+        long now = clock.getAsLong();
+        phaseNanos[phase.ordinal()] += now - lastMark;
+        lastMark = now;
+    }
+
+    @Override
+    public synchronized void resume() {
+        initThreadName = Thread.currentThread().getName();
+        lastMark = clock.getAsLong();
+    }
+
+    @Override
+    public void end() {
+        endNanos = clock.getAsLong();
+        onEnd.accept(this);
+    }
+
+    public String getBeanName() {
+        return beanName;
+    }
+
+    public String getBeanClassName() {
+        return beanClassName;
+    }
+
+    /**
+     * Return the thread that resolved and constructed the bean.
+     *
+     * @return thread name.
+     */
+    public String getThreadName() {
+        return threadName;
+    }
+
+    /**
+     * Return the thread that ran the post-processing and init callbacks; differs from
+     * {@link #getThreadName()} for beans initialized in the background.
+     *
+     * @return thread name.
+     */
+    public String getInitThreadName() {
+        return initThreadName;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * Return the end of the step, or {@code -1} if it has not ended yet.
+     *
+     * @return end time in nanoseconds.
+     */
+    public long getEndNanos() {
+        return endNanos;
+    }
+
+    /**
+     * Return the time attributed to a phase.
+     *
+     * @param phase phase of the bean creation.
+     * @return duration in nanoseconds.
+     */
+    public synchronized long getPhaseNanos(StartupPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Return the time spent working on the bean, the sum of all phases.
+     *
+     * @return duration in nanoseconds.
+     */
+    public synchronized long getTotalNanos() {
+        long total = 0;
+        for (long nanos : phaseNanos) {
+            total += nanos;
+        }
+        return total;
+    }
+
+    String toJson() {
+        StringBuilder json = new StringBuilder(JSON_CAPACITY)
+                .append("{\"beanName\":").append(Json.quote(beanName))
+                .append(",\"beanClass\":").append(Json.quote(beanClassName))
+                .append(",\"thread\":").append(Json.quote(threadName))
+                .append(",\"initThread\":").append(Json.quote(initThreadName))
+                .append(",\"startNanos\":").append(startNanos)
+                .append(",\"endNanos\":").append(endNanos);
+        for (StartupPhase phase : StartupPhase.values()) {
+            json.append(",\"").append(phase.name().toLowerCase(Locale.ROOT)).append("Nanos\":")
+                    .append(getPhaseNanos(phase));
+        }
+        return json.append(",\"totalNanos\":").append(getTotalNanos()).append('}').toString();
+    }
+}
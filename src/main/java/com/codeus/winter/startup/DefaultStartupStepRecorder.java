@@ -0,0 +1,40 @@
+package com.codeus.winter.startup;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * {@link StartupStepRecorder} that keeps every finished bean step in memory.
+ * Safe for use by concurrent creation and background initialization threads.
+ */
+public class DefaultStartupStepRecorder implements StartupStepRecorder {
+    private final long origin = System.nanoTime();
+    private final Queue<BeanStartupStep> steps = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public StartupStep beanStep(String beanName, String beanClassName) {
+        return new BeanStartupStep(beanName, beanClassName, () -> System.nanoTime() - origin, steps::add);
+    }
+
+    @Override
+    public final boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public List<BeanStartupStep> getSteps() {
+        return steps.stream()
+                .sorted(Comparator.comparingLong(BeanStartupStep::getStartNanos))
+                .toList();
+    }
+
+    @Override
+    public String toJson() {
+        return getSteps().stream()
+                .map(BeanStartupStep::toJson)
+                .collect(Collectors.joining(",", "{\"steps\":[", "]}"));
+    }
+}
@@ -0,0 +1,46 @@
+package com.codeus.winter.startup;
+
+import java.util.List;
+
+/**
+ * {@link StartupStepRecorder} that records nothing.
+ */
+final class DisabledStartupStepRecorder implements StartupStepRecorder {
+
+    private static final StartupStep NO_OP_STEP = new StartupStep() {
+        @Override
+        public void mark(StartupPhase phase) {
+            // not recording
+        }
+
+        @Override
+        public void resume() {
+            // not recording
+        }
+
+        @Override
+        public void end() {
+            // not recording
+        }
+    };
+
+    @Override
+    public StartupStep beanStep(String beanName, String beanClassName) {
+        return NO_OP_STEP;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public List<BeanStartupStep> getSteps() {
+        return List.of();
+    }
+
+    @Override
+    public String toJson() {
+        return "{\"steps\":[]}";
+    }
+}
@@ -0,0 +1,42 @@
+package com.codeus.winter.startup;
+
+/**
+ * Minimal helpers for writing JSON documents.
+ */
+final class Json {
+    private static final int CONTROL_CHAR_LIMIT = 0x20;
+
+    private Json() {
+    }
+
+    /**
+     * Quote and escape a string value.
+     *
+     * @param value string value, may be null.
+     * @return JSON string literal, or {@code null} literal.
+     */
+    static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                case '\r' -> quoted.append("\\r");
+                case '\t' -> quoted.append("\\t");
+                default -> {
+                    if (c < CONTROL_CHAR_LIMIT) {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -0,0 +1,305 @@
+package com.codeus.winter.startup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Critical-path analysis of a container startup.
+ * <p>
+ * Combines the bean dependency graph with the recorded {@link BeanStartupStep}s and schedules every
+ * bean as early as its dependencies allow. The longest chain of dependencies is the critical path:
+ * it bounds startup time no matter how the other beans are created. Every other bean has slack,
+ * the time it could be delayed without delaying startup. Beans on the critical path that take a
+ * noticeable share of startup get a {@link StartupRecommendation}.
+ * <p>
+ * The report can be exported as JSON with {@link #toJson()} or as a Graphviz graph with {@link #toDot()}.
+ */
+public final class StartupCriticalPathReport {
+    private static final int SIGNIFICANT_SHARE_PERCENT = 5;
+    private static final int PERCENT = 100;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final int JSON_HEADER_CAPACITY = 128;
+    private static final int JSON_NODE_CAPACITY = 256;
+    private static final int DOT_HEADER_CAPACITY = 64;
+    private static final int DOT_NODE_CAPACITY = 128;
+
+    private final Map<String, BeanStartupNode> nodes;
+    private final List<String> criticalPath;
+    private final long totalNanos;
+
+    private StartupCriticalPathReport(Map<String, BeanStartupNode> nodes, List<String> criticalPath, long totalNanos) {
+        this.nodes = Collections.unmodifiableMap(nodes);
+        this.criticalPath = List.copyOf(criticalPath);
+        this.totalNanos = totalNanos;
+    }
+
+    /**
+     * Analyze a startup.
+     *
+     * @param dependencyGraph names of the beans each bean depends on, keyed by bean name.
+     * @param steps           recorded startup steps; beans without a step are taken as free.
+     * @return the report.
+     */
+    public static StartupCriticalPathReport analyze(Map<String, ? extends Collection<String>> dependencyGraph,
+                                                    List<BeanStartupStep> steps) {
+        Map<String, BeanStartupStep> stepsByName = new HashMap<>();
+        for (BeanStartupStep step : steps) {
+            stepsByName.put(step.getBeanName(), step);
+        }
+        Set<String> beanNames = new LinkedHashSet<>(dependencyGraph.keySet());
+        steps.forEach(step -> beanNames.add(step.getBeanName()));
+
+        Map<String, BeanStartupNode> nodes = new LinkedHashMap<>();
+        for (String beanName : beanNames) {
+            Collection<String> declared = dependencyGraph.get(beanName);
+            List<String> dependencies = (declared == null ? List.<String>of() : declared).stream()
+                    .filter(dependency -> beanNames.contains(dependency) && !dependency.equals(beanName))
+                    .distinct()
+                    .toList();
+            BeanStartupStep step = stepsByName.get(beanName);
+            long selfNanos = step == null ? 0 : getSelfNanos(step, dependencies, stepsByName);
+            long initNanos = step == null ? 0 : step.getPhaseNanos(StartupPhase.INIT);
+            nodes.put(beanName, new BeanStartupNode(beanName, dependencies, selfNanos, initNanos));
+        }
+
+        List<BeanStartupNode> order = topologicalOrder(nodes);
+        long totalNanos = 0;
+        for (BeanStartupNode node : order) {
+            long start = 0;
+            for (String dependency : node.getDependencies()) {
+                start = Math.max(start, nodes.get(dependency).getEarliestFinishNanos());
+            }
+            node.setEarliestFinishNanos(start + node.getSelfNanos());
+            totalNanos = Math.max(totalNanos, node.getEarliestFinishNanos());
+        }
+
+        Map<String, List<BeanStartupNode>> dependents = new HashMap<>();
+        for (BeanStartupNode node : order) {
+            node.getDependencies().forEach(dependency ->
+                    dependents.computeIfAbsent(dependency, name -> new ArrayList<>()).add(node));
+        }
+        for (int i = order.size() - 1; i >= 0; i--) {
+            BeanStartupNode node = order.get(i);
+            long latestFinish = totalNanos;
+            for (BeanStartupNode dependent : dependents.getOrDefault(node.getBeanName(), List.of())) {
+                latestFinish = Math.min(latestFinish, dependent.getEarliestStartNanos() + dependent.getSlackNanos());
+            }
+            node.setLatestFinishNanos(latestFinish);
+        }
+
+        List<String> criticalPath = findCriticalPath(nodes, order);
+        for (String beanName : criticalPath) {
+            BeanStartupNode node = nodes.get(beanName);
+            node.setCritical(true);
+            node.setRecommendation(recommend(node, stepsByName.get(beanName),
+                    dependents.containsKey(beanName), totalNanos));
+        }
+        return new StartupCriticalPathReport(nodes, criticalPath, totalNanos);
+    }
+
+    /**
+     * Return the length of the critical path, the shortest startup the dependency graph allows.
+     *
+     * @return duration in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Return the beans on the critical path, from the first created to the last.
+     *
+     * @return bean names.
+     */
+    public List<String> getCriticalPath() {
+        return criticalPath;
+    }
+
+    /**
+     * Return all analyzed beans, in dependency graph order.
+     *
+     * @return nodes keyed by bean name.
+     */
+    public Map<String, BeanStartupNode> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Return the beans for which a change is recommended.
+     *
+     * @return recommendation keyed by bean name, in critical path order.
+     */
+    public Map<String, StartupRecommendation> getRecommendations() {
+        Map<String, StartupRecommendation> recommendations = new LinkedHashMap<>();
+        for (String beanName : criticalPath) {
+            StartupRecommendation recommendation = nodes.get(beanName).getRecommendation();
+            if (recommendation != StartupRecommendation.NONE) {
+                recommendations.put(beanName, recommendation);
+            }
+        }
+        return recommendations;
+    }
+
+    /**
+     * Export the report as a JSON document.
+     *
+     * @return JSON document with {@code totalNanos}, {@code criticalPath} and {@code beans}.
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder(JSON_HEADER_CAPACITY + nodes.size() * JSON_NODE_CAPACITY)
+                .append("{\"totalNanos\":").append(totalNanos)
+                .append(",\"criticalPath\":").append(toJsonArray(criticalPath))
+                .append(",\"beans\":[");
+        String separator = "";
+        for (BeanStartupNode node : nodes.values()) {
+            json.append(separator)
+                    .append("{\"beanName\":").append(Json.quote(node.getBeanName()))
+                    .append(",\"dependencies\":").append(toJsonArray(node.getDependencies()))
+                    .append(",\"selfNanos\":").append(node.getSelfNanos())
+                    .append(",\"initNanos\":").append(node.getInitNanos())
+                    .append(",\"earliestStartNanos\":").append(node.getEarliestStartNanos())
+                    .append(",\"earliestFinishNanos\":").append(node.getEarliestFinishNanos())
+                    .append(",\"slackNanos\":").append(node.getSlackNanos())
+                    .append(",\"critical\":").append(node.isCritical())
+                    .append(",\"recommendation\":").append(Json.quote(node.getRecommendation().name()))
+                    .append('}');
+            separator = ",";
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Export the report as a Graphviz DOT graph. Edges point from a bean to its dependencies;
+     * the critical path is drawn in red.
+     *
+     * @return DOT document.
+     */
+    public String toDot() {
+        StringBuilder dot = new StringBuilder(DOT_HEADER_CAPACITY + nodes.size() * DOT_NODE_CAPACITY)
+                .append("digraph startup {\n  rankdir=LR;\n  node [shape=box];\n");
+        for (BeanStartupNode node : nodes.values()) {
+            String label = String.format(Locale.ROOT, "%s\\n%.3f ms\\nslack %.3f ms",
+                    dotEscape(node.getBeanName()), node.getSelfNanos() / NANOS_PER_MILLI,
+                    node.getSlackNanos() / NANOS_PER_MILLI);
+            if (node.getRecommendation() != StartupRecommendation.NONE) {
+                label += "\\n" + node.getRecommendation().name().toLowerCase(Locale.ROOT);
+            }
+            dot.append("  \"").append(dotEscape(node.getBeanName())).append("\" [label=\"").append(label)
+                    .append('"').append(node.isCritical() ? ", color=red, penwidth=2" : "").append("];\n");
+        }
+        Set<String> criticalEdges = new HashSet<>();
+        for (int i = 1; i < criticalPath.size(); i++) {
+            criticalEdges.add(criticalPath.get(i) + '\0' + criticalPath.get(i - 1));
+        }
+        for (BeanStartupNode node : nodes.values()) {
+            for (String dependency : node.getDependencies()) {
+                dot.append("  \"").append(dotEscape(node.getBeanName())).append("\" -> \"")
+                        .append(dotEscape(dependency)).append('"')
+                        .append(criticalEdges.contains(node.getBeanName() + '\0' + dependency)
+                                ? " [color=red, penwidth=2]" : "")
+                        .append(";\n");
+            }
+        }
+        return dot.append("}\n").toString();
+    }
+
+    private static long getSelfNanos(BeanStartupStep step, List<String> dependencies,
+                                     Map<String, BeanStartupStep> stepsByName) {
+        long selfNanos = step.getTotalNanos();
+        for (String dependency : dependencies) {
+            BeanStartupStep dependencyStep = stepsByName.get(dependency);
+            if (dependencyStep != null && isNested(dependencyStep, step)) {
+                selfNanos -= dependencyStep.getTotalNanos();
+            }
+        }
+        return Math.max(0, selfNanos);
+    }
+
+    /**
+     * A dependency created while the outer bean resolved its constructor arguments,
+     * e.g. a lazy bean; its time is part of the outer step.
+     */
+    private static boolean isNested(BeanStartupStep inner, BeanStartupStep outer) {
+        return inner.getThreadName().equals(outer.getThreadName())
+                && inner.getStartNanos() >= outer.getStartNanos()
+                && inner.getEndNanos() >= 0
+                && (outer.getEndNanos() < 0 || inner.getEndNanos() <= outer.getEndNanos());
+    }
+
+    private static List<BeanStartupNode> topologicalOrder(Map<String, BeanStartupNode> nodes) {
+        List<BeanStartupNode> order = new ArrayList<>(nodes.size());
+        Set<String> visited = new HashSet<>();
+        for (String beanName : nodes.keySet()) {
+            visit(beanName, nodes, visited, new HashSet<>(), order);
+        }
+        return order;
+    }
+
+    private static void visit(String beanName, Map<String, BeanStartupNode> nodes, Set<String> visited,
+                              Set<String> inProgress, List<BeanStartupNode> order) {
+        if (visited.contains(beanName) || !inProgress.add(beanName)) {
+            return;
+        }
+        BeanStartupNode node = nodes.get(beanName);
+        for (String dependency : node.getDependencies()) {
+            visit(dependency, nodes, visited, inProgress, order);
+        }
+        inProgress.remove(beanName);
+        visited.add(beanName);
+        order.add(node);
+    }
+
+    private static List<String> findCriticalPath(Map<String, BeanStartupNode> nodes, List<BeanStartupNode> order) {
+        BeanStartupNode current = null;
+        for (BeanStartupNode node : order) {
+            if (current == null || node.getEarliestFinishNanos() > current.getEarliestFinishNanos()) {
+                current = node;
+            }
+        }
+        List<String> path = new ArrayList<>();
+        Set<String> onPath = new HashSet<>();
+        while (current != null && onPath.add(current.getBeanName())) {
+            path.add(current.getBeanName());
+            BeanStartupNode next = null;
+            for (String dependency : current.getDependencies()) {
+                BeanStartupNode candidate = nodes.get(dependency);
+                if (next == null || candidate.getEarliestFinishNanos() > next.getEarliestFinishNanos()) {
+                    next = candidate;
+                }
+            }
+            current = next;
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private static StartupRecommendation recommend(BeanStartupNode node, BeanStartupStep step,
+                                                   boolean hasDependents, long totalNanos) {
+        if (step == null || node.getSelfNanos() * PERCENT < totalNanos * SIGNIFICANT_SHARE_PERCENT) {
+            return StartupRecommendation.NONE;
+        }
+        boolean initializedInBackground = !step.getInitThreadName().equals(step.getThreadName());
+        if (!initializedInBackground && node.getInitNanos() * 2 >= node.getSelfNanos()) {
+            return StartupRecommendation.BACKGROUND_INIT;
+        }
+        return hasDependents ? StartupRecommendation.NONE : StartupRecommendation.LAZY;
+    }
+
+    private static String toJsonArray(List<String> values) {
+        return values.stream().map(Json::quote).collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static String dotEscape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
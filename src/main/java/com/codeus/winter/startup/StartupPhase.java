@@ -0,0 +1,23 @@
+package com.codeus.winter.startup;
+
+/**
+ * Phases of a bean creation measured by a {@link StartupStepRecorder}.
+ */
+public enum StartupPhase {
+    /**
+     * Loading the bean class and resolving constructor dependencies.
+     */
+    RESOLVE,
+    /**
+     * Invoking the bean constructor.
+     */
+    CONSTRUCT,
+    /**
+     * Post-processors that inject dependencies, such as {@code @Autowired} fields and setters.
+     */
+    INJECT,
+    /**
+     * Initialization callbacks, such as {@code @PostConstruct} methods, and after-initialization post-processing.
+     */
+    INIT
+}
@@ -0,0 +1,19 @@
+package com.codeus.winter.startup;
+
+/**
+ * Suggested change for a bean that lies on the startup critical path.
+ */
+public enum StartupRecommendation {
+    /**
+     * No change suggested.
+     */
+    NONE,
+    /**
+     * No other bean depends on it at startup; mark it {@code @Lazy} to take it off the startup path.
+     */
+    LAZY,
+    /**
+     * Its time is dominated by init callbacks; mark it {@code @BackgroundInit} to run them off the startup path.
+     */
+    BACKGROUND_INIT
+}
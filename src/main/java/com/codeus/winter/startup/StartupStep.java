@@ -0,0 +1,26 @@
+package com.codeus.winter.startup;
+
+/**
+ * Timing of a single bean creation. The time elapsed since the previous mark
+ * (or since the step was started or resumed) is attributed to the given phase.
+ */
+public interface StartupStep {
+
+    /**
+     * Attribute the time elapsed since the previous mark to the given phase.
+     *
+     * @param phase phase that just finished.
+     */
+    void mark(StartupPhase phase);
+
+    /**
+     * Continue measuring on the current thread after the creation was handed over,
+     * for example to a background initialization thread. Time spent waiting is not attributed to any phase.
+     */
+    void resume();
+
+    /**
+     * Finish the step.
+     */
+    void end();
+}
@@ -0,0 +1,47 @@
+package com.codeus.winter.startup;
+
+import java.util.List;
+
+/**
+ * Records per-bean {@link StartupStep}s while a bean factory creates its beans.
+ * <p>
+ * {@link #DISABLED} hands out a shared no-op step, so an uninstrumented container
+ * pays only for an interface call per phase.
+ */
+public interface StartupStepRecorder {
+
+    /**
+     * Recorder that records nothing.
+     */
+    StartupStepRecorder DISABLED = new DisabledStartupStepRecorder();
+
+    /**
+     * Start timing the creation of a bean.
+     *
+     * @param beanName      bean name.
+     * @param beanClassName bean class name.
+     * @return started step.
+     */
+    StartupStep beanStep(String beanName, String beanClassName);
+
+    /**
+     * Return whether this recorder records anything.
+     *
+     * @return true if steps are recorded.
+     */
+    boolean isEnabled();
+
+    /**
+     * Return the finished steps, ordered by start time.
+     *
+     * @return recorded steps.
+     */
+    List<BeanStartupStep> getSteps();
+
+    /**
+     * Export the finished steps as a JSON document.
+     *
+     * @return JSON document with a {@code steps} array.
+     */
+    String toJson();
+}
@@ -0,0 +1,24 @@
+package com.codeus.winter.stereotype;
+
+import com.codeus.winter.annotation.Component;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that an annotated class is a repository, a mechanism for storage and retrieval of objects.
+ * A specialization of {@link Component}: annotated classes are detected by classpath scanning.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Component
+public @interface Repository {
+    /**
+     * Optional element to specify a custom name for the component.
+     *
+     * @return The name of the component.
+     */
+    String value() default "";
+}
@@ -0,0 +1,199 @@
+package com.codeus.winter.util;
+
+import jakarta.annotation.Nullable;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Compact string-to-string map with open addressing and linear probing, used as the source of
+ * property sources built from configuration files.
+ * <p>
+ * Keys, values and key hashes are kept in three parallel arrays, without entry objects, and
+ * a probe compares cached hashes before calling {@code equals}. The map is filled by the readers
+ * of this package and is read-only for everybody else; reads are thread-safe once it is published.
+ */
+public final class CompactPropertyMap {
+    private static final int MIN_CAPACITY = 16;
+    private static final int LOAD_FACTOR_NUMERATOR = 3;
+    private static final int LOAD_FACTOR_DENOMINATOR = 4;
+
+    private String[] keys;
+    private String[] values;
+    private int[] hashes;
+    private int size;
+
+    /**
+     * Create an empty map.
+     */
+    CompactPropertyMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Create an empty map sized for the given number of entries.
+     *
+     * @param expectedSize expected number of entries.
+     */
+    CompactPropertyMap(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * LOAD_FACTOR_NUMERATOR / LOAD_FACTOR_DENOMINATOR < expectedSize) {
+            capacity <<= 1;
+        }
+        this.keys = new String[capacity];
+        this.values = new String[capacity];
+        this.hashes = new int[capacity];
+    }
+
+    /**
+     * Return the value of the given key.
+     *
+     * @param key property name.
+     * @return property value, or null if the key is not present.
+     */
+    @Nullable
+    public String get(String key) {
+        int index = indexOf(key, hash(key));
+        return keys[index] == null ? null : values[index];
+    }
+
+    /**
+     * Check whether the map contains the given key.
+     *
+     * @param key property name.
+     * @return true if the key is present.
+     */
+    public boolean containsKey(String key) {
+        return keys[indexOf(key, hash(key))] != null;
+    }
+
+    /**
+     * Return the number of entries.
+     *
+     * @return number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return the keys of the map, in no particular order.
+     *
+     * @return new array of the keys.
+     */
+    public String[] keys() {
+        String[] result = new String[size];
+        int count = 0;
+        for (String key : keys) {
+            if (key != null) {
+                result[count++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Perform the given action for every entry, in no particular order.
+     *
+     * @param action action receiving key and value.
+     */
+    public void forEach(BiConsumer<String, String> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Put an entry, replacing the value of an existing key.
+     *
+     * @param key   property name.
+     * @param value property value.
+     */
+    void put(String key, String value) {
+        int hash = hash(key);
+        int index = indexOf(key, hash);
+        if (keys[index] != null) {
+            values[index] = value;
+            return;
+        }
+        if ((size + 1) * LOAD_FACTOR_DENOMINATOR > keys.length * LOAD_FACTOR_NUMERATOR) {
+            resize();
+            index = indexOf(key, hash);
+        }
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+        size++;
+    }
+
+    private int indexOf(String key, int hash) {
+        int mask = keys.length - 1;
+        int index = hash & mask;
+        while (keys[index] != null && (hashes[index] != hash || !keys[index].equals(key))) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void resize() {
+        String[] oldKeys = keys;
+        String[] oldValues = values;
+        int[] oldHashes = hashes;
+        int capacity = oldKeys.length << 1;
+        keys = new String[capacity];
+        values = new String[capacity];
+        hashes = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int index = oldHashes[i] & mask;
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+                hashes[index] = oldHashes[i];
+            }
+        }
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> Short.SIZE);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        forEach((key, value) -> builder.append(builder.length() > 1 ? ", " : "").append(key).append('=').append(value));
+        return builder.append('}').toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompactPropertyMap that) || size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && !values[i].equals(that.get(keys[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                result += hashes[i] ^ values[i].hashCode();
+            }
+        }
+        return result;
+    }
+}
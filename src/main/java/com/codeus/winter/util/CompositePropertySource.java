@@ -0,0 +1,160 @@
+package com.codeus.winter.util;
+
+import jakarta.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Ordered composite of {@link EnumerablePropertySource}s; a property of an earlier source takes
+ * precedence over the same property of a later one.
+ * <p>
+ * The properties of all sources are merged into one immutable map whenever a source is added,
+ * replaced or removed, or {@link #refresh()} reports an in-place change, so a lookup costs a single
+ * hash probe regardless of the number of sources. Every rebuild increments {@link #getVersion()},
+ * which lets dependent caches detect changes. Lookups are lock-free; modifications are serialized.
+ */
+public class CompositePropertySource extends EnumerablePropertySource<List<EnumerablePropertySource<?>>> {
+    private final List<EnumerablePropertySource<?>> propertySources;
+    private volatile Snapshot snapshot = new Snapshot(0, Map.of(), new String[0]);
+
+    /**
+     * Create an empty composite.
+     *
+     * @param name properties name.
+     */
+    public CompositePropertySource(String name) {
+        this(name, new CopyOnWriteArrayList<>());
+    }
+
+    private CompositePropertySource(String name, List<EnumerablePropertySource<?>> propertySources) {
+        super(name, Collections.unmodifiableList(propertySources));
+        this.propertySources = propertySources;
+    }
+
+    /**
+     * Add a source with the highest precedence, replacing a source with the same name.
+     *
+     * @param propertySource property source.
+     */
+    public synchronized void addFirst(EnumerablePropertySource<?> propertySource) {
+        propertySources.remove(propertySource);
+        propertySources.add(0, propertySource);
+        rebuild();
+    }
+
+    /**
+     * Add a source with the lowest precedence, replacing a source with the same name.
+     *
+     * @param propertySource property source.
+     */
+    public synchronized void addLast(EnumerablePropertySource<?> propertySource) {
+        propertySources.remove(propertySource);
+        propertySources.add(propertySource);
+        rebuild();
+    }
+
+    /**
+     * Replace the source with the same name, keeping its precedence.
+     *
+     * @param propertySource new property source.
+     * @return true if a source was replaced, false if there is no source with that name.
+     */
+    public synchronized boolean replace(EnumerablePropertySource<?> propertySource) {
+        int index = propertySources.indexOf(propertySource);
+        if (index < 0) {
+            return false;
+        }
+        propertySources.set(index, propertySource);
+        rebuild();
+        return true;
+    }
+
+    /**
+     * Remove the source with the given name.
+     *
+     * @param sourceName name of the property source.
+     * @return true if a source was removed.
+     */
+    public synchronized boolean remove(String sourceName) {
+        boolean removed = propertySources.removeIf(source -> source.getName().equals(sourceName));
+        if (removed) {
+            rebuild();
+        }
+        return removed;
+    }
+
+    /**
+     * Merge the sources again after the content of one of them has changed in place.
+     */
+    public synchronized void refresh() {
+        rebuild();
+    }
+
+    /**
+     * Return the version of the merged properties, incremented on every rebuild.
+     *
+     * @return version, starting with 0 for an empty composite.
+     */
+    public long getVersion() {
+        return snapshot.version();
+    }
+
+    /**
+     * Method for get property.
+     *
+     * @param name properties name.
+     * @return value of the first source containing the property, or null.
+     */
+    @Nullable
+    @Override
+    public Object getProperty(String name) {
+        return snapshot.properties().get(name);
+    }
+
+    /**
+     * Method for checking contains property.
+     *
+     * @param name properties name.
+     * @return true if any source contains the property.
+     */
+    @Override
+    public boolean containsProperty(String name) {
+        return snapshot.properties().containsKey(name);
+    }
+
+    /**
+     * Return the merged property names; callers must not modify the array.
+     *
+     * @return names of the properties of all sources.
+     */
+    @Override
+    public String[] getPropertyNames() {
+        return snapshot.names();
+    }
+
+    private void rebuild() {
+        Map<String, Object> merged = new HashMap<>();
+        for (EnumerablePropertySource<?> propertySource : propertySources) {
+            for (String propertyName : propertySource.getPropertyNames()) {
+                if (!merged.containsKey(propertyName)) {
+                    Object value = propertySource.getProperty(propertyName);
+                    if (value != null) {
+                        merged.put(propertyName, value);
+                    }
+                }
+            }
+        }
+        Map<String, Object> properties = Map.copyOf(merged);
+        snapshot = new Snapshot(snapshot.version() + 1, properties, properties.keySet().toArray(new String[0]));
+    }
+
+    /**
+     * Merged properties of one version.
+     */
+    private record Snapshot(long version, Map<String, Object> properties, String[] names) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.codeus.winter.util;
+
+/**
+ * Converts the text of a property into a value of the target type.
+ *
+ * @param <T> target type.
+ */
+@FunctionalInterface
+public interface Converter<T> {
+
+    /**
+     * Convert the given text.
+     *
+     * @param source property text, with placeholders already resolved.
+     * @return converted value.
+     * @throws IllegalArgumentException if the text cannot be converted.
+     */
+    T convert(String source);
+}
@@ -0,0 +1,219 @@
+package com.codeus.winter.util;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Registry of {@link Converter}s from property text to typed values.
+ * <p>
+ * Built in are converters for strings, primitives and their wrappers, {@link Duration}s
+ * ({@code PT30S}, {@code 500ms}, {@code 30s}, {@code 5m}, {@code 2h}, {@code 1d}; milliseconds without unit),
+ * {@link DataSize}s, enums (by constant name, ignoring case and treating {@code -} as {@code _}),
+ * and comma-separated {@link List}s, {@link Set}s, {@link Collection}s and arrays of any convertible
+ * element type. The converter of each target type, including parameterized collection types, is
+ * built once and cached, so converting a value is a single lookup followed by the conversion.
+ * <p>
+ * Converted values may be shared between injection points, so converters should return immutable
+ * values; the built-in collection converters return unmodifiable collections.
+ */
+public class ConverterRegistry {
+    private static final String ELEMENT_SEPARATOR = ",";
+
+    private final Map<Class<?>, Converter<?>> registeredConverters = new ConcurrentHashMap<>();
+    private final Map<Type, Converter<?>> converters = new ConcurrentHashMap<>();
+
+    /**
+     * Create a registry with the built-in converters.
+     */
+    public ConverterRegistry() {
+        register(String.class, source -> source);
+        register(Object.class, source -> source);
+        register(Boolean.class, ConverterRegistry::parseBoolean);
+        register(boolean.class, ConverterRegistry::parseBoolean);
+        register(Character.class, ConverterRegistry::parseCharacter);
+        register(char.class, ConverterRegistry::parseCharacter);
+        registerNumber(Byte.class, byte.class, Byte::valueOf);
+        registerNumber(Short.class, short.class, Short::valueOf);
+        registerNumber(Integer.class, int.class, Integer::valueOf);
+        registerNumber(Long.class, long.class, Long::valueOf);
+        registerNumber(Float.class, float.class, Float::valueOf);
+        registerNumber(Double.class, double.class, Double::valueOf);
+        register(Duration.class, ConverterRegistry::parseDuration);
+        register(DataSize.class, DataSize::parse);
+    }
+
+    /**
+     * Register a converter for the given type, replacing a built-in one. Types derived from it,
+     * such as lists of the type, pick up the new converter.
+     *
+     * @param type      target type.
+     * @param converter converter to the target type.
+     * @param <T>       target type.
+     */
+    public final <T> void register(Class<T> type, Converter<? extends T> converter) {
+        registeredConverters.put(type, converter);
+        converters.clear();
+    }
+
+    /**
+     * Return the converter for the given target type.
+     *
+     * @param targetType target type, a class or a parameterized collection type.
+     * @return converter, cached per target type.
+     * @throws IllegalArgumentException if values of the type cannot be converted.
+     */
+    public Converter<?> getConverter(Type targetType) {
+        Converter<?> converter = converters.get(targetType);
+        if (converter == null) {
+            converter = createConverter(targetType);
+            converters.put(targetType, converter);
+        }
+        return converter;
+    }
+
+    /**
+     * Convert the given text to the target type.
+     *
+     * @param source     property text.
+     * @param targetType target type.
+     * @param <T>        target type.
+     * @return converted value.
+     * @throws IllegalArgumentException if the text cannot be converted.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T convert(String source, Class<T> targetType) {
+        return (T) getConverter(targetType).convert(source);
+    }
+
+    private Converter<?> createConverter(Type targetType) {
+        if (targetType instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() instanceof Class<?> rawType
+                && Collection.class.isAssignableFrom(rawType)) {
+            Converter<?> elementConverter = getConverter(parameterizedType.getActualTypeArguments()[0]);
+            return createCollectionConverter(rawType, elementConverter);
+        }
+        if (!(targetType instanceof Class<?> type)) {
+            throw new IllegalArgumentException("No converter for type " + targetType.getTypeName());
+        }
+        Converter<?> converter = registeredConverters.get(type);
+        if (converter != null) {
+            return converter;
+        }
+        if (type.isEnum()) {
+            return createEnumConverter(type);
+        }
+        if (type.isArray()) {
+            return createArrayConverter(type.getComponentType(), getConverter(type.getComponentType()));
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return createCollectionConverter(type, registeredConverters.get(String.class));
+        }
+        throw new IllegalArgumentException("No converter for type " + type.getName());
+    }
+
+    private static Converter<?> createCollectionConverter(Class<?> collectionType, Converter<?> elementConverter) {
+        if (collectionType.isAssignableFrom(List.class)) {
+            return source -> List.copyOf(convertElements(source, elementConverter));
+        }
+        if (collectionType.isAssignableFrom(Set.class)) {
+            return source -> Collections.unmodifiableSet(
+                    new LinkedHashSet<>(convertElements(source, elementConverter)));
+        }
+        throw new IllegalArgumentException("No converter for collection type " + collectionType.getName());
+    }
+
+    private static Converter<?> createArrayConverter(Class<?> componentType, Converter<?> elementConverter) {
+        return source -> {
+            List<Object> elements = convertElements(source, elementConverter);
+            Object array = Array.newInstance(componentType, elements.size());
+            for (int i = 0; i < elements.size(); i++) {
+                Array.set(array, i, elements.get(i));
+            }
+            return array;
+        };
+    }
+
+    private static List<Object> convertElements(String source, Converter<?> elementConverter) {
+        List<Object> elements = new ArrayList<>();
+        if (source.isBlank()) {
+            return elements;
+        }
+        for (String element : source.split(ELEMENT_SEPARATOR, -1)) {
+            elements.add(elementConverter.convert(element.trim()));
+        }
+        return elements;
+    }
+
+    private static Converter<?> createEnumConverter(Class<?> enumType) {
+        Map<String, Object> constants = new ConcurrentHashMap<>();
+        for (Object constant : enumType.getEnumConstants()) {
+            constants.put(((Enum<?>) constant).name().toUpperCase(Locale.ROOT), constant);
+        }
+        return source -> {
+            Object constant = constants.get(source.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+            if (constant == null) {
+                throw new IllegalArgumentException("No constant '" + source + "' in enum " + enumType.getName());
+            }
+            return constant;
+        };
+    }
+
+    private <T> void registerNumber(Class<T> wrapperType, Class<?> primitiveType, Function<String, T> parser) {
+        Converter<T> converter = source -> parser.apply(source.trim());
+        registeredConverters.put(wrapperType, converter);
+        registeredConverters.put(primitiveType, converter);
+    }
+
+    private static Boolean parseBoolean(String source) {
+        String value = source.trim();
+        if ("true".equalsIgnoreCase(value)) {
+            return Boolean.TRUE;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException("Invalid boolean value '" + source + "'");
+    }
+
+    private static Character parseCharacter(String source) {
+        if (source.length() != 1) {
+            throw new IllegalArgumentException("Invalid character value '" + source + "'");
+        }
+        return source.charAt(0);
+    }
+
+    private static Duration parseDuration(String source) {
+        String value = source.trim();
+        if (value.startsWith("P") || value.startsWith("-P") || value.startsWith("p") || value.startsWith("-p")) {
+            return Duration.parse(value);
+        }
+        int unitStart = value.length();
+        while (unitStart > 0 && Character.isLetter(value.charAt(unitStart - 1))) {
+            unitStart--;
+        }
+        ChronoUnit unit = switch (value.substring(unitStart).toLowerCase(Locale.ROOT)) {
+            case "ns" -> ChronoUnit.NANOS;
+            case "us" -> ChronoUnit.MICROS;
+            case "", "ms" -> ChronoUnit.MILLIS;
+            case "s" -> ChronoUnit.SECONDS;
+            case "m" -> ChronoUnit.MINUTES;
+            case "h" -> ChronoUnit.HOURS;
+            case "d" -> ChronoUnit.DAYS;
+            default -> throw new IllegalArgumentException("Unknown duration unit in '" + source + "'");
+        };
+        return Duration.of(Long.parseLong(value.substring(0, unitStart).trim()), unit);
+    }
+}
@@ -0,0 +1,70 @@
+package com.codeus.winter.util;
+
+import java.util.Locale;
+
+/**
+ * Amount of data in bytes, parsed from values such as {@code 512}, {@code 64KB} or {@code 10MB}.
+ * Units are binary: a kilobyte is 1024 bytes.
+ *
+ * @param bytes number of bytes.
+ */
+public record DataSize(long bytes) implements Comparable<DataSize> {
+    private static final long KILOBYTE = 1024;
+    private static final long MEGABYTE = KILOBYTE * KILOBYTE;
+    private static final long GIGABYTE = MEGABYTE * KILOBYTE;
+    private static final long TERABYTE = GIGABYTE * KILOBYTE;
+
+    /**
+     * Parse a data size; a value without unit is a number of bytes.
+     *
+     * @param text number followed by an optional unit {@code B}, {@code KB}, {@code MB}, {@code GB} or {@code TB},
+     *             case-insensitive.
+     * @return parsed data size.
+     * @throws IllegalArgumentException if the text is not a valid data size.
+     */
+    public static DataSize parse(String text) {
+        String value = text.trim().toUpperCase(Locale.ROOT);
+        int unitStart = value.length();
+        while (unitStart > 0 && Character.isLetter(value.charAt(unitStart - 1))) {
+            unitStart--;
+        }
+        long multiplier = switch (value.substring(unitStart)) {
+            case "", "B" -> 1;
+            case "KB" -> KILOBYTE;
+            case "MB" -> MEGABYTE;
+            case "GB" -> GIGABYTE;
+            case "TB" -> TERABYTE;
+            default -> throw new IllegalArgumentException("Unknown data size unit in '" + text + "'");
+        };
+        try {
+            return new DataSize(Math.multiplyExact(Long.parseLong(value.substring(0, unitStart).trim()), multiplier));
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Data size '" + text + "' is too large", e);
+        }
+    }
+
+    /**
+     * Create a data size of the given number of kilobytes.
+     *
+     * @param kilobytes number of kilobytes.
+     * @return data size.
+     */
+    public static DataSize ofKilobytes(long kilobytes) {
+        return new DataSize(Math.multiplyExact(kilobytes, KILOBYTE));
+    }
+
+    /**
+     * Create a data size of the given number of megabytes.
+     *
+     * @param megabytes number of megabytes.
+     * @return data size.
+     */
+    public static DataSize ofMegabytes(long megabytes) {
+        return new DataSize(Math.multiplyExact(megabytes, MEGABYTE));
+    }
+
+    @Override
+    public int compareTo(DataSize other) {
+        return Long.compare(bytes, other.bytes);
+    }
+}
@@ -0,0 +1,27 @@
+package com.codeus.winter.util;
+
+/**
+ * {@link PropertySource} that can list the names of all its properties, so its content can be
+ * merged into a {@link CompositePropertySource}.
+ *
+ * @param <T> type of the underlying source.
+ */
+public abstract class EnumerablePropertySource<T> extends PropertySource<T> {
+
+    /**
+     * Constructor with params.
+     *
+     * @param name   properties name.
+     * @param source source object.
+     */
+    protected EnumerablePropertySource(String name, T source) {
+        super(name, source);
+    }
+
+    /**
+     * Return the names of all properties of this source.
+     *
+     * @return array of the property names, never null.
+     */
+    public abstract String[] getPropertyNames();
+}
@@ -0,0 +1,276 @@
+package com.codeus.winter.util;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Streaming parser flattening a JSON document into dotted property names.
+ * <p>
+ * Members of objects become {@code parent.member}, elements of arrays {@code parent[index]};
+ * strings, numbers and booleans are stored as text and {@code null} as an empty string. The
+ * document is read through a small buffer and only the path of the current value is kept, so
+ * memory use is bounded by the resulting map, not by the size of the document. The top-level
+ * value must be an object.
+ */
+final class JsonParser {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int HEX_DIGITS = 4;
+    private static final int HEX_RADIX = 16;
+    private static final int END_OF_INPUT = -1;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private int line = 1;
+    private final StringBuilder path = new StringBuilder();
+    private final StringBuilder text = new StringBuilder();
+
+    JsonParser(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Parse the document into the given map; later duplicate keys replace earlier ones.
+     *
+     * @param target map receiving the properties.
+     * @return the target map.
+     * @throws IOException              if the document cannot be read.
+     * @throws IllegalArgumentException if the document is not valid JSON.
+     */
+    CompactPropertyMap parse(CompactPropertyMap target) throws IOException {
+        skipWhitespace();
+        if (peek() != '{') {
+            throw error("Expected an object at the top level");
+        }
+        parseValue(target);
+        skipWhitespace();
+        if (peek() != END_OF_INPUT) {
+            throw error("Unexpected content after the top-level object");
+        }
+        return target;
+    }
+
+    private void parseValue(CompactPropertyMap target) throws IOException {
+        skipWhitespace();
+        int character = peek();
+        switch (character) {
+            case '{' -> parseObject(target);
+            case '[' -> parseArray(target);
+            case '"' -> target.put(path.toString(), parseString());
+            case 't' -> {
+                expectLiteral("true");
+                target.put(path.toString(), "true");
+            }
+            case 'f' -> {
+                expectLiteral("false");
+                target.put(path.toString(), "false");
+            }
+            case 'n' -> {
+                expectLiteral("null");
+                target.put(path.toString(), "");
+            }
+            default -> {
+                if (character != '-' && (character < '0' || character > '9')) {
+                    throw error("Unexpected character " + describe(character));
+                }
+                target.put(path.toString(), parseNumber());
+            }
+        }
+    }
+
+    private void parseObject(CompactPropertyMap target) throws IOException {
+        position++;
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+            return;
+        }
+        int parentLength = path.length();
+        while (true) {
+            skipWhitespace();
+            if (peek() != '"') {
+                throw error("Expected a member name");
+            }
+            String name = parseString();
+            skipWhitespace();
+            expect(':');
+            if (parentLength > 0) {
+                path.append('.');
+            }
+            path.append(name);
+            parseValue(target);
+            path.setLength(parentLength);
+            skipWhitespace();
+            int character = next();
+            if (character == '}') {
+                return;
+            }
+            if (character != ',') {
+                throw error("Expected ',' or '}' but found " + describe(character));
+            }
+        }
+    }
+
+    private void parseArray(CompactPropertyMap target) throws IOException {
+        position++;
+        skipWhitespace();
+        if (peek() == ']') {
+            position++;
+            return;
+        }
+        int parentLength = path.length();
+        for (int index = 0;; index++) {
+            path.append('[').append(index).append(']');
+            parseValue(target);
+            path.setLength(parentLength);
+            skipWhitespace();
+            int character = next();
+            if (character == ']') {
+                return;
+            }
+            if (character != ',') {
+                throw error("Expected ',' or ']' but found " + describe(character));
+            }
+        }
+    }
+
+    private String parseString() throws IOException {
+        position++;
+        text.setLength(0);
+        while (true) {
+            int character = next();
+            if (character == '"') {
+                return text.toString();
+            }
+            if (character == END_OF_INPUT || character == '\n') {
+                throw error("Unterminated string");
+            }
+            if (character == '\\') {
+                text.append(parseEscape());
+            } else {
+                text.append((char) character);
+            }
+        }
+    }
+
+    private char parseEscape() throws IOException {
+        int character = next();
+        return switch (character) {
+            case '"', '\\', '/' -> (char) character;
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            case 'u' -> {
+                int value = 0;
+                for (int i = 0; i < HEX_DIGITS; i++) {
+                    int digit = Character.digit(next(), HEX_RADIX);
+                    if (digit < 0) {
+                        throw error("Invalid unicode escape");
+                    }
+                    value = value * HEX_RADIX + digit;
+                }
+                yield (char) value;
+            }
+            default -> throw error("Invalid escape \\" + describe(character));
+        };
+    }
+
+    /**
+     * Read a number following the JSON grammar: {@code -? (0 | [1-9][0-9]*) (. [0-9]+)? ([eE] [+-]? [0-9]+)?}.
+     */
+    private String parseNumber() throws IOException {
+        text.setLength(0);
+        if (peek() == '-') {
+            appendNext();
+        }
+        if (peek() == '0') {
+            appendNext();
+        } else {
+            appendDigits();
+        }
+        if (peek() == '.') {
+            appendNext();
+            appendDigits();
+        }
+        if (peek() == 'e' || peek() == 'E') {
+            appendNext();
+            if (peek() == '+' || peek() == '-') {
+                appendNext();
+            }
+            appendDigits();
+        }
+        return text.toString();
+    }
+
+    private void appendDigits() throws IOException {
+        if (!isDigit(peek())) {
+            throw error("Invalid number, expected a digit but found " + describe(peek()));
+        }
+        while (isDigit(peek())) {
+            appendNext();
+        }
+    }
+
+    private void appendNext() throws IOException {
+        text.append((char) next());
+    }
+
+    private static boolean isDigit(int character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private void expectLiteral(String literal) throws IOException {
+        for (int i = 0; i < literal.length(); i++) {
+            expect(literal.charAt(i));
+        }
+    }
+
+    private void expect(char expected) throws IOException {
+        int character = next();
+        if (character != expected) {
+            throw error("Expected '" + expected + "' but found " + describe(character));
+        }
+    }
+
+    private void skipWhitespace() throws IOException {
+        int character = peek();
+        while (character == ' ' || character == '\t' || character == '\n' || character == '\r') {
+            position++;
+            if (character == '\n') {
+                line++;
+            }
+            character = peek();
+        }
+    }
+
+    private int peek() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return END_OF_INPUT;
+            }
+        }
+        return buffer[position];
+    }
+
+    private int next() throws IOException {
+        int character = peek();
+        if (character != END_OF_INPUT) {
+            position++;
+        }
+        return character;
+    }
+
+    private static String describe(int character) {
+        return character == END_OF_INPUT ? "end of input" : "'" + (char) character + "'";
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at line " + line);
+    }
+}
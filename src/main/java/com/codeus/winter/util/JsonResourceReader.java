@@ -0,0 +1,37 @@
+package com.codeus.winter.util;
+
+import com.codeus.winter.exception.PropertySourceException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * {@link ResourceReader} of UTF-8 {@code .json} files. The document is parsed in a single streaming
+ * pass directly into flattened property names, such as {@code server.hosts[0].name}, without
+ * building an object tree. The result is a {@link PropertiesPropertySource} named after the file path.
+ */
+public class JsonResourceReader implements ResourceReader<CompactPropertyMap> {
+
+    @Override
+    public final boolean isFileExist(String filepath, String filename) {
+        return Files.isRegularFile(Path.of(filepath, filename));
+    }
+
+    @Override
+    public final List<PropertySource<CompactPropertyMap>> readProperties(String filePath, String fileName) {
+        Path path = Path.of(filePath, fileName);
+        if (!Files.isRegularFile(path)) {
+            throw new PropertySourceException("JSON file not found: " + path);
+        }
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            CompactPropertyMap properties = new JsonParser(reader).parse(new CompactPropertyMap());
+            return List.of(new PropertiesPropertySource(path.toString(), properties));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new PropertySourceException("Failed to read JSON file " + path, e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.codeus.winter.util;
+
+import jakarta.annotation.Nullable;
+
+import java.util.Map;
+
+/**
+ * {@link PropertySource} reading from a {@link Map}, for example system properties,
+ * environment variables or programmatic defaults.
+ */
+public class MapPropertySource extends EnumerablePropertySource<Map<String, Object>> {
+
+    /**
+     * Constructor with params.
+     *
+     * @param name   properties name.
+     * @param source map of the properties; later changes of the map are visible through this source.
+     */
+    public MapPropertySource(String name, Map<String, Object> source) {
+        super(name, source);
+    }
+
+    /**
+     * Method for get property.
+     *
+     * @param name properties name.
+     * @return property value, or null if there is no such property.
+     */
+    @Nullable
+    @Override
+    public Object getProperty(String name) {
+        return getSource().get(name);
+    }
+
+    /**
+     * Method for checking contains property.
+     *
+     * @param name properties name.
+     * @return true if property with name is exist.
+     */
+    @Override
+    public boolean containsProperty(String name) {
+        return getSource().containsKey(name);
+    }
+
+    @Override
+    public String[] getPropertyNames() {
+        return getSource().keySet().toArray(new String[0]);
+    }
+}
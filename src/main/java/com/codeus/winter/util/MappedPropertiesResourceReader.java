@@ -0,0 +1,69 @@
+package com.codeus.winter.util;
+
+import com.codeus.winter.exception.PropertySourceException;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * {@link ResourceReader} of {@code .properties} files that maps the file with {@link FileChannel#map}
+ * and parses keys and values in a single pass over the mapping, without {@link java.util.Properties}.
+ * The result is a {@link PropertiesPropertySource} named after the file path. A file truncated while it
+ * is read, for example by an editor saving it, fails with a {@link PropertySourceException} like any
+ * other read error.
+ */
+public class MappedPropertiesResourceReader implements ResourceReader<CompactPropertyMap> {
+    private static final int ESTIMATED_BYTES_PER_ENTRY = 32;
+
+    private final Charset charset;
+
+    /**
+     * Create a reader of ISO-8859-1 encoded files, the encoding of {@link java.util.Properties#load}.
+     */
+    public MappedPropertiesResourceReader() {
+        this(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Create a reader of files in the given encoding.
+     *
+     * @param charset ASCII-compatible encoding of the files, such as UTF-8.
+     */
+    public MappedPropertiesResourceReader(Charset charset) {
+        this.charset = charset;
+    }
+
+    @Override
+    public final boolean isFileExist(String filepath, String filename) {
+        return Files.isRegularFile(Path.of(filepath, filename));
+    }
+
+    @Override
+    public final List<PropertySource<CompactPropertyMap>> readProperties(String filePath, String fileName) {
+        Path path = Path.of(filePath, fileName);
+        if (!Files.isRegularFile(path)) {
+            throw new PropertySourceException("Properties file not found: " + path);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new PropertySourceException("Properties file larger than 2 GB: " + path);
+            }
+            CompactPropertyMap properties = new PropertiesParser(
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, size), charset)
+                    .parse(new CompactPropertyMap((int) (size / ESTIMATED_BYTES_PER_ENTRY)));
+            return List.of(new PropertiesPropertySource(path.toString(), properties));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new PropertySourceException("Failed to read properties file " + path, e);
+        } catch (InternalError e) {
+            // access to a mapping beyond the end of a file truncated meanwhile (SIGBUS)
+            throw new PropertySourceException("Properties file changed while it was read: " + path, e);
+        }
+    }
+}
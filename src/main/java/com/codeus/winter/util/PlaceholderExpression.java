@@ -0,0 +1,63 @@
+package com.codeus.winter.util;
+
+import java.util.Set;
+
+/**
+ * Text with placeholders compiled by a {@link PropertyPlaceholderResolver}; resolving it again
+ * neither parses the text nor looks up its template.
+ */
+public final class PlaceholderExpression {
+    private final PropertyPlaceholderResolver resolver;
+    private final PlaceholderTemplate template;
+
+    PlaceholderExpression(PropertyPlaceholderResolver resolver, PlaceholderTemplate template) {
+        this.resolver = resolver;
+        this.template = template;
+    }
+
+    /**
+     * Return the original text.
+     *
+     * @return text of the expression.
+     */
+    public String getText() {
+        return template.getText();
+    }
+
+    /**
+     * Check whether the text contains at least one placeholder.
+     *
+     * @return false if the text resolves to itself.
+     */
+    public boolean hasPlaceholders() {
+        return template.hasPlaceholders();
+    }
+
+    /**
+     * Resolve the placeholders against the current properties of the resolver.
+     *
+     * @return resolved text.
+     * @throws com.codeus.winter.exception.PropertySourceException if a placeholder cannot be resolved
+     *                                                             or references are circular.
+     */
+    public String resolve() {
+        return resolver.resolvePlaceholders(template);
+    }
+
+    /**
+     * Check whether resolving the expression against the current properties reads one of the given
+     * properties. If it reads none of the properties changed since its last resolution, resolving it
+     * again returns the same text.
+     *
+     * @param keys names of properties, such as the changed keys of a reload.
+     * @return true if the resolution depends on one of the properties, or fails.
+     */
+    public boolean readsAnyOf(Set<String> keys) {
+        return resolver.readsAnyOf(template, keys);
+    }
+
+    @Override
+    public String toString() {
+        return template.getText();
+    }
+}
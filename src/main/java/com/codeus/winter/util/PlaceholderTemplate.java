@@ -0,0 +1,148 @@
+package com.codeus.winter.util;
+
+import jakarta.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled form of a text containing {@code ${key}} or {@code ${key:default}} placeholders: a list of
+ * literal and placeholder segments. Keys and default values are templates themselves, so nested
+ * placeholders such as {@code ${app.${env}.url:${fallback.url}}} are parsed once, together with
+ * the enclosing text. An unclosed {@code ${} is kept as literal text.
+ */
+final class PlaceholderTemplate {
+    static final String PREFIX = "${";
+    static final String SUFFIX = "}";
+    static final char VALUE_SEPARATOR = ':';
+
+    private final String text;
+    private final Segment[] segments;
+
+    private PlaceholderTemplate(String text, Segment[] segments) {
+        this.text = text;
+        this.segments = segments;
+    }
+
+    /**
+     * Parse the given text.
+     *
+     * @param text text with placeholders.
+     * @return compiled template.
+     */
+    static PlaceholderTemplate compile(String text) {
+        List<Segment> segments = new ArrayList<>();
+        int literalStart = 0;
+        int start = text.indexOf(PREFIX);
+        while (start >= 0) {
+            int end = findPlaceholderEnd(text, start + PREFIX.length());
+            if (end < 0) {
+                break;
+            }
+            if (start > literalStart) {
+                segments.add(new Literal(text.substring(literalStart, start)));
+            }
+            segments.add(placeholder(text.substring(start + PREFIX.length(), end)));
+            literalStart = end + SUFFIX.length();
+            start = text.indexOf(PREFIX, literalStart);
+        }
+        if (literalStart < text.length() || segments.isEmpty()) {
+            segments.add(new Literal(text.substring(literalStart)));
+        }
+        return new PlaceholderTemplate(text, segments.toArray(new Segment[0]));
+    }
+
+    /**
+     * Return the original text.
+     *
+     * @return text of the template.
+     */
+    String getText() {
+        return text;
+    }
+
+    /**
+     * Return the segments of the template.
+     *
+     * @return segments; callers must not modify the array.
+     */
+    Segment[] getSegments() {
+        return segments;
+    }
+
+    /**
+     * Check whether the text contains at least one placeholder.
+     *
+     * @return false if the template is a single literal.
+     */
+    boolean hasPlaceholders() {
+        return segments.length > 1 || segments[0] instanceof Placeholder;
+    }
+
+    private static Placeholder placeholder(String content) {
+        int separator = findValueSeparator(content);
+        if (separator < 0) {
+            return new Placeholder(compile(content), null);
+        }
+        return new Placeholder(compile(content.substring(0, separator)),
+                compile(content.substring(separator + 1)));
+    }
+
+    private static int findPlaceholderEnd(String text, int contentStart) {
+        int depth = 0;
+        int index = contentStart;
+        while (index < text.length()) {
+            if (text.startsWith(PREFIX, index)) {
+                depth++;
+                index += PREFIX.length();
+            } else if (text.startsWith(SUFFIX, index)) {
+                if (depth == 0) {
+                    return index;
+                }
+                depth--;
+                index += SUFFIX.length();
+            } else {
+                index++;
+            }
+        }
+        return -1;
+    }
+
+    private static int findValueSeparator(String content) {
+        int depth = 0;
+        for (int index = 0; index < content.length(); index++) {
+            if (content.startsWith(PREFIX, index)) {
+                depth++;
+                index += PREFIX.length() - 1;
+            } else if (content.startsWith(SUFFIX, index)) {
+                depth--;
+            } else if (depth == 0 && content.charAt(index) == VALUE_SEPARATOR) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Part of a compiled template.
+     */
+    sealed interface Segment permits Literal, Placeholder {
+    }
+
+    /**
+     * Literal text.
+     *
+     * @param text the text.
+     */
+    record Literal(String text) implements Segment {
+    }
+
+    /**
+     * Placeholder with a key template and an optional default value template.
+     *
+     * @param key          template of the property name.
+     * @param defaultValue template of the default value, or null if there is none.
+     */
+    record Placeholder(PlaceholderTemplate key, @Nullable PlaceholderTemplate defaultValue) implements Segment {
+    }
+}
@@ -0,0 +1,208 @@
+package com.codeus.winter.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * One-pass parser of the {@code .properties} format over a byte buffer.
+ * <p>
+ * Follows the syntax of {@link java.util.Properties#load(java.io.Reader)}: comment lines starting with
+ * {@code #} or {@code !}, keys terminated by an unescaped {@code =}, {@code :} or whitespace, line
+ * continuations with a trailing backslash and the {@code \t \n \r \f \\uXXXX} escapes. Tokens
+ * without escapes are decoded from a single bulk copy of their bytes; the encoding must be
+ * ASCII-compatible, such as ISO-8859-1 or UTF-8.
+ */
+final class PropertiesParser {
+    private static final int HEX_DIGITS = 4;
+    private static final int HEX_RADIX = 16;
+    private static final int INITIAL_SCRATCH_SIZE = 256;
+
+    private final ByteBuffer buffer;
+    private final Charset charset;
+    private final int limit;
+    private byte[] scratch = new byte[INITIAL_SCRATCH_SIZE];
+    private int scratchLength;
+    private final StringBuilder escaped = new StringBuilder();
+    private String token;
+
+    PropertiesParser(ByteBuffer buffer, Charset charset) {
+        this.buffer = buffer;
+        this.charset = charset;
+        this.limit = buffer.limit();
+    }
+
+    /**
+     * Parse all entries of the buffer into the given map; later keys replace earlier ones.
+     *
+     * @param target map receiving the entries.
+     * @return the target map.
+     */
+    CompactPropertyMap parse(CompactPropertyMap target) {
+        int position = 0;
+        while (position < limit) {
+            position = skipWhitespace(position);
+            if (position >= limit) {
+                break;
+            }
+            byte b = buffer.get(position);
+            if (b == '\n' || b == '\r') {
+                position++;
+                continue;
+            }
+            if (b == '#' || b == '!') {
+                position = skipLine(position);
+                continue;
+            }
+            position = readToken(position, true);
+            String key = token;
+            position = skipWhitespace(position);
+            if (position < limit && (buffer.get(position) == '=' || buffer.get(position) == ':')) {
+                position = skipWhitespace(position + 1);
+            }
+            position = readToken(position, false);
+            target.put(key, token);
+        }
+        return target;
+    }
+
+    private int readToken(int start, boolean key) {
+        int position = start;
+        while (position < limit) {
+            byte b = buffer.get(position);
+            if (b == '\n' || b == '\r' || b == '\\' || key && isKeyTerminator(b)) {
+                break;
+            }
+            position++;
+        }
+        if (position >= limit || buffer.get(position) != '\\') {
+            token = decode(start, position);
+            return position;
+        }
+        return readEscapedToken(start, position, key);
+    }
+
+    private int readEscapedToken(int start, int firstEscape, boolean key) {
+        escaped.setLength(0);
+        scratchLength = 0;
+        appendBytes(start, firstEscape);
+        int position = firstEscape;
+        while (position < limit) {
+            byte b = buffer.get(position);
+            if (b == '\n' || b == '\r' || key && isKeyTerminator(b)) {
+                break;
+            }
+            if (b != '\\') {
+                appendByte(b);
+                position++;
+                continue;
+            }
+            position++;
+            if (position >= limit) {
+                break;
+            }
+            byte next = buffer.get(position++);
+            switch (next) {
+                case '\r' -> {
+                    if (position < limit && buffer.get(position) == '\n') {
+                        position++;
+                    }
+                    position = skipWhitespace(position);
+                }
+                case '\n' -> position = skipWhitespace(position);
+                case 'u' -> {
+                    appendChar(parseUnicode(position));
+                    position += HEX_DIGITS;
+                }
+                case 't' -> appendChar('\t');
+                case 'n' -> appendChar('\n');
+                case 'r' -> appendChar('\r');
+                case 'f' -> appendChar('\f');
+                default -> appendByte(next);
+            }
+        }
+        flushBytes();
+        token = escaped.toString();
+        return position;
+    }
+
+    private char parseUnicode(int start) {
+        if (start + HEX_DIGITS > limit) {
+            throw new IllegalArgumentException("Malformed \\uxxxx encoding at position " + start);
+        }
+        int value = 0;
+        for (int i = start; i < start + HEX_DIGITS; i++) {
+            int digit = Character.digit(buffer.get(i), HEX_RADIX);
+            if (digit < 0) {
+                throw new IllegalArgumentException("Malformed \\uxxxx encoding at position " + start);
+            }
+            value = value * HEX_RADIX + digit;
+        }
+        return (char) value;
+    }
+
+    private String decode(int start, int end) {
+        int length = end - start;
+        if (length == 0) {
+            return "";
+        }
+        ensureScratch(length);
+        buffer.get(start, scratch, 0, length);
+        return new String(scratch, 0, length, charset);
+    }
+
+    private void appendBytes(int start, int end) {
+        int length = end - start;
+        ensureScratch(scratchLength + length);
+        buffer.get(start, scratch, scratchLength, length);
+        scratchLength += length;
+    }
+
+    private void appendByte(byte b) {
+        ensureScratch(scratchLength + 1);
+        scratch[scratchLength++] = b;
+    }
+
+    private void appendChar(char c) {
+        flushBytes();
+        escaped.append(c);
+    }
+
+    private void flushBytes() {
+        if (scratchLength > 0) {
+            escaped.append(new String(scratch, 0, scratchLength, charset));
+            scratchLength = 0;
+        }
+    }
+
+    private void ensureScratch(int length) {
+        if (scratch.length < length) {
+            byte[] grown = new byte[Math.max(length, scratch.length * 2)];
+            System.arraycopy(scratch, 0, grown, 0, scratchLength);
+            scratch = grown;
+        }
+    }
+
+    private int skipWhitespace(int start) {
+        int position = start;
+        while (position < limit && isWhitespace(buffer.get(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private int skipLine(int start) {
+        int position = start;
+        while (position < limit && buffer.get(position) != '\n' && buffer.get(position) != '\r') {
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\f';
+    }
+
+    private static boolean isKeyTerminator(byte b) {
+        return b == '=' || b == ':' || isWhitespace(b);
+    }
+}
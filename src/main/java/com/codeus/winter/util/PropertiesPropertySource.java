@@ -0,0 +1,47 @@
+package com.codeus.winter.util;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * {@link PropertySource} backed by a {@link CompactPropertyMap}, as read from a {@code .properties} file.
+ */
+public class PropertiesPropertySource extends EnumerablePropertySource<CompactPropertyMap> {
+
+    /**
+     * Constructor with params.
+     *
+     * @param name   properties name.
+     * @param source map of the properties.
+     */
+    public PropertiesPropertySource(String name, CompactPropertyMap source) {
+        super(name, source);
+    }
+
+    /**
+     * Method for get property.
+     *
+     * @param name properties name.
+     * @return property value, or null if there is no such property.
+     */
+    @Nullable
+    @Override
+    public String getProperty(String name) {
+        return getSource().get(name);
+    }
+
+    /**
+     * Method for checking contains property.
+     *
+     * @param name properties name.
+     * @return true if property with name is exist.
+     */
+    @Override
+    public boolean containsProperty(String name) {
+        return getSource().containsKey(name);
+    }
+
+    @Override
+    public String[] getPropertyNames() {
+        return getSource().keys();
+    }
+}
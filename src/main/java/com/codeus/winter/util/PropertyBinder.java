@@ -0,0 +1,556 @@
+package com.codeus.winter.util;
+
+import com.codeus.winter.exception.PropertySourceException;
+import jakarta.annotation.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binds the properties below a prefix to records and POJOs.
+ * <p>
+ * Record components are bound through the canonical constructor, POJO properties through public
+ * setters. A property named {@code maxConnections} is read from {@code prefix.maxConnections} or
+ * {@code prefix.max-connections}. Nested records and POJOs are bound from the properties below
+ * {@code prefix.property}; lists and sets from indexed keys such as {@code prefix.hosts[0]} or from
+ * a comma-separated value; maps from the keys below {@code prefix.property}. Scalar values are
+ * converted with a {@link ConverterRegistry} after their placeholders are resolved.
+ * <p>
+ * The binder of every target type is built once with {@link MethodHandle}s for its constructor and
+ * setters and cached, so binding another instance, for example the configuration of another tenant,
+ * uses no reflection. Nested objects, indexed lists and maps need an {@link EnumerablePropertySource}
+ * to discover their keys; its sorted property names are cached per version of a {@link CompositePropertySource}.
+ */
+@SuppressWarnings("java:S3011")
+public class PropertyBinder {
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final PropertySource<?> propertySource;
+    private final PropertyPlaceholderResolver placeholderResolver;
+    private final ConverterRegistry converterRegistry;
+    private final Map<Type, ValueBinder> binders = new ConcurrentHashMap<>();
+    private volatile SortedNames sortedNames;
+
+    /**
+     * Create a binder with the built-in converters.
+     *
+     * @param propertySource source of the property values.
+     */
+    public PropertyBinder(PropertySource<?> propertySource) {
+        this(propertySource, new ConverterRegistry());
+    }
+
+    /**
+     * Create a binder with the given converters.
+     *
+     * @param propertySource    source of the property values.
+     * @param converterRegistry converters of the property texts.
+     */
+    public PropertyBinder(PropertySource<?> propertySource, ConverterRegistry converterRegistry) {
+        this.propertySource = propertySource;
+        this.placeholderResolver = new PropertyPlaceholderResolver(propertySource);
+        this.converterRegistry = converterRegistry;
+    }
+
+    /**
+     * Create an instance of the given record or POJO type from the properties below the prefix.
+     *
+     * @param prefix property prefix, for example {@code app.datasource}; empty for top-level keys.
+     * @param type   record or POJO type with a public no-argument constructor.
+     * @param <T>    target type.
+     * @return new instance; components or properties without value keep their defaults.
+     * @throws PropertySourceException if the type cannot be bound or a value cannot be converted.
+     */
+    public <T> T bind(String prefix, Class<T> type) {
+        ObjectBinder binder = objectBinder(type);
+        return type.cast(binder.bindRequired(prefix, new BindContext()));
+    }
+
+    /**
+     * Set the properties below the prefix on an existing POJO; properties without value are left unchanged.
+     *
+     * @param prefix property prefix.
+     * @param target POJO to bind.
+     * @param <T>    target type.
+     * @return the target.
+     * @throws PropertySourceException if the type cannot be bound or a value cannot be converted.
+     */
+    public <T> T bindInto(String prefix, T target) {
+        if (!(objectBinder(target.getClass()) instanceof PojoBinder binder)) {
+            throw new PropertySourceException("Cannot bind properties into record " + target.getClass().getName());
+        }
+        binder.bindProperties(target, prefix, new BindContext());
+        return target;
+    }
+
+    /**
+     * Bind a single component of a record, for callers that supply the arguments of its canonical constructor.
+     *
+     * @param prefix         property prefix of the record.
+     * @param recordType     record type.
+     * @param componentIndex index of the component.
+     * @return component value, or the default value of its type if there is none.
+     * @throws PropertySourceException if the type cannot be bound or a value cannot be converted.
+     */
+    public Object bindComponent(String prefix, Class<?> recordType, int componentIndex) {
+        if (!(objectBinder(recordType) instanceof RecordBinder binder)) {
+            throw new PropertySourceException(recordType.getName() + " is not a record");
+        }
+        return binder.bindComponent(prefix, componentIndex, new BindContext());
+    }
+
+    private ObjectBinder objectBinder(Class<?> type) {
+        if (getBinder(type) instanceof ObjectBinder binder) {
+            return binder;
+        }
+        throw new PropertySourceException("Cannot bind properties to " + type.getName());
+    }
+
+    private ValueBinder getBinder(Type type) {
+        ValueBinder binder = binders.get(type);
+        if (binder == null) {
+            binder = createBinder(type);
+            binders.put(type, binder);
+        }
+        return binder;
+    }
+
+    private ValueBinder createBinder(Type type) {
+        Class<?> rawType = rawClass(type);
+        if (rawType == null) {
+            throw new PropertySourceException("Cannot bind properties to " + type.getTypeName());
+        }
+        Type[] typeArguments = type instanceof ParameterizedType parameterizedType
+                ? parameterizedType.getActualTypeArguments() : new Type[0];
+        if (Map.class.isAssignableFrom(rawType)) {
+            if (typeArguments.length != 2) {
+                throw new PropertySourceException("Map type must be parameterized: " + type.getTypeName());
+            }
+            return new MapBinder(converter(typeArguments[0]), deferred(typeArguments[1]),
+                    isScalar(typeArguments[1]));
+        }
+        if (Collection.class.isAssignableFrom(rawType) && typeArguments.length == 1) {
+            ScalarBinder commaSeparatedBinder = isScalar(typeArguments[0])
+                    ? new ScalarBinder(converterRegistry.getConverter(type)) : null;
+            return new CollectionBinder(deferred(typeArguments[0]), commaSeparatedBinder,
+                    Set.class.isAssignableFrom(rawType));
+        }
+        if (isScalar(type)) {
+            return new ScalarBinder(converterRegistry.getConverter(type));
+        }
+        if (rawType.isRecord()) {
+            return createRecordBinder(rawType);
+        }
+        return createPojoBinder(rawType);
+    }
+
+    private boolean isScalar(Type type) {
+        try {
+            converterRegistry.getConverter(type);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private Converter<?> converter(Type type) {
+        try {
+            return converterRegistry.getConverter(type);
+        } catch (IllegalArgumentException e) {
+            throw new PropertySourceException("Cannot bind properties to " + type.getTypeName(), e);
+        }
+    }
+
+    private RecordBinder createRecordBinder(Class<?> recordType) {
+        RecordComponent[] components = recordType.getRecordComponents();
+        Class<?>[] componentTypes = new Class<?>[components.length];
+        PropertyDescriptor[] properties = new PropertyDescriptor[components.length];
+        Object[] defaults = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            componentTypes[i] = components[i].getType();
+            properties[i] = new PropertyDescriptor(propertyNames(components[i].getName()),
+                    deferred(components[i].getGenericType()));
+            defaults[i] = componentTypes[i].isPrimitive()
+                    ? Array.get(Array.newInstance(componentTypes[i], 1), 0) : null;
+        }
+        try {
+            Constructor<?> constructor = recordType.getDeclaredConstructor(componentTypes);
+            constructor.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+                    .asType(MethodType.genericMethodType(components.length))
+                    .asSpreader(Object[].class, components.length);
+            return new RecordBinder(handle, properties, defaults);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new PropertySourceException("Cannot bind properties to record " + recordType.getName(), e);
+        }
+    }
+
+    private PojoBinder createPojoBinder(Class<?> pojoType) {
+        try {
+            Constructor<?> constructor = pojoType.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            MethodHandle instantiator = MethodHandles.lookup().unreflectConstructor(constructor)
+                    .asType(MethodType.methodType(Object.class));
+            List<PropertyDescriptor> properties = new ArrayList<>();
+            List<MethodHandle> setters = new ArrayList<>();
+            for (Method method : pojoType.getMethods()) {
+                if (isSetter(method)) {
+                    String name = Character.toLowerCase(method.getName().charAt("set".length()))
+                            + method.getName().substring("set".length() + 1);
+                    properties.add(new PropertyDescriptor(propertyNames(name),
+                            deferred(method.getGenericParameterTypes()[0])));
+                    method.setAccessible(true);
+                    setters.add(MethodHandles.lookup().unreflect(method).asType(SETTER_TYPE));
+                }
+            }
+            return new PojoBinder(instantiator, properties.toArray(new PropertyDescriptor[0]),
+                    setters.toArray(new MethodHandle[0]));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new PropertySourceException("Cannot bind properties to " + pojoType.getName()
+                    + "; expected a record or a class with a no-argument constructor", e);
+        }
+    }
+
+    private static boolean isSetter(Method method) {
+        return method.getName().startsWith("set") && method.getName().length() > "set".length()
+                && method.getParameterCount() == 1 && !Modifier.isStatic(method.getModifiers())
+                && method.getDeclaringClass() != Object.class;
+    }
+
+    /**
+     * Return the keys a property is read from: its name and, if different, its kebab-case form.
+     */
+    private static String[] propertyNames(String name) {
+        StringBuilder kebabCase = new StringBuilder(name.length() + 2);
+        for (int i = 0; i < name.length(); i++) {
+            char character = name.charAt(i);
+            if (Character.isUpperCase(character)) {
+                kebabCase.append('-').append(Character.toLowerCase(character));
+            } else {
+                kebabCase.append(character);
+            }
+        }
+        return kebabCase.toString().equals(name) ? new String[] {name} : new String[] {name, kebabCase.toString()};
+    }
+
+    /**
+     * Defer the lookup of a binder to its first use, so that types referencing themselves can be bound.
+     */
+    private ValueBinder deferred(Type type) {
+        return new ValueBinder() {
+            private volatile ValueBinder binder;
+
+            @Nullable
+            @Override
+            public Object bind(String name, BindContext context) {
+                ValueBinder target = binder;
+                if (target == null) {
+                    target = getBinder(type);
+                    binder = target;
+                }
+                return target.bind(name, context);
+            }
+        };
+    }
+
+    @Nullable
+    private static Class<?> rawClass(Type type) {
+        if (type instanceof Class<?> typeClass) {
+            return typeClass;
+        }
+        if (type instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() instanceof Class<?> rawClass) {
+            return rawClass;
+        }
+        return null;
+    }
+
+    private static String child(String prefix, String name) {
+        return prefix.isEmpty() ? name : prefix + '.' + name;
+    }
+
+    private SortedNames currentNames() {
+        if (!(propertySource instanceof EnumerablePropertySource<?> enumerable)) {
+            return SortedNames.EMPTY;
+        }
+        long version = enumerable instanceof CompositePropertySource composite ? composite.getVersion() : -1;
+        SortedNames names = sortedNames;
+        if (names == null || version == -1 || names.version() != version) {
+            String[] propertyNames = enumerable.getPropertyNames().clone();
+            Arrays.sort(propertyNames);
+            names = new SortedNames(version, propertyNames);
+            sortedNames = names;
+        }
+        return names;
+    }
+
+    /**
+     * State of one bind operation: the property names are sorted at most once per operation.
+     */
+    private final class BindContext {
+        private SortedNames names;
+
+        @Nullable
+        String getValue(String name) {
+            return placeholderResolver.getProperty(name);
+        }
+
+        SortedNames names() {
+            if (names == null) {
+                names = currentNames();
+            }
+            return names;
+        }
+
+        boolean hasValueOrDescendants(String name) {
+            return getValue(name) != null || names().hasDescendants(name);
+        }
+    }
+
+    /**
+     * Property names in ascending order, for prefix range lookups.
+     */
+    private record SortedNames(long version, String[] names) {
+        static final SortedNames EMPTY = new SortedNames(-1, new String[0]);
+
+        int firstIndexWithPrefix(String prefix) {
+            int index = Arrays.binarySearch(names, prefix);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        boolean hasDescendants(String name) {
+            return hasPrefix(name + '.') || hasPrefix(name + '[');
+        }
+
+        boolean hasPrefix(String prefix) {
+            int index = firstIndexWithPrefix(prefix);
+            return index < names.length && names[index].startsWith(prefix);
+        }
+    }
+
+    /**
+     * Binds the value of a property.
+     */
+    private interface ValueBinder {
+
+        /**
+         * Bind the property with the given name.
+         *
+         * @param name    full property name.
+         * @param context bind state.
+         * @return bound value, or null if there is no value for the property.
+         */
+        @Nullable
+        Object bind(String name, BindContext context);
+    }
+
+    /**
+     * Property of a record or POJO with its candidate key suffixes.
+     */
+    private record PropertyDescriptor(String[] names, ValueBinder binder) {
+
+        @Nullable
+        Object bind(String prefix, BindContext context) {
+            for (String name : names) {
+                Object value = binder.bind(child(prefix, name), context);
+                if (value != null) {
+                    return value;
+                }
+            }
+            return null;
+        }
+    }
+
+    private record ScalarBinder(Converter<?> converter) implements ValueBinder {
+
+        @Nullable
+        @Override
+        public Object bind(String name, BindContext context) {
+            String value = context.getValue(name);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return converter.convert(value);
+            } catch (RuntimeException e) {
+                throw new PropertySourceException(String.format("Cannot convert value '%s' of property '%s'",
+                        value, name), e);
+            }
+        }
+    }
+
+    /**
+     * Binds indexed keys {@code name[0]}, {@code name[1]}, ... or, for scalar elements, a comma-separated value.
+     */
+    private record CollectionBinder(ValueBinder elementBinder, @Nullable ScalarBinder commaSeparatedBinder,
+                                    boolean set) implements ValueBinder {
+
+        @Nullable
+        @Override
+        public Object bind(String name, BindContext context) {
+            if (commaSeparatedBinder != null) {
+                Object value = commaSeparatedBinder.bind(name, context);
+                if (value != null) {
+                    return value;
+                }
+            }
+            if (!context.names().hasPrefix(name + '[')) {
+                return null;
+            }
+            List<Object> elements = new ArrayList<>();
+            for (int index = 0;; index++) {
+                Object element = elementBinder.bind(name + '[' + index + ']', context);
+                if (element == null) {
+                    break;
+                }
+                elements.add(element);
+            }
+            return set ? Collections.unmodifiableSet(new LinkedHashSet<>(elements)) : List.copyOf(elements);
+        }
+    }
+
+    /**
+     * Binds the keys below {@code name.}; a scalar value takes the whole remaining key as map key,
+     * any other value the next key segment.
+     */
+    private record MapBinder(Converter<?> keyConverter, ValueBinder valueBinder, boolean scalarValues)
+            implements ValueBinder {
+
+        @Nullable
+        @Override
+        public Object bind(String name, BindContext context) {
+            String prefix = name + '.';
+            String[] names = context.names().names();
+            Set<String> keys = new LinkedHashSet<>();
+            for (int i = context.names().firstIndexWithPrefix(prefix); i < names.length
+                    && names[i].startsWith(prefix); i++) {
+                String key = names[i].substring(prefix.length());
+                if (!scalarValues) {
+                    int end = indexOfSegmentEnd(key);
+                    key = end < 0 ? key : key.substring(0, end);
+                }
+                keys.add(key);
+            }
+            if (keys.isEmpty()) {
+                return null;
+            }
+            Map<Object, Object> map = new LinkedHashMap<>();
+            for (String key : keys) {
+                Object value = valueBinder.bind(prefix + key, context);
+                if (value != null) {
+                    map.put(keyConverter.convert(key), value);
+                }
+            }
+            return Collections.unmodifiableMap(map);
+        }
+
+        private static int indexOfSegmentEnd(String key) {
+            for (int i = 0; i < key.length(); i++) {
+                if (key.charAt(i) == '.' || key.charAt(i) == '[') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Binder of a record or POJO; nested objects without any property are not created.
+     */
+    private abstract static class ObjectBinder implements ValueBinder {
+
+        abstract Object bindRequired(String prefix, BindContext context);
+
+        @Nullable
+        @Override
+        public Object bind(String name, BindContext context) {
+            return context.names().hasDescendants(name) ? bindRequired(name, context) : null;
+        }
+    }
+
+    private static final class RecordBinder extends ObjectBinder {
+        private final MethodHandle constructor;
+        private final PropertyDescriptor[] components;
+        private final Object[] defaults;
+
+        private RecordBinder(MethodHandle constructor, PropertyDescriptor[] components, Object[] defaults) {
+            this.constructor = constructor;
+            this.components = components;
+            this.defaults = defaults;
+        }
+
+        @Override
+        Object bindRequired(String prefix, BindContext context) {
+            Object[] arguments = new Object[components.length];
+            for (int i = 0; i < components.length; i++) {
+                arguments[i] = bindComponent(prefix, i, context);
+            }
+            try {
+                return (Object) constructor.invokeExact(arguments);
+            } catch (Throwable e) {
+                throw new PropertySourceException("Cannot bind properties with prefix '" + prefix + "'", e);
+            }
+        }
+
+        private Object bindComponent(String prefix, int index, BindContext context) {
+            Object value = components[index].bind(prefix, context);
+            return value != null ? value : defaults[index];
+        }
+    }
+
+    private static final class PojoBinder extends ObjectBinder {
+        private final MethodHandle instantiator;
+        private final PropertyDescriptor[] properties;
+        private final MethodHandle[] setters;
+
+        private PojoBinder(MethodHandle instantiator, PropertyDescriptor[] properties, MethodHandle[] setters) {
+            this.instantiator = instantiator;
+            this.properties = properties;
+            this.setters = setters;
+        }
+
+        @Override
+        Object bindRequired(String prefix, BindContext context) {
+            try {
+                Object target = (Object) instantiator.invokeExact();
+                bindProperties(target, prefix, context);
+                return target;
+            } catch (PropertySourceException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new PropertySourceException("Cannot bind properties with prefix '" + prefix + "'", e);
+            }
+        }
+
+        private void bindProperties(Object target, String prefix, BindContext context) {
+            for (int i = 0; i < properties.length; i++) {
+                Object value = properties[i].bind(prefix, context);
+                if (value != null) {
+                    try {
+                        setters[i].invokeExact(target, value);
+                    } catch (Throwable e) {
+                        throw new PropertySourceException("Cannot set property of " + target.getClass().getName(), e);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.codeus.winter.util;
+
+import java.util.Set;
+
+/**
+ * Keys whose values in a {@link CompositePropertySource} were added, changed or removed by one reload.
+ *
+ * @param propertySource composite whose values changed.
+ * @param changedKeys    names of the changed properties.
+ */
+public record PropertyChangeEvent(CompositePropertySource propertySource, Set<String> changedKeys) {
+
+    /**
+     * Create an event.
+     *
+     * @param propertySource composite whose values changed.
+     * @param changedKeys    names of the changed properties; copied.
+     */
+    public PropertyChangeEvent {
+        changedKeys = Set.copyOf(changedKeys);
+    }
+
+    /**
+     * Check whether a property with the given name or below the given prefix has changed.
+     *
+     * @param prefix property name or prefix such as {@code app.datasource}; empty matches every key.
+     * @return true if a changed key equals the prefix or starts with it followed by {@code .} or {@code [}.
+     */
+    public boolean affects(String prefix) {
+        if (prefix.isEmpty()) {
+            return !changedKeys.isEmpty();
+        }
+        for (String key : changedKeys) {
+            if (key.startsWith(prefix) && (key.length() == prefix.length()
+                    || key.charAt(prefix.length()) == '.' || key.charAt(prefix.length()) == '[')) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,15 @@
+package com.codeus.winter.util;
+
+/**
+ * Listener notified by a {@link PropertySourceWatcher} after a reload changed property values.
+ */
+@FunctionalInterface
+public interface PropertyChangeListener {
+
+    /**
+     * Handle changed properties; the composite already returns the new values.
+     *
+     * @param event changed keys.
+     */
+    void propertiesChanged(PropertyChangeEvent event);
+}
@@ -0,0 +1,219 @@
+package com.codeus.winter.util;
+
+import com.codeus.winter.exception.PropertySourceException;
+import jakarta.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves {@code ${key}} and {@code ${key:default}} placeholders against a {@link PropertySource}.
+ * <p>
+ * Texts given to {@link #compile(String)} are compiled once into a {@link PlaceholderTemplate} and cached;
+ * resolution concatenates the segments of the template, resolving placeholders in keys, default values
+ * and property values recursively. Circular references fail with a {@link PropertySourceException}
+ * that lists the chain of keys. The resolved texts of compiled expressions and the templates of property
+ * values are cached too, while texts given to {@link #resolvePlaceholders(String)} are compiled on every
+ * call and not cached, so that arbitrary caller texts cannot grow the caches;
+ * when the source is a {@link CompositePropertySource}, those caches are discarded as soon as the
+ * version of the composite changes, otherwise {@link #clearCache()} has to be called after the
+ * source has changed.
+ */
+public class PropertyPlaceholderResolver {
+    private final PropertySource<?> propertySource;
+    private final boolean ignoreUnresolvablePlaceholders;
+    private final Map<String, PlaceholderTemplate> templates = new ConcurrentHashMap<>();
+    private volatile ResolvedCache resolvedCache = new ResolvedCache(-1);
+
+    /**
+     * Create a resolver that fails on placeholders without value and default value.
+     *
+     * @param propertySource source of the property values.
+     */
+    public PropertyPlaceholderResolver(PropertySource<?> propertySource) {
+        this(propertySource, false);
+    }
+
+    /**
+     * Create a resolver.
+     *
+     * @param propertySource                 source of the property values.
+     * @param ignoreUnresolvablePlaceholders whether placeholders without value and default value are
+     *                                       kept as they are instead of failing the resolution.
+     */
+    public PropertyPlaceholderResolver(PropertySource<?> propertySource, boolean ignoreUnresolvablePlaceholders) {
+        this.propertySource = propertySource;
+        this.ignoreUnresolvablePlaceholders = ignoreUnresolvablePlaceholders;
+    }
+
+    /**
+     * Resolve the placeholders of the given text without caching it; use {@link #compile(String)} for
+     * texts that are resolved repeatedly.
+     *
+     * @param text text with placeholders.
+     * @return resolved text.
+     * @throws PropertySourceException if a placeholder cannot be resolved or references are circular.
+     */
+    public String resolvePlaceholders(String text) {
+        PlaceholderTemplate template = PlaceholderTemplate.compile(text);
+        return template.hasPlaceholders() ? resolve(template, new ArrayList<>()) : text;
+    }
+
+    /**
+     * Compile the given text once, for callers that resolve the same text repeatedly.
+     *
+     * @param text text with placeholders.
+     * @return expression resolved against this resolver.
+     */
+    public PlaceholderExpression compile(String text) {
+        return new PlaceholderExpression(this, templates.computeIfAbsent(text, PlaceholderTemplate::compile));
+    }
+
+    /**
+     * Return the value of a property with its placeholders resolved.
+     *
+     * @param key property name.
+     * @return resolved value, or null if the property does not exist.
+     * @throws PropertySourceException if a placeholder cannot be resolved or references are circular.
+     */
+    @Nullable
+    public String getProperty(String key) {
+        Object value = propertySource.getProperty(key);
+        if (value == null) {
+            return null;
+        }
+        List<String> chain = new ArrayList<>();
+        chain.add(key);
+        return resolveValue(String.valueOf(value), chain);
+    }
+
+    /**
+     * Discard the cached resolved texts and property value templates, for sources that cannot report
+     * changes themselves. Templates of compiled texts do not depend on the source and are kept.
+     */
+    public void clearCache() {
+        resolvedCache = new ResolvedCache(resolvedCache.version());
+    }
+
+    String resolvePlaceholders(PlaceholderTemplate template) {
+        if (!template.hasPlaceholders()) {
+            return template.getText();
+        }
+        Map<String, String> resolved = currentCache().values();
+        String value = resolved.get(template.getText());
+        if (value == null) {
+            value = resolve(template, new ArrayList<>());
+            resolved.put(template.getText(), value);
+        }
+        return value;
+    }
+
+    private ResolvedCache currentCache() {
+        long version = propertySource instanceof CompositePropertySource composite ? composite.getVersion() : -1;
+        ResolvedCache cache = resolvedCache;
+        if (cache.version() != version) {
+            cache = new ResolvedCache(version);
+            resolvedCache = cache;
+        }
+        return cache;
+    }
+
+    private String resolve(PlaceholderTemplate template, List<String> chain) {
+        PlaceholderTemplate.Segment[] segments = template.getSegments();
+        if (segments.length == 1) {
+            return resolveSegment(segments[0], chain);
+        }
+        StringBuilder result = new StringBuilder();
+        for (PlaceholderTemplate.Segment segment : segments) {
+            result.append(resolveSegment(segment, chain));
+        }
+        return result.toString();
+    }
+
+    private String resolveSegment(PlaceholderTemplate.Segment segment, List<String> chain) {
+        if (segment instanceof PlaceholderTemplate.Literal literal) {
+            return literal.text();
+        }
+        PlaceholderTemplate.Placeholder placeholder = (PlaceholderTemplate.Placeholder) segment;
+        String key = resolve(placeholder.key(), chain);
+        if (chain.contains(key)) {
+            throw new PropertySourceException(String.format("Circular placeholder reference '%s' in property "
+                    + "definitions: %s -> %s", key, String.join(" -> ", chain), key));
+        }
+        Object value = propertySource.getProperty(key);
+        if (value != null) {
+            chain.add(key);
+            String resolved = resolveValue(String.valueOf(value), chain);
+            chain.remove(chain.size() - 1);
+            return resolved;
+        }
+        if (placeholder.defaultValue() != null) {
+            return resolve(placeholder.defaultValue(), chain);
+        }
+        if (ignoreUnresolvablePlaceholders) {
+            return PlaceholderTemplate.PREFIX + placeholder.key().getText() + PlaceholderTemplate.SUFFIX;
+        }
+        throw new PropertySourceException(String.format("Could not resolve placeholder '%s'", key));
+    }
+
+    /**
+     * Check whether resolving the template against the current properties reads one of the given keys.
+     * Resolution stops reading at the first property whose value differs from an earlier resolution,
+     * so if the properties read now did not change, neither did the resolved text.
+     */
+    boolean readsAnyOf(PlaceholderTemplate template, Set<String> keys) {
+        try {
+            return readsAnyOf(template, keys, new ArrayList<>());
+        } catch (PropertySourceException e) {
+            return true;
+        }
+    }
+
+    private boolean readsAnyOf(PlaceholderTemplate template, Set<String> keys, List<String> chain) {
+        for (PlaceholderTemplate.Segment segment : template.getSegments()) {
+            if (!(segment instanceof PlaceholderTemplate.Placeholder placeholder)) {
+                continue;
+            }
+            if (readsAnyOf(placeholder.key(), keys, chain)) {
+                return true;
+            }
+            String key = resolve(placeholder.key(), chain);
+            if (keys.contains(key) || chain.contains(key)) {
+                return true;
+            }
+            Object value = propertySource.getProperty(key);
+            if (value != null) {
+                chain.add(key);
+                boolean reads = readsAnyOf(currentCache().valueTemplates()
+                        .computeIfAbsent(String.valueOf(value), PlaceholderTemplate::compile), keys, chain);
+                chain.remove(chain.size() - 1);
+                if (reads) {
+                    return true;
+                }
+            } else if (placeholder.defaultValue() != null && readsAnyOf(placeholder.defaultValue(), keys, chain)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String resolveValue(String value, List<String> chain) {
+        PlaceholderTemplate template = currentCache().valueTemplates()
+                .computeIfAbsent(value, PlaceholderTemplate::compile);
+        return template.hasPlaceholders() ? resolve(template, chain) : value;
+    }
+
+    /**
+     * Resolved texts and templates of the property values of one version of the property source.
+     */
+    private record ResolvedCache(long version, Map<String, String> values,
+                                 Map<String, PlaceholderTemplate> valueTemplates) {
+
+        ResolvedCache(long version) {
+            this(version, new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.codeus.winter.util;
+
+import com.codeus.winter.exception.PropertySourceException;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reloads file-backed property sources of a {@link CompositePropertySource} when their files change.
+ * <p>
+ * The directories of the watched files are registered with a {@link WatchService}. Events for a
+ * file only schedule its reload after the debounce delay, and further events within that delay
+ * postpone it, so an editor saving a file in several steps causes a single re-read. A reload
+ * replaces the sources of the file in the composite and compares the old and new composite values
+ * of the keys of those sources only; listeners are notified with the keys whose values changed,
+ * and are not notified if none did. A file that cannot be read keeps its previous properties.
+ * <p>
+ * Events are processed on a virtual thread started by the constructor and stopped by {@link #close()}.
+ */
+public class PropertySourceWatcher implements AutoCloseable {
+    private static final System.Logger LOGGER = System.getLogger(PropertySourceWatcher.class.getName());
+
+    private final CompositePropertySource propertySource;
+    private final ResourceReader<?> resourceReader;
+    private final long debounceNanos;
+    private final WatchService watchService;
+    private final Map<Path, Set<String>> sourceNamesByFile = new ConcurrentHashMap<>();
+    private final Set<Path> watchedDirectories = ConcurrentHashMap.newKeySet();
+    private final List<PropertyChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final Thread watcherThread;
+    private volatile boolean closed;
+
+    /**
+     * Create a watcher of {@code .properties} files.
+     *
+     * @param propertySource composite receiving the properties of the watched files.
+     * @param debounce       delay between the last change event of a file and its reload.
+     */
+    public PropertySourceWatcher(CompositePropertySource propertySource, Duration debounce) {
+        this(propertySource, new MappedPropertiesResourceReader(), debounce);
+    }
+
+    /**
+     * Create a watcher of files read by the given reader.
+     *
+     * @param propertySource composite receiving the properties of the watched files.
+     * @param resourceReader reader of the files; it must return {@link EnumerablePropertySource}s.
+     * @param debounce       delay between the last change event of a file and its reload.
+     */
+    public PropertySourceWatcher(CompositePropertySource propertySource, ResourceReader<?> resourceReader,
+                                 Duration debounce) {
+        this.propertySource = propertySource;
+        this.resourceReader = resourceReader;
+        this.debounceNanos = debounce.toNanos();
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            throw new PropertySourceException("Failed to create a watch service", e);
+        }
+        this.watcherThread = Thread.ofVirtual().name("winter-property-watcher").start(this::processEvents);
+    }
+
+    /**
+     * Read the given file into the composite and reload it on every change. The directory is watched
+     * before the file is read, so a change made meanwhile is not missed. Sources of the file replace
+     * sources with the same name, or are added with the lowest precedence; the listeners are notified
+     * of the keys this first read changes, like for any reload.
+     *
+     * @param file properties file.
+     * @throws PropertySourceException if the file cannot be read or its directory cannot be watched.
+     */
+    public void watch(Path file) {
+        Path path = file.toAbsolutePath().normalize();
+        Path directory = path.getParent();
+        if (watchedDirectories.add(directory)) {
+            try {
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            } catch (IOException e) {
+                watchedDirectories.remove(directory);
+                throw new PropertySourceException("Failed to watch directory " + directory, e);
+            }
+        }
+        reload(path);
+    }
+
+    /**
+     * Add a listener notified after reloads that changed property values.
+     *
+     * @param listener listener.
+     */
+    public void addListener(PropertyChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Re-read the given file now, replace its sources in the composite and notify the listeners of
+     * the changed keys.
+     *
+     * @param file properties file.
+     * @return names of the properties whose values changed.
+     * @throws PropertySourceException if the file cannot be read.
+     */
+    public Set<String> reload(Path file) {
+        Path path = file.toAbsolutePath().normalize();
+        Set<String> changedKeys;
+        synchronized (this) {
+            List<EnumerablePropertySource<?>> newSources = read(path);
+            Set<String> oldNames = sourceNamesByFile.getOrDefault(path, Set.of());
+            Set<String> newNames = new HashSet<>();
+            Set<String> candidateKeys = new HashSet<>();
+            for (EnumerablePropertySource<?> source : propertySource.getSource()) {
+                if (oldNames.contains(source.getName())) {
+                    candidateKeys.addAll(List.of(source.getPropertyNames()));
+                }
+            }
+            for (EnumerablePropertySource<?> source : newSources) {
+                newNames.add(source.getName());
+                candidateKeys.addAll(List.of(source.getPropertyNames()));
+            }
+            Map<String, Object> oldValues = new HashMap<>();
+            for (String key : candidateKeys) {
+                oldValues.put(key, propertySource.getProperty(key));
+            }
+
+            for (EnumerablePropertySource<?> source : newSources) {
+                if (!propertySource.replace(source)) {
+                    propertySource.addLast(source);
+                }
+            }
+            for (String oldName : oldNames) {
+                if (!newNames.contains(oldName)) {
+                    propertySource.remove(oldName);
+                }
+            }
+            sourceNamesByFile.put(path, Set.copyOf(newNames));
+
+            changedKeys = new HashSet<>();
+            for (String key : candidateKeys) {
+                if (!Objects.equals(oldValues.get(key), propertySource.getProperty(key))) {
+                    changedKeys.add(key);
+                }
+            }
+        }
+        if (!changedKeys.isEmpty()) {
+            PropertyChangeEvent event = new PropertyChangeEvent(propertySource, changedKeys);
+            for (PropertyChangeListener listener : listeners) {
+                listener.propertiesChanged(event);
+            }
+        }
+        return changedKeys;
+    }
+
+    /**
+     * Stop watching; the properties read so far stay in the composite.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            throw new PropertySourceException("Failed to close the watch service", e);
+        }
+        try {
+            watcherThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<EnumerablePropertySource<?>> read(Path path) {
+        List<EnumerablePropertySource<?>> sources = new ArrayList<>();
+        for (PropertySource<?> source : resourceReader.readProperties(path.getParent().toString(),
+                path.getFileName().toString())) {
+            if (!(source instanceof EnumerablePropertySource<?> enumerableSource)) {
+                throw new PropertySourceException("Property source " + source.getName() + " of " + path
+                        + " cannot be merged into a composite, it does not list its property names");
+            }
+            sources.add(enumerableSource);
+        }
+        return sources;
+    }
+
+    private void processEvents() {
+        Map<Path, Long> pendingReloads = new HashMap<>();
+        while (!closed) {
+            try {
+                WatchKey key = pendingReloads.isEmpty()
+                        ? watchService.take()
+                        : watchService.poll(Math.max(0, earliest(pendingReloads) - System.nanoTime()),
+                                TimeUnit.NANOSECONDS);
+                if (key != null) {
+                    scheduleReloads(key, pendingReloads);
+                }
+                reloadDue(pendingReloads);
+            } catch (ClosedWatchServiceException e) {
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void scheduleReloads(WatchKey key, Map<Path, Long> pendingReloads) {
+        Path directory = (Path) key.watchable();
+        long deadline = System.nanoTime() + debounceNanos;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                sourceNamesByFile.keySet().stream()
+                        .filter(file -> file.getParent().equals(directory))
+                        .forEach(file -> pendingReloads.put(file, deadline));
+            } else if (event.context() instanceof Path fileName) {
+                Path file = directory.resolve(fileName);
+                if (sourceNamesByFile.containsKey(file)) {
+                    pendingReloads.put(file, deadline);
+                }
+            }
+        }
+        key.reset();
+    }
+
+    private void reloadDue(Map<Path, Long> pendingReloads) {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<Path, Long>> iterator = pendingReloads.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Path, Long> pendingReload = iterator.next();
+            if (pendingReload.getValue() - now <= 0) {
+                iterator.remove();
+                try {
+                    reload(pendingReload.getKey());
+                } catch (RuntimeException e) {
+                    LOGGER.log(System.Logger.Level.WARNING, "Failed to reload " + pendingReload.getKey(), e);
+                }
+            }
+        }
+    }
+
+    private static long earliest(Map<Path, Long> pendingReloads) {
+        long earliest = Long.MAX_VALUE;
+        for (long deadline : pendingReloads.values()) {
+            earliest = earliest == Long.MAX_VALUE || deadline - earliest < 0 ? deadline : earliest;
+        }
+        return earliest;
+    }
+}
@@ -0,0 +1,540 @@
+package com.codeus.winter.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Streaming line-based parser flattening YAML documents into dotted property names.
+ * <p>
+ * Supports block mappings and sequences, plain, single- and double-quoted scalars, literal
+ * ({@code |}) and folded ({@code >}) block scalars with chomping indicators, single- or multi-line
+ * flow collections ({@code [a, b]}, {@code {a: 1}}), comments and several documents separated by
+ * {@code ---}. Mapping entries become {@code parent.key}, sequence items {@code parent[index]};
+ * scalars are stored as text and {@code null} or {@code ~} as an empty string. Anchors, aliases,
+ * tags, complex keys and multi-line plain or quoted scalars are rejected.
+ * <p>
+ * Only the current line, the open collections and the path of the current value are kept, so
+ * memory use is bounded by the resulting maps, not by the size of the document.
+ */
+final class YamlParser {
+    private static final int HEX_RADIX = 16;
+    private static final int UNICODE_ESCAPE_LENGTH = 4;
+    private static final String DOCUMENT_START = "---";
+    private static final String DOCUMENT_END = "...";
+
+    private final BufferedReader reader;
+    private final StringBuilder path = new StringBuilder();
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private String pushedBackLine;
+    private int lineNumber;
+    private CompactPropertyMap target;
+    private int pendingIndent;
+    private boolean pendingAllowsSequenceAtSameIndent;
+
+    YamlParser(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Parse all documents of the input.
+     *
+     * @return one map per non-empty document, in document order.
+     * @throws IOException              if the input cannot be read.
+     * @throws IllegalArgumentException if the input is not valid or uses unsupported YAML features.
+     */
+    List<CompactPropertyMap> parse() throws IOException {
+        List<CompactPropertyMap> documents = new ArrayList<>();
+        startDocument();
+        for (String line = nextLine(); line != null; line = nextLine()) {
+            if (isMarker(line, DOCUMENT_START) || isMarker(line, DOCUMENT_END)) {
+                if (!stripComment(line.substring(DOCUMENT_START.length())).isBlank()) {
+                    throw error("Content after a document marker is not supported");
+                }
+                endDocument(documents);
+                startDocument();
+                continue;
+            }
+            String content = stripComment(line).stripTrailing();
+            if (content.isEmpty() || (content.startsWith("%") && frames.isEmpty())) {
+                continue;
+            }
+            int indent = 0;
+            while (content.charAt(indent) == ' ') {
+                indent++;
+            }
+            if (content.charAt(indent) == '\t') {
+                throw error("Tabs are not allowed for indentation");
+            }
+            processLine(indent, content.substring(indent));
+        }
+        endDocument(documents);
+        return documents;
+    }
+
+    private void startDocument() {
+        target = new CompactPropertyMap();
+        frames.clear();
+        path.setLength(0);
+        pendingIndent = -1;
+    }
+
+    private void endDocument(List<CompactPropertyMap> documents) {
+        resolvePendingAsNull();
+        if (target.size() > 0) {
+            documents.add(target);
+        }
+    }
+
+    private void processLine(int indent, String text) throws IOException {
+        boolean item = isItem(text);
+        if (pendingIndent >= 0) {
+            if (indent > pendingIndent || (item && indent == pendingIndent && pendingAllowsSequenceAtSameIndent)) {
+                frames.push(new Frame(indent, path.length(), item));
+                pendingIndent = -1;
+            } else {
+                resolvePendingAsNull();
+            }
+        }
+        while (!frames.isEmpty() && (frames.peek().indent > indent
+                || (frames.peek().indent == indent && frames.peek().sequence && !item))) {
+            frames.pop();
+        }
+        if (frames.isEmpty()) {
+            if (target.size() > 0) {
+                throw error("Bad indentation");
+            }
+            frames.push(new Frame(indent, 0, item));
+        }
+        Frame frame = frames.peek();
+        if (frame.indent != indent) {
+            throw error("Bad indentation");
+        }
+        path.setLength(frame.base);
+        if (frame.sequence) {
+            if (!item) {
+                throw error("Expected a sequence item");
+            }
+            path.append('[').append(frame.nextIndex++).append(']');
+            String rest = text.substring(1).stripLeading();
+            int restIndent = indent + text.length() - rest.length();
+            if (rest.isEmpty()) {
+                setPending(indent, false);
+            } else if (isItem(rest) || isMappingEntry(rest)) {
+                frames.push(new Frame(restIndent, path.length(), isItem(rest)));
+                processLine(restIndent, rest);
+            } else {
+                processValue(rest, indent);
+            }
+        } else {
+            if (item) {
+                throw error("Unexpected sequence item in a mapping");
+            }
+            int colon = findMappingColon(text);
+            if (colon < 0) {
+                throw error("Expected 'key: value'");
+            }
+            appendKey(scalar(text.substring(0, colon).trim(), true));
+            String rest = text.substring(colon + 1).trim();
+            if (rest.isEmpty()) {
+                setPending(indent, true);
+            } else {
+                processValue(rest, indent);
+            }
+        }
+    }
+
+    private void processValue(String value, int indent) throws IOException {
+        char first = value.charAt(0);
+        if (first == '|' || first == '>') {
+            target.put(path.toString(), blockScalar(value, indent));
+        } else if (first == '[' || first == '{') {
+            new FlowParser(readFlowCollection(value)).parseCollection(path.length());
+        } else {
+            target.put(path.toString(), scalar(value, false));
+        }
+    }
+
+    private void setPending(int indent, boolean allowsSequenceAtSameIndent) {
+        pendingIndent = indent;
+        pendingAllowsSequenceAtSameIndent = allowsSequenceAtSameIndent;
+    }
+
+    private void resolvePendingAsNull() {
+        if (pendingIndent >= 0) {
+            target.put(path.toString(), "");
+            pendingIndent = -1;
+        }
+    }
+
+    private void appendKey(String key) {
+        if (!path.isEmpty()) {
+            path.append('.');
+        }
+        path.append(key);
+    }
+
+    private String blockScalar(String header, int parentIndent) throws IOException {
+        boolean folded = header.charAt(0) == '>';
+        String indicators = header.substring(1).trim();
+        boolean strip = indicators.contains("-");
+        boolean keep = indicators.contains("+");
+        if (!indicators.replace("-", "").replace("+", "").isEmpty()) {
+            throw error("Unsupported block scalar header '" + header + "'");
+        }
+        StringBuilder value = new StringBuilder();
+        int contentIndent = -1;
+        int trailingNewlines = 0;
+        boolean previousBlank = true;
+        for (String line = nextLine(); line != null; line = nextLine()) {
+            if (line.isBlank()) {
+                trailingNewlines++;
+                continue;
+            }
+            int indent = 0;
+            while (indent < line.length() && line.charAt(indent) == ' ') {
+                indent++;
+            }
+            if (contentIndent < 0) {
+                contentIndent = indent;
+            }
+            if (indent <= parentIndent || indent < contentIndent) {
+                pushedBackLine = line;
+                lineNumber--;
+                break;
+            }
+            if (!value.isEmpty()) {
+                if (folded && trailingNewlines == 0 && !previousBlank) {
+                    value.append(' ');
+                } else {
+                    value.append("\n".repeat(folded ? trailingNewlines : trailingNewlines + 1));
+                }
+            }
+            value.append(line, contentIndent, line.length());
+            trailingNewlines = 0;
+            previousBlank = false;
+        }
+        if (value.isEmpty() || strip) {
+            return value.toString();
+        }
+        return value.append("\n".repeat(keep ? trailingNewlines + 1 : 1)).toString();
+    }
+
+    private String readFlowCollection(String start) throws IOException {
+        StringBuilder flow = new StringBuilder(start);
+        while (!isBalanced(flow)) {
+            String line = nextLine();
+            if (line == null) {
+                throw error("Unterminated flow collection");
+            }
+            flow.append(' ').append(stripComment(line).trim());
+        }
+        return flow.toString();
+    }
+
+    private static boolean isBalanced(CharSequence flow) {
+        int depth = 0;
+        char quote = 0;
+        for (int i = 0; i < flow.length(); i++) {
+            char character = flow.charAt(i);
+            if (quote != 0) {
+                if (character == '\\' && quote == '"') {
+                    i++;
+                } else if (character == quote) {
+                    quote = 0;
+                }
+            } else if (character == '"' || character == '\'') {
+                quote = character;
+            } else if (character == '[' || character == '{') {
+                depth++;
+            } else if (character == ']' || character == '}') {
+                depth--;
+            }
+        }
+        return depth <= 0;
+    }
+
+    /**
+     * Convert a plain or quoted scalar to its text.
+     */
+    private String scalar(String value, boolean key) {
+        char first = value.charAt(0);
+        if (first == '&' || first == '*' || first == '!' || first == '?') {
+            throw error("Anchors, aliases, tags and complex keys are not supported");
+        }
+        if (first == '"' || first == '\'') {
+            int end = findClosingQuote(value, 0);
+            if (end != value.length() - 1) {
+                throw error("Unexpected content after quoted scalar " + value);
+            }
+            return unquote(value, end);
+        }
+        if (!key && (value.equals("~") || value.equalsIgnoreCase("null"))) {
+            return "";
+        }
+        return value;
+    }
+
+    private String unquote(String value, int end) {
+        if (value.charAt(0) == '\'') {
+            return value.substring(1, end).replace("''", "'");
+        }
+        StringBuilder unescaped = new StringBuilder(end);
+        for (int i = 1; i < end; i++) {
+            char character = value.charAt(i);
+            if (character != '\\') {
+                unescaped.append(character);
+                continue;
+            }
+            char escape = value.charAt(++i);
+            switch (escape) {
+                case 'n' -> unescaped.append('\n');
+                case 't' -> unescaped.append('\t');
+                case 'r' -> unescaped.append('\r');
+                case '0' -> unescaped.append('\0');
+                case '"', '\\', '/', ' ' -> unescaped.append(escape);
+                case 'u' -> {
+                    unescaped.append(unicodeEscape(value, i + 1, end));
+                    i += UNICODE_ESCAPE_LENGTH;
+                }
+                default -> throw error("Unsupported escape \\" + escape);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    private char unicodeEscape(String value, int start, int end) {
+        if (start + UNICODE_ESCAPE_LENGTH > end) {
+            throw error("Invalid unicode escape");
+        }
+        int code = 0;
+        for (int i = start; i < start + UNICODE_ESCAPE_LENGTH; i++) {
+            int digit = Character.digit(value.charAt(i), HEX_RADIX);
+            if (digit < 0) {
+                throw error("Invalid unicode escape");
+            }
+            code = code * HEX_RADIX + digit;
+        }
+        return (char) code;
+    }
+
+    private int findClosingQuote(String value, int start) {
+        char quote = value.charAt(start);
+        for (int i = start + 1; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (quote == '"' && character == '\\') {
+                i++;
+            } else if (character == quote) {
+                if (quote == '\'' && i + 1 < value.length() && value.charAt(i + 1) == '\'') {
+                    i++;
+                } else {
+                    return i;
+                }
+            }
+        }
+        throw error("Unterminated quoted scalar");
+    }
+
+    /**
+     * Return the index of the colon separating key and value, or -1 if the text is not a mapping entry.
+     */
+    private int findMappingColon(String text) {
+        int start = 0;
+        if (text.charAt(0) == '"' || text.charAt(0) == '\'') {
+            start = findClosingQuote(text, 0) + 1;
+        }
+        for (int i = start; i < text.length(); i++) {
+            if (text.charAt(i) == ':' && (i + 1 == text.length() || text.charAt(i + 1) == ' ')) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isMappingEntry(String text) {
+        char first = text.charAt(0);
+        return first != '[' && first != '{' && first != '|' && first != '>' && findMappingColon(text) >= 0;
+    }
+
+    private static boolean isItem(String text) {
+        return text.equals("-") || text.startsWith("- ");
+    }
+
+    private static boolean isMarker(String line, String marker) {
+        return line.startsWith(marker) && (line.length() == marker.length() || line.charAt(marker.length()) == ' ');
+    }
+
+    /**
+     * Remove a comment: a {@code #} at the start or after whitespace, outside quoted scalars.
+     */
+    private static String stripComment(String line) {
+        char quote = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char character = line.charAt(i);
+            if (quote != 0) {
+                if (quote == '"' && character == '\\') {
+                    i++;
+                } else if (character == quote) {
+                    quote = 0;
+                }
+            } else if (character == '#' && (i == 0 || Character.isWhitespace(line.charAt(i - 1)))) {
+                return line.substring(0, i);
+            } else if ((character == '"' || character == '\'')
+                    && (i == 0 || " :[{,-".indexOf(line.charAt(i - 1)) >= 0)) {
+                quote = character;
+            }
+        }
+        return line;
+    }
+
+    private String nextLine() throws IOException {
+        lineNumber++;
+        if (pushedBackLine != null) {
+            String line = pushedBackLine;
+            pushedBackLine = null;
+            return line;
+        }
+        return reader.readLine();
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at line " + lineNumber);
+    }
+
+    /**
+     * Open block collection: its indentation, the path length of the collection and the next sequence index.
+     */
+    private static final class Frame {
+        private final int indent;
+        private final int base;
+        private final boolean sequence;
+        private int nextIndex;
+
+        private Frame(int indent, int base, boolean sequence) {
+            this.indent = indent;
+            this.base = base;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * Recursive-descent parser of a flow collection, writing below the current path.
+     */
+    private final class FlowParser {
+        private final String flow;
+        private int position;
+
+        private FlowParser(String flow) {
+            this.flow = flow;
+        }
+
+        /**
+         * Parse the whole flow text as one collection; nothing but spaces may follow it.
+         */
+        private void parseCollection(int parentLength) {
+            parseValue(parentLength);
+            while (position < flow.length() && flow.charAt(position) == ' ') {
+                position++;
+            }
+            if (position < flow.length()) {
+                throw error("Unexpected content after a flow collection");
+            }
+        }
+
+        private void parseValue(int parentLength) {
+            skipSpaces();
+            char character = flow.charAt(position);
+            if (character == '[') {
+                parseSequence(parentLength);
+            } else if (character == '{') {
+                parseMapping(parentLength);
+            } else {
+                target.put(path.toString(), scalar(readScalar(), false));
+            }
+        }
+
+        private void parseSequence(int parentLength) {
+            position++;
+            for (int index = 0;; index++) {
+                skipSpaces();
+                if (flow.charAt(position) == ']') {
+                    position++;
+                    return;
+                }
+                path.setLength(parentLength);
+                path.append('[').append(index).append(']');
+                parseValue(path.length());
+                path.setLength(parentLength);
+                separator(']');
+            }
+        }
+
+        private void parseMapping(int parentLength) {
+            position++;
+            while (true) {
+                skipSpaces();
+                if (flow.charAt(position) == '}') {
+                    position++;
+                    return;
+                }
+                String key = readKey();
+                path.setLength(parentLength);
+                appendKey(scalar(key, true));
+                parseValue(path.length());
+                path.setLength(parentLength);
+                separator('}');
+            }
+        }
+
+        private void separator(char end) {
+            skipSpaces();
+            char character = flow.charAt(position);
+            if (character == ',') {
+                position++;
+            } else if (character != end) {
+                throw error("Expected ',' or '" + end + "' in flow collection");
+            }
+        }
+
+        private String readKey() {
+            int start = position;
+            if (flow.charAt(position) == '"' || flow.charAt(position) == '\'') {
+                position = findClosingQuote(flow, position) + 1;
+            }
+            int colon = flow.indexOf(':', position);
+            if (colon < 0) {
+                throw error("Expected 'key: value' in flow mapping");
+            }
+            position = colon + 1;
+            return flow.substring(start, colon).trim();
+        }
+
+        private String readScalar() {
+            int start = position;
+            if (flow.charAt(position) == '"' || flow.charAt(position) == '\'') {
+                position = findClosingQuote(flow, position) + 1;
+                return flow.substring(start, position);
+            }
+            while (position < flow.length() && ",]}".indexOf(flow.charAt(position)) < 0) {
+                position++;
+            }
+            String value = flow.substring(start, position).trim();
+            if (value.isEmpty()) {
+                throw error("Empty value in flow collection");
+            }
+            return value;
+        }
+
+        private void skipSpaces() {
+            while (position < flow.length() && flow.charAt(position) == ' ') {
+                position++;
+            }
+            if (position == flow.length()) {
+                throw error("Unterminated flow collection");
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.codeus.winter.util;
+
+import com.codeus.winter.exception.PropertySourceException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ResourceReader} of UTF-8 {@code .yml} and {@code .yaml} files. Documents are parsed line by
+ * line directly into flattened property names, such as {@code server.hosts[0].name}, without
+ * building an object tree. Each document becomes a {@link PropertiesPropertySource}: a single
+ * document is named after the file path, several documents after the path and their position,
+ * such as {@code config.yml (document #2)}, in document order.
+ */
+public class YamlResourceReader implements ResourceReader<CompactPropertyMap> {
+
+    @Override
+    public final boolean isFileExist(String filepath, String filename) {
+        return Files.isRegularFile(Path.of(filepath, filename));
+    }
+
+    @Override
+    public final List<PropertySource<CompactPropertyMap>> readProperties(String filePath, String fileName) {
+        Path path = Path.of(filePath, fileName);
+        if (!Files.isRegularFile(path)) {
+            throw new PropertySourceException("YAML file not found: " + path);
+        }
+        List<CompactPropertyMap> documents;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            documents = new YamlParser(reader).parse();
+        } catch (IOException | IllegalArgumentException e) {
+            throw new PropertySourceException("Failed to read YAML file " + path, e);
+        }
+        if (documents.size() <= 1) {
+            CompactPropertyMap properties = documents.isEmpty() ? new CompactPropertyMap() : documents.get(0);
+            return List.of(new PropertiesPropertySource(path.toString(), properties));
+        }
+        List<PropertySource<CompactPropertyMap>> sources = new ArrayList<>(documents.size());
+        for (int i = 0; i < documents.size(); i++) {
+            sources.add(new PropertiesPropertySource(path + " (document #" + (i + 1) + ")", documents.get(i)));
+        }
+        return sources;
+    }
+}
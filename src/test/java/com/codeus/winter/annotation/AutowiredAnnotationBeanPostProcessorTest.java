@@ -1,8 +1,11 @@
 package com.codeus.winter.annotation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.codeus.winter.config.DefaultBeanFactory;
+import com.codeus.winter.exception.BeanNotFoundException;
 import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.Set;
@@ -55,6 +58,23 @@ class AutowiredAnnotationBeanPostProcessorTest {
         assertEquals(DependencyTestClass.class, dependency.getType());
     }
 
+    @Test
+    void missingDependencyIsReportedWithoutStackTrace() {
+        // given
+        var bean = new AutowiredMissingDependencyTestClass();
+
+        // when
+        BeanNotFoundException exception = assertThrows(BeanNotFoundException.class,
+            () -> postProcessor.postProcessBeforeInitialization(bean, "missingDependency"));
+
+        // then
+        assertEquals("Bean post processing failed: missingDependency", exception.getMessage());
+        assertEquals(0, exception.getStackTrace().length);
+        BeanNotFoundException cause = assertInstanceOf(BeanNotFoundException.class, exception.getCause());
+        assertEquals("Bean not found for type: java.lang.Runnable", cause.getMessage());
+        assertEquals(0, cause.getStackTrace().length);
+    }
+
     private void createBeanTestClass() {
         Reflections refelections = new Reflections("com.codeus.winter.annotation");
         Set<Class<?>> classes = refelections.getTypesAnnotatedWith(Component.class);
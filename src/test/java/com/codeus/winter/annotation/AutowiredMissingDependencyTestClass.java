@@ -0,0 +1,11 @@
+package com.codeus.winter.annotation;
+
+public class AutowiredMissingDependencyTestClass {
+
+    @Autowired
+    private Runnable missing;
+
+    public AutowiredMissingDependencyTestClass() {
+        // default constructor
+    }
+}
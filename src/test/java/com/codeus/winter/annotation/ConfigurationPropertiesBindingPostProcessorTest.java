@@ -0,0 +1,118 @@
+package com.codeus.winter.annotation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.codeus.winter.config.BeanDefinition;
+import com.codeus.winter.config.DefaultBeanFactory;
+import com.codeus.winter.config.impl.BeanDefinitionImpl;
+import com.codeus.winter.exception.BeanFactoryException;
+import com.codeus.winter.exception.PropertySourceException;
+import com.codeus.winter.util.CompositePropertySource;
+import com.codeus.winter.util.MapPropertySource;
+import com.codeus.winter.util.PropertyChangeEvent;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConfigurationPropertiesBindingPostProcessorTest {
+
+    private Map<String, Object> properties;
+    private ConfigurationPropertiesBindingPostProcessor postProcessor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HashMap<>(Map.of(
+            "server.port", "8443",
+            "server.context-path", "/api",
+            "mail.host", "smtp.example.com"));
+        postProcessor = new ConfigurationPropertiesBindingPostProcessor(new MapPropertySource("map", properties));
+    }
+
+    @Test
+    void bindRecordThroughBeanFactory() {
+        // given
+        BeanDefinitionImpl beanDefinition = new BeanDefinitionImpl();
+        beanDefinition.setBeanClassName(ServerProperties.class.getName());
+        Map<String, BeanDefinition> beanDefinitions = new HashMap<>(Map.of("serverProperties", beanDefinition));
+
+        // when
+        DefaultBeanFactory beanFactory = new DefaultBeanFactory(beanDefinitions, List.of(postProcessor));
+
+        // then
+        assertEquals(new ServerProperties(8443, "/api"), beanFactory.getBean(ServerProperties.class));
+    }
+
+    @Test
+    void bindPojoAfterConstruction() {
+        // given
+        var bean = new MailProperties();
+
+        // when
+        postProcessor.postProcessBeforeInitialization(bean, "mailProperties");
+
+        // then
+        assertEquals("smtp.example.com", bean.getHost());
+        assertEquals(25, bean.getPort());
+    }
+
+    @Test
+    void rebindAffectedPojoInPlace() {
+        // given
+        var bean = new MailProperties();
+        postProcessor.postProcessBeforeInitialization(bean, "mailProperties");
+
+        // when
+        properties.put("mail.host", "relay.example.com");
+        postProcessor.propertiesChanged(new PropertyChangeEvent(new CompositePropertySource("unused"),
+            Set.of("mail.host")));
+
+        // then
+        assertEquals("relay.example.com", bean.getHost());
+    }
+
+    @Test
+    void reportBindingFailure() {
+        // given
+        properties.put("mail.port", "smtp");
+        var bean = new MailProperties();
+
+        // when
+        BeanFactoryException exception = assertThrows(BeanFactoryException.class,
+            () -> postProcessor.postProcessBeforeInitialization(bean, "mailProperties"));
+
+        // then
+        assertEquals("Configuration properties binding failed: mailProperties", exception.getMessage());
+        assertInstanceOf(PropertySourceException.class, exception.getCause());
+    }
+
+    @ConfigurationProperties(prefix = "server")
+    public record ServerProperties(int port, String contextPath) {
+    }
+
+    @ConfigurationProperties(prefix = "mail")
+    static class MailProperties {
+        private String host;
+        private int port = 25;
+
+        public String getHost() {
+            return host;
+        }
+
+        public void setHost(String host) {
+            this.host = host;
+        }
+
+        public int getPort() {
+            return port;
+        }
+
+        public void setPort(int port) {
+            this.port = port;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.codeus.winter.annotation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.codeus.winter.event.ApplicationEventBus;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class EventListenerAnnotationBeanPostProcessorTest {
+    private final ApplicationEventBus eventBus = new ApplicationEventBus();
+
+    @AfterEach
+    void tearDown() {
+        eventBus.close();
+    }
+
+    @Test
+    void testRegisterListenerMethods() {
+        // given
+        EventListenerAnnotationBeanPostProcessor processor = new EventListenerAnnotationBeanPostProcessor(eventBus);
+        EventListenerTestClass bean = new EventListenerTestClass();
+
+        // when
+        Object processed = processor.postProcessAfterInitialization(bean, "listener");
+        eventBus.publishEvent("event");
+
+        // then
+        assertSame(bean, processed);
+        assertEquals(4, eventBus.getListenerCount());
+        assertEquals(Set.of("overridden:event", "inherited:event", "event"), Set.copyOf(bean.getReceived()));
+    }
+
+    @Test
+    void testAsyncListenerMethod() throws InterruptedException {
+        // given
+        EventListenerAnnotationBeanPostProcessor processor = new EventListenerAnnotationBeanPostProcessor(eventBus);
+        CountDownLatch done = new CountDownLatch(1);
+        EventListenerTestClass bean = new EventListenerTestClass();
+        processor.postProcessAfterInitialization(bean, "listener");
+        eventBus.addListener(Integer.class, event -> done.countDown(), true);
+
+        // when
+        eventBus.publishEvent(7);
+
+        // then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(7), bean.getReceivedAsync());
+        assertEquals(List.of("overridden:7"), bean.getReceived());
+    }
+
+    @Test
+    void testSkipFilteredBeans() {
+        // given
+        EventListenerAnnotationBeanPostProcessor processor =
+                new EventListenerAnnotationBeanPostProcessor(eventBus, beanName -> !beanName.equals("prototype"));
+        EventListenerTestClass bean = new EventListenerTestClass();
+
+        // when
+        processor.postProcessAfterInitialization(bean, "prototype");
+        eventBus.publishEvent("event");
+
+        // then
+        assertEquals(0, eventBus.getListenerCount());
+        assertTrue(bean.getReceived().isEmpty());
+    }
+
+    @Test
+    void testInjectEventPublisher() {
+        // given
+        EventListenerAnnotationBeanPostProcessor processor = new EventListenerAnnotationBeanPostProcessor(eventBus);
+        EventListenerTestClass bean = new EventListenerTestClass();
+        processor.postProcessBeforeInitialization(bean, "listener");
+        processor.postProcessAfterInitialization(bean, "listener");
+
+        // when
+        bean.publish("published");
+
+        // then
+        assertEquals(Set.of("overridden:published", "inherited:published", "published"),
+                Set.copyOf(bean.getReceived()));
+    }
+}
@@ -0,0 +1,18 @@
+package com.codeus.winter.annotation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class EventListenerBaseTestClass {
+    protected final List<Object> received = new CopyOnWriteArrayList<>();
+
+    @EventListener
+    public void onAny(Object event) {
+        received.add("base:" + event);
+    }
+
+    @EventListener
+    protected void onCharSequence(CharSequence event) {
+        received.add("inherited:" + event);
+    }
+}
@@ -0,0 +1,44 @@
+package com.codeus.winter.annotation;
+
+import com.codeus.winter.event.ApplicationEventPublisher;
+import com.codeus.winter.event.ApplicationEventPublisherAware;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class EventListenerTestClass extends EventListenerBaseTestClass implements ApplicationEventPublisherAware {
+    private final List<Object> receivedAsync = new CopyOnWriteArrayList<>();
+    private ApplicationEventPublisher publisher;
+
+    @EventListener
+    private void onText(String event) {
+        received.add(event);
+    }
+
+    @EventListener(async = true)
+    public void onNumber(Integer event) {
+        receivedAsync.add(event);
+    }
+
+    @Override
+    @EventListener
+    public void onAny(Object event) {
+        received.add("overridden:" + event);
+    }
+
+    public void publish(Object event) {
+        publisher.publishEvent(event);
+    }
+
+    public List<Object> getReceived() {
+        return received;
+    }
+
+    public List<Object> getReceivedAsync() {
+        return receivedAsync;
+    }
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        this.publisher = applicationEventPublisher;
+    }
+}
@@ -0,0 +1,74 @@
+package com.codeus.winter.annotation;
+
+import com.codeus.winter.stereotype.Repository;
+import com.codeus.winter.stereotype.Service;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetaAnnotationsTest {
+
+    @Test
+    @DisplayName("Should resolve stereotypes meta-annotated with Component")
+    void testStereotypes() {
+        assertTrue(MetaAnnotations.isMetaAnnotated(Service.class, Component.class));
+        assertTrue(MetaAnnotations.isMetaAnnotated(Repository.class, Component.class));
+        assertTrue(MetaAnnotations.isMetaAnnotated(Component.class, Component.class));
+        assertFalse(MetaAnnotations.isMetaAnnotated(Lazy.class, Component.class));
+        assertFalse(MetaAnnotations.getMetaAnnotationTypes(Service.class).contains(Retention.class));
+    }
+
+    @Test
+    @DisplayName("Should cache the meta-annotation closure per annotation type")
+    void testClosureIsCached() {
+        assertSame(MetaAnnotations.getMetaAnnotationTypes(ComposedLazy.class),
+                MetaAnnotations.getMetaAnnotationTypes(ComposedLazy.class));
+    }
+
+    @Test
+    @DisplayName("Should find annotations through several levels of meta-annotations")
+    void testFindAnnotation() {
+        Lazy lazy = MetaAnnotations.findAnnotation(ComposedLazyClass.class, Lazy.class);
+
+        assertNotNull(lazy);
+        assertFalse(lazy.value());
+        assertTrue(MetaAnnotations.isAnnotated(ComposedLazyClass.class, EagerStereotype.class));
+        assertTrue(MetaAnnotations.isAnnotated(DirectLazyClass.class, Lazy.class));
+        assertNull(MetaAnnotations.findAnnotation(MetaAnnotationsTest.class, Lazy.class));
+    }
+
+    @Test
+    @DisplayName("Should reject types that are not annotations")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void testRejectNonAnnotationType() {
+        Class notAnAnnotation = String.class;
+        assertThrows(IllegalArgumentException.class, () -> MetaAnnotations.getMetaAnnotationTypes(notAnAnnotation));
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Lazy(false)
+    @interface EagerStereotype {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @EagerStereotype
+    @interface ComposedLazy {
+    }
+
+    @ComposedLazy
+    static class ComposedLazyClass {
+    }
+
+    @Lazy
+    static class DirectLazyClass {
+    }
+}
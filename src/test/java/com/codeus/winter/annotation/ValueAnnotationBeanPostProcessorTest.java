@@ -0,0 +1,236 @@
+package com.codeus.winter.annotation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.codeus.winter.config.BeanDefinition;
+import com.codeus.winter.config.DefaultBeanFactory;
+import com.codeus.winter.config.impl.BeanDefinitionImpl;
+import com.codeus.winter.exception.BeanFactoryException;
+import com.codeus.winter.exception.PropertySourceException;
+import com.codeus.winter.util.CompositePropertySource;
+import com.codeus.winter.util.MapPropertySource;
+import com.codeus.winter.util.PropertyChangeEvent;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ValueAnnotationBeanPostProcessorTest {
+
+    private Map<String, Object> properties;
+    private CompositePropertySource propertySource;
+    private ValueAnnotationBeanPostProcessor postProcessor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HashMap<>(Map.of(
+            "server.port", "8080",
+            "server.hosts", "a.example.com, b.example.com",
+            "server.mode", "read-only"));
+        propertySource = new CompositePropertySource("test");
+        propertySource.addLast(new MapPropertySource("map", properties));
+        postProcessor = new ValueAnnotationBeanPostProcessor(propertySource);
+    }
+
+    @Test
+    void injectFieldsAndSetters() {
+        // given
+        var bean = new ValueTestBean();
+
+        // when
+        postProcessor.postProcessBeforeInitialization(bean, "valueTestBean");
+
+        // then
+        assertEquals(8080, bean.port);
+        assertEquals(Duration.ofSeconds(30), bean.timeout);
+        assertEquals(List.of("a.example.com", "b.example.com"), bean.hosts);
+        assertEquals(Mode.READ_ONLY, bean.mode);
+    }
+
+    @Test
+    void reuseConvertedValuesUntilPropertiesChange() {
+        // given
+        var first = new ValueTestBean();
+        var second = new ValueTestBean();
+        postProcessor.postProcessBeforeInitialization(first, "first");
+
+        // when
+        postProcessor.postProcessBeforeInitialization(second, "second");
+
+        // then
+        assertSame(first.hosts, second.hosts);
+
+        // when
+        properties.put("server.hosts", "c.example.com");
+        propertySource.refresh();
+        var third = new ValueTestBean();
+        postProcessor.postProcessBeforeInitialization(third, "third");
+
+        // then
+        assertNotSame(first.hosts, third.hosts);
+        assertEquals(List.of("c.example.com"), third.hosts);
+    }
+
+    @Test
+    void reinjectChangedValuesInPlace() {
+        // given
+        var bean = new ValueTestBean();
+        postProcessor.postProcessBeforeInitialization(bean, "valueTestBean");
+        List<String> hosts = bean.hosts;
+
+        // when
+        properties.put("server.port", "9090");
+        propertySource.refresh();
+        postProcessor.propertiesChanged(new PropertyChangeEvent(propertySource, Set.of("server.port")));
+
+        // then
+        assertEquals(9090, bean.port);
+        assertSame(hosts, bean.hosts);
+    }
+
+    @Test
+    void reinjectOnlyMembersReadingChangedKeys() {
+        // given
+        properties.put("server.port", "${base.port}");
+        properties.put("base.port", "8080");
+        propertySource.refresh();
+        var bean = new ValueTestBean();
+        postProcessor.postProcessBeforeInitialization(bean, "valueTestBean");
+        List<String> hosts = bean.hosts;
+
+        // when
+        properties.put("base.port", "9090");
+        properties.put("server.hosts", "c.example.com");
+        propertySource.refresh();
+        postProcessor.propertiesChanged(new PropertyChangeEvent(propertySource, Set.of("base.port")));
+
+        // then
+        assertEquals(9090, bean.port);
+        assertSame(hosts, bean.hosts);
+    }
+
+    @Test
+    void reinjectOnlyBeansAcceptedByFilter() {
+        // given
+        postProcessor = new ValueAnnotationBeanPostProcessor(propertySource, "singleton"::equals);
+        var singleton = new ValueTestBean();
+        var prototype = new ValueTestBean();
+        postProcessor.postProcessBeforeInitialization(singleton, "singleton");
+        postProcessor.postProcessBeforeInitialization(prototype, "prototype");
+
+        // when
+        properties.put("server.port", "9090");
+        propertySource.refresh();
+        postProcessor.propertiesChanged(new PropertyChangeEvent(propertySource, Set.of("server.port")));
+
+        // then
+        assertEquals(9090, singleton.port);
+        assertEquals(8080, prototype.port);
+    }
+
+    @Test
+    void propagateErrorsOfSetters() {
+        // given
+        var bean = new FailingSetterTestBean();
+
+        // when
+        AssertionError error = assertThrows(AssertionError.class,
+            () -> postProcessor.postProcessBeforeInitialization(bean, "failingSetterBean"));
+
+        // then
+        assertEquals("rejected read-only", error.getMessage());
+    }
+
+    @Test
+    void injectConstructorParametersThroughBeanFactory() {
+        // given
+        BeanDefinitionImpl beanDefinition = new BeanDefinitionImpl();
+        beanDefinition.setBeanClassName(ValueConstructorTestBean.class.getName());
+        Map<String, BeanDefinition> beanDefinitions = new HashMap<>(Map.of("constructorBean", beanDefinition));
+
+        // when
+        DefaultBeanFactory beanFactory = new DefaultBeanFactory(beanDefinitions, List.of(postProcessor));
+
+        // then
+        ValueConstructorTestBean bean = beanFactory.getBean(ValueConstructorTestBean.class);
+        assertEquals(8080, bean.port());
+        assertEquals("winter", bean.name());
+        assertTrue(beanFactory.getDependencyGraph().get("constructorBean").isEmpty());
+    }
+
+    @Test
+    void failOnUnconvertibleValue() {
+        // given
+        properties.put("server.port", "http");
+        propertySource.refresh();
+        var bean = new ValueTestBean();
+
+        // when
+        BeanFactoryException exception = assertThrows(BeanFactoryException.class,
+            () -> postProcessor.postProcessBeforeInitialization(bean, "valueTestBean"));
+
+        // then
+        assertEquals("Value injection failed: valueTestBean", exception.getMessage());
+        assertInstanceOf(NumberFormatException.class, exception.getCause().getCause());
+    }
+
+    @Test
+    void failOnMissingProperty() {
+        // given
+        properties.remove("server.mode");
+        propertySource.refresh();
+        var bean = new ValueTestBean();
+
+        // when
+        BeanFactoryException exception = assertThrows(BeanFactoryException.class,
+            () -> postProcessor.postProcessBeforeInitialization(bean, "valueTestBean"));
+
+        // then
+        assertInstanceOf(PropertySourceException.class, exception.getCause());
+    }
+
+    enum Mode {
+        READ_ONLY,
+        READ_WRITE
+    }
+
+    static class ValueTestBean {
+        @Value("${server.port}")
+        private volatile int port;
+
+        @Value("${server.timeout:30s}")
+        private Duration timeout;
+
+        private List<String> hosts;
+
+        private Mode mode;
+
+        @Value("${server.hosts}")
+        void setHosts(List<String> hosts) {
+            this.hosts = hosts;
+        }
+
+        void setMode(@Value("${server.mode}") Mode mode) {
+            this.mode = mode;
+        }
+    }
+
+    static class FailingSetterTestBean {
+        @Value("${server.mode}")
+        String setMode(String mode) {
+            throw new AssertionError("rejected " + mode);
+        }
+    }
+
+    public record ValueConstructorTestBean(@Value("${server.port}") int port,
+                                           @Value("${app.name:winter}") String name) {
+    }
+}
@@ -2,6 +2,7 @@ package com.codeus.winter.config;
 
 import com.codeus.winter.config.impl.BeanDefinitionImpl;
 import com.codeus.winter.config.impl.BeanDefinitionRegistryImpl;
+import com.codeus.winter.config.impl.FrozenBeanDefinition;
 import com.codeus.winter.exception.BeanDefinitionStoreException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
 
 /**
@@ -116,4 +118,23 @@ class BeanDefinitionImplRegistryTest {
         assertArrayEquals(new String[]{"firstWinterBean", "secondWinterBean"}, beanNames,
                 "Registry should return the correct names of all registered bean definitions");
     }
+
+    /**
+     * Tests that freezing the configuration replaces registered and later registered definitions
+     * with frozen copies.
+     */
+    @Test
+    void shouldFreezeBeanDefinitions() {
+        registry.registerBeanDefinition("winterBean", winterBeanDefinition);
+        assertFalse(registry.isConfigurationFrozen(), "Configuration should not be frozen by default");
+
+        registry.freezeConfiguration();
+        registry.registerBeanDefinition("springBean", new BeanDefinitionImpl());
+
+        assertTrue(registry.isConfigurationFrozen(), "Configuration should be frozen");
+        assertInstanceOf(FrozenBeanDefinition.class, registry.getBeanDefinition("winterBean"));
+        assertInstanceOf(FrozenBeanDefinition.class, registry.getBeanDefinition("springBean"));
+        assertEquals("com.framework", registry.getBeanDefinition("winterBean").getBeanClassName(),
+                "Frozen definition should keep the bean class name");
+    }
 }
@@ -101,6 +101,32 @@ class BeanDefinitionImplTest {
                 "Primary should match the value set");
     }
 
+    /**
+     * Tests that the `lazyInit` property can be set and retrieved correctly.
+     */
+    @Test
+    void shouldSetAndGetLazyInit() {
+        assertFalse(beanDefinition.isLazyInit(),
+                "Default lazy init value should be false");
+
+        beanDefinition.setLazyInit(true);
+        assertTrue(beanDefinition.isLazyInit(),
+                "Lazy init should match the value set");
+    }
+
+    /**
+     * Tests that the `backgroundInit` property can be set and retrieved correctly.
+     */
+    @Test
+    void shouldSetAndGetBackgroundInit() {
+        assertFalse(beanDefinition.isBackgroundInit(),
+                "Default background init value should be false");
+
+        beanDefinition.setBackgroundInit(true);
+        assertTrue(beanDefinition.isBackgroundInit(),
+                "Background init should match the value set");
+    }
+
     /**
      * Tests that the factory bean name can be set and retrieved correctly.
      */
@@ -0,0 +1,109 @@
+package com.codeus.winter.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BeanIndexTest {
+
+    @Test
+    @DisplayName("Should assign dense ids in registration order and store dependsOn edges in rows")
+    void testAssignsIdsAndDependencyRows() {
+        BeanDefinition definitionA = mock(BeanDefinition.class);
+        BeanDefinition definitionB = mock(BeanDefinition.class);
+        when(definitionB.getDependsOn()).thenReturn(new String[]{"a", "missing"});
+        BeanDefinition definitionC = mock(BeanDefinition.class);
+        when(definitionC.getDependsOn()).thenReturn(new String[]{"b", "a"});
+        Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+        beanDefinitions.put("a", definitionA);
+        beanDefinitions.put("b", definitionB);
+        beanDefinitions.put("c", definitionC);
+
+        BeanIndex index = new BeanIndex(beanDefinitions);
+
+        assertEquals(3, index.size());
+        assertEquals(0, index.idOf("a"));
+        assertEquals(2, index.idOf("c"));
+        assertEquals(BeanIndex.NO_ID, index.idOf("missing"));
+        assertEquals("b", index.nameOf(1));
+        assertSame(definitionC, index.definitionOf(2));
+        BeanIndex.DependencyRows rows = index.dependencyRows();
+        assertEquals(rows.start(0), rows.end(0));
+        assertEquals(2, rows.end(1) - rows.start(1));
+        assertEquals(0, rows.at(rows.start(1)));
+        assertEquals(BeanIndex.NO_ID, rows.at(rows.start(1) + 1));
+        assertEquals(1, rows.at(rows.start(2)));
+        assertEquals(0, rows.at(rows.start(2) + 1));
+    }
+
+    @Test
+    @DisplayName("Should grow when beans are registered after construction")
+    void testRegistersBeyondInitialCapacity() {
+        BeanIndex index = new BeanIndex(Map.of());
+
+        for (int i = 0; i < 100; i++) {
+            int id = index.register("bean" + i, null);
+            index.setSlot(id, i);
+        }
+        BeanDefinition definition = mock(BeanDefinition.class);
+
+        assertEquals(42, index.register("bean42", definition));
+        assertEquals(100, index.size());
+        assertEquals(99, index.slotOf(index.idOf("bean99")));
+        assertSame(definition, index.definitionOf(42));
+        assertNull(index.definitionOf(41));
+        assertEquals(index.dependencyRows().start(42), index.dependencyRows().end(42));
+    }
+
+    @Test
+    @DisplayName("Should rebuild dependency rows when definitions are registered or replaced after construction")
+    void testRebuildsDependencyRowsOnRegistration() {
+        BeanDefinition definitionB = mock(BeanDefinition.class);
+        when(definitionB.getDependsOn()).thenReturn(new String[]{"missing"});
+        Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+        beanDefinitions.put("a", mock(BeanDefinition.class));
+        beanDefinitions.put("b", definitionB);
+        BeanIndex index = new BeanIndex(beanDefinitions);
+        BeanDefinition definitionC = mock(BeanDefinition.class);
+        when(definitionC.getDependsOn()).thenReturn(new String[]{"a", "b"});
+        BeanDefinition replacedB = mock(BeanDefinition.class);
+        when(replacedB.getDependsOn()).thenReturn(new String[]{"a", "c", "missing"});
+
+        int idC = index.register("c", definitionC);
+        index.register("b", replacedB);
+
+        BeanIndex.DependencyRows rows = index.dependencyRows();
+        assertEquals(2, rows.end(idC) - rows.start(idC));
+        assertEquals(0, rows.at(rows.start(idC)));
+        assertEquals(1, rows.at(rows.start(idC) + 1));
+        assertEquals(3, rows.end(1) - rows.start(1));
+        assertEquals(0, rows.at(rows.start(1)));
+        assertEquals(idC, rows.at(rows.start(1) + 1));
+        assertEquals(BeanIndex.NO_ID, rows.at(rows.start(1) + 2));
+    }
+
+    @Test
+    @DisplayName("Should build dependency rows once on the first read after registrations")
+    void testBuildsDependencyRowsOnceAfterRegistrations() {
+        BeanIndex index = new BeanIndex(Map.of("a", mock(BeanDefinition.class)));
+        BeanIndex.DependencyRows initialRows = index.dependencyRows();
+        assertSame(initialRows, index.dependencyRows());
+
+        for (int i = 0; i < 100; i++) {
+            index.register("bean" + i, mock(BeanDefinition.class));
+        }
+        BeanIndex.DependencyRows rows = index.dependencyRows();
+
+        assertNotSame(initialRows, rows);
+        assertSame(rows, index.dependencyRows());
+        assertEquals(0, rows.end(100) - rows.start(100));
+    }
+}
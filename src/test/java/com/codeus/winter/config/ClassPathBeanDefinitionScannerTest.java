@@ -0,0 +1,51 @@
+package com.codeus.winter.config;
+
+import com.codeus.winter.config.impl.ConcurrentBeanDefinitionRegistry;
+import com.codeus.winter.test.BeanA;
+import com.codeus.winter.test.BeanB;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ClassPathBeanDefinitionScannerTest {
+
+    @Test
+    @DisplayName("Should register the components of all base packages and return their number")
+    void testScanPackages() {
+        PackageScanner packageScanner = mock(PackageScanner.class);
+        when(packageScanner.findClassesWithAnnotations(eq("com.first"), anySet())).thenReturn(Set.of(BeanA.class));
+        when(packageScanner.findClassesWithAnnotations(eq("com.second"), anySet())).thenReturn(Set.of(BeanB.class));
+        BeanDefinitionRegistry registry = new ConcurrentBeanDefinitionRegistry();
+        ClassPathBeanDefinitionScanner scanner = new ClassPathBeanDefinitionScanner(registry, packageScanner);
+
+        assertEquals(2, scanner.scanPackages("com.first", "com.second"));
+        assertTrue(registry.containsBeanDefinition("beanA"));
+        assertTrue(registry.containsBeanDefinition("beanB"));
+        assertEquals(0, scanner.scanPackages());
+    }
+
+    @Test
+    @DisplayName("Should pass include and exclude filters to the package scanner")
+    void testScanPackagesWithFilters() {
+        PackageScanner packageScanner = mock(PackageScanner.class);
+        ScanFilter excludeFilter = ScanFilter.glob("com.first.dto.**");
+        when(packageScanner.findClassesWithAnnotations(eq("com.first"), anySet(), anyCollection(),
+                eq(List.of(excludeFilter)))).thenReturn(Set.of(BeanA.class));
+        BeanDefinitionRegistry registry = new ConcurrentBeanDefinitionRegistry();
+        ClassPathBeanDefinitionScanner scanner = new ClassPathBeanDefinitionScanner(registry, packageScanner);
+        scanner.addExcludeFilter(excludeFilter);
+
+        assertEquals(1, scanner.scanPackages("com.first"));
+        assertTrue(registry.containsBeanDefinition("beanA"));
+    }
+}
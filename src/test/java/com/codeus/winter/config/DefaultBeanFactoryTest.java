@@ -1,7 +1,12 @@
 package com.codeus.winter.config;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -12,21 +17,38 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.codeus.winter.annotation.AutowiredAnnotationBeanPostProcessor;
+import com.codeus.winter.annotation.InitDestroyAnnotationBeanPostProcessor;
 import com.codeus.winter.exception.BeanFactoryException;
 import com.codeus.winter.exception.BeanNotFoundException;
 import com.codeus.winter.exception.NotUniqueBeanDefinitionException;
+import com.codeus.winter.test.BackgroundInitConsumer;
 import com.codeus.winter.test.BeanA;
 import com.codeus.winter.test.BeanB;
 import com.codeus.winter.test.BeanC;
 import com.codeus.winter.test.BeanD;
 import com.codeus.winter.test.BeanE;
 import com.codeus.winter.test.Common;
+import com.codeus.winter.test.HeavyService;
+import com.codeus.winter.test.HeavyServiceImpl;
+import com.codeus.winter.test.LazyBean;
+import com.codeus.winter.test.LazyClient;
+import com.codeus.winter.test.Preloader;
+import com.codeus.winter.test.PreloaderClient;
+import com.codeus.winter.test.ScopedBean;
+import com.codeus.winter.test.SlowInitBean;
+import com.codeus.winter.test.SlowInitClient;
 import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -355,4 +377,449 @@ class DefaultBeanFactoryTest {
         assertEquals(beanA, map.get(beanA.getClass().getName()));
         assertEquals(beanE, map.get(beanE.getClass().getName()));
     }
+
+    @Test
+    @DisplayName("Should not create lazy bean at startup but on first lookup")
+    void testLazyBeanCreatedOnFirstLookup() {
+        HeavyServiceImpl.INSTANCES.set(0);
+        BeanDefinition heavyDefinition = mock(BeanDefinition.class);
+        when(heavyDefinition.getBeanClassName()).thenReturn(HeavyServiceImpl.class.getName());
+        when(heavyDefinition.isSingleton()).thenReturn(true);
+        when(heavyDefinition.isLazyInit()).thenReturn(true);
+
+        DefaultBeanFactory factory = new DefaultBeanFactory(Map.of("heavyService", heavyDefinition));
+        assertEquals(0, HeavyServiceImpl.INSTANCES.get());
+
+        HeavyService heavyService = factory.getBean(HeavyService.class);
+        assertEquals(HeavyServiceImpl.class, heavyService.getClass());
+        assertEquals(heavyService, factory.getBean("heavyService"));
+        assertEquals(1, HeavyServiceImpl.INSTANCES.get());
+    }
+
+    @Test
+    @DisplayName("Should treat class annotated with @Lazy as lazy bean")
+    void testLazyAnnotatedClassCreatedOnFirstLookup() {
+        BeanDefinition lazyDefinition = mock(BeanDefinition.class);
+        when(lazyDefinition.getBeanClassName()).thenReturn(LazyBean.class.getName());
+        when(lazyDefinition.isSingleton()).thenReturn(true);
+
+        DefaultBeanFactory factory = new DefaultBeanFactory(Map.of("lazyBean", lazyDefinition));
+
+        LazyBean lazyBean = factory.getBean("lazyBean", LazyBean.class);
+        assertNotNull(lazyBean);
+        assertEquals(lazyBean, factory.getBean(LazyBean.class));
+    }
+
+    @Test
+    @DisplayName("Should inject lazy proxy into @Lazy constructor parameter and resolve target on first call")
+    void testLazyConstructorParameterReceivesProxy() {
+        HeavyServiceImpl.INSTANCES.set(0);
+        BeanDefinition heavyDefinition = mock(BeanDefinition.class);
+        when(heavyDefinition.getBeanClassName()).thenReturn(HeavyServiceImpl.class.getName());
+        when(heavyDefinition.isSingleton()).thenReturn(true);
+        when(heavyDefinition.isLazyInit()).thenReturn(true);
+        BeanDefinition clientDefinition = mock(BeanDefinition.class);
+        when(clientDefinition.getBeanClassName()).thenReturn(LazyClient.class.getName());
+        when(clientDefinition.isSingleton()).thenReturn(true);
+
+        Map<String, BeanDefinition> beanDefinitionMap = new LinkedHashMap<>();
+        beanDefinitionMap.put("lazyClient", clientDefinition);
+        beanDefinitionMap.put("heavyService", heavyDefinition);
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitionMap);
+
+        LazyClient client = factory.getBean(LazyClient.class);
+        assertTrue(LazyResolutionProxy.isLazyProxy(client.getHeavyService()));
+        assertEquals(0, HeavyServiceImpl.INSTANCES.get());
+
+        assertEquals("value-key", client.getHeavyService().lookup("key"));
+        assertEquals("value-other", client.getHeavyService().lookup("other"));
+        assertEquals(1, HeavyServiceImpl.INSTANCES.get());
+        assertFalse(LazyResolutionProxy.isLazyProxy(factory.getBean(HeavyService.class)));
+    }
+
+    @Test
+    @DisplayName("Should run init callbacks of background bean on bootstrap executor without blocking startup")
+    void testBackgroundInitDoesNotBlockStartup() throws Exception {
+        SlowInitBean.reset();
+        BeanDefinition slowDefinition = mock(BeanDefinition.class);
+        when(slowDefinition.getBeanClassName()).thenReturn(SlowInitBean.class.getName());
+        when(slowDefinition.isSingleton()).thenReturn(true);
+
+        DefaultBeanFactory factory = new DefaultBeanFactory(Map.of("slowInitBean", slowDefinition),
+                List.of(new InitDestroyAnnotationBeanPostProcessor()));
+        CompletableFuture<Void> readiness = factory.getBackgroundInitialization();
+        assertFalse(readiness.isDone());
+
+        SlowInitBean.release();
+        readiness.get(5, TimeUnit.SECONDS);
+
+        SlowInitBean bean = factory.getBean(SlowInitBean.class);
+        assertTrue(bean.isInitialized());
+        assertTrue(bean.getInitThread().isVirtual());
+    }
+
+    @Test
+    @DisplayName("Should wait for background initialization when bean is looked up")
+    void testLookupWaitsForBackgroundInit() {
+        SlowInitBean.reset();
+        BeanDefinition slowDefinition = mock(BeanDefinition.class);
+        when(slowDefinition.getBeanClassName()).thenReturn(SlowInitBean.class.getName());
+        when(slowDefinition.isSingleton()).thenReturn(true);
+        when(slowDefinition.isBackgroundInit()).thenReturn(true);
+
+        DefaultBeanFactory factory = new DefaultBeanFactory(Map.of("slowInitBean", slowDefinition),
+                List.of(new InitDestroyAnnotationBeanPostProcessor()));
+        CompletableFuture.runAsync(SlowInitBean::release, CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+
+        SlowInitBean bean = factory.getBean("slowInitBean", SlowInitBean.class);
+        assertTrue(bean.isInitialized());
+        assertTrue(factory.getBackgroundInitialization().isDone());
+    }
+
+    @Test
+    @DisplayName("Should run background init on bootstrap thread when eager bean depends on it")
+    void testEagerDependentDoesNotRunBackgroundInitInline() {
+        SlowInitBean.reset();
+        BeanDefinition slowDefinition = mock(BeanDefinition.class);
+        when(slowDefinition.getBeanClassName()).thenReturn(SlowInitBean.class.getName());
+        when(slowDefinition.isSingleton()).thenReturn(true);
+        BeanDefinition clientDefinition = mock(BeanDefinition.class);
+        when(clientDefinition.getBeanClassName()).thenReturn(SlowInitClient.class.getName());
+        when(clientDefinition.isSingleton()).thenReturn(true);
+        Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+        beanDefinitions.put("slowInitBean", slowDefinition);
+        beanDefinitions.put("slowInitClient", clientDefinition);
+        CompletableFuture.runAsync(SlowInitBean::release, CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+
+        try (DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitions,
+                List.of(new InitDestroyAnnotationBeanPostProcessor()))) {
+            SlowInitBean bean = factory.getBean(SlowInitClient.class).getSlowInitBean();
+            assertTrue(bean.isInitialized());
+            assertTrue(bean.getInitThread().isVirtual());
+        }
+    }
+
+    @Test
+    @DisplayName("Should inject lazy proxies of background beans into interface collections without waiting")
+    void testCollectionOfBackgroundBeansDoesNotBlockStartup() throws Exception {
+        SlowInitBean.reset();
+        BeanDefinition slowDefinition = mock(BeanDefinition.class);
+        when(slowDefinition.getBeanClassName()).thenReturn(SlowInitBean.class.getName());
+        when(slowDefinition.isSingleton()).thenReturn(true);
+        BeanDefinition clientDefinition = mock(BeanDefinition.class);
+        when(clientDefinition.getBeanClassName()).thenReturn(PreloaderClient.class.getName());
+        when(clientDefinition.isSingleton()).thenReturn(true);
+        Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+        beanDefinitions.put("slowInitBean", slowDefinition);
+        beanDefinitions.put("preloaderClient", clientDefinition);
+
+        try (DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitions,
+                List.of(new InitDestroyAnnotationBeanPostProcessor()))) {
+            Preloader preloader = factory.getBean(PreloaderClient.class).getPreloaders().get(0);
+            assertTrue(LazyResolutionProxy.isLazyProxy(preloader));
+            assertFalse(factory.getBackgroundInitialization().isDone());
+
+            SlowInitBean.release();
+            assertTrue(preloader.isInitialized());
+            factory.getBackgroundInitialization().get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail lookups and readiness when a background init callback throws an error")
+    void testBackgroundInitError() {
+        BeanDefinition consumerDefinition = mock(BeanDefinition.class);
+        when(consumerDefinition.getBeanClassName()).thenReturn(BackgroundInitConsumer.class.getName());
+        when(consumerDefinition.isSingleton()).thenReturn(true);
+        BeanPostProcessor failingPostProcessor = new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                throw new NoClassDefFoundError("com/example/MissingDependency");
+            }
+        };
+
+        try (DefaultBeanFactory factory = new DefaultBeanFactory(Map.of("consumer", consumerDefinition),
+                List.of(failingPostProcessor))) {
+            ExecutionException readinessFailure = assertThrows(ExecutionException.class,
+                    () -> factory.getBackgroundInitialization().get(5, TimeUnit.SECONDS));
+            BeanFactoryException lookupFailure = assertThrows(BeanFactoryException.class,
+                    () -> factory.getBean("consumer"));
+
+            assertInstanceOf(NoClassDefFoundError.class, readinessFailure.getCause());
+            assertInstanceOf(NoClassDefFoundError.class, lookupFailure.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("Should create eager singletons on demand for background inits started before them")
+    void testBackgroundInitCreatesEagerDependencyOnDemand() throws Exception {
+        BeanDefinition consumerDefinition = mock(BeanDefinition.class);
+        when(consumerDefinition.getBeanClassName()).thenReturn(BackgroundInitConsumer.class.getName());
+        when(consumerDefinition.isSingleton()).thenReturn(true);
+        Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+        beanDefinitions.put("consumer", consumerDefinition);
+        beanDefinitions.put("BeanA", beanDefinitionA);
+
+        try (DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitions,
+                List.of(new AutowiredAnnotationBeanPostProcessor()))) {
+            factory.getBackgroundInitialization().get(5, TimeUnit.SECONDS);
+
+            assertSame(factory.getBean("BeanA"), factory.getBean(BackgroundInitConsumer.class).getBeanA());
+            assertEquals(1, factory.getBeansOfType(BeanA.class).size());
+        }
+    }
+
+    @Test
+    @DisplayName("Should build dependency graph from dependsOn and constructor parameters")
+    void testDependencyGraph() {
+        BeanDefinition heavyDefinition = mock(BeanDefinition.class);
+        when(heavyDefinition.getBeanClassName()).thenReturn(HeavyServiceImpl.class.getName());
+        when(heavyDefinition.isLazyInit()).thenReturn(true);
+        BeanDefinition clientDefinition = mock(BeanDefinition.class);
+        when(clientDefinition.getBeanClassName()).thenReturn(LazyClient.class.getName());
+        when(beanDefinitionD.getDependsOn()).thenReturn(new String[]{"BeanA"});
+        Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+        beanDefinitions.put("BeanA", beanDefinitionA);
+        beanDefinitions.put("BeanB", beanDefinitionB);
+        beanDefinitions.put("BeanC", beanDefinitionC);
+        beanDefinitions.put("BeanD", beanDefinitionD);
+        beanDefinitions.put("BeanE", beanDefinitionE);
+        beanDefinitions.put("heavyService", heavyDefinition);
+        beanDefinitions.put("lazyClient", clientDefinition);
+
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitions);
+
+        Map<String, Set<String>> dependencyGraph = factory.getDependencyGraph();
+        assertEquals(List.of("BeanA", "BeanB", "BeanC", "BeanD", "BeanE", "heavyService", "lazyClient"),
+                List.copyOf(dependencyGraph.keySet()));
+        assertEquals(Set.of(), dependencyGraph.get("BeanA"));
+        assertEquals(List.of("BeanA"), List.copyOf(dependencyGraph.get("BeanB")));
+        assertEquals(List.of("BeanA", "BeanB"), List.copyOf(dependencyGraph.get("BeanC")));
+        assertEquals(List.of("BeanA", "BeanE"), List.copyOf(dependencyGraph.get("BeanD")));
+        assertEquals(Set.of(), dependencyGraph.get("lazyClient"));
+    }
+
+    @Test
+    @DisplayName("Should return null or empty optional for missing beans without throwing")
+    void testNonThrowingLookup() {
+        DefaultBeanFactory factory = new DefaultBeanFactory(new HashMap<>(Map.of("BeanA", beanDefinitionA)));
+
+        assertNull(factory.getBeanIfAvailable("missing"));
+        assertNull(factory.getBeanIfAvailable(BeanB.class));
+        assertTrue(factory.findBean("missing").isEmpty());
+        assertTrue(factory.findBean(BeanB.class).isEmpty());
+        assertNotNull(factory.getBeanIfAvailable("BeanA"));
+        assertEquals(factory.getBean(BeanA.class), factory.findBean(BeanA.class).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should invalidate cached misses on bean registration")
+    void testNegativeLookupCacheInvalidatedOnRegisterBean() {
+        DefaultBeanFactory factory = new DefaultBeanFactory(new HashMap<>(Map.of("BeanA", beanDefinitionA)));
+        assertNull(factory.getBeanIfAvailable("BeanE"));
+        assertNull(factory.getBeanIfAvailable(BeanE.class));
+
+        BeanE beanE = new BeanE();
+        factory.registerBean("BeanE", beanDefinitionE, beanE);
+
+        assertEquals(beanE, factory.getBeanIfAvailable("BeanE"));
+        assertEquals(beanE, factory.getBeanIfAvailable(BeanE.class));
+    }
+
+    @Test
+    @DisplayName("Should return all beans of a type in registration order, including lazy beans")
+    void testGetBeansOfType() {
+        BeanDefinition heavyDefinition = mock(BeanDefinition.class);
+        when(heavyDefinition.getBeanClassName()).thenReturn(HeavyServiceImpl.class.getName());
+        when(heavyDefinition.isLazyInit()).thenReturn(true);
+        Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+        beanDefinitions.put("BeanE", beanDefinitionE);
+        beanDefinitions.put("BeanA", beanDefinitionA);
+        beanDefinitions.put("heavyService", heavyDefinition);
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitions);
+        HeavyServiceImpl.INSTANCES.set(0);
+
+        assertEquals(List.of("BeanE", "BeanA"), factory.getBeanNamesForType(Common.class));
+        assertEquals(List.of("heavyService"), factory.getBeanNamesForType(HeavyService.class));
+        assertEquals(0, HeavyServiceImpl.INSTANCES.get());
+
+        Map<String, Common> commons = factory.getBeansOfType(Common.class);
+        assertEquals(List.of("BeanE", "BeanA"), List.copyOf(commons.keySet()));
+        assertEquals(factory.getBean("BeanA"), commons.get("BeanA"));
+        assertSame(commons, factory.getBeansOfType(Common.class));
+        assertThrows(UnsupportedOperationException.class, () -> commons.put("other", new BeanE()));
+
+        Map<String, HeavyService> heavyServices = factory.getBeansOfType(HeavyService.class);
+        assertEquals(1, HeavyServiceImpl.INSTANCES.get());
+        assertEquals(factory.getBean("heavyService"), heavyServices.get("heavyService"));
+        assertTrue(factory.getBeansOfType(BeanD.class).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should recompute beans of a type after registry change")
+    void testGetBeansOfTypeInvalidatedOnRegisterBean() {
+        DefaultBeanFactory factory = new DefaultBeanFactory(new LinkedHashMap<>(Map.of("BeanA", beanDefinitionA)));
+        Map<String, Common> before = factory.getBeansOfType(Common.class);
+        List<String> namesBefore = factory.getBeanNamesForType(Common.class);
+
+        BeanE beanE = new BeanE();
+        factory.registerBean("BeanE", beanDefinitionE, beanE);
+
+        assertEquals(List.of("BeanA"), List.copyOf(before.keySet()));
+        assertEquals(List.of("BeanA"), namesBefore);
+        assertEquals(List.of("BeanA", "BeanE"), factory.getBeanNamesForType(Common.class));
+        assertEquals(beanE, factory.getBeansOfType(Common.class).get("BeanE"));
+    }
+
+    @Test
+    @DisplayName("Should create a new prototype instance on every lookup and none at startup")
+    void testPrototypeBean() {
+        ScopedBean.reset();
+        BeanDefinition prototypeDefinition = scopedDefinition(BeanDefinition.SCOPE_PROTOTYPE);
+
+        DefaultBeanFactory factory = new DefaultBeanFactory(Map.of("BeanA", beanDefinitionA,
+                "scopedBean", prototypeDefinition));
+        assertEquals(0, ScopedBean.INSTANCES.get());
+
+        ScopedBean first = factory.getBean(ScopedBean.class);
+        ScopedBean second = factory.getBean("scopedBean", ScopedBean.class);
+        assertNotSame(first, second);
+        assertSame(factory.getBean(BeanA.class), first.getBeanA());
+        assertEquals(2, ScopedBean.INSTANCES.get());
+        assertEquals(List.of("scopedBean"), factory.getBeanNamesForType(ScopedBean.class));
+        assertTrue(factory.getBeansOfType(ScopedBean.class).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should share request-scoped bean within a request and destroy it when the request ends")
+    void testRequestScopedBean() {
+        ScopedBean.reset();
+        DefaultBeanFactory factory = new DefaultBeanFactory(Map.of("BeanA", beanDefinitionA,
+                "scopedBean", scopedDefinition(BeanDefinition.SCOPE_REQUEST)),
+                List.of(new InitDestroyAnnotationBeanPostProcessor()));
+        RequestScope requestScope = (RequestScope) factory.getRegisteredScope(BeanDefinition.SCOPE_REQUEST);
+
+        assertThrows(BeanFactoryException.class, () -> factory.getBean(ScopedBean.class));
+        requestScope.run(() -> {
+            ScopedBean bean = factory.getBean(ScopedBean.class);
+            assertSame(bean, factory.getBean("scopedBean"));
+            assertEquals(0, ScopedBean.DESTROYED.get());
+        });
+        requestScope.run(() -> factory.getBean(ScopedBean.class));
+
+        assertEquals(2, ScopedBean.INSTANCES.get());
+        assertEquals(2, ScopedBean.DESTROYED.get());
+    }
+
+    @Test
+    @DisplayName("Should share thread-scoped bean within a thread")
+    void testThreadScopedBean() throws InterruptedException {
+        ScopedBean.reset();
+        DefaultBeanFactory factory = new DefaultBeanFactory(Map.of("BeanA", beanDefinitionA,
+                "scopedBean", scopedDefinition(BeanDefinition.SCOPE_THREAD)));
+        ScopedBean bean = factory.getBean(ScopedBean.class);
+        ScopedBean[] otherThreadBean = new ScopedBean[1];
+
+        Thread.ofVirtual().start(() -> otherThreadBean[0] = factory.getBean(ScopedBean.class)).join();
+
+        assertSame(bean, factory.getBean(ScopedBean.class));
+        assertNotSame(bean, otherThreadBean[0]);
+        ((ThreadScope) factory.getRegisteredScope(BeanDefinition.SCOPE_THREAD)).destroyCurrentThreadBeans();
+        assertNotSame(bean, factory.getBean(ScopedBean.class));
+    }
+
+    @Test
+    @DisplayName("Should serve custom scope names with registered scopes only")
+    void testCustomScope() {
+        BeanScope sessionScope = mock(BeanScope.class);
+        ScopedBean sessionBean = new ScopedBean(new BeanA());
+        when(sessionScope.get(anyString(), any())).thenReturn(sessionBean);
+        DefaultBeanFactory factory = new DefaultBeanFactory(Map.of("BeanA", beanDefinitionA,
+                "scopedBean", scopedDefinition("SESSION")));
+
+        BeanFactoryException exception = assertThrows(BeanFactoryException.class,
+                () -> factory.getBean("scopedBean"));
+        assertEquals("No scope registered for scope name 'SESSION' of bean: scopedBean", exception.getMessage());
+
+        factory.registerScope("SESSION", sessionScope);
+        assertSame(sessionBean, factory.getBean(ScopedBean.class));
+        assertSame(sessionScope, factory.getRegisteredScope("SESSION"));
+        assertThrows(BeanFactoryException.class,
+                () -> factory.registerScope(BeanDefinition.SCOPE_SINGLETON, sessionScope));
+    }
+
+    @Test
+    @DisplayName("Should create and look up request-scoped beans in 100k concurrent requests on virtual threads")
+    void testRequestScopedBeansOnVirtualThreads() {
+        ScopedBean.reset();
+        int requests = 100_000;
+        DefaultBeanFactory factory = new DefaultBeanFactory(Map.of("BeanA", beanDefinitionA,
+                "scopedBean", scopedDefinition(BeanDefinition.SCOPE_REQUEST)),
+                List.of(new InitDestroyAnnotationBeanPostProcessor()));
+        RequestScope requestScope = (RequestScope) factory.getRegisteredScope(BeanDefinition.SCOPE_REQUEST);
+        AtomicInteger mismatches = new AtomicInteger();
+
+        VirtualThreadBenchmark.Result result = VirtualThreadBenchmark.run("request-scoped getBean", requests,
+                () -> requestScope.run(() -> {
+                    ScopedBean bean = factory.getBean(ScopedBean.class);
+                    Thread.yield();
+                    if (factory.getBean("scopedBean") != bean) {
+                        mismatches.incrementAndGet();
+                    }
+                }));
+
+        assertTrue(result.elapsedNanos() > 0);
+        assertEquals(0, mismatches.get());
+        assertEquals(requests, ScopedBean.INSTANCES.get());
+        assertEquals(requests, ScopedBean.DESTROYED.get());
+        assertEquals(0, requestScope.getActiveRequestCount());
+    }
+
+    @Test
+    @DisplayName("Should lend pooled beans through getBean and reuse them after releaseBean")
+    void testPooledBean() {
+        ScopedBean.reset();
+        DefaultBeanFactory factory = new DefaultBeanFactory(Map.of("BeanA", beanDefinitionA,
+                "scopedBean", scopedDefinition(BeanDefinition.SCOPE_POOLED)),
+                List.of(new InitDestroyAnnotationBeanPostProcessor()));
+        factory.registerScope(BeanDefinition.SCOPE_POOLED, new PooledScope(1, Duration.ZERO, null));
+
+        ScopedBean first = factory.getBean(ScopedBean.class);
+        factory.releaseBean("scopedBean", first);
+        assertSame(first, factory.getBean("scopedBean"));
+        ScopedBean extra = factory.getBean(ScopedBean.class);
+        assertNotSame(first, extra);
+        factory.releaseBean("scopedBean", first);
+        factory.releaseBean("scopedBean", extra);
+        factory.releaseBean("BeanA", factory.getBean(BeanA.class));
+
+        assertEquals(2, ScopedBean.INSTANCES.get());
+        assertEquals(1, ScopedBean.DESTROYED.get());
+        assertSame(first, factory.getBean(ScopedBean.class));
+    }
+
+    @Test
+    @DisplayName("Should create scoped beans from the definition registered last")
+    void testReplacedScopedDefinition() {
+        ScopedBean.reset();
+        DefaultBeanFactory factory = new DefaultBeanFactory(new HashMap<>(Map.of("BeanA", beanDefinitionA,
+                "scopedBean", scopedDefinition(BeanDefinition.SCOPE_PROTOTYPE))));
+        assertInstanceOf(ScopedBean.class, factory.getBean("scopedBean"));
+        BeanDefinition replacement = mock(BeanDefinition.class);
+        when(replacement.getBeanClassName()).thenReturn(BeanA.class.getName());
+        when(replacement.getScope()).thenReturn(BeanDefinition.SCOPE_PROTOTYPE);
+
+        factory.registerBean("scopedBean", replacement, new BeanA());
+
+        assertInstanceOf(BeanA.class, factory.getBean("scopedBean"));
+        assertEquals(Set.of("BeanA", "scopedBean"), Set.copyOf(factory.getBeanNamesForType(BeanA.class)));
+        assertEquals(List.of(), factory.getBeanNamesForType(ScopedBean.class));
+    }
+
+    private static BeanDefinition scopedDefinition(String scope) {
+        BeanDefinition scopedDefinition = mock(BeanDefinition.class);
+        when(scopedDefinition.getBeanClassName()).thenReturn(ScopedBean.class.getName());
+        when(scopedDefinition.getScope()).thenReturn(scope);
+        return scopedDefinition;
+    }
 }
@@ -0,0 +1,96 @@
+package com.codeus.winter.config;
+
+import com.codeus.winter.config.impl.BeanDefinitionImpl;
+import com.codeus.winter.config.impl.FrozenBeanDefinition;
+import com.codeus.winter.exception.BeanDefinitionStoreException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link FrozenBeanDefinition}.
+ */
+class FrozenBeanDefinitionTest {
+    private BeanDefinitionImpl source;
+
+    /**
+     * Creates a mutable definition with every property set.
+     */
+    @BeforeEach
+    void setUp() {
+        source = new BeanDefinitionImpl();
+        source.setBeanClassName(new String("com.framework.MagicClass"));
+        source.setDependsOn("beanWinter", "beanSpring");
+        source.setPrimary(true);
+        source.setLazyInit(true);
+        source.setInitMethodName("initializeWinter");
+        source.setDestroyMethodName("clean");
+    }
+
+    /**
+     * Tests that a frozen copy exposes the same metadata.
+     */
+    @Test
+    void shouldCopyAllProperties() {
+        FrozenBeanDefinition frozen = FrozenBeanDefinition.of(source);
+
+        assertEquals("com.framework.MagicClass", frozen.getBeanClassName());
+        assertEquals(BeanDefinition.SCOPE_SINGLETON, frozen.getScope());
+        assertTrue(frozen.isSingleton());
+        assertArrayEquals(new String[]{"beanWinter", "beanSpring"}, frozen.getDependsOn());
+        assertTrue(frozen.isInjectCandidate());
+        assertTrue(frozen.isPrimary());
+        assertTrue(frozen.isLazyInit());
+        assertFalse(frozen.isBackgroundInit());
+        assertEquals("initializeWinter", frozen.getInitMethodName());
+        assertEquals("clean", frozen.getDestroyMethodName());
+    }
+
+    /**
+     * Tests that reads return shared values instead of allocating.
+     */
+    @Test
+    void shouldShareDependsOnAndInternClassName() {
+        FrozenBeanDefinition frozen = FrozenBeanDefinition.of(source);
+
+        assertSame(frozen.getDependsOn(), frozen.getDependsOn());
+        assertSame("com.framework.MagicClass", frozen.getBeanClassName());
+        assertSame(frozen, FrozenBeanDefinition.of(frozen));
+        source.setDependsOn();
+        assertSame(FrozenBeanDefinition.of(source).getDependsOn(), FrozenBeanDefinition.of(source).getDependsOn());
+    }
+
+    /**
+     * Tests that the prototype scope and scopes outside the enum survive freezing.
+     */
+    @Test
+    void shouldKeepScope() {
+        source.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+        FrozenBeanDefinition prototype = FrozenBeanDefinition.of(source);
+        source.setScope("request");
+        FrozenBeanDefinition custom = FrozenBeanDefinition.of(source);
+
+        assertEquals(BeanDefinition.SCOPE_PROTOTYPE, prototype.getScope());
+        assertFalse(prototype.isSingleton());
+        assertEquals("request", custom.getScope());
+        assertFalse(custom.isSingleton());
+    }
+
+    /**
+     * Tests that a frozen definition cannot be modified.
+     */
+    @Test
+    void shouldRejectModification() {
+        FrozenBeanDefinition frozen = FrozenBeanDefinition.of(source);
+
+        assertThrows(BeanDefinitionStoreException.class, () -> frozen.setScope(BeanDefinition.SCOPE_PROTOTYPE));
+        assertThrows(BeanDefinitionStoreException.class, () -> frozen.setDependsOn("other"));
+        assertThrows(BeanDefinitionStoreException.class, () -> frozen.setLazyInit(false));
+    }
+}
@@ -2,13 +2,17 @@ package com.codeus.winter.config;
 
 import com.codeus.winter.annotation.Component;
 import com.codeus.winter.config.impl.BeanDefinitionImpl;
+import com.codeus.winter.config.impl.ConcurrentBeanDefinitionRegistry;
 import com.codeus.winter.exception.NotUniqueBeanDefinitionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -85,10 +89,82 @@ class PackageBeanRegistrationTest {
         verify(registry, never()).registerBeanDefinition(anyString(), any(BeanDefinitionImpl.class));
     }
 
+    /**
+     * Tests that the classes of several packages are registered in one bulk step,
+     * in class name order and once per class even if the packages overlap.
+     */
+    @Test
+    void shouldRegisterBeansOfManyPackagesInOneStep() {
+        when(packageScanner.findClassesWithAnnotations(eq("com.framework"), anySet()))
+                .thenReturn(Set.of(WinterComponent.class, SpringComponent.class));
+        when(packageScanner.findClassesWithAnnotations(eq("com.framework.nested"), anySet()))
+                .thenReturn(Set.of(SpringComponent.class));
+        BeanDefinitionRegistry concurrentRegistry = new ConcurrentBeanDefinitionRegistry();
+
+        new PackageBeanRegistration(packageScanner, concurrentRegistry)
+                .registerBeans("com.framework", "com.framework.nested");
+
+        assertEquals(2, concurrentRegistry.getBeanDefinitionCount());
+        assertEquals(SpringComponent.class.getName(),
+                concurrentRegistry.getBeanDefinition("springComponent").getBeanClassName());
+        assertEquals(WinterComponent.class.getName(),
+                concurrentRegistry.getBeanDefinition("winterComponent").getBeanClassName());
+    }
+
+    /**
+     * Tests that two classes of different packages with the same bean name fail the whole registration.
+     */
+    @Test
+    void shouldThrowExceptionForConflictingBeanNamesAcrossPackages() {
+        when(packageScanner.findClassesWithAnnotations(eq("com.framework"), anySet()))
+                .thenReturn(Set.of(WinterComponent.class, SpringComponent.class));
+        when(packageScanner.findClassesWithAnnotations(eq("com.other"), anySet()))
+                .thenReturn(Set.of(Other.WinterComponent.class));
+        BeanDefinitionRegistry concurrentRegistry = new ConcurrentBeanDefinitionRegistry();
+        PackageBeanRegistration registration = new PackageBeanRegistration(packageScanner, concurrentRegistry);
+
+        NotUniqueBeanDefinitionException exception = assertThrows(NotUniqueBeanDefinitionException.class,
+                () -> registration.registerBeans("com.framework", "com.other"));
+
+        assertTrue(exception.getMessage().contains(Other.WinterComponent.class.getName()));
+        assertEquals(0, concurrentRegistry.getBeanDefinitionCount());
+    }
+
+    /**
+     * Tests that a bean name already present in the registry fails the whole registration.
+     */
+    @Test
+    void shouldThrowExceptionForBeanNameAlreadyInRegistryWhenRegisteringPackages() {
+        when(packageScanner.findClassesWithAnnotations(anyString(), anySet()))
+                .thenReturn(Set.of(WinterComponent.class));
+        when(registry.containsBeanDefinition("winterComponent")).thenReturn(true);
+
+        assertThrows(NotUniqueBeanDefinitionException.class, () ->
+                beanRegistration.registerBeans("com.framework", "com.other")
+        );
+        verify(registry, never()).registerBeanDefinitions(anyMap());
+    }
+
     /**
      * Mock class annotated with {@link Component} to simulate a real component.
      */
     @Component
     static class WinterComponent {
     }
+
+    /**
+     * Second mock component class.
+     */
+    @Component
+    static class SpringComponent {
+    }
+
+    /**
+     * Holder of a component whose simple name clashes with {@link PackageBeanRegistrationTest.WinterComponent}.
+     */
+    static class Other {
+        @Component
+        static class WinterComponent {
+        }
+    }
 }
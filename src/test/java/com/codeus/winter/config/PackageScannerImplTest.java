@@ -2,11 +2,20 @@ package com.codeus.winter.config;
 
 import com.codeus.winter.annotation.Component;
 import com.codeus.winter.config.impl.PackageScannerImpl;
+import com.codeus.winter.stereotype.Service;
 import org.junit.jupiter.api.Test;
 
 import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -33,6 +42,43 @@ class PackageScannerImplTest {
         assertTrue(result.contains(WinterClass.class),
                 "Result should contain the WinterClass annotated with @Component"); }
 
+    /**
+     * Tests that the scanner finds classes annotated with stereotypes meta-annotated with the given annotation.
+     */
+    @Test
+    void shouldFindClassesWithStereotypeAnnotations() {
+        Set<Class<?>> result = packageScanner.findClassesWithAnnotations(
+                "com.codeus.winter.config", Set.of(Component.class));
+
+        assertTrue(result.contains(WinterService.class),
+                "Result should contain the WinterService annotated with @Service");
+        assertTrue(result.contains(WinterStereotypeClass.class),
+                "Result should contain the class annotated with a custom stereotype");
+        assertFalse(result.contains(WinterStereotype.class),
+                "Result should not contain the stereotype annotation itself");
+    }
+
+    /**
+     * Tests that the scanner applies include and exclude filters by class name and by annotation.
+     */
+    @Test
+    void shouldApplyScanFilters() {
+        Set<Class<? extends Annotation>> annotations = Set.of(Component.class);
+        String testPackage = "com.codeus.winter.config";
+
+        Set<Class<?>> excluded = packageScanner.findClassesWithAnnotations(testPackage, annotations,
+                List.of(), List.of(ScanFilter.regex(".*PackageScannerImplTest\\$Winter(Class|Service)")));
+        Set<Class<?>> included = packageScanner.findClassesWithAnnotations(testPackage, annotations,
+                List.of(ScanFilter.annotation(Service.class)), List.of());
+
+        assertFalse(excluded.contains(WinterClass.class), "Result should not contain the excluded class");
+        assertFalse(excluded.contains(WinterService.class), "Result should not contain the excluded class");
+        assertTrue(excluded.contains(WinterStereotypeClass.class), "Result should contain the class not excluded");
+        assertEquals(Set.of(WinterService.class), included.stream()
+                .filter(type -> type.getEnclosingClass() == PackageScannerImplTest.class)
+                .collect(Collectors.toSet()), "Result should contain only the included class");
+    }
+
     /**
      * Tests that the scanner returns an empty set if no annotated classes are found.
      */
@@ -68,4 +114,27 @@ class PackageScannerImplTest {
     @Component
     static class WinterClass {
     }
+
+    /**
+     * A mock class annotated with the {@link Service} stereotype.
+     */
+    @Service
+    static class WinterService {
+    }
+
+    /**
+     * A custom stereotype meta-annotated with {@link Component}.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.TYPE)
+    @Component
+    @interface WinterStereotype {
+    }
+
+    /**
+     * A mock class annotated with the custom stereotype.
+     */
+    @WinterStereotype
+    static class WinterStereotypeClass {
+    }
 }
@@ -0,0 +1,170 @@
+package com.codeus.winter.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PooledScopeTest {
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger destroyed = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should lend a released instance again instead of creating a new one")
+    void testReuseReleasedInstance() {
+        PooledScope scope = new PooledScope(2, Duration.ZERO, null);
+
+        Object first = scope.get("parser", factory(scope, "parser"));
+        assertEquals(1, scope.getBorrowedCount("parser"));
+        scope.release("parser", first);
+        assertEquals(1, scope.getIdleCount("parser"));
+        Object second = scope.get("parser", factory(scope, "parser"));
+
+        assertSame(first, second);
+        assertEquals(1, created.get());
+        assertEquals(0, scope.getIdleCount("parser"));
+    }
+
+    @Test
+    @DisplayName("Should create extra instances beyond the pool size and destroy them on release if the pool is full")
+    void testExtraInstancesBeyondPoolSize() {
+        PooledScope scope = new PooledScope(2, Duration.ZERO, null);
+        List<Object> borrowed = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            borrowed.add(scope.get("parser", factory(scope, "parser")));
+        }
+        assertEquals(3, created.get());
+        assertEquals(3, scope.getBorrowedCount("parser"));
+
+        borrowed.forEach(instance -> scope.release("parser", instance));
+
+        assertEquals(2, scope.getIdleCount("parser"));
+        assertEquals(0, scope.getBorrowedCount("parser"));
+        assertEquals(1, destroyed.get());
+    }
+
+    @Test
+    @DisplayName("Should drop the destruction callback of an instance whose creation failed")
+    void testFailedCreationDropsDestructionCallback() throws InterruptedException {
+        PooledScope scope = new PooledScope(1, Duration.ofNanos(1), null);
+        Supplier<Object> failingFactory = () -> {
+            scope.registerDestructionCallback("parser", destroyed::incrementAndGet);
+            throw new IllegalStateException("creation failed");
+        };
+        assertThrows(IllegalStateException.class, () -> scope.get("parser", failingFactory));
+        Object pooled = scope.get("parser", AtomicInteger::new);
+        assertThrows(IllegalStateException.class, () -> scope.get("parser", failingFactory));
+        Object extra = scope.get("parser", AtomicInteger::new);
+
+        scope.release("parser", pooled);
+        scope.release("parser", extra);
+        Thread.sleep(1);
+        scope.evictIdle();
+
+        assertEquals(0, destroyed.get());
+        assertEquals(0, scope.getIdleCount("parser"));
+        assertEquals(0, scope.getBorrowedCount("parser"));
+    }
+
+    @Test
+    @DisplayName("Should destroy idle instances rejected by the validator")
+    void testValidation() {
+        List<Object> invalid = new ArrayList<>();
+        PooledScope scope = new PooledScope(2, Duration.ZERO, instance -> !invalid.contains(instance));
+        Object first = scope.get("parser", factory(scope, "parser"));
+        scope.release("parser", first);
+
+        invalid.add(first);
+        Object second = scope.get("parser", factory(scope, "parser"));
+
+        assertNotSame(first, second);
+        assertEquals(2, created.get());
+        assertEquals(1, destroyed.get());
+    }
+
+    @Test
+    @DisplayName("Should destroy instances idle for longer than the maximum idle time")
+    void testIdleEviction() throws InterruptedException {
+        PooledScope scope = new PooledScope(2, Duration.ofMillis(1), null);
+        Object first = scope.get("parser", factory(scope, "parser"));
+        Object second = scope.get("parser", factory(scope, "parser"));
+        scope.release("parser", first);
+
+        Thread.sleep(10);
+        scope.release("parser", second);
+        assertEquals(1, destroyed.get());
+        assertEquals(1, scope.getIdleCount("parser"));
+
+        Thread.sleep(10);
+        scope.evictIdle();
+        assertEquals(2, destroyed.get());
+        assertEquals(0, scope.getIdleCount("parser"));
+    }
+
+    @Test
+    @DisplayName("Should ignore instances that were not borrowed and forget removed pools")
+    void testReleaseUnknownInstanceAndRemove() {
+        PooledScope scope = new PooledScope(2, Duration.ZERO, null);
+        Object instance = scope.get("parser", factory(scope, "parser"));
+
+        scope.release("parser", new Object());
+        scope.release("other", instance);
+        assertEquals(1, scope.getBorrowedCount("parser"));
+
+        assertNull(scope.remove("parser"));
+        scope.release("parser", instance);
+        assertEquals(0, scope.getIdleCount("parser"));
+        assertEquals(0, destroyed.get());
+        assertThrows(IllegalArgumentException.class, () -> new PooledScope(0, Duration.ZERO, null));
+    }
+
+    @Test
+    @DisplayName("Should reuse pooled instances under concurrent borrowing")
+    void testConcurrentBorrowing() {
+        int threads = 8;
+        int cycles = 10_000;
+        PooledScope scope = new PooledScope(threads, Duration.ZERO, null);
+        AtomicInteger sharedInstances = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < threads; i++) {
+                executor.execute(() -> {
+                    for (int cycle = 0; cycle < cycles; cycle++) {
+                        AtomicInteger instance = (AtomicInteger) scope.get("counter", factory(scope, "counter"));
+                        if (instance.incrementAndGet() != 1) {
+                            sharedInstances.incrementAndGet();
+                        }
+                        Thread.yield();
+                        instance.decrementAndGet();
+                        scope.release("counter", instance);
+                    }
+                });
+            }
+        }
+
+        assertEquals(0, sharedInstances.get());
+        assertEquals(0, scope.getBorrowedCount("counter"));
+        assertEquals(created.get() - destroyed.get(), scope.getIdleCount("counter"));
+        assertTrue(created.get() < threads * cycles / 10, "Created " + created.get());
+    }
+
+    private Supplier<Object> factory(PooledScope scope, String name) {
+        return () -> {
+            created.incrementAndGet();
+            scope.registerDestructionCallback(name, destroyed::incrementAndGet);
+            return new AtomicInteger();
+        };
+    }
+}
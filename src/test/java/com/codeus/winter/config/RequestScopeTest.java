@@ -0,0 +1,124 @@
+package com.codeus.winter.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.codeus.winter.exception.BeanFactoryException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RequestScopeTest {
+    private final RequestScope scope = new RequestScope();
+
+    @Test
+    @DisplayName("Should share one instance per request and create a new one for the next request")
+    void testOneInstancePerRequest() {
+        List<Object> instances = new ArrayList<>();
+
+        scope.run(() -> {
+            Object first = scope.get("bean", Object::new);
+            assertSame(first, scope.get("bean", Object::new));
+            assertTrue(scope.isActive());
+            instances.add(first);
+        });
+        scope.run(() -> instances.add(scope.get("bean", Object::new)));
+
+        assertEquals(2, instances.size());
+        assertNotSame(instances.get(0), instances.get(1));
+        assertFalse(scope.isActive());
+        assertEquals(0, scope.getActiveRequestCount());
+    }
+
+    @Test
+    @DisplayName("Should fail to look up a request-scoped bean outside of a request")
+    void testLookupOutsideRequest() {
+        BeanFactoryException exception = assertThrows(BeanFactoryException.class,
+                () -> scope.get("bean", Object::new));
+
+        assertTrue(exception.getMessage().endsWith("for request-scoped bean: bean"));
+        assertNull(scope.remove("bean"));
+    }
+
+    @Test
+    @DisplayName("Should run destruction callbacks in reverse order when the request ends, even if it fails")
+    void testDestructionCallbacks() {
+        List<String> destroyed = new ArrayList<>();
+
+        assertThrows(IllegalStateException.class, () -> scope.run(() -> {
+            scope.get("first", Object::new);
+            scope.registerDestructionCallback("first", () -> destroyed.add("first"));
+            scope.get("second", Object::new);
+            scope.registerDestructionCallback("second", () -> destroyed.add("second"));
+            assertTrue(destroyed.isEmpty());
+            throw new IllegalStateException("request failed");
+        }));
+
+        assertEquals(List.of("second", "first"), destroyed);
+        assertFalse(scope.isActive());
+    }
+
+    @Test
+    @DisplayName("Should remove an instance without running its destruction callback")
+    void testRemove() throws Exception {
+        AtomicInteger destroyed = new AtomicInteger();
+
+        Object removed = scope.call(() -> {
+            Object bean = scope.get("bean", Object::new);
+            scope.registerDestructionCallback("bean", destroyed::incrementAndGet);
+            assertSame(bean, scope.remove("bean"));
+            assertNotSame(bean, scope.get("bean", Object::new));
+            return bean;
+        });
+
+        assertTrue(removed != null);
+        assertEquals(0, destroyed.get());
+    }
+
+    @Test
+    @DisplayName("Should give nested requests their own instances and restore the outer request afterwards")
+    void testNestedRequests() throws Exception {
+        String result = scope.call(() -> {
+            Object outer = scope.get("bean", Object::new);
+            scope.run(() -> assertNotSame(outer, scope.get("bean", Object::new)));
+            assertSame(outer, scope.get("bean", Object::new));
+            return "done";
+        });
+
+        assertEquals("done", result);
+        assertFalse(scope.isActive());
+    }
+
+    @Test
+    @DisplayName("Should isolate 100k concurrent requests on virtual threads")
+    void testConcurrentRequestsOnVirtualThreads() {
+        int requests = 100_000;
+        Set<Object> instances = ConcurrentHashMap.newKeySet();
+        AtomicInteger destroyed = new AtomicInteger();
+        AtomicInteger mismatches = new AtomicInteger();
+
+        VirtualThreadBenchmark.run("request scope", requests, () -> scope.run(() -> {
+            Object bean = scope.get("bean", Object::new);
+            scope.registerDestructionCallback("bean", destroyed::incrementAndGet);
+            Thread.yield();
+            if (scope.get("bean", Object::new) != bean) {
+                mismatches.incrementAndGet();
+            }
+            instances.add(bean);
+        }));
+
+        assertEquals(0, mismatches.get());
+        assertEquals(requests, instances.size());
+        assertEquals(requests, destroyed.get());
+        assertEquals(0, scope.getActiveRequestCount());
+    }
+}
@@ -0,0 +1,82 @@
+package com.codeus.winter.config;
+
+import com.codeus.winter.annotation.Component;
+import com.codeus.winter.stereotype.Service;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScanFilterTest {
+
+    @Test
+    @DisplayName("Should match class names against globs within and across package segments")
+    void testGlob() {
+        ScanFilter segment = ScanFilter.glob("com.example.dto.*");
+        ScanFilter subtree = ScanFilter.glob("com.example.**.dto.*Dto");
+
+        assertTrue(segment.matchesClassName("com.example.dto.UserDto"));
+        assertFalse(segment.matchesClassName("com.example.dto.nested.UserDto"));
+        assertTrue(subtree.matchesClassName("com.example.user.api.dto.UserDto"));
+        assertFalse(subtree.matchesClassName("com.example.user.api.dto.UserService"));
+        assertTrue(ScanFilter.glob("com.example.Bean?").matchesClassName("com.example.BeanA"));
+        assertTrue(segment.isClassNameFilter());
+    }
+
+    @Test
+    @DisplayName("Should match whole class names against regular expressions")
+    void testRegex() {
+        ScanFilter filter = ScanFilter.regex(".*\\.generated\\..*");
+
+        assertTrue(filter.matchesClassName("com.example.generated.Foo"));
+        assertFalse(filter.matchesClassName("com.example.Foo"));
+    }
+
+    @Test
+    @DisplayName("Should match classes annotated directly or through a stereotype")
+    void testAnnotation() {
+        ScanFilter filter = ScanFilter.annotation(Component.class);
+
+        assertFalse(filter.isClassNameFilter());
+        assertTrue(filter.matches(ServiceClass.class));
+        assertFalse(filter.matches(ScanFilterTest.class));
+        assertFalse(filter.matchesClassName(ServiceClass.class.getName()));
+    }
+
+    @Test
+    @DisplayName("Should accept classes matching an include filter and no exclude filter")
+    void testIsAccepted() {
+        List<ScanFilter> includes = List.of(ScanFilter.annotation(Service.class));
+        List<ScanFilter> excludes = List.of(ScanFilter.glob("**Excluded*"));
+
+        assertTrue(ScanFilter.isAccepted(ServiceClass.class, includes, excludes));
+        assertFalse(ScanFilter.isAccepted(ExcludedServiceClass.class, includes, excludes));
+        assertFalse(ScanFilter.isAccepted(ScanFilterTest.class, includes, excludes));
+        assertTrue(ScanFilter.isAccepted(ScanFilterTest.class, List.of(), List.of()));
+    }
+
+    @Test
+    @DisplayName("Should reject class-file paths by class name filters only")
+    void testIsCandidatePath() {
+        List<ScanFilter> excludes = List.of(ScanFilter.glob("com.example.dto.**"));
+        List<ScanFilter> nameIncludes = List.of(ScanFilter.glob("com.example.service.*"));
+        List<ScanFilter> annotationIncludes = List.of(ScanFilter.annotation(Component.class));
+
+        assertFalse(ScanFilter.isCandidatePath("com/example/dto/UserDto.class", List.of(), excludes));
+        assertTrue(ScanFilter.isCandidatePath("com/example/service/UserService.class", nameIncludes, excludes));
+        assertFalse(ScanFilter.isCandidatePath("com/example/web/UserController.class", nameIncludes, excludes));
+        assertTrue(ScanFilter.isCandidatePath("com/example/web/UserController.class", annotationIncludes, excludes));
+        assertTrue(ScanFilter.isCandidatePath("com/example/dto/messages.properties", List.of(), excludes));
+    }
+
+    @Service
+    static class ServiceClass {
+    }
+
+    @Service
+    static class ExcludedServiceClass {
+    }
+}
@@ -0,0 +1,80 @@
+package com.codeus.winter.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ThreadScopeTest {
+    private final ThreadScope scope = new ThreadScope();
+
+    @AfterEach
+    void tearDown() {
+        scope.destroyCurrentThreadBeans();
+    }
+
+    @Test
+    @DisplayName("Should share one instance per thread")
+    void testOneInstancePerThread() throws InterruptedException {
+        Object bean = scope.get("bean", Object::new);
+        AtomicReference<Object> otherThreadBean = new AtomicReference<>();
+
+        Thread.ofVirtual().start(() -> otherThreadBean.set(scope.get("bean", Object::new))).join();
+
+        assertSame(bean, scope.get("bean", Object::new));
+        assertNotSame(bean, otherThreadBean.get());
+    }
+
+    @Test
+    @DisplayName("Should destroy the beans of the current thread on request")
+    void testDestroyCurrentThreadBeans() {
+        AtomicInteger destroyed = new AtomicInteger();
+        Object bean = scope.get("bean", Object::new);
+        scope.registerDestructionCallback("bean", destroyed::incrementAndGet);
+
+        scope.destroyCurrentThreadBeans();
+        scope.destroyCurrentThreadBeans();
+
+        assertEquals(1, destroyed.get());
+        assertNotSame(bean, scope.get("bean", Object::new));
+    }
+
+    @Test
+    @DisplayName("Should give each of 100k concurrent virtual threads its own instances")
+    void testConcurrentVirtualThreads() {
+        int threads = 100_000;
+        Set<Object> instances = ConcurrentHashMap.newKeySet();
+        AtomicInteger mismatches = new AtomicInteger();
+
+        VirtualThreadBenchmark.run("thread scope", threads, () -> {
+            Object first = scope.get("first", Object::new);
+            Object second = scope.get("second", Object::new);
+            Thread.yield();
+            if (scope.get("first", Object::new) != first || scope.get("second", Object::new) != second) {
+                mismatches.incrementAndGet();
+            }
+            instances.add(first);
+        });
+
+        assertEquals(0, mismatches.get());
+        assertEquals(threads, instances.size());
+    }
+
+    @Test
+    @DisplayName("Should drop the instances of terminated threads")
+    void testSweepsTerminatedThreads() throws InterruptedException {
+        for (int i = 0; i < 1_000; i++) {
+            Thread.ofVirtual().start(() -> scope.get("bean", Object::new)).join();
+        }
+
+        assertTrue(scope.getThreadCount() < 1_000);
+    }
+}
@@ -0,0 +1,54 @@
+package com.codeus.winter.config;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a task on many virtual threads and logs the elapsed time and the bytes allocated by all
+ * threads meanwhile, which includes the carriers of the virtual threads.
+ */
+final class VirtualThreadBenchmark {
+    private static final System.Logger LOGGER = System.getLogger(VirtualThreadBenchmark.class.getName());
+
+    private VirtualThreadBenchmark() {
+    }
+
+    /**
+     * Run the task once per thread and wait for all of them.
+     *
+     * @param name    benchmark name for the log.
+     * @param threads number of virtual threads.
+     * @param task    task run by every thread.
+     * @return measured time and allocation.
+     */
+    static Result run(String name, int threads, Runnable task) {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threadBean.getTotalThreadAllocatedBytes();
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < threads; i++) {
+                executor.execute(task);
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocatedBytes = allocatedBefore < 0 ? -1 : threadBean.getTotalThreadAllocatedBytes() - allocatedBefore;
+        Result result = new Result(threads, elapsedNanos, allocatedBytes);
+        LOGGER.log(System.Logger.Level.INFO, "{0}: {1} threads in {2} ms, {3} bytes allocated ({4} per thread)",
+                name, threads, TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos()), result.allocatedBytes(),
+                result.allocatedBytes() / threads);
+        return result;
+    }
+
+    /**
+     * Measurement of a run.
+     *
+     * @param threads        number of virtual threads.
+     * @param elapsedNanos   wall-clock time until all threads finished.
+     * @param allocatedBytes bytes allocated by all threads, -1 if not supported by the JVM.
+     */
+    record Result(int threads, long elapsedNanos, long allocatedBytes) {
+    }
+}
@@ -0,0 +1,155 @@
+package com.codeus.winter.config.impl;
+
+import com.codeus.winter.config.BeanDefinition;
+import com.codeus.winter.exception.BeanDefinitionStoreException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ConcurrentBeanDefinitionRegistryTest {
+    private ConcurrentBeanDefinitionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ConcurrentBeanDefinitionRegistry();
+    }
+
+    @Test
+    @DisplayName("Should register all BeanDefinitions of a bulk registration")
+    void testRegisterBeanDefinitions() {
+        Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+        beanDefinitions.put("bean1", mock(BeanDefinition.class));
+        beanDefinitions.put("bean2", mock(BeanDefinition.class));
+
+        registry.registerBeanDefinitions(beanDefinitions);
+
+        assertEquals(2, registry.getBeanDefinitionCount());
+        assertSame(beanDefinitions.get("bean2"), registry.getBeanDefinition("bean2"));
+    }
+
+    @Test
+    @DisplayName("Should not register any BeanDefinition of a bulk registration containing a duplicate name")
+    void testRegisterBeanDefinitionsRollsBackOnDuplicate() {
+        registry.registerBeanDefinition("bean2", mock(BeanDefinition.class));
+        Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+        beanDefinitions.put("bean1", mock(BeanDefinition.class));
+        beanDefinitions.put("bean2", mock(BeanDefinition.class));
+
+        assertThrows(BeanDefinitionStoreException.class, () -> registry.registerBeanDefinitions(beanDefinitions));
+        assertFalse(registry.containsBeanDefinition("bean1"));
+        assertArrayEquals(new String[]{"bean2"}, registry.getBeanDefinitionNames());
+    }
+
+    @Test
+    @DisplayName("Should throw exception if a BeanDefinition with the same name already exists")
+    void testRegisterBeanDefinitionThrowsExceptionOnDuplicate() {
+        registry.registerBeanDefinition("testBean", mock(BeanDefinition.class));
+        assertThrows(BeanDefinitionStoreException.class,
+                () -> registry.registerBeanDefinition("testBean", mock(BeanDefinition.class)));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when removing a non-existent BeanDefinition")
+    void testRemoveNonExistentBeanDefinition() {
+        assertThrows(BeanDefinitionStoreException.class, () -> registry.removeBeanDefinition("missing"));
+    }
+
+    @Test
+    @DisplayName("Should rebuild the cached bean names only when the registry changes")
+    void testBeanDefinitionNamesCache() {
+        registry.registerBeanDefinition("bean1", mock(BeanDefinition.class));
+        String[] names = registry.getBeanDefinitionNames();
+        assertSame(names, registry.getBeanDefinitionNames());
+
+        registry.registerBeanDefinition("bean2", mock(BeanDefinition.class));
+        String[] afterRegistration = registry.getBeanDefinitionNames();
+        assertNotSame(names, afterRegistration);
+        assertEquals(2, afterRegistration.length);
+
+        registry.removeBeanDefinition("bean1");
+        assertArrayEquals(new String[]{"bean2"}, registry.getBeanDefinitionNames());
+    }
+
+    @Test
+    @DisplayName("Should list bean names in registration order")
+    void testBeanDefinitionNamesInRegistrationOrder() {
+        List<String> expected = new ArrayList<>();
+        Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            String beanName = "bean" + (i * 37 % 100);
+            expected.add(beanName);
+            beanDefinitions.put(beanName, mock(BeanDefinition.class));
+        }
+        registry.registerBeanDefinition("first", mock(BeanDefinition.class));
+        registry.registerBeanDefinitions(beanDefinitions);
+        registry.registerBeanDefinition("last", mock(BeanDefinition.class));
+        registry.removeBeanDefinition("first");
+        expected.add("last");
+
+        assertArrayEquals(expected.toArray(new String[0]), registry.getBeanDefinitionNames());
+    }
+
+    @Test
+    @DisplayName("Should freeze registered and later registered BeanDefinitions")
+    void testFreezeConfiguration() {
+        registry.registerBeanDefinition("bean1", new BeanDefinitionImpl());
+        registry.freezeConfiguration();
+        registry.registerBeanDefinitions(Map.of("bean2", new BeanDefinitionImpl()));
+
+        assertTrue(registry.isConfigurationFrozen());
+        assertInstanceOf(FrozenBeanDefinition.class, registry.getBeanDefinition("bean1"));
+        assertInstanceOf(FrozenBeanDefinition.class, registry.getBeanDefinition("bean2"));
+    }
+
+    @Test
+    @DisplayName("Should register each name exactly once when registering from many threads")
+    void testConcurrentRegistration() throws Exception {
+        int threads = 8;
+        int beansPerThread = 500;
+        AtomicInteger duplicates = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < beansPerThread; i++) {
+                        try {
+                            registry.registerBeanDefinition("bean" + i, mock(BeanDefinition.class));
+                        } catch (BeanDefinitionStoreException e) {
+                            duplicates.incrementAndGet();
+                        }
+                        registry.getBeanDefinitionNames();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(beansPerThread, registry.getBeanDefinitionCount());
+        assertEquals((threads - 1) * beansPerThread, duplicates.get());
+        assertEquals(beansPerThread, registry.getBeanDefinitionNames().length);
+    }
+}
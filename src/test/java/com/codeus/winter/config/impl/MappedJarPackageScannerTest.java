@@ -0,0 +1,142 @@
+package com.codeus.winter.config.impl;
+
+import com.codeus.winter.annotation.Component;
+import com.codeus.winter.annotation.Lazy;
+import com.codeus.winter.config.ScanFilter;
+import com.codeus.winter.stereotype.Service;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedJarPackageScannerTest {
+    private static final String PREFIX = "com/codeus/winter/config/impl/";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should read the name and class-level annotations of a class file without loading it")
+    void testParseClassFileHeader() throws IOException {
+        ClassFileHeader header = ClassFileHeader.parse(ByteBuffer.wrap(classBytes(LazyServiceFixture.class)));
+        ClassFileHeader annotationHeader =
+                ClassFileHeader.parse(ByteBuffer.wrap(classBytes(StereotypeFixture.class)));
+
+        assertEquals(LazyServiceFixture.class.getName(), header.className());
+        assertFalse(header.annotation());
+        assertEquals(List.of(Service.class.getName(), Lazy.class.getName()), header.annotationTypes());
+        assertTrue(annotationHeader.annotation());
+        assertTrue(annotationHeader.annotationTypes().contains(Component.class.getName()));
+    }
+
+    @Test
+    @DisplayName("Should read stored and deflated class files under the package prefix of a mapped jar")
+    void testReadJar() throws IOException {
+        Path jar = tempDir.resolve("fixtures.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            writeEntry(out, "META-INF/other/Ignored.class", classBytes(PlainFixture.class), ZipEntry.DEFLATED);
+            writeEntry(out, entryName(ComponentFixture.class), classBytes(ComponentFixture.class), ZipEntry.STORED);
+            writeEntry(out, entryName(LazyServiceFixture.class), classBytes(LazyServiceFixture.class),
+                    ZipEntry.DEFLATED);
+            writeEntry(out, entryName(PlainFixture.class), classBytes(PlainFixture.class), ZipEntry.DEFLATED);
+            writeEntry(out, PREFIX + "readme.txt", new byte[]{1, 2, 3}, ZipEntry.STORED);
+        }
+
+        Map<String, ClassFileHeader> headers = new MappedJarPackageScanner()
+                .readJar(jar, PREFIX, List.of(), List.of(ScanFilter.glob("**PlainFixture")))
+                .stream()
+                .collect(Collectors.toMap(ClassFileHeader::className, Function.identity()));
+
+        assertEquals(Set.of(ComponentFixture.class.getName(), LazyServiceFixture.class.getName()), headers.keySet());
+        assertEquals(List.of(Component.class.getName()),
+                headers.get(ComponentFixture.class.getName()).annotationTypes());
+        assertEquals(List.of(Service.class.getName(), Lazy.class.getName()),
+                headers.get(LazyServiceFixture.class.getName()).annotationTypes());
+    }
+
+    @Test
+    @DisplayName("Should find classes annotated directly or through stereotypes on the classpath")
+    void testFindClassesWithAnnotations() {
+        Set<Class<?>> classes = new MappedJarPackageScanner()
+                .findClassesWithAnnotations("com.codeus.winter.config.impl", Set.of(Component.class));
+
+        assertTrue(classes.contains(ComponentFixture.class));
+        assertTrue(classes.contains(LazyServiceFixture.class));
+        assertFalse(classes.contains(PlainFixture.class));
+        assertFalse(classes.contains(StereotypeFixture.class));
+    }
+
+    @Test
+    @DisplayName("Should apply include and exclude filters")
+    void testFindClassesWithFilters() {
+        Set<Class<?>> classes = new MappedJarPackageScanner().findClassesWithAnnotations(
+                "com.codeus.winter.config.impl", Set.of(Component.class),
+                List.of(ScanFilter.annotation(Service.class)), List.of(ScanFilter.regex(".*Stereotype.*")));
+
+        assertTrue(classes.contains(LazyServiceFixture.class));
+        assertFalse(classes.contains(ComponentFixture.class));
+    }
+
+    private static byte[] classBytes(Class<?> type) throws IOException {
+        String resource = "/" + type.getName().replace('.', '/') + ".class";
+        try (InputStream in = MappedJarPackageScannerTest.class.getResourceAsStream(resource)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static String entryName(Class<?> type) {
+        return type.getName().replace('.', '/') + ".class";
+    }
+
+    private static void writeEntry(JarOutputStream out, String name, byte[] content, int method) throws IOException {
+        JarEntry entry = new JarEntry(name);
+        entry.setMethod(method);
+        if (method == ZipEntry.STORED) {
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            entry.setSize(content.length);
+            entry.setCompressedSize(content.length);
+            entry.setCrc(crc.getValue());
+        }
+        out.putNextEntry(entry);
+        out.write(content);
+        out.closeEntry();
+    }
+
+    @Component
+    static class ComponentFixture {
+    }
+
+    @Service
+    @Lazy
+    static class LazyServiceFixture {
+    }
+
+    static class PlainFixture {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Component
+    @interface StereotypeFixture {
+    }
+}
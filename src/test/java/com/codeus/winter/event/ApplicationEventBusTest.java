@@ -0,0 +1,178 @@
+package com.codeus.winter.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.codeus.winter.exception.ApplicationEventException;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ApplicationEventBusTest {
+    private final ApplicationEventBus eventBus = new ApplicationEventBus();
+
+    @AfterEach
+    void tearDown() {
+        eventBus.close();
+    }
+
+    @Test
+    @DisplayName("Should dispatch events to listeners of their type and supertypes in registration order")
+    void testDispatchByTypeAndSupertypes() {
+        List<String> received = new ArrayList<>();
+        eventBus.addListener(CharSequence.class, event -> received.add("charSequence:" + event), false);
+        eventBus.addListener(Integer.class, event -> received.add("integer:" + event), false);
+        eventBus.addListener(Object.class, event -> received.add("object:" + event), false);
+        eventBus.addListener(String.class, event -> received.add("string:" + event), false);
+
+        eventBus.publishEvent("started");
+        eventBus.publishEvent(42L);
+
+        assertEquals(List.of("charSequence:started", "object:started", "string:started", "object:42"), received);
+        assertEquals(4, eventBus.getListenerCount());
+    }
+
+    @Test
+    @DisplayName("Should include listeners added after events of the same type were published")
+    void testListenerAddedAfterPublish() {
+        List<Object> received = new ArrayList<>();
+        eventBus.publishEvent("before");
+
+        eventBus.addListener(String.class, received::add, false);
+        eventBus.publishEvent("after");
+
+        assertEquals(List.of("after"), received);
+    }
+
+    @Test
+    @DisplayName("Should invoke listener methods of beans through method handles")
+    void testListenerMethod() throws NoSuchMethodException {
+        Listener listener = new Listener();
+        eventBus.addListener(listener, Listener.class.getDeclaredMethod("onEvent", Number.class), false);
+
+        eventBus.publishEvent(1);
+        eventBus.publishEvent(2.5);
+        eventBus.publishEvent("ignored");
+
+        assertEquals(List.of(1, 2.5), listener.received);
+        assertThrows(ApplicationEventException.class, () -> eventBus.addListener(listener,
+                Listener.class.getDeclaredMethod("noEvent"), false));
+    }
+
+    @Test
+    @DisplayName("Should propagate runtime exceptions and wrap checked exceptions of synchronous listeners")
+    void testListenerFailures() throws NoSuchMethodException {
+        IllegalStateException failure = new IllegalStateException("listener failed");
+        eventBus.addListener(Integer.class, event -> {
+            throw failure;
+        }, false);
+        eventBus.addListener(new Listener(), Listener.class.getDeclaredMethod("onText", String.class), false);
+
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> eventBus.publishEvent(1)));
+        ApplicationEventException exception = assertThrows(ApplicationEventException.class,
+                () -> eventBus.publishEvent("text"));
+        assertInstanceOf(IOException.class, exception.getCause());
+        assertTrue(exception.getMessage().contains("Listener.onText"));
+    }
+
+    @Test
+    @DisplayName("Should dispatch to asynchronous listeners on virtual threads in publication order")
+    void testAsyncDispatch() throws InterruptedException {
+        int events = 10_000;
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        List<Boolean> virtualThreads = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(events);
+        eventBus.addListener(Integer.class, event -> {
+            if (event == 0) {
+                throw new IllegalStateException("async listener failed");
+            }
+        }, true);
+        eventBus.addListener(Integer.class, event -> {
+            received.add(event);
+            virtualThreads.add(Thread.currentThread().isVirtual());
+            done.countDown();
+        }, true);
+
+        for (int i = 0; i < events; i++) {
+            eventBus.publishEvent(i);
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < events; i++) {
+            assertEquals(Integer.valueOf(i), received.get(i));
+        }
+        assertTrue(virtualThreads.stream().allMatch(Boolean::booleanValue));
+    }
+
+    @Test
+    @DisplayName("Should dispatch queued asynchronous events on close and events published after it in the publisher")
+    void testCloseDispatchesQueuedEvents() {
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        eventBus.addListener(Integer.class, received::add, true);
+        for (int i = 0; i < 1_000; i++) {
+            eventBus.publishEvent(i);
+        }
+
+        eventBus.close();
+        assertEquals(1_000, received.size());
+        eventBus.publishEvent(1_000);
+
+        assertEquals(Integer.valueOf(1_000), received.get(1_000));
+    }
+
+    @Test
+    @DisplayName("Should not allocate when dispatching to synchronous listeners")
+    void testSyncDispatchDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Counter counter = new Counter();
+        eventBus.addListener(Counter.class, Counter::increment, false);
+        eventBus.addListener(Object.class, event -> counter.increment(), false);
+        for (int i = 0; i < 100_000; i++) {
+            eventBus.publishEvent(counter);
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            eventBus.publishEvent(counter);
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertEquals(400_000, counter.count);
+        assertTrue(allocated < 10_000, "Allocated " + allocated + " bytes");
+    }
+
+    static class Listener {
+        private final List<Number> received = new ArrayList<>();
+
+        void onEvent(Number event) {
+            received.add(event);
+        }
+
+        void onText(String event) throws IOException {
+            throw new IOException("cannot handle " + event);
+        }
+
+        void noEvent() {
+        }
+    }
+
+    static class Counter {
+        private int count;
+
+        void increment() {
+            count++;
+        }
+    }
+}
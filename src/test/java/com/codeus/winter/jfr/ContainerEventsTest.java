@@ -0,0 +1,90 @@
+package com.codeus.winter.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codeus.winter.annotation.InitDestroyAnnotationBeanPostProcessor;
+import com.codeus.winter.config.BeanDefinition;
+import com.codeus.winter.config.DefaultBeanFactory;
+import com.codeus.winter.test.BeanA;
+import com.codeus.winter.test.BeanB;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ContainerEventsTest {
+    private final BeanDefinition beanDefinitionA = mock(BeanDefinition.class);
+    private final BeanDefinition beanDefinitionB = mock(BeanDefinition.class);
+    private final Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        when(beanDefinitionA.getBeanClassName()).thenReturn(BeanA.class.getName());
+        when(beanDefinitionA.isSingleton()).thenReturn(true);
+        when(beanDefinitionB.getBeanClassName()).thenReturn(BeanB.class.getName());
+        when(beanDefinitionB.isSingleton()).thenReturn(true);
+        when(beanDefinitionB.getDependsOn()).thenReturn(new String[]{"BeanA"});
+        beanDefinitions.put("BeanA", beanDefinitionA);
+        beanDefinitions.put("BeanB", beanDefinitionB);
+    }
+
+    @Test
+    @DisplayName("Should emit container events with bean name, class and duration")
+    void testEmitsContainerEvents() throws IOException {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(BeanInstantiationEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(DependencyResolutionEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(PostProcessorInvocationEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(BeanLookupEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitions,
+                    List.of(new InitDestroyAnnotationBeanPostProcessor()));
+            factory.getBean(BeanB.class);
+
+            recording.stop();
+            Path dump = tempDir.resolve("container.jfr");
+            recording.dump(dump);
+            events = RecordingFile.readAllEvents(dump);
+        }
+
+        assertEquals(List.of("BeanA", "BeanB"), beanNames(events, "com.codeus.winter.BeanInstantiation"));
+        assertEquals(List.of("BeanB"), beanNames(events, "com.codeus.winter.DependencyResolution"));
+        assertEquals(List.of("BeanA", "BeanA", "BeanB", "BeanB"),
+                beanNames(events, "com.codeus.winter.PostProcessorInvocation"));
+        assertEquals(List.of("BeanB"), beanNames(events, "com.codeus.winter.BeanLookup"));
+
+        RecordedEvent resolution = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.codeus.winter.DependencyResolution"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(BeanA.class.getName(), resolution.getString("dependencyType"));
+        assertTrue(resolution.getBoolean("resolved"));
+        assertEquals(BeanB.class.getName(), resolution.getClass("beanClass").getName());
+        assertTrue(!resolution.getDuration().isNegative());
+    }
+
+    private static List<String> beanNames(List<RecordedEvent> events, String eventName) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .sorted((left, right) -> left.getStartTime().compareTo(right.getStartTime()))
+                .map(event -> event.getString("beanName"))
+                .toList();
+    }
+}
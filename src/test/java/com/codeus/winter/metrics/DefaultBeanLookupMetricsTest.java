@@ -0,0 +1,115 @@
+package com.codeus.winter.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codeus.winter.config.BeanDefinition;
+import com.codeus.winter.config.DefaultBeanFactory;
+import com.codeus.winter.exception.BeanNotFoundException;
+import com.codeus.winter.test.BeanA;
+import com.codeus.winter.test.BeanB;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DefaultBeanLookupMetricsTest {
+    private final BeanDefinition beanDefinitionA = mock(BeanDefinition.class);
+    private final DefaultBeanLookupMetrics metrics = new DefaultBeanLookupMetrics();
+    private DefaultBeanFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        when(beanDefinitionA.getBeanClassName()).thenReturn(BeanA.class.getName());
+        when(beanDefinitionA.isSingleton()).thenReturn(true);
+        Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+        beanDefinitions.put("BeanA", beanDefinitionA);
+        factory = new DefaultBeanFactory(beanDefinitions);
+        factory.setBeanLookupMetrics(metrics);
+    }
+
+    @Test
+    @DisplayName("Should count hits and misses per bean name and per type")
+    void testCountsHitsAndMisses() {
+        factory.getBean("BeanA");
+        factory.getBean("BeanA", BeanA.class);
+        factory.getBean(BeanA.class);
+        assertThrows(BeanNotFoundException.class, () -> factory.getBean("missing"));
+        assertThrows(BeanNotFoundException.class, () -> factory.getBean(BeanB.class));
+
+        assertEquals(2, metrics.getNameCounters().get("BeanA").getHits());
+        assertEquals(0, metrics.getNameCounters().get("BeanA").getMisses());
+        assertEquals(1, metrics.getNameCounters().get("missing").getMisses());
+        assertEquals(1, metrics.getTypeCounters().get(BeanA.class.getName()).getHits());
+        assertEquals(1, metrics.getTypeCounters().get(BeanB.class.getName()).getMisses());
+        assertEquals(3, metrics.getTotalHits());
+        assertEquals(2, metrics.getTotalMisses());
+        assertEquals(2, metrics.getLatency(SlowLookupPath.TYPE_SCAN).getCount());
+    }
+
+    @Test
+    @DisplayName("Should count names beyond the tracked limit under a shared key")
+    void testCapsTrackedNames() {
+        for (int i = 0; i < DefaultBeanLookupMetrics.MAX_TRACKED_KEYS + 10; i++) {
+            metrics.recordNameLookup("generated" + i, false);
+        }
+
+        assertEquals(DefaultBeanLookupMetrics.MAX_TRACKED_KEYS + 1, metrics.getNameCounters().size());
+        assertEquals(10, metrics.getNameCounters().get(DefaultBeanLookupMetrics.OTHER_KEY).getMisses());
+    }
+
+    @Test
+    @DisplayName("Should report percentiles as power-of-two bucket upper bounds")
+    void testLatencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(100);
+        }
+        histogram.record(5000);
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(14900, histogram.getTotalNanos());
+        assertEquals(5000, histogram.getMaxNanos());
+        assertEquals(127, histogram.getPercentileNanos(50));
+        assertEquals(127, histogram.getPercentileNanos(99));
+        assertEquals(5000, histogram.getPercentileNanos(100));
+        assertEquals(99, histogram.getBucketCounts()[7]);
+    }
+
+    @Test
+    @DisplayName("Should expose metrics as an MBean")
+    void testRegistersMBean() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = metrics.registerMBean("test-context");
+        try {
+            factory.getBean("BeanA");
+
+            assertTrue(server.isRegistered(objectName));
+            assertEquals(1L, server.getAttribute(objectName, "TotalHits"));
+        } finally {
+            metrics.unregisterMBean("test-context");
+        }
+        assertFalse(server.isRegistered(objectName));
+    }
+
+    @Test
+    @DisplayName("Should record nothing when disabled")
+    void testDisabledMetrics() {
+        factory.setBeanLookupMetrics(BeanLookupMetrics.DISABLED);
+
+        factory.getBean("BeanA");
+
+        assertFalse(BeanLookupMetrics.DISABLED.isEnabled());
+        assertTrue(BeanLookupMetrics.DISABLED.getNameCounters().isEmpty());
+        assertTrue(metrics.getNameCounters().isEmpty());
+    }
+}
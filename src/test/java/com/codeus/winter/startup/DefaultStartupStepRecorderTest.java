@@ -0,0 +1,103 @@
+package com.codeus.winter.startup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codeus.winter.annotation.InitDestroyAnnotationBeanPostProcessor;
+import com.codeus.winter.config.BeanDefinition;
+import com.codeus.winter.config.DefaultBeanFactory;
+import com.codeus.winter.test.BeanA;
+import com.codeus.winter.test.BeanB;
+import com.codeus.winter.test.SlowInitBean;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DefaultStartupStepRecorderTest {
+    private final BeanDefinition beanDefinitionA = mock(BeanDefinition.class);
+    private final BeanDefinition beanDefinitionB = mock(BeanDefinition.class);
+    private final Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        when(beanDefinitionA.getBeanClassName()).thenReturn(BeanA.class.getName());
+        when(beanDefinitionA.isSingleton()).thenReturn(true);
+        when(beanDefinitionB.getBeanClassName()).thenReturn(BeanB.class.getName());
+        when(beanDefinitionB.isSingleton()).thenReturn(true);
+        when(beanDefinitionB.getDependsOn()).thenReturn(new String[]{"BeanA"});
+        beanDefinitions.put("BeanB", beanDefinitionB);
+        beanDefinitions.put("BeanA", beanDefinitionA);
+    }
+
+    @Test
+    @DisplayName("Should record a step per created bean in creation order")
+    void testRecordsStepPerBean() {
+        StartupStepRecorder recorder = new DefaultStartupStepRecorder();
+
+        new DefaultBeanFactory(beanDefinitions, List.of(), recorder);
+
+        List<BeanStartupStep> steps = recorder.getSteps();
+        assertEquals(2, steps.size());
+        assertEquals("BeanA", steps.get(0).getBeanName());
+        assertEquals("BeanB", steps.get(1).getBeanName());
+        BeanStartupStep stepB = steps.get(1);
+        assertEquals(BeanB.class.getName(), stepB.getBeanClassName());
+        assertEquals(Thread.currentThread().getName(), stepB.getThreadName());
+        assertTrue(stepB.getEndNanos() >= stepB.getStartNanos());
+        assertTrue(stepB.getPhaseNanos(StartupPhase.CONSTRUCT) > 0);
+        assertEquals(stepB.getTotalNanos(), stepB.getPhaseNanos(StartupPhase.RESOLVE)
+                + stepB.getPhaseNanos(StartupPhase.CONSTRUCT)
+                + stepB.getPhaseNanos(StartupPhase.INJECT)
+                + stepB.getPhaseNanos(StartupPhase.INIT));
+    }
+
+    @Test
+    @DisplayName("Should export recorded steps as JSON")
+    void testExportsJson() {
+        StartupStepRecorder recorder = new DefaultStartupStepRecorder();
+
+        new DefaultBeanFactory(beanDefinitions, List.of(), recorder);
+
+        String json = recorder.toJson();
+        assertTrue(json.startsWith("{\"steps\":[{\"beanName\":\"BeanA\""));
+        assertTrue(json.contains("\"beanClass\":\"" + BeanB.class.getName() + "\""));
+        assertTrue(json.contains("\"constructNanos\":"));
+        assertTrue(json.endsWith("}]}"));
+    }
+
+    @Test
+    @DisplayName("Should record init callbacks of background bean on its bootstrap thread")
+    void testRecordsBackgroundInitThread() throws Exception {
+        SlowInitBean.reset();
+        SlowInitBean.release();
+        BeanDefinition slowDefinition = mock(BeanDefinition.class);
+        when(slowDefinition.getBeanClassName()).thenReturn(SlowInitBean.class.getName());
+        when(slowDefinition.isSingleton()).thenReturn(true);
+        StartupStepRecorder recorder = new DefaultStartupStepRecorder();
+
+        DefaultBeanFactory factory = new DefaultBeanFactory(Map.of("slowInitBean", slowDefinition),
+                List.of(new InitDestroyAnnotationBeanPostProcessor()), recorder);
+        factory.getBackgroundInitialization().get(5, TimeUnit.SECONDS);
+
+        BeanStartupStep step = recorder.getSteps().get(0);
+        assertNotEquals(step.getThreadName(), step.getInitThreadName());
+        assertTrue(step.getInitThreadName().startsWith("winter-bootstrap-"));
+    }
+
+    @Test
+    @DisplayName("Should record nothing when disabled")
+    void testDisabledRecorderRecordsNothing() {
+        DefaultBeanFactory factory = new DefaultBeanFactory(beanDefinitions);
+
+        assertEquals(StartupStepRecorder.DISABLED, factory.getStartupStepRecorder());
+        assertTrue(factory.getStartupStepRecorder().getSteps().isEmpty());
+        assertEquals("{\"steps\":[]}", factory.getStartupStepRecorder().toJson());
+    }
+}
@@ -0,0 +1,118 @@
+package com.codeus.winter.startup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StartupCriticalPathReportTest {
+    private final long[] clock = new long[1];
+    private final List<BeanStartupStep> steps = new ArrayList<>();
+    private final Map<String, List<String>> dependencyGraph = new LinkedHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        dependencyGraph.put("a", List.of());
+        dependencyGraph.put("b", List.of("a"));
+        dependencyGraph.put("c", List.of("a"));
+        dependencyGraph.put("d", List.of("b", "c"));
+        dependencyGraph.put("e", List.of());
+        record("a", 10, 0);
+        record("b", 30, 0);
+        record("c", 5, 0);
+        record("e", 2, 0);
+    }
+
+    @Test
+    @DisplayName("Should compute critical path, schedule and slack per bean")
+    void testComputesCriticalPathAndSlack() {
+        record("d", 5, 20);
+
+        StartupCriticalPathReport report = StartupCriticalPathReport.analyze(dependencyGraph, steps);
+
+        assertEquals(65, report.getTotalNanos());
+        assertEquals(List.of("a", "b", "d"), report.getCriticalPath());
+        Map<String, BeanStartupNode> nodes = report.getNodes();
+        assertEquals(0, nodes.get("a").getSlackNanos());
+        assertEquals(0, nodes.get("b").getSlackNanos());
+        assertEquals(25, nodes.get("c").getSlackNanos());
+        assertEquals(63, nodes.get("e").getSlackNanos());
+        assertEquals(40, nodes.get("d").getEarliestStartNanos());
+        assertTrue(nodes.get("d").isCritical());
+        assertFalse(nodes.get("c").isCritical());
+    }
+
+    @Test
+    @DisplayName("Should recommend background init for init-dominated beans on the critical path")
+    void testRecommendsBackgroundInit() {
+        record("d", 5, 20);
+
+        StartupCriticalPathReport report = StartupCriticalPathReport.analyze(dependencyGraph, steps);
+
+        assertEquals(Map.of("d", StartupRecommendation.BACKGROUND_INIT), report.getRecommendations());
+    }
+
+    @Test
+    @DisplayName("Should recommend lazy init for critical beans nothing depends on")
+    void testRecommendsLazyInit() {
+        record("d", 25, 0);
+
+        StartupCriticalPathReport report = StartupCriticalPathReport.analyze(dependencyGraph, steps);
+
+        assertEquals(Map.of("d", StartupRecommendation.LAZY), report.getRecommendations());
+    }
+
+    @Test
+    @DisplayName("Should not count a dependency created while resolving the bean in its own time")
+    void testExcludesNestedDependencyTime() {
+        dependencyGraph.put("outer", List.of("inner"));
+        dependencyGraph.put("inner", List.of());
+        BeanStartupStep outer = new BeanStartupStep("outer", "Outer", () -> clock[0], step -> steps.add(step));
+        clock[0] += 3;
+        record("inner", 40, 0);
+        outer.mark(StartupPhase.RESOLVE);
+        clock[0] += 7;
+        outer.mark(StartupPhase.CONSTRUCT);
+        outer.end();
+
+        StartupCriticalPathReport report = StartupCriticalPathReport.analyze(dependencyGraph, steps);
+
+        assertEquals(10, report.getNodes().get("outer").getSelfNanos());
+        assertEquals(40, report.getNodes().get("inner").getSelfNanos());
+    }
+
+    @Test
+    @DisplayName("Should export JSON and DOT with the critical path highlighted")
+    void testExportsJsonAndDot() {
+        record("d", 5, 20);
+
+        StartupCriticalPathReport report = StartupCriticalPathReport.analyze(dependencyGraph, steps);
+
+        String json = report.toJson();
+        assertTrue(json.startsWith("{\"totalNanos\":65,\"criticalPath\":[\"a\",\"b\",\"d\"],\"beans\":["));
+        assertTrue(json.contains("{\"beanName\":\"c\",\"dependencies\":[\"a\"],\"selfNanos\":5,\"initNanos\":0,"
+                + "\"earliestStartNanos\":10,\"earliestFinishNanos\":15,\"slackNanos\":25,\"critical\":false,"
+                + "\"recommendation\":\"NONE\"}"));
+        String dot = report.toDot();
+        assertTrue(dot.startsWith("digraph startup {"));
+        assertTrue(dot.contains("\"d\" -> \"b\" [color=red, penwidth=2];"));
+        assertTrue(dot.contains("\"d\" -> \"c\";"));
+        assertTrue(dot.contains("background_init"));
+    }
+
+    private void record(String beanName, long constructNanos, long initNanos) {
+        BeanStartupStep step = new BeanStartupStep(beanName, beanName, () -> clock[0], steps::add);
+        clock[0] += constructNanos;
+        step.mark(StartupPhase.CONSTRUCT);
+        clock[0] += initNanos;
+        step.mark(StartupPhase.INIT);
+        step.end();
+    }
+}
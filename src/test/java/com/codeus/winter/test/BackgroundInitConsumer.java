@@ -0,0 +1,17 @@
+package com.codeus.winter.test;
+
+import com.codeus.winter.annotation.Autowired;
+import com.codeus.winter.annotation.BackgroundInit;
+
+@BackgroundInit
+public class BackgroundInitConsumer {
+    @Autowired
+    private BeanA beanA;
+
+    public BackgroundInitConsumer() {
+    }
+
+    public BeanA getBeanA() {
+        return beanA;
+    }
+}
@@ -0,0 +1,5 @@
+package com.codeus.winter.test;
+
+public interface HeavyService {
+    String lookup(String key);
+}
@@ -0,0 +1,16 @@
+package com.codeus.winter.test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HeavyServiceImpl implements HeavyService {
+    public static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public HeavyServiceImpl() {
+        INSTANCES.incrementAndGet();
+    }
+
+    @Override
+    public String lookup(String key) {
+        return "value-" + key;
+    }
+}
@@ -0,0 +1,9 @@
+package com.codeus.winter.test;
+
+import com.codeus.winter.annotation.Lazy;
+
+@Lazy
+public class LazyBean {
+    public LazyBean() {
+    }
+}
@@ -0,0 +1,15 @@
+package com.codeus.winter.test;
+
+import com.codeus.winter.annotation.Lazy;
+
+public class LazyClient {
+    private final HeavyService heavyService;
+
+    public LazyClient(@Lazy HeavyService heavyService) {
+        this.heavyService = heavyService;
+    }
+
+    public HeavyService getHeavyService() {
+        return heavyService;
+    }
+}
@@ -0,0 +1,15 @@
+package com.codeus.winter.test;
+
+import java.util.List;
+
+public class PreloaderClient {
+    private final List<Preloader> preloaders;
+
+    public PreloaderClient(List<Preloader> preloaders) {
+        this.preloaders = preloaders;
+    }
+
+    public List<Preloader> getPreloaders() {
+        return preloaders;
+    }
+}
@@ -0,0 +1,30 @@
+package com.codeus.winter.test;
+
+import com.codeus.winter.annotation.PreDestroy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ScopedBean {
+    public static final AtomicInteger INSTANCES = new AtomicInteger();
+    public static final AtomicInteger DESTROYED = new AtomicInteger();
+
+    private final BeanA beanA;
+
+    public ScopedBean(BeanA beanA) {
+        this.beanA = beanA;
+        INSTANCES.incrementAndGet();
+    }
+
+    public static void reset() {
+        INSTANCES.set(0);
+        DESTROYED.set(0);
+    }
+
+    public BeanA getBeanA() {
+        return beanA;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        DESTROYED.incrementAndGet();
+    }
+}
@@ -0,0 +1,40 @@
+package com.codeus.winter.test;
+
+import com.codeus.winter.annotation.BackgroundInit;
+import com.codeus.winter.annotation.PostConstruct;
+import java.util.concurrent.CountDownLatch;
+
+@BackgroundInit
+public class SlowInitBean implements Preloader {
+    private static volatile CountDownLatch release = new CountDownLatch(1);
+
+    private volatile boolean initialized;
+    private volatile Thread initThread;
+
+    public SlowInitBean() {
+    }
+
+    public static void reset() {
+        release = new CountDownLatch(1);
+    }
+
+    public static void release() {
+        release.countDown();
+    }
+
+    @PostConstruct
+    public void init() throws InterruptedException {
+        release.await();
+        initThread = Thread.currentThread();
+        initialized = true;
+    }
+
+    @Override
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    public Thread getInitThread() {
+        return initThread;
+    }
+}
@@ -0,0 +1,13 @@
+package com.codeus.winter.test;
+
+public class SlowInitClient {
+    private final SlowInitBean slowInitBean;
+
+    public SlowInitClient(SlowInitBean slowInitBean) {
+        this.slowInitBean = slowInitBean;
+    }
+
+    public SlowInitBean getSlowInitBean() {
+        return slowInitBean;
+    }
+}
@@ -0,0 +1,56 @@
+package com.codeus.winter.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactPropertyMapTest {
+
+    @Test
+    void testPutAndGet() {
+        CompactPropertyMap map = new CompactPropertyMap();
+        map.put("a", "1");
+        map.put("b", "2");
+        map.put("a", "3");
+
+        assertEquals(2, map.size());
+        assertEquals("3", map.get("a"));
+        assertTrue(map.containsKey("b"));
+        assertNull(map.get("c"));
+        assertFalse(map.containsKey("c"));
+    }
+
+    @Test
+    void testGrowsAndKeepsAllEntries() {
+        CompactPropertyMap map = new CompactPropertyMap();
+        Map<String, String> expected = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            map.put("key" + i, "value" + i);
+            expected.put("key" + i, "value" + i);
+        }
+
+        Map<String, String> actual = new HashMap<>();
+        map.forEach(actual::put);
+
+        assertEquals(expected, actual);
+        assertEquals(10_000, map.keys().length);
+        assertEquals("value9999", map.get("key9999"));
+    }
+
+    @Test
+    void testCollidingHashes() {
+        CompactPropertyMap map = new CompactPropertyMap();
+        map.put("Aa", "first");
+        map.put("BB", "second");
+
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        assertEquals("first", map.get("Aa"));
+        assertEquals("second", map.get("BB"));
+    }
+}
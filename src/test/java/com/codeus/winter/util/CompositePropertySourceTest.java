@@ -0,0 +1,74 @@
+package com.codeus.winter.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompositePropertySourceTest {
+    private CompositePropertySource composite;
+    private Map<String, Object> defaults;
+
+    @BeforeEach
+    void setUp() {
+        composite = new CompositePropertySource("composite");
+        defaults = new HashMap<>(Map.of("server.port", "8080", "server.host", "localhost"));
+        composite.addLast(new MapPropertySource("defaults", defaults));
+        composite.addFirst(new MapPropertySource("overrides", Map.of("server.port", "9090")));
+    }
+
+    @Test
+    void testEarlierSourceTakesPrecedence() {
+        assertEquals("9090", composite.getProperty("server.port"));
+        assertEquals("localhost", composite.getProperty("server.host"));
+        assertTrue(composite.containsProperty("server.host"));
+        assertNull(composite.getProperty("missing"));
+        assertFalse(composite.containsProperty("missing"));
+        assertEquals(Set.of("server.port", "server.host"), Set.of(composite.getPropertyNames()));
+    }
+
+    @Test
+    void testRebuildOnlyWhenSourcesChange() {
+        long version = composite.getVersion();
+        String[] names = composite.getPropertyNames();
+        defaults.put("server.timeout", "30s");
+
+        assertNull(composite.getProperty("server.timeout"));
+        assertSame(names, composite.getPropertyNames());
+        assertEquals(version, composite.getVersion());
+
+        composite.refresh();
+
+        assertEquals("30s", composite.getProperty("server.timeout"));
+        assertEquals(version + 1, composite.getVersion());
+    }
+
+    @Test
+    void testReplaceAndRemoveSources() {
+        assertTrue(composite.replace(new MapPropertySource("overrides", Map.of("server.port", "7070"))));
+        assertEquals("7070", composite.getProperty("server.port"));
+        assertEquals(2, composite.getSource().size());
+
+        assertTrue(composite.remove("overrides"));
+        assertEquals("8080", composite.getProperty("server.port"));
+        assertFalse(composite.remove("overrides"));
+        assertFalse(composite.replace(new MapPropertySource("unknown", Map.of())));
+    }
+
+    @Test
+    void testAddingSourceWithSameNameReplacesIt() {
+        composite.addLast(new MapPropertySource("overrides", Map.of("server.port", "6060")));
+
+        assertEquals(2, composite.getSource().size());
+        assertEquals("8080", composite.getProperty("server.port"));
+        assertEquals("overrides", composite.getSource().get(1).getName());
+    }
+}
@@ -0,0 +1,78 @@
+package com.codeus.winter.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConverterRegistryTest {
+    private final ConverterRegistry registry = new ConverterRegistry();
+
+    @SuppressWarnings("unused")
+    private List<Integer> integerList;
+    @SuppressWarnings("unused")
+    private Set<Mode> modeSet;
+
+    @Test
+    void testConvertPrimitivesAndWrappers() {
+        assertEquals(Integer.valueOf(8080), registry.convert(" 8080 ", int.class));
+        assertEquals(Long.valueOf(5), registry.convert("5", Long.class));
+        assertEquals(Double.valueOf(0.5), registry.convert("0.5", double.class));
+        assertEquals(Boolean.TRUE, registry.convert("TRUE", boolean.class));
+        assertEquals(Character.valueOf('x'), registry.convert("x", char.class));
+        assertEquals("text", registry.convert("text", String.class));
+        assertThrows(IllegalArgumentException.class, () -> registry.convert("yes", boolean.class));
+        assertThrows(NumberFormatException.class, () -> registry.convert("8080a", int.class));
+    }
+
+    @Test
+    void testConvertDurationsAndDataSizes() {
+        assertEquals(Duration.ofSeconds(30), registry.convert("30s", Duration.class));
+        assertEquals(Duration.ofMillis(250), registry.convert("250", Duration.class));
+        assertEquals(Duration.ofMinutes(5), registry.convert("PT5M", Duration.class));
+        assertEquals(Duration.of(2, ChronoUnit.DAYS), registry.convert("2d", Duration.class));
+        assertEquals(DataSize.ofMegabytes(10), registry.convert("10MB", DataSize.class));
+        assertEquals(new DataSize(512), registry.convert("512", DataSize.class));
+        assertEquals(DataSize.ofKilobytes(64), registry.convert("64kb", DataSize.class));
+        assertThrows(IllegalArgumentException.class, () -> registry.convert("10 parsecs", Duration.class));
+        assertThrows(IllegalArgumentException.class, () -> registry.convert("10XB", DataSize.class));
+    }
+
+    @Test
+    void testConvertEnumsAndCollections() throws NoSuchFieldException {
+        Type integerListType = getClass().getDeclaredField("integerList").getGenericType();
+        Type modeSetType = getClass().getDeclaredField("modeSet").getGenericType();
+
+        assertEquals(Mode.READ_WRITE, registry.convert("read-write", Mode.class));
+        assertEquals(List.of(1, 2, 3), registry.getConverter(integerListType).convert("1, 2,3"));
+        assertEquals(List.of(), registry.getConverter(integerListType).convert(""));
+        assertEquals(Set.of(Mode.READ_ONLY), registry.getConverter(modeSetType).convert("read_only"));
+        assertArrayEquals(new long[] {1, 2}, registry.convert("1,2", long[].class));
+        assertEquals(List.of("a", "b"), registry.convert("a,b", List.class));
+        assertThrows(IllegalArgumentException.class, () -> registry.convert("append", Mode.class));
+    }
+
+    @Test
+    void testConvertersAreCachedPerTypeAndCanBeReplaced() throws NoSuchFieldException {
+        Type integerListType = getClass().getDeclaredField("integerList").getGenericType();
+        assertSame(registry.getConverter(integerListType), registry.getConverter(integerListType));
+
+        registry.register(Integer.class, source -> Integer.decode(source.trim()));
+
+        assertEquals(List.of(16, 8), registry.getConverter(integerListType).convert("0x10, 010"));
+        assertThrows(IllegalArgumentException.class, () -> registry.getConverter(Thread.class));
+    }
+
+    enum Mode {
+        READ_ONLY,
+        READ_WRITE
+    }
+}
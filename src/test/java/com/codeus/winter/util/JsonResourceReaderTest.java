@@ -0,0 +1,109 @@
+package com.codeus.winter.util;
+
+import com.codeus.winter.exception.PropertySourceException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonResourceReaderTest {
+    private static final String CONTENT = """
+            {
+              "server": {
+                "port": 8080,
+                "ratio": -1.5e3,
+                "offsets": [0, 0.25E-2, 10e+1],
+                "secure": true,
+                "hosts": [
+                  {"name": "alpha", "tags": ["a", "b"]},
+                  {"name": "beta", "tags": []}
+                ]
+              },
+              "app": {"name": "Winter \\"App\\"\\t\\u2603", "path": "C:\\\\winter\\/bin"},
+              "empty": {},
+              "nothing": null,
+              "duplicate": "first",
+              "duplicate": "second"
+            }
+            """;
+
+    private final JsonResourceReader reader = new JsonResourceReader();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReadFlattensNestedObjectsAndArrays() throws IOException {
+        Files.writeString(tempDir.resolve("application.json"), CONTENT, StandardCharsets.UTF_8);
+
+        List<PropertySource<CompactPropertyMap>> sources =
+                reader.readProperties(tempDir.toString(), "application.json");
+
+        assertEquals(1, sources.size());
+        PropertiesPropertySource source = (PropertiesPropertySource) sources.get(0);
+        assertEquals(tempDir.resolve("application.json").toString(), source.getName());
+        assertEquals("8080", source.getProperty("server.port"));
+        assertEquals("-1.5e3", source.getProperty("server.ratio"));
+        assertEquals("0.25E-2", source.getProperty("server.offsets[1]"));
+        assertEquals("10e+1", source.getProperty("server.offsets[2]"));
+        assertEquals("true", source.getProperty("server.secure"));
+        assertEquals("alpha", source.getProperty("server.hosts[0].name"));
+        assertEquals("b", source.getProperty("server.hosts[0].tags[1]"));
+        assertEquals("beta", source.getProperty("server.hosts[1].name"));
+        assertEquals("Winter \"App\"\t☃", source.getProperty("app.name"));
+        assertEquals("C:\\winter/bin", source.getProperty("app.path"));
+        assertEquals("", source.getProperty("nothing"));
+        assertEquals("second", source.getProperty("duplicate"));
+        assertFalse(source.containsProperty("empty"));
+        assertFalse(source.containsProperty("server.hosts[1].tags"));
+        assertEquals(14, source.getPropertyNames().length);
+    }
+
+    @Test
+    void testReadLargeDocument() throws IOException {
+        StringBuilder content = new StringBuilder("{\"items\": [");
+        for (int i = 0; i < 20_000; i++) {
+            content.append(i == 0 ? "" : ",").append("{\"id\": ").append(i).append('}');
+        }
+        Files.writeString(tempDir.resolve("large.json"), content.append("]}"));
+
+        PropertiesPropertySource source = (PropertiesPropertySource) reader
+                .readProperties(tempDir.toString(), "large.json").get(0);
+
+        assertEquals(20_000, source.getPropertyNames().length);
+        assertEquals("12345", source.getProperty("items[12345].id"));
+    }
+
+    @Test
+    void testFileExistence() throws IOException {
+        Files.writeString(tempDir.resolve("present.json"), "{}");
+
+        assertTrue(reader.isFileExist(tempDir.toString(), "present.json"));
+        assertFalse(reader.isFileExist(tempDir.toString(), "absent.json"));
+        assertThrows(PropertySourceException.class, () -> reader.readProperties(tempDir.toString(), "absent.json"));
+    }
+
+    @Test
+    void testMalformedDocuments() throws IOException {
+        List<String> documents = List.of("", "[1, 2]", "{\"a\": 1,}", "{\"a\" 1}", "{\"a\": \"open}",
+                "{\"a\": tru}", "{\"a\": \"\\x\"}", "{\"a\": 1} extra", "{\"a\": [1 2]}",
+                "{\"a\": 1-2e+-}", "{\"a\": 01}", "{\"a\": -}", "{\"a\": 1.}", "{\"a\": 1e+}", "{\"a\": .5}");
+        for (int i = 0; i < documents.size(); i++) {
+            Files.writeString(tempDir.resolve("malformed" + i + ".json"), documents.get(i));
+            String fileName = "malformed" + i + ".json";
+
+            PropertySourceException exception = assertThrows(PropertySourceException.class,
+                    () -> reader.readProperties(tempDir.toString(), fileName), documents.get(i));
+            assertTrue(exception.getCause().getMessage().contains("at line"), documents.get(i));
+        }
+    }
+}
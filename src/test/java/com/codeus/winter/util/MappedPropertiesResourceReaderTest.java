@@ -0,0 +1,125 @@
+package com.codeus.winter.util;
+
+import com.codeus.winter.exception.PropertySourceException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedPropertiesResourceReaderTest {
+    private static final String CONTENT = String.join("\n",
+            "# comment line",
+            "! another comment \\",
+            "server.port=8080",
+            "  server.host : localhost  ",
+            "app.name   Winter Application",
+            "empty.value=",
+            "key\\ with\\=escapes=value\\twith\\ttabs",
+            "unicode=\\u0057inter \\u2603",
+            "multi.line=first, \\",
+            "           second, \\\r",
+            "   third",
+            "",
+            "  \t  ",
+            "no.separator",
+            "duplicate=first",
+            "duplicate=second",
+            "trailing.backslash=value\\\\",
+            "url=http\\://example.com:8080/path",
+            "last.line=no newline at end");
+
+    private final MappedPropertiesResourceReader reader = new MappedPropertiesResourceReader();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReadPropertiesLikeJavaUtilProperties() throws IOException {
+        Files.writeString(tempDir.resolve("application.properties"), CONTENT, StandardCharsets.ISO_8859_1);
+        Properties expected = new Properties();
+        expected.load(new StringReader(CONTENT));
+
+        List<PropertySource<CompactPropertyMap>> sources =
+                reader.readProperties(tempDir.toString(), "application.properties");
+
+        assertEquals(1, sources.size());
+        PropertiesPropertySource source = assertInstanceOf(PropertiesPropertySource.class, sources.get(0));
+        assertEquals(expected.size(), source.getSource().size());
+        for (String name : expected.stringPropertyNames()) {
+            assertEquals(expected.getProperty(name), source.getProperty(name), "Property " + name);
+        }
+        assertEquals("second", source.getProperty("duplicate"));
+        assertEquals("first, second, third", source.getProperty("multi.line"));
+        assertTrue(source.containsProperty("no.separator"));
+        assertNull(source.getProperty("missing"));
+        assertFalse(source.containsProperty("missing"));
+    }
+
+    @Test
+    void testReadUtf8Properties() throws IOException {
+        Files.writeString(tempDir.resolve("utf8.properties"), "greeting=Привіт\nsnow\\ man=☃",
+                StandardCharsets.UTF_8);
+
+        PropertiesPropertySource source = (PropertiesPropertySource) new MappedPropertiesResourceReader(
+                StandardCharsets.UTF_8).readProperties(tempDir.toString(), "utf8.properties").get(0);
+
+        assertEquals("Привіт", source.getProperty("greeting"));
+        assertEquals("☃", source.getProperty("snow man"));
+    }
+
+    @Test
+    void testReadManyProperties() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            content.append("generated.key.").append(i).append('=').append(i).append('\n');
+        }
+        Files.writeString(tempDir.resolve("generated.properties"), content);
+
+        PropertiesPropertySource source = (PropertiesPropertySource) reader
+                .readProperties(tempDir.toString(), "generated.properties").get(0);
+
+        assertEquals(20_000, source.getPropertyNames().length);
+        assertEquals("12345", source.getProperty("generated.key.12345"));
+    }
+
+    @Test
+    void testReadEmptyFile() throws IOException {
+        Files.writeString(tempDir.resolve("empty.properties"), "");
+
+        PropertiesPropertySource source = (PropertiesPropertySource) reader
+                .readProperties(tempDir.toString(), "empty.properties").get(0);
+
+        assertEquals(0, source.getSource().size());
+    }
+
+    @Test
+    void testFileExistence() throws IOException {
+        Files.writeString(tempDir.resolve("present.properties"), "a=b");
+
+        assertTrue(reader.isFileExist(tempDir.toString(), "present.properties"));
+        assertFalse(reader.isFileExist(tempDir.toString(), "absent.properties"));
+        assertThrows(PropertySourceException.class,
+                () -> reader.readProperties(tempDir.toString(), "absent.properties"));
+    }
+
+    @Test
+    void testMalformedUnicodeEscape() throws IOException {
+        Files.writeString(tempDir.resolve("malformed.properties"), "bad=\\u00zz");
+
+        assertThrows(PropertySourceException.class,
+                () -> reader.readProperties(tempDir.toString(), "malformed.properties"));
+    }
+}
@@ -0,0 +1,134 @@
+package com.codeus.winter.util;
+
+import com.codeus.winter.exception.PropertySourceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PropertyBinderTest {
+    private Map<String, Object> properties;
+    private CompositePropertySource composite;
+    private PropertyBinder binder;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HashMap<>();
+        properties.put("app.name", "winter");
+        properties.put("app.max-connections", "${pool.size:16}");
+        properties.put("app.timeout", "5s");
+        properties.put("app.hosts", "a.example.com, b.example.com");
+        properties.put("app.endpoints[0].url", "https://a.example.com");
+        properties.put("app.endpoints[0].weight", "2");
+        properties.put("app.endpoints[1].url", "https://b.example.com");
+        properties.put("app.labels.team", "core");
+        properties.put("app.labels.cost.center", "42");
+        properties.put("app.regions.eu.url", "https://eu.example.com");
+        properties.put("app.regions.us.url", "https://us.example.com");
+        properties.put("app.regions.us.weight", "3");
+        properties.put("app.owner.name", "ops");
+        properties.put("app.owner.ports", "80,443");
+        composite = new CompositePropertySource("composite");
+        composite.addLast(new MapPropertySource("application", properties));
+        binder = new PropertyBinder(composite);
+    }
+
+    @Test
+    void testBindRecordWithNestedListsAndMaps() {
+        AppProperties app = binder.bind("app", AppProperties.class);
+
+        assertEquals("winter", app.name());
+        assertEquals(16, app.maxConnections());
+        assertEquals(Duration.ofSeconds(5), app.timeout());
+        assertEquals(List.of("a.example.com", "b.example.com"), app.hosts());
+        assertEquals(List.of(new Endpoint("https://a.example.com", 2), new Endpoint("https://b.example.com", 0)),
+                app.endpoints());
+        assertEquals(Map.of("team", "core", "cost.center", "42"), app.labels());
+        assertEquals(Map.of("eu", new Endpoint("https://eu.example.com", 0),
+                "us", new Endpoint("https://us.example.com", 3)), app.regions());
+        assertEquals("ops", app.owner().getName());
+        assertEquals(Set.of(80, 443), app.owner().getPorts());
+        assertNull(app.backup());
+    }
+
+    @Test
+    void testBindIntoExistingPojoKeepsDefaults() {
+        Owner owner = new Owner();
+        owner.setPorts(Set.of(8080));
+        properties.remove("app.owner.ports");
+        composite.refresh();
+
+        assertSame(owner, binder.bindInto("app.owner", owner));
+        assertEquals("ops", owner.getName());
+        assertEquals(Set.of(8080), owner.getPorts());
+    }
+
+    @Test
+    void testRebindAfterPropertiesChange() {
+        assertEquals(16, binder.bind("app", AppProperties.class).maxConnections());
+
+        properties.put("pool.size", "64");
+        properties.put("app.endpoints[2].url", "https://c.example.com");
+        composite.refresh();
+
+        AppProperties app = binder.bind("app", AppProperties.class);
+        assertEquals(64, app.maxConnections());
+        assertEquals(3, app.endpoints().size());
+    }
+
+    @Test
+    void testBindComponentAndMissingRecord() {
+        assertEquals("winter", binder.bindComponent("app", AppProperties.class, 0));
+        assertEquals(0, binder.bindComponent("missing", Endpoint.class, 1));
+        assertEquals(new Endpoint(null, 0), binder.bind("missing", Endpoint.class));
+    }
+
+    @Test
+    void testConversionFailure() {
+        properties.put("app.timeout", "soon");
+        composite.refresh();
+
+        PropertySourceException exception = assertThrows(PropertySourceException.class,
+                () -> binder.bind("app", AppProperties.class));
+        assertEquals("Cannot convert value 'soon' of property 'app.timeout'", exception.getMessage());
+        assertThrows(PropertySourceException.class, () -> binder.bindInto("app", new Endpoint("x", 1)));
+    }
+
+    record AppProperties(String name, int maxConnections, Duration timeout, List<String> hosts,
+                         List<Endpoint> endpoints, Map<String, String> labels, Map<String, Endpoint> regions,
+                         Owner owner, Endpoint backup) {
+    }
+
+    record Endpoint(String url, int weight) {
+    }
+
+    public static class Owner {
+        private String name;
+        private Set<Integer> ports;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Set<Integer> getPorts() {
+            return ports;
+        }
+
+        public void setPorts(Set<Integer> ports) {
+            this.ports = ports;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.codeus.winter.util;
+
+import com.codeus.winter.exception.PropertySourceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PropertyPlaceholderResolverTest {
+    private CompositePropertySource composite;
+    private Map<String, Object> properties;
+    private PropertyPlaceholderResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HashMap<>(Map.of(
+                "env", "prod",
+                "app.prod.host", "example.com",
+                "app.url", "https://${app.${env}.host}:${app.port:8443}/${app.path:}",
+                "app.retries", 3));
+        composite = new CompositePropertySource("composite");
+        composite.addLast(new MapPropertySource("application", properties));
+        resolver = new PropertyPlaceholderResolver(composite);
+    }
+
+    @Test
+    void testResolveNestedPlaceholdersAndDefaults() {
+        assertEquals("https://example.com:8443/", resolver.getProperty("app.url"));
+        assertEquals("url=https://example.com:8443/", resolver.resolvePlaceholders("url=${app.url}"));
+        assertEquals("3 retries", resolver.resolvePlaceholders("${app.retries} retries"));
+        assertEquals("dev", resolver.resolvePlaceholders("${profile:${fallback:dev}}"));
+        assertEquals("plain text", resolver.resolvePlaceholders("plain text"));
+        assertEquals("${unclosed", resolver.resolvePlaceholders("${unclosed"));
+        assertNull(resolver.getProperty("missing"));
+    }
+
+    @Test
+    void testCircularReferenceIsDetected() {
+        properties.put("a", "${b}");
+        properties.put("b", "x-${a}");
+        composite.refresh();
+
+        PropertySourceException exception = assertThrows(PropertySourceException.class,
+                () -> resolver.resolvePlaceholders("${a}"));
+        assertTrue(exception.getMessage().contains("a -> b -> a"), exception.getMessage());
+    }
+
+    @Test
+    void testSamePlaceholderTwiceIsNotCircular() {
+        assertEquals("prod/prod", resolver.resolvePlaceholders("${env}/${env}"));
+    }
+
+    @Test
+    void testReadsAnyOfFollowsKeysValuesAndDefaults() {
+        PlaceholderExpression url = resolver.compile("${app.url}");
+        PlaceholderExpression profile = resolver.compile("${profile:${fallback:dev}}");
+
+        assertTrue(url.readsAnyOf(Set.of("app.url")));
+        assertTrue(url.readsAnyOf(Set.of("app.port")));
+        assertTrue(url.readsAnyOf(Set.of("env")));
+        assertFalse(url.readsAnyOf(Set.of("app.retries", "app.dev.host")));
+        assertTrue(profile.readsAnyOf(Set.of("fallback")));
+        assertFalse(profile.readsAnyOf(Set.of("app.url")));
+        assertFalse(resolver.compile("plain text").readsAnyOf(Set.of("app.url")));
+    }
+
+    @Test
+    void testUnresolvablePlaceholder() {
+        assertThrows(PropertySourceException.class, () -> resolver.resolvePlaceholders("${missing}"));
+
+        PropertyPlaceholderResolver lenient = new PropertyPlaceholderResolver(composite, true);
+        assertEquals("${missing}-prod", lenient.resolvePlaceholders("${missing}-${env}"));
+    }
+
+    @Test
+    void testCachedResultsAreInvalidatedWhenSourcesChange() {
+        PlaceholderExpression env = resolver.compile("${env}");
+        assertEquals("prod", env.resolve());
+
+        properties.put("env", "dev");
+        assertEquals("prod", env.resolve());
+
+        composite.refresh();
+        assertEquals("dev", env.resolve());
+
+        composite.addFirst(new MapPropertySource("overrides", Map.of("env", "test")));
+        assertEquals("test", env.resolve());
+    }
+
+    @Test
+    void testClearCacheForNonCompositeSource() {
+        Map<String, Object> values = new HashMap<>(Map.of("env", "prod"));
+        PropertyPlaceholderResolver mapResolver =
+                new PropertyPlaceholderResolver(new MapPropertySource("map", values));
+        PlaceholderExpression env = mapResolver.compile("${env}");
+        assertEquals("prod", env.resolve());
+
+        values.put("env", "dev");
+        assertEquals("prod", env.resolve());
+        assertEquals("dev", mapResolver.resolvePlaceholders("${env}"));
+
+        mapResolver.clearCache();
+        assertEquals("dev", env.resolve());
+    }
+
+    @Test
+    void testTemplateCompilesNestedSegments() {
+        PlaceholderTemplate template = PlaceholderTemplate.compile("a-${x.${y}:${z:1}}-b");
+
+        PlaceholderTemplate.Segment[] segments = template.getSegments();
+        assertEquals(3, segments.length);
+        assertEquals(new PlaceholderTemplate.Literal("a-"), segments[0]);
+        PlaceholderTemplate.Placeholder placeholder = assertInstanceOf(PlaceholderTemplate.Placeholder.class,
+                segments[1]);
+        assertEquals("x.${y}", placeholder.key().getText());
+        assertTrue(placeholder.key().hasPlaceholders());
+        assertEquals("${z:1}", placeholder.defaultValue().getText());
+        assertEquals(new PlaceholderTemplate.Literal("-b"), segments[2]);
+        assertFalse(PlaceholderTemplate.compile("no placeholders").hasPlaceholders());
+    }
+}
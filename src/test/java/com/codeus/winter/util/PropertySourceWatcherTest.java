@@ -0,0 +1,102 @@
+package com.codeus.winter.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PropertySourceWatcherTest {
+    @TempDir
+    Path tempDir;
+
+    private CompositePropertySource composite;
+    private PropertySourceWatcher watcher;
+    private final List<PropertyChangeEvent> events = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        composite = new CompositePropertySource("composite");
+        composite.addFirst(new MapPropertySource("overrides", Map.of("server.host", "override.example.com")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    @Test
+    void testReloadPublishesOnlyChangedKeys() throws IOException {
+        watcher = createWatcher(Duration.ofMinutes(1));
+        Path file = tempDir.resolve("application.properties");
+        Files.writeString(file, "server.port=8080\nserver.host=localhost\nserver.timeout=30s\n");
+        watcher.watch(file);
+        assertEquals("8080", composite.getProperty("server.port"));
+        assertEquals(Set.of("server.port", "server.timeout"), events.get(0).changedKeys());
+        events.clear();
+
+        Files.writeString(file, "server.port=9090\nserver.host=other\nserver.name=winter\n");
+
+        assertEquals(Set.of("server.port", "server.timeout", "server.name"), watcher.reload(file));
+        assertEquals("9090", composite.getProperty("server.port"));
+        assertEquals("override.example.com", composite.getProperty("server.host"));
+        assertNull(composite.getProperty("server.timeout"));
+        assertEquals(1, events.size());
+        assertEquals(Set.of("server.port", "server.timeout", "server.name"), events.get(0).changedKeys());
+        assertTrue(events.get(0).affects("server"));
+
+        assertEquals(Set.of(), watcher.reload(file));
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    void testFileChangeIsDetectedAndDebounced() throws IOException, InterruptedException {
+        Path file = tempDir.resolve("application.properties");
+        watcher = createWatcher(Duration.ofMillis(50));
+        Files.writeString(file, "server.port=8080\n");
+        watcher.watch(file);
+        events.clear();
+        CountDownLatch reloaded = new CountDownLatch(1);
+        watcher.addListener(event -> reloaded.countDown());
+
+        Files.writeString(file, "server.port=8081\n");
+        Files.writeString(file, "server.port=8082\n");
+
+        assertTrue(reloaded.await(10, TimeUnit.SECONDS));
+        assertEquals("8082", composite.getProperty("server.port"));
+        assertEquals(1, events.size());
+    }
+
+    private PropertySourceWatcher createWatcher(Duration debounce) {
+        PropertySourceWatcher propertySourceWatcher = new PropertySourceWatcher(composite, debounce);
+        propertySourceWatcher.addListener(events::add);
+        return propertySourceWatcher;
+    }
+
+    @Test
+    void testEventAffectsPrefix() {
+        PropertyChangeEvent event = new PropertyChangeEvent(composite, Set.of("app.hosts[0]", "app.pool.size"));
+
+        assertTrue(event.affects("app.hosts"));
+        assertTrue(event.affects("app.pool"));
+        assertTrue(event.affects(""));
+        assertFalse(event.affects("app.po"));
+    }
+}
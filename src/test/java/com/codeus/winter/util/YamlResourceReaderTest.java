@@ -0,0 +1,186 @@
+package com.codeus.winter.util;
+
+import com.codeus.winter.exception.PropertySourceException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class YamlResourceReaderTest {
+    private static final String CONTENT = """
+            # application settings
+            server:
+              port: 8080   # inline comment
+              host: "local#host"
+              secure: yes
+              hosts:
+                - name: alpha
+                  tags: [a, 'b, c', "d"]
+                - name: beta
+                  tags:
+                  - x
+                  - y
+                -   plain item
+                -
+                  - nested
+              empty:
+            app:
+              name: 'It''s Winter'
+              escaped: "tab\\there \\u2603"
+              url: http://example.com:8080/path
+              nothing: ~
+              flow: {id: 1, roles: [admin, user], label: "a: b"}
+              multi-line: [
+                one,
+                two
+              ]
+            literal: |
+              first line
+                indented # not a comment
+
+              last line
+            folded: >-
+              folded
+              text
+
+              new paragraph
+            "quoted key": value
+            """;
+
+    private final YamlResourceReader reader = new YamlResourceReader();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReadFlattensMappingsAndSequences() throws IOException {
+        PropertiesPropertySource source = read(CONTENT);
+
+        assertEquals("8080", source.getProperty("server.port"));
+        assertEquals("local#host", source.getProperty("server.host"));
+        assertEquals("yes", source.getProperty("server.secure"));
+        assertEquals("alpha", source.getProperty("server.hosts[0].name"));
+        assertEquals("a", source.getProperty("server.hosts[0].tags[0]"));
+        assertEquals("b, c", source.getProperty("server.hosts[0].tags[1]"));
+        assertEquals("d", source.getProperty("server.hosts[0].tags[2]"));
+        assertEquals("beta", source.getProperty("server.hosts[1].name"));
+        assertEquals("x", source.getProperty("server.hosts[1].tags[0]"));
+        assertEquals("y", source.getProperty("server.hosts[1].tags[1]"));
+        assertEquals("plain item", source.getProperty("server.hosts[2]"));
+        assertEquals("nested", source.getProperty("server.hosts[3][0]"));
+        assertEquals("", source.getProperty("server.empty"));
+        assertEquals("It's Winter", source.getProperty("app.name"));
+        assertEquals("tab\there ☃", source.getProperty("app.escaped"));
+        assertEquals("http://example.com:8080/path", source.getProperty("app.url"));
+        assertEquals("", source.getProperty("app.nothing"));
+        assertEquals("1", source.getProperty("app.flow.id"));
+        assertEquals("user", source.getProperty("app.flow.roles[1]"));
+        assertEquals("a: b", source.getProperty("app.flow.label"));
+        assertEquals("two", source.getProperty("app.multi-line[1]"));
+        assertEquals("value", source.getProperty("quoted key"));
+    }
+
+    @Test
+    void testReadBlockScalars() throws IOException {
+        PropertiesPropertySource source = read(CONTENT);
+
+        assertEquals("first line\n  indented # not a comment\n\nlast line\n", source.getProperty("literal"));
+        assertEquals("folded text\nnew paragraph", source.getProperty("folded"));
+    }
+
+    @Test
+    void testReadTopLevelSequence() throws IOException {
+        PropertiesPropertySource source = read("- a\n- b: 1\n  c: 2\n");
+
+        assertEquals("a", source.getProperty("[0]"));
+        assertEquals("1", source.getProperty("[1].b"));
+        assertEquals("2", source.getProperty("[1].c"));
+    }
+
+    @Test
+    void testReadMultipleDocuments() throws IOException {
+        Files.writeString(tempDir.resolve("profiles.yml"), """
+                %YAML 1.2
+                ---
+                name: default
+                ---
+                # empty document
+                ---
+                name: dev
+                debug: true
+                ...
+                """, StandardCharsets.UTF_8);
+
+        List<PropertySource<CompactPropertyMap>> sources = reader.readProperties(tempDir.toString(), "profiles.yml");
+
+        assertEquals(2, sources.size());
+        String path = tempDir.resolve("profiles.yml").toString();
+        assertEquals(path + " (document #1)", sources.get(0).getName());
+        assertEquals("default", sources.get(0).getProperty("name"));
+        assertEquals(path + " (document #2)", sources.get(1).getName());
+        assertEquals("dev", sources.get(1).getProperty("name"));
+        assertEquals("true", sources.get(1).getProperty("debug"));
+        assertFalse(((PropertiesPropertySource) sources.get(1)).containsProperty("server"));
+    }
+
+    @Test
+    void testReadEmptyFile() throws IOException {
+        PropertiesPropertySource source = read("# nothing here\n");
+
+        assertEquals(tempDir.resolve("application.yml").toString(), source.getName());
+        assertEquals(0, source.getSource().size());
+    }
+
+    @Test
+    void testReadLargeDocument() throws IOException {
+        StringBuilder content = new StringBuilder("items:\n");
+        for (int i = 0; i < 20_000; i++) {
+            content.append("  - id: ").append(i).append('\n');
+        }
+
+        PropertiesPropertySource source = read(content.toString());
+
+        assertEquals(20_000, source.getPropertyNames().length);
+        assertEquals("12345", source.getProperty("items[12345].id"));
+    }
+
+    @Test
+    void testFileExistence() throws IOException {
+        Files.writeString(tempDir.resolve("present.yml"), "a: b");
+
+        assertTrue(reader.isFileExist(tempDir.toString(), "present.yml"));
+        assertFalse(reader.isFileExist(tempDir.toString(), "absent.yml"));
+        assertThrows(PropertySourceException.class, () -> reader.readProperties(tempDir.toString(), "absent.yml"));
+    }
+
+    @Test
+    void testMalformedOrUnsupportedDocuments() throws IOException {
+        List<String> documents = List.of("a: 1\n  b: 2", "a:\n  - 1\n  b: 2", "a: [1, 2", "a: \"open",
+                "a: &anchor 1", "a: *alias", "a: !!str 1", "just text", "a:\n\t b: 1", "a: 1\n- b", "a: |x\n  b",
+                "a: \"\\u12\"", "a: \"\\uzz12\"", "a: [1] junk");
+        for (int i = 0; i < documents.size(); i++) {
+            Files.writeString(tempDir.resolve("malformed" + i + ".yml"), documents.get(i));
+            String fileName = "malformed" + i + ".yml";
+
+            PropertySourceException exception = assertThrows(PropertySourceException.class,
+                    () -> reader.readProperties(tempDir.toString(), fileName), documents.get(i));
+            assertTrue(exception.getCause().getMessage().contains("at line"), documents.get(i));
+        }
+    }
+
+    private PropertiesPropertySource read(String content) throws IOException {
+        Files.writeString(tempDir.resolve("application.yml"), content, StandardCharsets.UTF_8);
+        List<PropertySource<CompactPropertyMap>> sources = reader.readProperties(tempDir.toString(), "application.yml");
+        assertEquals(1, sources.size());
+        return (PropertiesPropertySource) sources.get(0);
+    }
+}